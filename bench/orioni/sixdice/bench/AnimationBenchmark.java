@@ -0,0 +1,147 @@
+package orioni.sixdice.bench;
+
+import orioni.sixdice.Animation;
+import orioni.sixdice.AnimationScaler;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This JMH benchmark measures the {@link Animation} operations performed on every conversion: trimming borders,
+ * rendering padded frames and scaling.  The operations which modify the animation are given a fresh copy on each
+ * invocation; the copying is not measured.
+ *
+ * @author Zachary Palmer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnimationBenchmark
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+    /**
+     * The size of the animation being measured.
+     */
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public BenchmarkAnimations.Size size;
+
+    /**
+     * The animation being measured.
+     */
+    protected Animation animation;
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * General constructor.
+     */
+    public AnimationBenchmark()
+    {
+        super();
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Prepares the animation.
+     */
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        animation = BenchmarkAnimations.create(size);
+    }
+
+    /**
+     * Trims the borders of a copy of the animation.
+     *
+     * @param copy The copy to trim.
+     * @return The trimmed animation.
+     */
+    @Benchmark
+    public Animation trimBorders(AnimationCopy copy)
+    {
+        copy.animation.trimBorders();
+        return copy.animation;
+    }
+
+    /**
+     * Renders every frame of the animation as a padded image.
+     *
+     * @return The last padded image.
+     */
+    @Benchmark
+    public BufferedImage getPaddedImage()
+    {
+        BufferedImage ret = null;
+        for (int d = 0; d < animation.getDirectionCount(); d++)
+        {
+            for (int f = 0; f < animation.getFrameCount(); f++)
+            {
+                ret = animation.getPaddedImage(d, f);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Halves the size of a copy of the animation using the area averaging filter.
+     *
+     * @param copy The copy to scale.
+     * @return The scaled animation.
+     */
+    @Benchmark
+    public Animation scaleArea(AnimationCopy copy)
+    {
+        copy.animation.scale(0.5, true, AnimationScaler.Filter.AREA);
+        return copy.animation;
+    }
+
+    /**
+     * Doubles the size of a copy of the animation using the bilinear filter.
+     *
+     * @param copy The copy to scale.
+     * @return The scaled animation.
+     */
+    @Benchmark
+    public Animation scaleBilinear(AnimationCopy copy)
+    {
+        copy.animation.scale(2.0, true, AnimationScaler.Filter.BILINEAR);
+        return copy.animation;
+    }
+
+// CONTAINED CLASSES /////////////////////////////////////////////////////////////
+
+    /**
+     * Holds a fresh copy of the benchmark animation for each invocation of a benchmark which modifies it.
+     */
+    @State(Scope.Thread)
+    public static class AnimationCopy
+    {
+        /**
+         * The copy of the animation.
+         */
+        protected Animation animation;
+
+        /**
+         * Copies the benchmark animation.
+         *
+         * @param benchmark The benchmark whose animation is copied.
+         */
+        @Setup(Level.Invocation)
+        public void setUp(AnimationBenchmark benchmark)
+        {
+            animation = new Animation(benchmark.animation);
+        }
+    }
+}
+
+// END OF FILE
@@ -0,0 +1,170 @@
+package orioni.sixdice.bench;
+
+import orioni.jz.awt.image.RestrictableIndexColorModel;
+import orioni.sixdice.Animation;
+import orioni.sixdice.Diablo2DefaultPalettes;
+import orioni.sixdice.SyntheticAnimationGenerator;
+
+/**
+ * This utilities class produces the synthetic {@link Animation}s on which the SixDice benchmarks operate.  The
+ * animations are made by a {@link SyntheticAnimationGenerator} with a fixed seed so that every benchmark run measures
+ * exactly the same data.  Roughly half of each frame is transparent and half of the cells of each frame are carried
+ * over from the previous frame, much as they are in real animations.
+ *
+ * @author Zachary Palmer
+ */
+public class BenchmarkAnimations
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * The name of the palette used by the benchmarks.
+     */
+    public static final String PALETTE_NAME = SyntheticAnimationGenerator.DEFAULT_PALETTE_NAME;
+
+    /**
+     * The seed from which the benchmark animations are generated.
+     */
+    public static final long SEED = 0x5D1CEL;
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * Private constructor.  Utilities classes are not instantiated.
+     */
+    private BenchmarkAnimations()
+    {
+        super();
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+    /**
+     * Retrieves the palette used by the benchmarks.
+     *
+     * @return The benchmark palette.
+     */
+    public static RestrictableIndexColorModel getPalette()
+    {
+        return Diablo2DefaultPalettes.PALETTE_MAP.get(PALETTE_NAME);
+    }
+
+    /**
+     * Creates the benchmark {@link Animation} of the specified size.
+     *
+     * @param size The size of the animation to create.
+     * @return The synthetic {@link Animation}.
+     */
+    public static Animation create(Size size)
+    {
+        SyntheticAnimationGenerator generator = new SyntheticAnimationGenerator(getPalette());
+        generator.setDimensions(size.getDirections(), size.getFrames(), size.getWidth(), size.getHeight());
+        generator.setTransparencyRatio(0.45);
+        generator.setColorsPerCell(4);
+        generator.setCellReuseRatio(0.5);
+        generator.setSeed(SEED);
+        return generator.generate();
+    }
+
+// CONTAINED CLASSES /////////////////////////////////////////////////////////////
+
+    /**
+     * An enumeration of the sizes of the benchmark animations.
+     */
+    public static enum Size
+    {
+        /**
+         * A single short direction of small frames, like an inventory icon.
+         */
+        SMALL(1, 4, 32, 32),
+        /**
+         * Eight directions of moderately sized frames, like a monster's walk cycle.
+         */
+        MEDIUM(8, 8, 96, 96),
+        /**
+         * Sixteen directions of large frames, like a boss or a large overlay.
+         */
+        LARGE(16, 16, 192, 192);
+
+        /**
+         * The number of directions.
+         */
+        private final int directions;
+        /**
+         * The number of frames in each direction.
+         */
+        private final int frames;
+        /**
+         * The width of each frame.
+         */
+        private final int width;
+        /**
+         * The height of each frame.
+         */
+        private final int height;
+
+        /**
+         * General constructor.
+         *
+         * @param directions The number of directions.
+         * @param frames     The number of frames in each direction.
+         * @param width      The width of each frame.
+         * @param height     The height of each frame.
+         */
+        Size(int directions, int frames, int width, int height)
+        {
+            this.directions = directions;
+            this.frames = frames;
+            this.width = width;
+            this.height = height;
+        }
+
+        /**
+         * Retrieves the number of directions.
+         *
+         * @return The number of directions.
+         */
+        public int getDirections()
+        {
+            return directions;
+        }
+
+        /**
+         * Retrieves the number of frames in each direction.
+         *
+         * @return The number of frames in each direction.
+         */
+        public int getFrames()
+        {
+            return frames;
+        }
+
+        /**
+         * Retrieves the width of each frame.
+         *
+         * @return The width of each frame.
+         */
+        public int getWidth()
+        {
+            return width;
+        }
+
+        /**
+         * Retrieves the height of each frame.
+         *
+         * @return The height of each frame.
+         */
+        public int getHeight()
+        {
+            return height;
+        }
+    }
+}
+
+// END OF FILE
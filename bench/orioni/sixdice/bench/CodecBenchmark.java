@@ -0,0 +1,122 @@
+package orioni.sixdice.bench;
+
+import orioni.jz.awt.image.RestrictableIndexColorModel;
+import orioni.jz.common.exception.ParseException;
+import orioni.jz.util.ProgressTracker;
+import orioni.sixdice.Animation;
+import orioni.sixdice.AnimationCodec;
+import orioni.sixdice.BAMCodec;
+import orioni.sixdice.DC6Codec;
+import orioni.sixdice.DCCCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This JMH benchmark measures the decoding and encoding of each {@link AnimationCodec} on the synthetic animations
+ * produced by {@link BenchmarkAnimations}.  The encoded form of each animation is prepared once per trial so that the
+ * decoding benchmark measures only the codec.
+ *
+ * @author Zachary Palmer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodecBenchmark
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+    /**
+     * The name of the codec being measured.
+     */
+    @Param({"DC6", "DCC", "BAM"})
+    public String codecName;
+    /**
+     * The size of the animation being measured.
+     */
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public BenchmarkAnimations.Size size;
+
+    /**
+     * The codec being measured.
+     */
+    protected AnimationCodec codec;
+    /**
+     * The palette in which the animation is encoded.
+     */
+    protected RestrictableIndexColorModel palette;
+    /**
+     * The animation to encode.
+     */
+    protected Animation animation;
+    /**
+     * The encoded form of the animation.
+     */
+    protected byte[] data;
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * General constructor.
+     */
+    public CodecBenchmark()
+    {
+        super();
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Prepares the animation and its encoded form.
+     */
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        if ("DC6".equals(codecName))
+        {
+            codec = new DC6Codec();
+        } else if ("DCC".equals(codecName))
+        {
+            codec = new DCCCodec();
+        } else
+        {
+            codec = new BAMCodec();
+        }
+        palette = BenchmarkAnimations.getPalette();
+        animation = BenchmarkAnimations.create(size);
+        data = codec.encode(animation, palette, new ProgressTracker());
+    }
+
+    /**
+     * Decodes the prepared data.
+     *
+     * @return The decoded {@link Animation}.
+     * @throws ParseException If the prepared data cannot be decoded, which indicates a codec defect.
+     */
+    @Benchmark
+    public Animation decode()
+            throws ParseException
+    {
+        return codec.decode(data, palette, new ProgressTracker());
+    }
+
+    /**
+     * Encodes the prepared animation.
+     *
+     * @return The encoded data.
+     */
+    @Benchmark
+    public byte[] encode()
+    {
+        return codec.encode(animation, palette, new ProgressTracker());
+    }
+}
+
+// END OF FILE
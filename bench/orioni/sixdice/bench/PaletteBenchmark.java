@@ -0,0 +1,89 @@
+package orioni.sixdice.bench;
+
+import orioni.jz.awt.image.RestrictableIndexColorModel;
+import orioni.sixdice.AnimationCodec;
+import orioni.sixdice.DC6Codec;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This JMH benchmark measures nearest-color palette lookup, which the encoders perform once for every pixel.  The
+ * lookup is made against a palette prepared by {@link AnimationCodec#deriveCodecPalette(RestrictableIndexColorModel)}
+ * so that transparent and restricted indices are honored as they are during encoding.  About one color in eight is
+ * transparent.
+ *
+ * @author Zachary Palmer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaletteBenchmark
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * The number of colors looked up by each invocation.
+     */
+    protected static final int COLOR_COUNT = 1024;
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+    /**
+     * The palette in which colors are looked up.
+     */
+    protected RestrictableIndexColorModel palette;
+    /**
+     * The colors to look up.
+     */
+    protected int[] colors;
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * General constructor.
+     */
+    public PaletteBenchmark()
+    {
+        super();
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Prepares the palette and the colors to look up.
+     */
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        palette = new DC6Codec().deriveCodecPalette(BenchmarkAnimations.getPalette());
+        Random random = new Random(BenchmarkAnimations.SEED);
+        colors = new int[COLOR_COUNT];
+        for (int i = 0; i < colors.length; i++)
+        {
+            colors[i] = (random.nextInt(8) == 0) ? 0 : random.nextInt() | 0xFF000000;
+        }
+    }
+
+    /**
+     * Finds the nearest palette index of each color.
+     *
+     * @return The sum of the indices found.
+     */
+    @Benchmark
+    @OperationsPerInvocation(COLOR_COUNT)
+    public int find()
+    {
+        int ret = 0;
+        for (int color : colors) ret += palette.find(color);
+        return ret;
+    }
+}
+
+// END OF FILE
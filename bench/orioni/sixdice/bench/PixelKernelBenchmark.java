@@ -0,0 +1,161 @@
+package orioni.sixdice.bench;
+
+import orioni.jz.awt.image.RestrictableIndexColorModel;
+import orioni.sixdice.DC6Codec;
+import orioni.sixdice.PaletteLookupTable;
+import orioni.sixdice.PixelKernels;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This JMH benchmark measures the bulk pixel conversions of {@link PixelKernels} against the per-pixel palette search
+ * which they replace.  The colors resemble those of a sprite: runs of fully transparent pixels alternate with runs of
+ * opaque colors which vary slowly, as they do within a shaded surface.  The <code>vector</code> implementation is only
+ * measured if the benchmark virtual machine is given the <code>jdk.incubator.vector</code> module; otherwise it falls
+ * back to the scalar kernels.
+ *
+ * @author Zachary Palmer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PixelKernelBenchmark
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * The number of pixels converted by each invocation.
+     */
+    protected static final int PIXEL_COUNT = 64 * 1024;
+    /**
+     * The length of each run of similar pixels.
+     */
+    protected static final int RUN_LENGTH = 48;
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+    /**
+     * The implementation being measured: <code>scalar</code> or <code>vector</code>.
+     */
+    @Param({"scalar", "vector"})
+    public String implementation;
+
+    /**
+     * The kernels being measured.
+     */
+    protected PixelKernels kernels;
+    /**
+     * The palette in which pixels are converted.
+     */
+    protected RestrictableIndexColorModel palette;
+    /**
+     * The lookup table of the palette.
+     */
+    protected PaletteLookupTable table;
+    /**
+     * The color of each palette index.
+     */
+    protected int[] colors;
+    /**
+     * The ARGB pixels.
+     */
+    protected int[] argbs;
+    /**
+     * The palette indices of the pixels.
+     */
+    protected byte[] indices;
+    /**
+     * The pixels converted back from the palette indices.
+     */
+    protected int[] converted;
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * General constructor.
+     */
+    public PixelKernelBenchmark()
+    {
+        super();
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Prepares the palette, its lookup table and the pixels.
+     */
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        System.setProperty(PixelKernels.VECTOR_PROPERTY, String.valueOf("vector".equals(implementation)));
+        PixelKernels.setInstance(null);
+        kernels = PixelKernels.getInstance();
+        palette = new DC6Codec().deriveCodecPalette(BenchmarkAnimations.getPalette());
+        table = PaletteLookupTable.getInstance(palette);
+        colors = PixelKernels.getColors(palette);
+        Random random = new Random(BenchmarkAnimations.SEED);
+        argbs = new int[PIXEL_COUNT];
+        for (int start = 0; start < argbs.length; start += RUN_LENGTH)
+        {
+            boolean transparent = (random.nextInt(3) == 0);
+            int color = random.nextInt() | 0xFF000000;
+            for (int i = start; i < Math.min(start + RUN_LENGTH, argbs.length); i++)
+            {
+                argbs[i] = (transparent) ? 0 : color | 0xFF000000;
+                color += 0x010101 * (random.nextInt(3) - 1);
+            }
+        }
+        indices = new byte[PIXEL_COUNT];
+        converted = new int[PIXEL_COUNT];
+        kernels.toIndices(argbs, 0, table, indices, 0, PIXEL_COUNT);
+    }
+
+    /**
+     * Converts the pixels to palette indices one at a time with the palette's own search.
+     *
+     * @return The sum of the indices found.
+     */
+    @Benchmark
+    @OperationsPerInvocation(PIXEL_COUNT)
+    public int paletteFind()
+    {
+        int ret = 0;
+        for (int argb : argbs) ret += palette.find(argb);
+        return ret;
+    }
+
+    /**
+     * Converts the pixels to palette indices with the kernels.
+     *
+     * @return The converted indices.
+     */
+    @Benchmark
+    @OperationsPerInvocation(PIXEL_COUNT)
+    public byte[] toIndices()
+    {
+        kernels.toIndices(argbs, 0, table, indices, 0, PIXEL_COUNT);
+        return indices;
+    }
+
+    /**
+     * Converts the palette indices back to ARGB pixels with the kernels.
+     *
+     * @return The converted pixels.
+     */
+    @Benchmark
+    @OperationsPerInvocation(PIXEL_COUNT)
+    public int[] toARGB()
+    {
+        kernels.toARGB(indices, 0, colors, converted, 0, PIXEL_COUNT);
+        return converted;
+    }
+}
+
+// END OF FILE
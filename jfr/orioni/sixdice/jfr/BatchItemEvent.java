@@ -0,0 +1,37 @@
+package orioni.sixdice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This JDK Flight Recorder event records the conversion of a single item of a batch conversion.  The duration of the
+ * event is the time between the start and the end of the item's conversion.
+ *
+ * @author Zachary Palmer
+ */
+@Name("orioni.sixdice.BatchItem")
+@Label("Batch Item")
+@Description("An item of a batch conversion was converted")
+@Category({"SixDice", "Batch"})
+@StackTrace(false)
+public class BatchItemEvent extends Event
+{
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+    /**
+     * The name of the item, usually the path of its primary source file.
+     */
+    @Label("Item")
+    public String item;
+    /**
+     * <code>true</code> if the item was converted without error; <code>false</code> otherwise.
+     */
+    @Label("Succeeded")
+    public boolean succeeded;
+}
+
+// END OF FILE
@@ -0,0 +1,54 @@
+package orioni.sixdice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This JDK Flight Recorder event records a lookup of a decode cache.  It is an instant event; the time spent decoding
+ * after a miss is recorded by the {@link DecodeEvent} which follows it.
+ *
+ * @author Zachary Palmer
+ */
+@Name("orioni.sixdice.CacheLookup")
+@Label("Decode Cache Lookup")
+@Description("The decode cache was consulted for a decoded animation")
+@Category({"SixDice", "Cache"})
+@StackTrace(false)
+public class CacheLookupEvent extends Event
+{
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+    /**
+     * The name of the codec whose result was looked up.
+     */
+    @Label("Codec")
+    public String codec;
+    /**
+     * The name of the file being decoded, or <code>null</code> if it is not known.
+     */
+    @Label("File")
+    public String file;
+    /**
+     * The number of bytes of encoded data.
+     */
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+    /**
+     * <code>true</code> if the cache held the decoded animation; <code>false</code> otherwise.
+     */
+    @Label("Hit")
+    public boolean hit;
+    /**
+     * The tier which held the decoded animation, or <code>null</code> if the lookup missed.
+     */
+    @Label("Tier")
+    public String tier;
+}
+
+// END OF FILE
@@ -0,0 +1,54 @@
+package orioni.sixdice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * This JDK Flight Recorder event is the common superclass of the events which record the decoding and encoding of
+ * animations.  The duration of the event is the duration of the operation.
+ *
+ * @author Zachary Palmer
+ */
+@Category({"SixDice", "Codec"})
+@StackTrace(false)
+public abstract class CodecEvent extends Event
+{
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+    /**
+     * The name of the codec which performed the operation.
+     */
+    @Label("Codec")
+    public String codec;
+    /**
+     * The name of the file which was read or written, or <code>null</code> if it is not known.
+     */
+    @Label("File")
+    public String file;
+    /**
+     * The number of bytes of encoded data.
+     */
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+    /**
+     * The number of directions in the animation.
+     */
+    @Label("Directions")
+    public int directions;
+    /**
+     * The number of frames in each direction of the animation.
+     */
+    @Label("Frames")
+    public int frames;
+    /**
+     * <code>true</code> if the operation completed; <code>false</code> if it failed.
+     */
+    @Label("Succeeded")
+    public boolean succeeded;
+}
+
+// END OF FILE
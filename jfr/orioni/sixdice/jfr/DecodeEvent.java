@@ -0,0 +1,19 @@
+package orioni.sixdice.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This JDK Flight Recorder event records the decoding of an animation by a codec.
+ *
+ * @author Zachary Palmer
+ */
+@Name("orioni.sixdice.Decode")
+@Label("Animation Decode")
+@Description("An animation was decoded by a codec")
+public class DecodeEvent extends CodecEvent
+{
+}
+
+// END OF FILE
@@ -0,0 +1,19 @@
+package orioni.sixdice.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This JDK Flight Recorder event records the encoding of an animation by a codec.
+ *
+ * @author Zachary Palmer
+ */
+@Name("orioni.sixdice.Encode")
+@Label("Animation Encode")
+@Description("An animation was encoded by a codec")
+public class EncodeEvent extends CodecEvent
+{
+}
+
+// END OF FILE
@@ -0,0 +1,185 @@
+package orioni.sixdice.jfr;
+
+import orioni.sixdice.Animation;
+import orioni.sixdice.AnimationCodec;
+import orioni.sixdice.EventRecorder;
+
+/**
+ * This {@link EventRecorder} emits each event as a JDK Flight Recorder event.  It is loaded by name by {@link
+ * EventRecorder#getInstance()} and requires Java 11 or later.  Events are only allocated and timed while a recording
+ * which enables them is in progress.
+ *
+ * @author Zachary Palmer
+ */
+public class FlightRecorderEventRecorder extends EventRecorder
+{
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * General constructor.
+     */
+    public FlightRecorderEventRecorder()
+    {
+        super();
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Determines whether or not this recorder records events.
+     *
+     * @return <code>true</code>, always.
+     */
+    public boolean isEnabled()
+    {
+        return true;
+    }
+
+    /**
+     * Begins a decoding operation.
+     *
+     * @return The {@link DecodeEvent} which times the operation, or <code>null</code> if it is not being recorded.
+     */
+    public Object beginDecode()
+    {
+        return begin(new DecodeEvent());
+    }
+
+    /**
+     * Ends a decoding operation.
+     *
+     * @param token     The token returned by {@link FlightRecorderEventRecorder#beginDecode()}.
+     * @param codec     The {@link AnimationCodec} which decoded the data.
+     * @param source    The name of the decoded file, or <code>null</code> if it is not known.
+     * @param bytes     The number of bytes which were decoded.
+     * @param animation The {@link Animation} which was decoded, or <code>null</code> if decoding failed.
+     */
+    public void endDecode(Object token, AnimationCodec codec, String source, int bytes, Animation animation)
+    {
+        if (token != null) end((CodecEvent) (token), codec, source, bytes, animation, animation != null);
+    }
+
+    /**
+     * Begins an encoding operation.
+     *
+     * @return The {@link EncodeEvent} which times the operation, or <code>null</code> if it is not being recorded.
+     */
+    public Object beginEncode()
+    {
+        return begin(new EncodeEvent());
+    }
+
+    /**
+     * Ends an encoding operation.
+     *
+     * @param token     The token returned by {@link FlightRecorderEventRecorder#beginEncode()}.
+     * @param codec     The {@link AnimationCodec} which encoded the {@link Animation}.
+     * @param target    The name of the file being written, or <code>null</code> if it is not known.
+     * @param bytes     The number of bytes which were produced, or <code>-1</code> if encoding failed.
+     * @param animation The {@link Animation} which was encoded.
+     */
+    public void endEncode(Object token, AnimationCodec codec, String target, int bytes, Animation animation)
+    {
+        if (token != null) end((CodecEvent) (token), codec, target, Math.max(bytes, 0), animation, bytes >= 0);
+    }
+
+    /**
+     * Begins an item of a batch conversion.
+     *
+     * @param item The name of the item, usually the path of its primary source file.
+     * @return The {@link BatchItemEvent} which times the item, or <code>null</code> if it is not being recorded.
+     */
+    public Object beginBatchItem(String item)
+    {
+        BatchItemEvent event = new BatchItemEvent();
+        if (!event.isEnabled()) return null;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends an item of a batch conversion.
+     *
+     * @param token   The token returned by {@link FlightRecorderEventRecorder#beginBatchItem(String)}.
+     * @param item    The name of the item, usually the path of its primary source file.
+     * @param success <code>true</code> if the item was converted without error; <code>false</code> otherwise.
+     */
+    public void endBatchItem(Object token, String item, boolean success)
+    {
+        if (token == null) return;
+        BatchItemEvent event = (BatchItemEvent) (token);
+        event.end();
+        if (event.shouldCommit())
+        {
+            event.item = item;
+            event.succeeded = success;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records a lookup of a decode cache.
+     *
+     * @param codec  The {@link AnimationCodec} whose result was looked up.
+     * @param source The name of the file being decoded, or <code>null</code> if it is not known.
+     * @param bytes  The number of bytes of encoded data.
+     * @param tier   The tier which held the result, or <code>null</code> if the lookup missed.
+     */
+    public void cacheLookup(AnimationCodec codec, String source, int bytes, String tier)
+    {
+        CacheLookupEvent event = new CacheLookupEvent();
+        if (event.shouldCommit())
+        {
+            event.codec = codec.getName();
+            event.file = source;
+            event.bytes = bytes;
+            event.hit = (tier != null);
+            event.tier = tier;
+            event.commit();
+        }
+    }
+
+    /**
+     * Begins a codec event if it is being recorded.
+     *
+     * @param event The event to begin.
+     * @return The event, or <code>null</code> if it is not being recorded.
+     */
+    protected CodecEvent begin(CodecEvent event)
+    {
+        if (!event.isEnabled()) return null;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends and commits a codec event.
+     *
+     * @param event     The event to end.
+     * @param codec     The {@link AnimationCodec} which performed the operation.
+     * @param file      The name of the file which was read or written, or <code>null</code> if it is not known.
+     * @param bytes     The number of bytes of encoded data.
+     * @param animation The {@link Animation} which was decoded or encoded, or <code>null</code> if there is none.
+     * @param succeeded <code>true</code> if the operation completed; <code>false</code> if it failed.
+     */
+    protected void end(CodecEvent event, AnimationCodec codec, String file, int bytes, Animation animation,
+                       boolean succeeded)
+    {
+        event.end();
+        if (event.shouldCommit())
+        {
+            event.codec = codec.getName();
+            event.file = file;
+            event.bytes = bytes;
+            if (animation != null)
+            {
+                event.directions = animation.getDirectionCount();
+                event.frames = animation.getFrameCount();
+            }
+            event.succeeded = succeeded;
+            event.commit();
+        }
+    }
+}
+
+// END OF FILE
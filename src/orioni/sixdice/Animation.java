@@ -2,13 +2,12 @@ package orioni.sixdice;
 
 import orioni.jz.awt.AWTUtilities;
 import orioni.jz.awt.image.ImageUtilities;
-import orioni.jz.io.files.FileUtilities;
-import orioni.jz.util.Pair;
+import orioni.jz.awt.image.RestrictableIndexColorModel;
 import orioni.jz.util.strings.StringUtilities;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
@@ -180,87 +179,19 @@ public class Animation
     {
         warnings = new ArrayList<String>();
 
-        int periodIndex = file.getName().lastIndexOf('.');
-        String name;
-        String extension;
-        if (periodIndex == -1)
-        {
-            name = file.getName();
-            extension = "";
-        } else
-        {
-            name = file.getName().substring(0, periodIndex);
-            extension = file.getName().substring(periodIndex);
-        }
-        if (!FileUtilities.FILESYSTEM_CASE_SENSITIVE)
-        {
-            name = name.toLowerCase();
-            extension = extension.toLowerCase();
-        }
-        // this map will contain a mapping between direction/pair coordinates and the contents of the files
-        Map<Pair<Integer, Integer>, BufferedImage> images = new HashMap<Pair<Integer, Integer>, BufferedImage>();
-        int maxDirection = 0;
-        int maxFrame = 0;
-        for (File f : file.getParentFile().listFiles())
-        {
-            String filename = f.getName();
-            if (!FileUtilities.FILESYSTEM_CASE_SENSITIVE)
-            {
-                filename = filename.toLowerCase();
-            }
-            if ((filename.startsWith(name)) && (filename.endsWith(extension)))
-            {
-                filename = filename.substring(name.length(), filename.length() - extension.length());
-                String[] strings = filename.split(separator);
-                if ((strings.length == 3) && ("".equals(strings[0])))
-                {
-                    // looks like a good candidate
-                    int direction;
-                    int frame;
-                    try
-                    {
-                        direction = Integer.parseInt(strings[1]);
-                        frame = Integer.parseInt(strings[2]);
-                    } catch (NumberFormatException e)
-                    {
-                        // obviously not a good candidate ;)
-                        warnings.add("Possibly incorrectly named file (could not parse direction or frame): " + f);
-                        continue;
-                    }
-                    if ((direction < 0) || (frame < 0))
-                    {
-                        // also not a good candidate
-                        warnings.add("Possible incorrectly named file (direction<0 or frame<0): " + f);
-                        continue;
-                    }
-
-                    // ok, this looks usable... can we read it?
-                    BufferedImage image = ImageIO.read(f);
-                    if (image != null)
-                    {
-                        images.put(new Pair<Integer, Integer>(direction, frame), image);
-                        maxDirection = Math.max(maxDirection, direction);
-                        maxFrame = Math.max(maxFrame, frame);
-                    } else
-                    {
-                        warnings.add("Could not read file (no supported reader): " + f);
-                    }
-                }
-            }
-        }
-
-        // read all possible images... now construct the animation
+        // discover and decode the series in one pass
+        BufferedImage[][] images = AnimationIO.readImageSeries(file, separator, warnings);
         ArrayList<AnimationFrame> alaf = new ArrayList<AnimationFrame>();
-        for (int d = 0; d <= maxDirection; d++)
+        for (BufferedImage[] direction : images)
         {
-            for (int f = 0; f <= maxFrame; f++)
+            for (BufferedImage image : direction)
             {
-                alaf.add(new AnimationFrame(images.get(new Pair<Integer, Integer>(d, f)), 0, 0));
+                alaf.add(new AnimationFrame(image, 0, 0));
             }
         }
 
         // prepared content!
-        initialize(alaf, maxDirection + 1, maxFrame + 1);
+        initialize(alaf, images.length, images[0].length);
     }
 
     /**
@@ -660,26 +591,52 @@ public class Animation
      *                       transform.
      * @param adjustOffsets If <code>true</code>, the offsets of each frame are adjusted by the same amount.
      * @param hints          One of the {@link Image}<code>.SCALE_XXXX</code> values describing how the images should be
-     *                       resized.
+     *                       resized.  The hints are mapped to an {@link AnimationScaler.Filter} by {@link
+     *                       AnimationScaler.Filter#forHints(int)}.
      */
     public void scale(double scale, boolean adjustOffsets, int hints)
     {
-        for (int d = 0; d < getDirectionCount(); d++)
+        scale(scale, adjustOffsets, AnimationScaler.Filter.forHints(hints));
+    }
+
+    /**
+     * Resizes all images in the current animation on the given scale.  The frames are resized in parallel.
+     *
+     * @param scale          The scale on which to resize the images.  A scale of <code>1.0</code> is an identity
+     *                       transform.
+     * @param adjustOffsets If <code>true</code>, the offsets of each frame are adjusted by the same amount.
+     * @param filter         The {@link AnimationScaler.Filter} with which the images should be resized.
+     */
+    public void scale(double scale, boolean adjustOffsets, AnimationScaler.Filter filter)
+    {
+        new AnimationScaler(filter).scale(this, scale, adjustOffsets);
+    }
+
+    /**
+     * Moves every frame of this animation into another palette.  The pixels of frames which are indexed are mapped
+     * through a table of 256 entries, built once for their palette, without being converted to colors: an index whose
+     * entry has the same color in both palettes is kept, and any other index becomes the entry of the new palette
+     * nearest to its color, honoring restricted indices.  Frames which are not indexed are mapped into the new palette
+     * color by color.  Afterwards, every frame is indexed in the new palette.
+     *
+     * @param palette The palette into which the frames are moved.  If the animation is to be encoded, this should be
+     *                the palette as derived by its codec (see {@link AnimationCodec#deriveCodecPalette(
+     *                RestrictableIndexColorModel)}) so that transparent pixels remain transparent.
+     */
+    public void remapPalette(RestrictableIndexColorModel palette)
+    {
+        PaletteLookupTable table = PaletteLookupTable.getInstance(palette);
+        PixelKernels kernels = PixelKernels.getInstance();
+        for (AnimationFrame frame : frameList)
         {
-            for (int f = 0; f < getFrameCount(); f++)
+            BufferedImage image = frame.getImage();
+            if (DecodeCache.isIndexed(image))
             {
-                AnimationFrame af = getFrame(d, f);
-                af.setImage(
-                        ImageUtilities.bufferImage(
-                                af.getImage().getScaledInstance(
-                                        Math.max(1, (int) (af.getImage().getWidth() * scale)),
-                                        Math.max(1, (int) (af.getImage().getHeight() * scale)),
-                                        hints)));
-                if (adjustOffsets)
-                {
-                    af.setXOffset((int) (af.getXOffset() * scale));
-                    af.setYOffset((int) (af.getYOffset() * scale));
-                }
+                byte[] remap = table.getRemapTable((IndexColorModel) (image.getColorModel()));
+                frame.setImage(kernels.remapImage(image, remap, palette));
+            } else
+            {
+                frame.setImage(kernels.toIndexedImage(image, table));
             }
         }
     }
@@ -828,7 +785,8 @@ public class Animation
      * Retrieves the image contained within the provided frame, padded to reflect the virtual coordinate space.  The
      * size of the returned image is equal in size to the virtual coordinate space; the image from the specified frame
      * is drawn in position over that space.  The primary use of this method is to transform the data stored within this
-     * {@link Animation} object into a form usable by standard image editors.
+     * {@link Animation} object into a form usable by standard image editors.  Callers rendering many frames should use
+     * a {@link PaddedImageRenderer} instead, which reuses a single canvas.
      *
      * @param direction     The direction number from which to obtain the image.
      * @param frame         The frame number from which to obtain the image.
@@ -836,18 +794,8 @@ public class Animation
      */
     public BufferedImage getPaddedImage(int direction, int frame, Color paddingColor)
     {
-        int firstX = getFirstXIndex();
-        int firstY = getFirstYIndex();
-        BufferedImage ret = new BufferedImage(
-                getLastXIndex() - firstX + 1,
-                getLastYIndex() - firstY + 1,
-                BufferedImage.TYPE_INT_ARGB);
-        Graphics g = ret.getGraphics();
-        g.setColor(paddingColor);
-        g.fillRect(0, 0, ret.getWidth(), ret.getHeight());
-        AnimationFrame f = getFrame(direction, frame);
-        g.drawImage(f.getImage(), f.getXOffset() - firstX, f.getYOffset() - firstY, null);
-        return ret;
+        // A fresh renderer allocates a fresh canvas, so the caller may keep the result.
+        return new PaddedImageRenderer(this).render(direction, frame, paddingColor);
     }
 
 // STATIC METHODS ////////////////////////////////////////////////////////////////
@@ -0,0 +1,543 @@
+package orioni.sixdice;
+
+import orioni.jz.awt.AWTUtilities;
+import orioni.jz.awt.image.ImageUtilities;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.util.*;
+import java.util.List;
+
+/**
+ * This utilities class is designed to save {@link Animation}s as sprite atlases and to load them again.  An atlas
+ * consists of one or more page images and an index file.  Each frame is trimmed to the smallest rectangle containing
+ * all of its visible pixels before it is packed onto a page; identical trimmed frames may optionally share a single
+ * rectangle.  The index records, for each frame, the page and rectangle holding its pixels along with the frame's
+ * original size, trim position and offsets, so loading an atlas reproduces the original frames exactly as long as a
+ * lossless image format is used.
+ * <p/>
+ * For an atlas generated from the file <code>name.ext</code>, the index is written to <code>name.atlas</code> and the
+ * pages to <code>name.atlas.0.ext</code>, <code>name.atlas.1.ext</code> and so on.  Batch imports recognize pages by
+ * these names (see {@link AnimationAtlasIO#isPageFile(File)}) and skip them, importing the index instead.  The index
+ * is a text file whose first line is {@link AnimationAtlasIO#INDEX_HEADER} and whose remaining lines take the
+ * following forms:
+ * <pre>
+ * directions &lt;count&gt;
+ * frames &lt;count&gt;
+ * page &lt;index&gt; &lt;file name&gt;
+ * frame &lt;direction&gt; &lt;frame&gt; &lt;page&gt; &lt;x&gt; &lt;y&gt; &lt;width&gt; &lt;height&gt;
+ *       &lt;trim x&gt; &lt;trim y&gt; &lt;frame width&gt; &lt;frame height&gt; &lt;x offset&gt; &lt;y offset&gt;
+ * </pre>
+ * (each <code>frame</code> entry is a single line).  Frames with no visible pixels have a page of <code>-1</code> and
+ * an empty rectangle.
+ *
+ * @author Zachary Palmer
+ */
+public class AnimationAtlasIO
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * The extension, period included, of atlas index files.
+     */
+    public static final String INDEX_SUFFIX = ".atlas";
+
+    /**
+     * The first line of every atlas index file.
+     */
+    public static final String INDEX_HEADER = "SixDice Atlas 1";
+
+    /**
+     * The default maximum width and height of an atlas page.
+     */
+    public static final int DEFAULT_MAXIMUM_PAGE_SIZE = 4096;
+
+    /**
+     * The pattern matched by the lower-case names of atlas page files.
+     */
+    protected static final String PAGE_NAME_PATTERN = ".*" + INDEX_SUFFIX.replace(".", "\\.") + "\\.\\d+(\\.[^.]*)?";
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * Private constructor.
+     */
+    private AnimationAtlasIO()
+    {
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+    /**
+     * Saves an {@link Animation} as a sprite atlas.
+     *
+     * @param file             The {@link File} used to generate the names of the index and page files.
+     * @param formatName       The informal format name to pass to {@link ImageIO} to write the pages.  This format
+     *                         should be lossless and support transparency.
+     * @param animation        The {@link Animation} to write.
+     * @param deduplicate      <code>true</code> to store identical trimmed frames only once; <code>false</code> to
+     *                         store every frame separately.
+     * @param maximumPageSize  The maximum width and height of each page.  Frames larger than this receive a page of
+     *                         their own, which holds no other frame.
+     * @param transparentColor The {@link Color} with which clear pixels on the pages are replaced, or
+     *                         <code>null</code> to leave them clear.
+     * @param error            A {@link PrintStream} which should be used to record errors regarding the saving
+     *                         process.
+     */
+    public static void save(File file, String formatName, Animation animation, boolean deduplicate,
+                            int maximumPageSize, Color transparentColor, PrintStream error)
+    {
+        String[] split = AnimationIO.splitSeriesFileName(file);
+        File parent = file.getAbsoluteFile().getParentFile();
+
+        // Trim each frame and find the distinct trimmed images.
+        int count = animation.getDirectionCount() * animation.getFrameCount();
+        Sprite[] sprites = new Sprite[count];
+        List<Sprite> distinct = new ArrayList<Sprite>();
+        Map<Sprite, Sprite> seen = new HashMap<Sprite, Sprite>();
+        for (int i = 0; i < count; i++)
+        {
+            Sprite sprite = new Sprite(animation.getFrames().get(i).getImage());
+            if (sprite.pixels == null)
+            {
+                sprites[i] = sprite;
+                continue;
+            }
+            Sprite existing = deduplicate ? seen.get(sprite) : null;
+            if (existing == null)
+            {
+                if (deduplicate) seen.put(sprite, sprite);
+                distinct.add(sprite);
+                sprites[i] = sprite;
+            } else
+            {
+                sprites[i] = sprite.sharing(existing);
+            }
+        }
+
+        List<Dimension> pageSizes = pack(distinct, maximumPageSize);
+
+        // Write the pages.
+        List<String> pageNames = new ArrayList<String>();
+        for (int page = 0; page < pageSizes.size(); page++)
+        {
+            Dimension size = pageSizes.get(page);
+            BufferedImage image = new BufferedImage(size.width, size.height, BufferedImage.TYPE_INT_ARGB);
+            for (Sprite sprite : distinct)
+            {
+                if (sprite.page == page)
+                {
+                    image.setRGB(
+                            sprite.x, sprite.y, sprite.trim.width, sprite.trim.height, sprite.pixels, 0,
+                            sprite.trim.width);
+                }
+            }
+            if (transparentColor != null)
+            {
+                ImageUtilities.replaceAll(image, AWTUtilities.COLOR_TRANSPARENT, transparentColor);
+            }
+            String pageName = getPageName(split, page);
+            pageNames.add(pageName);
+            try
+            {
+                if (!ImageUtilities.writeImage(image, formatName, new File(parent, pageName)))
+                {
+                    error.println("Page " + page + ": Image writing failed: Image format not supported.");
+                }
+            } catch (IOException e)
+            {
+                error.println("Page " + page + ": Image writing failed: " + e.getMessage());
+            }
+        }
+
+        // Write the index.
+        StringBuilder sb = new StringBuilder();
+        sb.append(INDEX_HEADER).append('\n');
+        sb.append("directions ").append(animation.getDirectionCount()).append('\n');
+        sb.append("frames ").append(animation.getFrameCount()).append('\n');
+        for (int page = 0; page < pageNames.size(); page++)
+        {
+            sb.append("page ").append(page).append(' ').append(pageNames.get(page)).append('\n');
+        }
+        for (int d = 0; d < animation.getDirectionCount(); d++)
+        {
+            for (int f = 0; f < animation.getFrameCount(); f++)
+            {
+                Sprite sprite = sprites[d * animation.getFrameCount() + f];
+                Sprite placed = (sprite.shared == null) ? sprite : sprite.shared;
+                AnimationFrame frame = animation.getFrame(d, f);
+                sb.append("frame ").append(d).append(' ').append(f).append(' ').append(placed.page).append(' ')
+                        .append(placed.x).append(' ').append(placed.y).append(' ')
+                        .append(sprite.trim.width).append(' ').append(sprite.trim.height).append(' ')
+                        .append(sprite.trim.x).append(' ').append(sprite.trim.y).append(' ')
+                        .append(sprite.width).append(' ').append(sprite.height).append(' ')
+                        .append(frame.getXOffset()).append(' ').append(frame.getYOffset()).append('\n');
+            }
+        }
+        File index = new File(parent, split[0] + INDEX_SUFFIX);
+        try
+        {
+            AnimationIO.writeFileAtomically(index, sb.toString().getBytes("UTF-8"));
+        } catch (IOException e)
+        {
+            error.println("Error writing atlas index " + index + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Loads an {@link Animation} from a sprite atlas.
+     *
+     * @param index The atlas index file.
+     * @param error A {@link PrintStream} which should be used to record errors regarding the loading process.
+     * @return The loaded {@link Animation}, or <code>null</code> if the atlas could not be loaded.
+     */
+    public static Animation load(File index, PrintStream error)
+    {
+        File parent = index.getAbsoluteFile().getParentFile();
+        try
+        {
+            BufferedReader reader =
+                    new BufferedReader(new InputStreamReader(new FileInputStream(index), "UTF-8"));
+            try
+            {
+                if (!INDEX_HEADER.equals(reader.readLine()))
+                {
+                    error.println(index + " is not a SixDice atlas index.");
+                    return null;
+                }
+                int directions = -1;
+                int frames = -1;
+                Map<Integer, BufferedImage> pages = new HashMap<Integer, BufferedImage>();
+                Map<Integer, AnimationFrame> frameMap = new HashMap<Integer, AnimationFrame>();
+                String line;
+                while ((line = reader.readLine()) != null)
+                {
+                    if (line.length() == 0) continue;
+                    String[] s = line.split(" ", 3);
+                    if ("directions".equals(s[0]))
+                    {
+                        directions = Integer.parseInt(s[1]);
+                    } else if ("frames".equals(s[0]))
+                    {
+                        frames = Integer.parseInt(s[1]);
+                    } else if ("page".equals(s[0]))
+                    {
+                        File pageFile = new File(parent, s[2]);
+                        BufferedImage image = ImageIO.read(pageFile);
+                        if (image == null)
+                        {
+                            error.println("Could not read atlas page (no supported reader): " + pageFile);
+                            return null;
+                        }
+                        pages.put(Integer.parseInt(s[1]), image);
+                    } else if ("frame".equals(s[0]))
+                    {
+                        if ((directions < 0) || (frames < 0))
+                        {
+                            error.println("Malformed atlas index " + index + ": frame precedes animation size.");
+                            return null;
+                        }
+                        String[] v = line.split(" ");
+                        int[] n = new int[v.length - 1];
+                        for (int i = 0; i < n.length; i++) n[i] = Integer.parseInt(v[i + 1]);
+                        if (n.length != 13)
+                        {
+                            error.println("Malformed atlas index " + index + ": " + line);
+                            return null;
+                        }
+                        BufferedImage image = new BufferedImage(n[9], n[10], BufferedImage.TYPE_INT_ARGB);
+                        if (n[2] != -1)
+                        {
+                            BufferedImage page = pages.get(n[2]);
+                            if (page == null)
+                            {
+                                error.println("Malformed atlas index " + index + ": unknown page " + n[2] + ".");
+                                return null;
+                            }
+                            int[] pixels = page.getRGB(n[3], n[4], n[5], n[6], null, 0, n[5]);
+                            image.setRGB(n[7], n[8], n[5], n[6], pixels, 0, n[5]);
+                        }
+                        frameMap.put(n[0] * frames + n[1], new AnimationFrame(image, n[11], n[12]));
+                    }
+                }
+                if ((directions < 1) || (frames < 1) || (frameMap.size() != directions * frames))
+                {
+                    error.println("Malformed atlas index " + index + ": frames are missing.");
+                    return null;
+                }
+                List<AnimationFrame> frameList = new ArrayList<AnimationFrame>();
+                for (int i = 0; i < directions * frames; i++) frameList.add(frameMap.get(i));
+                return new Animation(frameList, directions, frames, new ArrayList<String>());
+            } finally
+            {
+                reader.close();
+            }
+        } catch (NumberFormatException e)
+        {
+            error.println("Malformed atlas index " + index + ": " + e.getMessage());
+            return null;
+        } catch (IOException e)
+        {
+            error.println("<html>An I/O error occurred during import:<br>    " + e + "<br>The import failed.");
+            return null;
+        }
+    }
+
+    /**
+     * Determines the files of an atlas written by {@link AnimationAtlasIO#save(File, String, Animation, boolean, int,
+     * Color, PrintStream)}: its index and those of its pages which exist, in page order.
+     *
+     * @param file The {@link File} used to generate the names of the index and page files.
+     * @return The files of the atlas.
+     */
+    public static List<File> getAtlasFiles(File file)
+    {
+        String[] split = AnimationIO.splitSeriesFileName(file);
+        File parent = file.getAbsoluteFile().getParentFile();
+        List<File> ret = new ArrayList<File>();
+        ret.add(new File(parent, split[0] + INDEX_SUFFIX));
+        int page = 0;
+        File pageFile = new File(parent, getPageName(split, page));
+        while (pageFile.isFile())
+        {
+            ret.add(pageFile);
+            pageFile = new File(parent, getPageName(split, ++page));
+        }
+        return ret;
+    }
+
+    /**
+     * Generates the name of a page of an atlas.
+     *
+     * @param split The base name and extension of the {@link File} used to generate the names of the index and page
+     *              files, as produced by {@link AnimationIO#splitSeriesFileName(File)}.
+     * @param page  The page number.
+     * @return The name of the page file.
+     */
+    protected static String getPageName(String[] split, int page)
+    {
+        return split[0] + INDEX_SUFFIX + '.' + page + split[1];
+    }
+
+    /**
+     * Determines whether the provided file is a page of an atlas, named as {@link AnimationAtlasIO#save(File, String,
+     * Animation, boolean, int, Color, PrintStream)} names pages.
+     *
+     * @param file The file to examine.
+     * @return <code>true</code> if the file is named as an atlas page; <code>false</code> otherwise.
+     */
+    public static boolean isPageFile(File file)
+    {
+        return file.getName().toLowerCase().matches(PAGE_NAME_PATTERN);
+    }
+
+    /**
+     * Packs the provided sprites onto pages using shelf packing.  The tallest sprites are placed first; each shelf is
+     * as tall as its first sprite.  A sprite wider or taller than the maximum page size is placed alone on a page of
+     * its own.  The page and position of each sprite are recorded in the sprite.
+     *
+     * @param sprites         The sprites to pack.
+     * @param maximumPageSize The maximum width and height of each page.
+     * @return The sizes of the pages.
+     */
+    protected static List<Dimension> pack(List<Sprite> sprites, int maximumPageSize)
+    {
+        List<Dimension> ret = new ArrayList<Dimension>();
+        if (sprites.size() == 0) return ret;
+
+        List<Sprite> sorted = new ArrayList<Sprite>(sprites);
+        Collections.sort(
+                sorted, new Comparator<Sprite>()
+                {
+                    public int compare(Sprite a, Sprite b)
+                    {
+                        return b.trim.height - a.trim.height;
+                    }
+                });
+
+        // Aim for roughly square pages.
+        long area = 0;
+        int widest = 0;
+        for (Sprite sprite : sorted)
+        {
+            area += (long) (sprite.trim.width) * sprite.trim.height;
+            widest = Math.max(widest, sprite.trim.width);
+        }
+        int pageWidth = Math.min(maximumPageSize, Math.max(widest, (int) (Math.ceil(Math.sqrt(area * 1.1)))));
+
+        Dimension page = null;
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+        for (Sprite sprite : sorted)
+        {
+            int w = sprite.trim.width;
+            int h = sprite.trim.height;
+            boolean oversized = (w > maximumPageSize) || (h > maximumPageSize);
+            if ((page != null) && (!oversized) && (x + w > pageWidth))
+            {
+                // Start a new shelf.
+                x = 0;
+                y += shelfHeight;
+                shelfHeight = 0;
+            }
+            if ((page == null) || (oversized) || (x + w > pageWidth) || (y + h > maximumPageSize))
+            {
+                // Start a new page.
+                page = new Dimension(0, 0);
+                ret.add(page);
+                x = 0;
+                y = 0;
+                shelfHeight = 0;
+            }
+            sprite.page = ret.size() - 1;
+            sprite.x = x;
+            sprite.y = y;
+            x += w;
+            shelfHeight = Math.max(shelfHeight, h);
+            page.width = Math.max(page.width, x);
+            page.height = Math.max(page.height, y + h);
+            // Nothing else is placed on an oversized sprite's page.
+            if (oversized) page = null;
+        }
+        return ret;
+    }
+
+// CONTAINED CLASSES /////////////////////////////////////////////////////////////
+
+    /**
+     * Represents the trimmed pixels of a single frame and their placement in the atlas.  Two sprites are equal if
+     * their trimmed pixels are equal.
+     */
+    protected static class Sprite
+    {
+        /**
+         * The width of the untrimmed frame.
+         */
+        protected int width;
+        /**
+         * The height of the untrimmed frame.
+         */
+        protected int height;
+        /**
+         * The visible area of the frame.
+         */
+        protected Rectangle trim;
+        /**
+         * The ARGB pixels of the visible area, or <code>null</code> if the frame has no visible pixels.
+         */
+        protected int[] pixels;
+        /**
+         * The hash code of the pixels.
+         */
+        protected int hash;
+        /**
+         * The page on which the pixels are stored, or <code>-1</code> if they are not stored.
+         */
+        protected int page;
+        /**
+         * The X coordinate of the pixels on the page.
+         */
+        protected int x;
+        /**
+         * The Y coordinate of the pixels on the page.
+         */
+        protected int y;
+        /**
+         * The sprite whose placement this sprite shares, or <code>null</code> if this sprite is placed itself.
+         */
+        protected Sprite shared;
+
+        /**
+         * General constructor.  Trims the provided image.
+         *
+         * @param image The frame image.
+         */
+        public Sprite(BufferedImage image)
+        {
+            super();
+            width = image.getWidth();
+            height = image.getHeight();
+            page = -1;
+            x = 0;
+            y = 0;
+            shared = null;
+
+            int[] all = image.getRGB(0, 0, width, height, null, 0, width);
+            int minX = width;
+            int minY = height;
+            int maxX = -1;
+            int maxY = -1;
+            for (int py = 0; py < height; py++)
+            {
+                for (int px = 0; px < width; px++)
+                {
+                    if ((all[py * width + px] & 0xFF000000) != 0)
+                    {
+                        minX = Math.min(minX, px);
+                        maxX = Math.max(maxX, px);
+                        minY = Math.min(minY, py);
+                        maxY = Math.max(maxY, py);
+                    }
+                }
+            }
+            if (maxX == -1)
+            {
+                trim = new Rectangle(0, 0, 0, 0);
+                pixels = null;
+                hash = 0;
+                return;
+            }
+            trim = new Rectangle(minX, minY, maxX - minX + 1, maxY - minY + 1);
+            pixels = new int[trim.width * trim.height];
+            for (int py = 0; py < trim.height; py++)
+            {
+                System.arraycopy(all, (py + trim.y) * width + trim.x, pixels, py * trim.width, trim.width);
+            }
+            // Clear pixels are written as transparent black regardless of their color components.
+            for (int i = 0; i < pixels.length; i++)
+            {
+                if ((pixels[i] & 0xFF000000) == 0) pixels[i] = 0;
+            }
+            hash = Arrays.hashCode(pixels) * 31 + trim.width;
+        }
+
+        /**
+         * Makes this sprite use the placement of an identical sprite.  This sprite keeps its own frame size and trim
+         * position.
+         *
+         * @param other The identical sprite.
+         * @return This sprite.
+         */
+        public Sprite sharing(Sprite other)
+        {
+            pixels = other.pixels;
+            // The placement is read when the index is written, after packing.
+            shared = other;
+            return this;
+        }
+
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        public boolean equals(Object o)
+        {
+            if (!(o instanceof Sprite)) return false;
+            Sprite other = (Sprite) o;
+            return (hash == other.hash) && (trim.width == other.trim.width) &&
+                   (trim.height == other.trim.height) && (Arrays.equals(pixels, other.pixels));
+        }
+    }
+}
+
+// END OF FILE
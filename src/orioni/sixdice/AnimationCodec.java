@@ -8,13 +8,17 @@ import orioni.jz.util.Pair;
 import orioni.jz.util.ProgressTracker;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 /**
  * This interface is intended to be implemented by any class which can read and write {@link Animation} objects from and
  * to a specific file format.
+ * <p/>
+ * Codecs are immutable: their settings are fixed by the {@link CodecOptions} with which they are constructed, so a
+ * single codec may serve any number of threads at once.  A codec with other settings is obtained with {@link
+ * AnimationCodec#deriveWithOptions(CodecOptions)}.
  *
  * @author Zachary Palmer
  */
@@ -41,22 +45,43 @@ public abstract class AnimationCodec
 // NON-STATIC FIELDS /////////////////////////////////////////////////////////////
 
     /**
-     * The index which this codec assumes is transparent.
+     * The {@link CodecOptions} of this codec.
      */
-    protected int transparentIndex;
+    protected final CodecOptions options;
 
 // CONSTRUCTORS //////////////////////////////////////////////////////////////////
 
     /**
-     * General constructor.
+     * General constructor.  The codec uses {@link CodecOptions#DEFAULT}.
      */
     public AnimationCodec()
     {
-        transparentIndex = 0;
+        this(CodecOptions.DEFAULT);
+    }
+
+    /**
+     * General constructor.
+     *
+     * @param options The {@link CodecOptions} of this codec, or <code>null</code> for {@link CodecOptions#DEFAULT}.
+     */
+    public AnimationCodec(CodecOptions options)
+    {
+        super();
+        this.options = (options == null) ? CodecOptions.DEFAULT : options;
     }
 
 // NON-STATIC METHODS ////////////////////////////////////////////////////////////
 
+    /**
+     * Retrieves the {@link CodecOptions} of this codec.
+     *
+     * @return This codec's options.
+     */
+    public CodecOptions getOptions()
+    {
+        return options;
+    }
+
     /**
      * Retrieves the index that this codec assumes is transparent.
      *
@@ -64,17 +89,44 @@ public abstract class AnimationCodec
      */
     public int getTransparentIndex()
     {
-        return transparentIndex;
+        return options.getTransparentIndex();
     }
 
     /**
-     * Sets the index that this codec assumes is transparent.
+     * Retrieves the {@link CodecStatistics} to which this codec reports.
      *
-     * @param index The transparent index, or <code>-1</code> for no transparent index.
+     * @return This codec's statistics.
      */
-    public void setTransparentIndex(int index)
+    public CodecStatistics getStatistics()
     {
-        transparentIndex = index;
+        return options.getStatistics();
+    }
+
+    /**
+     * Creates a codec of the same type as this one which uses the specified options.  This codec is not changed.
+     *
+     * @param options The {@link CodecOptions} of the new codec.
+     * @return The new codec.
+     */
+    public abstract AnimationCodec deriveWithOptions(CodecOptions options);
+
+    /**
+     * Finishes recording a decoding or encoding operation with this codec's statistics.  The operation is named after
+     * this codec.
+     *
+     * @param operation The kind of operation, such as <code>"decode"</code>.
+     * @param start     The value returned by {@link CodecStatistics#startOperation()}.
+     * @param animation The {@link Animation} which was decoded or encoded.
+     * @param bytes     The length of the encoded data.
+     */
+    protected void stopOperation(String operation, long[] start, Animation animation, int bytes)
+    {
+        if (start != null)
+        {
+            options.getStatistics().stopOperation(
+                    getName() + ": " + operation, start, animation.getDirectionCount() * animation.getFrameCount(),
+                    bytes);
+        }
     }
 
     /**
@@ -106,6 +158,32 @@ public abstract class AnimationCodec
         return getName();
     }
 
+    /**
+     * Retrieves the number of bytes at the start of an encoded file which are examined by {@link
+     * AnimationCodec#matchesSignature(byte[])}.  This implementation returns <code>0</code>, indicating that the codec
+     * does not recognize its files by their contents.
+     *
+     * @return The length of this codec's signature.
+     */
+    public int getSignatureLength()
+    {
+        return 0;
+    }
+
+    /**
+     * Determines whether data beginning with the specified bytes may be decoded by this codec.  The check examines only
+     * the first {@link AnimationCodec#getSignatureLength()} bytes, and it never rejects data which {@link
+     * AnimationCodec#decode(byte[], RestrictableIndexColorModel, ProgressTracker)} would accept; it allows data of the
+     * wrong format to be turned away without being decoded.  This implementation accepts any data.
+     *
+     * @param header The first bytes of the data.  This array is shorter than the signature if the data is.
+     * @return <code>true</code> if the data may be decoded by this codec; <code>false</code> if it certainly cannot.
+     */
+    public boolean matchesSignature(byte[] header)
+    {
+        return true;
+    }
+
     /**
      * Reads an {@link Animation} from the specified {@link File}.
      *
@@ -123,14 +201,35 @@ public abstract class AnimationCodec
     public Animation read(File file, RestrictableIndexColorModel palette, ProgressTracker tracker)
             throws ParseException, IOException
     {
-        if (tracker == null) tracker = new ProgressTracker(0, 1);
-        return decode(FileUtilities.getFileContents(file), palette, tracker);
+        return decode(FileUtilities.getFileContents(file), file.getPath(), palette, tracker);
+    }
+
+    /**
+     * Reads an {@link Animation} from the remaining contents of the specified {@link ByteBuffer}.  This allows files
+     * which are not stored on disk, such as those in an {@link MPQArchive}, to be read without first being extracted.
+     * The buffer's position is not changed.
+     *
+     * @param data    The {@link ByteBuffer} containing the file's contents.
+     * @param palette The palette in which to render the image once it has been read, or <code>null</code> to indicate
+     *                that the palette stored in the image file should be used.
+     * @param tracker The {@link ProgressTracker} which will track the progress of the loading operation, or
+     *                <code>null</code> if no {@link ProgressTracker} is desired.
+     * @return The {@link Animation} which was read from the buffer.
+     * @throws ParseException       If the provided data cannot be read by this codec.
+     * @throws NullPointerException If <code>palette</code> is <code>null</code> and this codec reads files which do not
+     *                              carry their own palettes.
+     */
+    public Animation read(ByteBuffer data, RestrictableIndexColorModel palette, ProgressTracker tracker)
+            throws ParseException
+    {
+        return decode(getBytes(data), null, palette, tracker);
     }
 
     /**
      * Writes an {@link Animation} to the provided {@link File}.  This method should not be called unless a call to
      * {@link AnimationCodec#check(Animation)} using the same {@link Animation} object produces no messages with a
-     * {@link MessageType#FATAL} type.  If the write fails, the partially written file will be deleted.
+     * {@link MessageType#FATAL} type.  The file is replaced atomically: if the write fails, any existing file is left
+     * untouched and no partially written file remains.
      *
      * @param file      The {@link File} to which to write the {@link Animation} object.
      * @param animation The {@link Animation} to write.
@@ -145,34 +244,78 @@ public abstract class AnimationCodec
      */
     public void write(File file, Animation animation, RestrictableIndexColorModel palette, ProgressTracker tracker)
             throws IOException
+    {
+        AnimationIO.writeFileAtomically(file, encode(animation, file.getPath(), palette, tracker));
+    }
+
+    /**
+     * Decodes an {@link Animation} from the specified data array, reporting the operation to the {@link
+     * EventRecorder}.  The file reading methods of this class decode through this method.  If this codec's options
+     * collect warnings, the warnings of the decoded {@link Animation} are added to their list.
+     *
+     * @param data    The <code>byte[]</code> containing the data to decode.
+     * @param source  The name of the file from which the data was read, or <code>null</code> if it is not known.
+     * @param palette The palette in which to render the image once it has been read, or <code>null</code> to indicate
+     *                that the palette stored in the image file should be used.
+     * @param tracker The {@link ProgressTracker} which will track the progress of the decoding operation, or
+     *                <code>null</code> if no {@link ProgressTracker} is desired.
+     * @return The decoded {@link Animation}.
+     * @throws ParseException       If the provided data cannot be decoded by this codec.
+     * @throws NullPointerException If <code>palette</code> is <code>null</code> and this codec reads files which do not
+     *                              carry their own palettes.
+     */
+    public Animation decode(byte[] data, String source, RestrictableIndexColorModel palette, ProgressTracker tracker)
+            throws ParseException
+    {
+        if (tracker == null) tracker = new ProgressTracker(0, 1);
+        EventRecorder recorder = EventRecorder.getInstance();
+        Object event = recorder.beginDecode();
+        Animation animation = null;
+        try
+        {
+            animation = decode(data, palette, tracker);
+        } finally
+        {
+            recorder.endDecode(event, this, source, data.length, animation);
+        }
+        List<String> warnings = options.getWarnings();
+        if (warnings != null)
+        {
+            String prefix = (source == null) ? "" : source + ": ";
+            for (String warning : animation.getWarnings()) warnings.add(prefix + warning);
+        }
+        return animation;
+    }
+
+    /**
+     * Encodes an {@link Animation}, reporting the operation to the {@link EventRecorder}.  The file writing methods of
+     * this class encode through this method.
+     *
+     * @param animation The {@link Animation} to encode.
+     * @param target    The name of the file to which the data will be written, or <code>null</code> if it is not
+     *                  known.
+     * @param palette   The palette in which to encode the animation.
+     * @param tracker   The {@link ProgressTracker} which will track the progress of the encoding operation, or
+     *                  <code>null</code> if no {@link ProgressTracker} is desired.
+     * @return The encoded data.
+     * @throws NullPointerException If <code>palette</code> is <code>null</code> and this codec writes files which do
+     *                              not carry their own palettes.
+     */
+    public byte[] encode(Animation animation, String target, RestrictableIndexColorModel palette,
+                         ProgressTracker tracker)
     {
         if (tracker == null) tracker = new ProgressTracker(0, 1);
-        FileOutputStream fos = null;
-        boolean opened = false;
+        EventRecorder recorder = EventRecorder.getInstance();
+        Object event = recorder.beginEncode();
+        byte[] data = null;
         try
         {
-            try
-            {
-                fos = new FileOutputStream(file);
-                opened = true;
-                fos.write(encode(animation, palette, tracker));
-            } finally
-            {
-                if (fos != null)
-                {
-                    try
-                    {
-                        fos.close();
-                    } catch (IOException e)
-                    {
-                    }
-                }
-            }
-        } catch (IOException ioe)
+            data = encode(animation, palette, tracker);
+        } finally
         {
-            if (opened) file.delete();
-            throw ioe;
+            recorder.endEncode(event, this, target, (data == null) ? -1 : data.length, animation);
         }
+        return data;
     }
 
     /**
@@ -243,6 +386,28 @@ public abstract class AnimationCodec
      * @return The human-readable name of this codec.
      */
     public abstract String getName();
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+    /**
+     * Retrieves the remaining contents of a {@link ByteBuffer} as an array.  If the buffer is backed by an array which
+     * holds exactly its remaining contents, that array is returned; otherwise, the contents are copied.  The buffer's
+     * position is not changed.
+     *
+     * @param data The {@link ByteBuffer}.
+     * @return An array containing the remaining contents of the buffer.
+     */
+    public static byte[] getBytes(ByteBuffer data)
+    {
+        if ((data.hasArray()) && (data.arrayOffset() == 0) && (data.position() == 0) &&
+            (data.remaining() == data.array().length))
+        {
+            return data.array();
+        }
+        byte[] ret = new byte[data.remaining()];
+        data.duplicate().get(ret);
+        return ret;
+    }
 }
 
 // END OF FILE
\ No newline at end of file
@@ -1,21 +1,30 @@
 package orioni.sixdice;
 
+import orioni.jz.awt.AWTUtilities;
 import orioni.jz.awt.image.ImageUtilities;
+import orioni.jz.awt.image.RestrictableIndexColorModel;
 import orioni.jz.io.files.FileRegularExpressionFilter;
 import orioni.jz.io.files.FileUtilities;
 import orioni.jz.math.MathUtilities;
-import orioni.jz.util.Pair;
 import orioni.jz.util.configuration.Configuration;
 import orioni.jz.util.configuration.ConfigurationElement;
 import orioni.jz.util.configuration.IntegerConfigurationElement;
 import orioni.jz.util.strings.StringUtilities;
 
 import javax.imageio.ImageIO;
+import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
-import java.io.PrintStream;
+import java.awt.image.ColorModel;
+import java.io.*;
 import java.util.*;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 /**
  * This utilities class is designed to provide functionality for loading and saving image files using {@link Animation}
@@ -25,6 +34,9 @@ import java.util.*;
  * <li><code>ext</code> is the file extension (such as ".jpg" or ".png"), and</li> <li>"<code>__</code>" is a specified
  * separation string.</li> </ul> Obviously, the same filename and separation character must be specified when loading an
  * image series which has been saved in this form.
+ * <p/>
+ * An image series may also be stored in a single ZIP or TAR archive using the same file names; see {@link
+ * AnimationIO#saveArchive(File, ArchiveFormat, String, String, Animation, Color, PrintStream)}.
  *
  * @author Zachary Palmer
  */
@@ -50,6 +62,17 @@ public class AnimationIO
      */
     public static final String METAFILE_SUFFIX = ".meta";
 
+    /**
+     * The size of a TAR header or data record.
+     */
+    protected static final int TAR_RECORD_SIZE = 512;
+
+    /**
+     * The informal names of the image formats, in lower case, in which series images are written straight from
+     * palette indices when possible.  Both keep the transparent entry of an indexed image transparent.
+     */
+    protected static final Set<String> INDEXED_FORMATS = new HashSet<String>(Arrays.asList("png", "gif"));
+
 // NON-STATIC FIELDS /////////////////////////////////////////////////////////////
 
 // CONSTRUCTORS //////////////////////////////////////////////////////////////////
@@ -99,6 +122,80 @@ public class AnimationIO
         return new File(file.getParent() + File.separatorChar + s[0] + '.' + FileUtilities.getFileExtension(file));
     }
 
+    /**
+     * Retrieves the key which identifies an image series regardless of the format of its images.  The key is the
+     * generation file without its extension and, on file systems which are not case-sensitive, in lower case; thus
+     * "<code>myAnim__00__00.png</code>" and "<code>MyAnim__00__01.bmp</code>" may belong to the same series.
+     *
+     * @param generator The generation file of the series, as produced by {@link
+     *                  AnimationIO#getSeriesGenerationFile(File, String)}.
+     * @return The key of the series.
+     */
+    public static File getSeriesKey(File generator)
+    {
+        String name = splitSeriesFileName(generator)[0];
+        if (!FileUtilities.FILESYSTEM_CASE_SENSITIVE) name = name.toLowerCase();
+        return new File(generator.getParent(), name);
+    }
+
+    /**
+     * Groups the provided files into image series using a single pass over the file names.  A file is a member of an
+     * image series if {@link AnimationIO#getSeriesGenerationFile(File, String)} produces a generation file for it and
+     * its direction and frame numbers are non-negative.  Files which are not series members are ignored.
+     * <p/>
+     * Series are grouped by {@link AnimationIO#getSeriesKey(File) key}, so one animation is produced for each base
+     * name however many image formats it appears in.  A series is read in the format of its first member; members in
+     * other formats are left out of it.
+     * <p/>
+     * This method is intended for processing entire directories; discovering the members of each series with {@link
+     * AnimationIO#findSeriesMembers(File, String, List)} would list the directory once per series.
+     *
+     * @param files     The files to index, typically the contents of a single directory.
+     * @param separator The separator string used to separate information in the filename of image series files.
+     * @return A mapping from the key of each series to its members.  The series appear in the order in which their
+     *         first members appear in the provided array.
+     */
+    public static Map<File, List<SeriesMember>> indexImageSeries(File[] files, String separator)
+    {
+        Map<File, List<SeriesMember>> ret = new LinkedHashMap<File, List<SeriesMember>>();
+        for (File f : files)
+        {
+            if (f.isDirectory()) continue;
+            File generator = getSeriesGenerationFile(f, separator);
+            if (generator == null) continue;
+            String[] s = FileUtilities.removeFileExtension(f).getName().split(separator);
+            int direction;
+            int frame;
+            try
+            {
+                direction = Integer.parseInt(s[1]);
+                frame = Integer.parseInt(s[2]);
+            } catch (NumberFormatException e)
+            {
+                continue;
+            }
+            if ((direction < 0) || (frame < 0)) continue;
+            File key = getSeriesKey(generator);
+            List<SeriesMember> members = ret.get(key);
+            if (members == null)
+            {
+                members = new ArrayList<SeriesMember>();
+                ret.put(key, members);
+            } else
+            {
+                String extension = FileUtilities.getFileExtension(members.get(0).getFile());
+                String memberExtension = FileUtilities.getFileExtension(f);
+                if ((FileUtilities.FILESYSTEM_CASE_SENSITIVE) ? (!extension.equals(memberExtension)) :
+                    (!extension.equalsIgnoreCase(memberExtension)))
+                {
+                    continue;
+                }
+            }
+            members.add(new SeriesMember(f, direction, frame));
+        }
+        return ret;
+    }
+
     /**
      * Loads an image series and produces an {@link Animation} from it.
      *
@@ -110,83 +207,46 @@ public class AnimationIO
      */
     public static Animation load(File file, String separator, PrintStream error)
     {
-        try
-        {
-            ArrayList<String> warnings = new ArrayList<String>();
+        ArrayList<String> warnings = new ArrayList<String>();
+        return load(file, findSeriesMembers(file, separator, warnings), warnings, error);
+    }
 
-            int periodIndex = file.getName().lastIndexOf('.');
-            String name;
-            String extension;
-            if (periodIndex == -1)
-            {
-                name = file.getName();
-                extension = "";
-            } else
-            {
-                name = file.getName().substring(0, periodIndex);
-                extension = file.getName().substring(periodIndex);
-            }
-            if (!FileUtilities.FILESYSTEM_CASE_SENSITIVE)
-            {
-                name = name.toLowerCase();
-                extension = extension.toLowerCase();
-            }
-            // this map will contain a mapping between direction/pair coordinates and the contents of the files
-            Map<Pair<Integer, Integer>, BufferedImage> images = new HashMap<Pair<Integer, Integer>, BufferedImage>();
-            int maxDirection = 0;
-            int maxFrame = 0;
-            for (File f : file.getParentFile().listFiles())
-            {
-                String filename = f.getName();
-                if (!FileUtilities.FILESYSTEM_CASE_SENSITIVE)
-                {
-                    filename = filename.toLowerCase();
-                }
-                if ((filename.startsWith(name)) && (filename.endsWith(extension)))
-                {
-                    filename = filename.substring(name.length(), filename.length() - extension.length());
-                    String[] strings = filename.split(separator);
-                    if ((strings.length == 3) && ("".equals(strings[0])))
-                    {
-                        // looks like a good candidate
-                        int direction;
-                        int frame;
-                        try
-                        {
-                            direction = Integer.parseInt(strings[1]);
-                            frame = Integer.parseInt(strings[2]);
-                        } catch (NumberFormatException e)
-                        {
-                            // obviously not a good candidate ;)
-                            warnings.add("Possibly incorrectly named file (could not parse direction or frame): " + f);
-                            continue;
-                        }
-                        if ((direction < 0) || (frame < 0))
-                        {
-                            // also not a good candidate
-                            warnings.add("Possible incorrectly named file (direction<0 or frame<0): " + f);
-                            continue;
-                        }
+    /**
+     * Loads an image series whose members have already been discovered and produces an {@link Animation} from it.
+     * This avoids listing the directory of the series again when the members are known, such as when they were
+     * obtained from {@link AnimationIO#indexImageSeries(File[], String)}.
+     *
+     * @param file    The {@link File} used to generate names for the image files.  This file is used to locate the
+     *                metadata file of the series.
+     * @param members The members of the image series.
+     * @param error   A {@link PrintStream} which should be used to record errors regarding the loading process.
+     * @return The generated {@link Animation}, or <code>null</code> if the {@link Animation} could not be loaded.
+     */
+    public static Animation load(File file, List<SeriesMember> members, PrintStream error)
+    {
+        return load(file, members, new ArrayList<String>(), error);
+    }
 
-                        // ok, this looks usable... can we read it?
-                        BufferedImage image = ImageIO.read(f);
-                        if (image != null)
-                        {
-                            images.put(new Pair<Integer, Integer>(direction, frame), image);
-                            maxDirection = Math.max(maxDirection, direction);
-                            maxFrame = Math.max(maxFrame, frame);
-                        } else
-                        {
-                            warnings.add("Could not read file (no supported reader): " + f);
-                        }
-                    }
-                }
-            }
+    /**
+     * Loads an image series whose members have already been discovered and produces an {@link Animation} from it.
+     *
+     * @param file     The {@link File} used to generate names for the image files.
+     * @param members  The members of the image series.
+     * @param warnings The warnings produced while discovering the members of the series.  Further warnings are added
+     *                 to this list, which becomes the warning list of the resulting {@link Animation}.
+     * @param error    A {@link PrintStream} which should be used to record errors regarding the loading process.
+     * @return The generated {@link Animation}, or <code>null</code> if the {@link Animation} could not be loaded.
+     */
+    protected static Animation load(File file, List<SeriesMember> members, List<String> warnings, PrintStream error)
+    {
+        try
+        {
+            BufferedImage[][] images = readImageSeries(members, warnings);
 
             // If a metadata file exists, read it now.
             int xOffsetBase = 0;
             int yOffsetBase = 0;
-            File metafile = new File(file.getParent() + File.separatorChar + name + METAFILE_SUFFIX);
+            File metafile = getSeriesMetaFile(file);
             if ((metafile.exists()) && (metafile.isFile()))
             {
                 Configuration conf = new Configuration(META_ELEMENT_X_OFFSET, META_ELEMENT_Y_OFFSET);
@@ -201,23 +261,211 @@ public class AnimationIO
                 }
             }
 
-            // read all possible images... now construct the animation
-            ArrayList<AnimationFrame> alaf = new ArrayList<AnimationFrame>();
-            for (int d = 0; d <= maxDirection; d++)
+            return createSeriesAnimation(images, xOffsetBase, yOffsetBase, warnings);
+        } catch (IOException e)
+        {
+            error.println("<html>An I/O error occurred during import:<br>    " + e + "<br>The import failed.");
+            return null;
+        }
+    }
+
+    /**
+     * Constructs an {@link Animation} from the images of an image series.
+     *
+     * @param images      The images of the series, indexed first by direction and then by frame.
+     * @param xOffsetBase The X offset of every frame.
+     * @param yOffsetBase The Y offset of every frame.
+     * @param warnings    The warning list of the resulting {@link Animation}.
+     * @return The resulting {@link Animation}.
+     */
+    protected static Animation createSeriesAnimation(BufferedImage[][] images, int xOffsetBase, int yOffsetBase,
+                                                     List<String> warnings)
+    {
+        ArrayList<AnimationFrame> alaf = new ArrayList<AnimationFrame>();
+        for (BufferedImage[] direction : images)
+        {
+            for (BufferedImage image : direction)
             {
-                for (int f = 0; f <= maxFrame; f++)
+                alaf.add(new AnimationFrame(image, xOffsetBase, yOffsetBase));
+            }
+        }
+        return new Animation(alaf, images.length, images[0].length, warnings);
+    }
+
+    /**
+     * Reads the images of an image series.  The members of the series are discovered with a single directory listing
+     * and then decoded concurrently on the {@link WorkerPool#getSharedExecutor() shared executor}.  The result is
+     * indexed first by direction and then by frame and is sized to fit the largest direction and frame numbers of the
+     * images which could be read.  Positions for which no image could be read contain <code>null</code>.
+     *
+     * @param file      The {@link File} used to generate names for the image files.
+     * @param separator The separator string used to generate image file names.
+     * @param warnings  The {@link List} to which warnings about the series are added.
+     * @return The images of the series.  This array always contains at least one direction and one frame.
+     * @throws IOException If an I/O error occurs while reading one of the images.
+     */
+    public static BufferedImage[][] readImageSeries(File file, String separator, List<String> warnings)
+            throws IOException
+    {
+        return readImageSeries(findSeriesMembers(file, separator, warnings), warnings);
+    }
+
+    /**
+     * Reads the images of the provided image series members concurrently.
+     *
+     * @param members  The members of the image series.
+     * @param warnings The {@link List} to which warnings about the series are added.
+     * @return The images of the series, indexed first by direction and then by frame.  This array always contains at
+     *         least one direction and one frame.
+     * @throws IOException If an I/O error occurs while reading one of the images.
+     * @see AnimationIO#readImageSeries(File, String, List)
+     */
+    public static BufferedImage[][] readImageSeries(List<SeriesMember> members, List<String> warnings)
+            throws IOException
+    {
+        List<Callable<BufferedImage>> tasks = new ArrayList<Callable<BufferedImage>>(members.size());
+        for (final SeriesMember member : members)
+        {
+            tasks.add(
+                    new Callable<BufferedImage>()
+                    {
+                        public BufferedImage call()
+                                throws IOException
+                        {
+                            return ImageIO.read(member.getFile());
+                        }
+                    });
+        }
+        return decodeImageSeries(members, tasks, warnings);
+    }
+
+    /**
+     * Runs the provided image decoding tasks concurrently on the {@link WorkerPool#getSharedExecutor() shared
+     * executor} and arranges the results by direction and frame.
+     *
+     * @param members  The members of the image series.
+     * @param tasks    The tasks which decode the images of the members, in the same order as the members.  A task
+     *                 produces <code>null</code> if its image could not be read.
+     * @param warnings The {@link List} to which warnings about the series are added.
+     * @return The images of the series, indexed first by direction and then by frame.  This array always contains at
+     *         least one direction and one frame.
+     * @throws IOException If an I/O error occurs while decoding one of the images.
+     */
+    protected static BufferedImage[][] decodeImageSeries(List<SeriesMember> members,
+                                                         List<Callable<BufferedImage>> tasks, List<String> warnings)
+            throws IOException
+    {
+        List<BufferedImage> decoded;
+        try
+        {
+            decoded = WorkerPool.invokeAll(WorkerPool.getSharedExecutor(), tasks);
+        } catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof IOException) throw (IOException) (e.getCause());
+            throw new IOException(String.valueOf(e.getCause()));
+        }
+
+        int maxDirection = 0;
+        int maxFrame = 0;
+        for (int i = 0; i < members.size(); i++)
+        {
+            if (decoded.get(i) != null)
+            {
+                maxDirection = Math.max(maxDirection, members.get(i).getDirection());
+                maxFrame = Math.max(maxFrame, members.get(i).getFrame());
+            } else
+            {
+                warnings.add("Could not read file (no supported reader): " + members.get(i).getFile());
+            }
+        }
+        BufferedImage[][] ret = new BufferedImage[maxDirection + 1][maxFrame + 1];
+        for (int i = 0; i < members.size(); i++)
+        {
+            if (decoded.get(i) != null)
+            {
+                ret[members.get(i).getDirection()][members.get(i).getFrame()] = decoded.get(i);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Finds the members of an image series with a single listing of the directory which contains them.
+     *
+     * @param file      The {@link File} used to generate names for the image files.
+     * @param separator The separator string used to generate image file names.
+     * @param warnings  The {@link List} to which warnings about incorrectly named files are added.
+     * @return The members of the image series, in directory listing order.
+     */
+    public static List<SeriesMember> findSeriesMembers(File file, String separator, List<String> warnings)
+    {
+        String[] split = splitSeriesFileName(file);
+        String name = split[0];
+        String extension = split[1];
+        if (!FileUtilities.FILESYSTEM_CASE_SENSITIVE)
+        {
+            name = name.toLowerCase();
+            extension = extension.toLowerCase();
+        }
+
+        List<SeriesMember> ret = new ArrayList<SeriesMember>();
+        File[] files = file.getAbsoluteFile().getParentFile().listFiles();
+        if (files == null) return ret;
+        for (File f : files)
+        {
+            String filename = f.getName();
+            if (!FileUtilities.FILESYSTEM_CASE_SENSITIVE)
+            {
+                filename = filename.toLowerCase();
+            }
+            if ((filename.startsWith(name)) && (filename.endsWith(extension)))
+            {
+                filename = filename.substring(name.length(), filename.length() - extension.length());
+                String[] strings = filename.split(separator);
+                if ((strings.length == 3) && ("".equals(strings[0])))
                 {
-                    alaf.add(
-                            new AnimationFrame(
-                                    images.get(new Pair<Integer, Integer>(d, f)), xOffsetBase, yOffsetBase));
+                    // looks like a good candidate
+                    int direction;
+                    int frame;
+                    try
+                    {
+                        direction = Integer.parseInt(strings[1]);
+                        frame = Integer.parseInt(strings[2]);
+                    } catch (NumberFormatException e)
+                    {
+                        // obviously not a good candidate ;)
+                        warnings.add("Possibly incorrectly named file (could not parse direction or frame): " + f);
+                        continue;
+                    }
+                    if ((direction < 0) || (frame < 0))
+                    {
+                        // also not a good candidate
+                        warnings.add("Possible incorrectly named file (direction<0 or frame<0): " + f);
+                        continue;
+                    }
+                    ret.add(new SeriesMember(f, direction, frame));
                 }
             }
+        }
+        return ret;
+    }
 
-            return new Animation(alaf, maxDirection + 1, maxFrame + 1, warnings);
-        } catch (IOException e)
+    /**
+     * Splits the name of an image series generation file into its base name and its extension.
+     *
+     * @param file The generation file of the image series.
+     * @return A two-element array containing the base name and the extension (period included, or the empty string if
+     *         the file has no extension).
+     */
+    protected static String[] splitSeriesFileName(File file)
+    {
+        int periodIndex = file.getName().lastIndexOf('.');
+        if (periodIndex == -1)
         {
-            error.println("<html>An I/O error occurred during import:<br>    " + e + "<br>The import failed.");
-            return null;
+            return new String[]{file.getName(), ""};
+        } else
+        {
+            return new String[]{file.getName().substring(0, periodIndex), file.getName().substring(periodIndex)};
         }
     }
 
@@ -231,61 +479,824 @@ public class AnimationIO
      * @param error      A {@link PrintStream} which should be used to record errors regarding the saving process.
      */
     public static void save(File file, String separator, String formatName, Animation animation, PrintStream error)
+    {
+        save(file, separator, formatName, animation, null, error);
+    }
+
+    /**
+     * Saves an {@link Animation} as an image series.  The padded images are rendered into a single reusable canvas by a
+     * {@link PaddedImageRenderer}, so the cost of the export does not include allocating and clearing a full-size image
+     * for every frame.
+     *
+     * @param file             The {@link File} to use to generate names for the image files.
+     * @param separator        The separator string to use when generating image file names.
+     * @param formatName       The informal format name to pass to {@link ImageIO} to write the image.
+     * @param animation        The {@link Animation} to write.
+     * @param transparentColor The {@link Color} with which clear pixels are replaced before each image is written, or
+     *                         <code>null</code> to leave clear pixels as they are.
+     * @param error            A {@link PrintStream} which should be used to record errors regarding the saving
+     *                         process.
+     */
+    public static void save(File file, String separator, String formatName, Animation animation,
+                            Color transparentColor, PrintStream error)
+    {
+        save(file, separator, formatName, animation, transparentColor, 1, error);
+    }
+
+    /**
+     * Saves an {@link Animation} as an image series, rendering and encoding the images on the specified number of
+     * threads.  Each thread renders into its own {@link PaddedImageRenderer} and writes the image before rendering the
+     * next one, so no more than one padded image per thread is ever held in memory.  Errors are reported per direction
+     * and frame in the same order as a single-threaded save would report them.
+     *
+     * @param file             The {@link File} to use to generate names for the image files.
+     * @param separator        The separator string to use when generating image file names.
+     * @param formatName       The informal format name to pass to {@link ImageIO} to write the image.
+     * @param animation        The {@link Animation} to write.  It must not be changed while the save is in progress.
+     * @param transparentColor The {@link Color} with which clear pixels are replaced before each image is written, or
+     *                         <code>null</code> to leave clear pixels as they are.
+     * @param threads          The number of threads with which to write the images.  If this value is less than two,
+     *                         the images are written in the calling thread.
+     * @param error            A {@link PrintStream} which should be used to record errors regarding the saving
+     *                         process.
+     */
+    public static void save(File file, final String separator, final String formatName, final Animation animation,
+                            final Color transparentColor, int threads, PrintStream error)
+    {
+        final int frames = animation.getFrameCount();
+        final File[] targets = getSeriesImageFiles(file, separator, animation.getDirectionCount(), frames);
+
+        List<String> errors;
+        if (threads < 2)
+        {
+            errors = new ArrayList<String>();
+            PaddedImageRenderer renderer = createSeriesRenderer(animation, formatName, transparentColor);
+            for (int d = 0; d < animation.getDirectionCount(); d++)
+            {
+                for (int f = 0; f < animation.getFrameCount(); f++)
+                {
+                    errors.add(writeSeriesImage(renderer, d, f, transparentColor, formatName, targets[d * frames + f]));
+                }
+            }
+        } else
+        {
+            // Each worker thread gets its own canvas.
+            final ThreadLocal<PaddedImageRenderer> renderers = new ThreadLocal<PaddedImageRenderer>()
+            {
+                protected PaddedImageRenderer initialValue()
+                {
+                    return createSeriesRenderer(animation, formatName, transparentColor);
+                }
+            };
+            List<Callable<String>> tasks = new ArrayList<Callable<String>>();
+            for (int d = 0; d < animation.getDirectionCount(); d++)
+            {
+                for (int f = 0; f < animation.getFrameCount(); f++)
+                {
+                    final int direction = d;
+                    final int frame = f;
+                    tasks.add(
+                            new Callable<String>()
+                            {
+                                public String call()
+                                {
+                                    return writeSeriesImage(
+                                            renderers.get(), direction, frame, transparentColor, formatName,
+                                            targets[direction * frames + frame]);
+                                }
+                            });
+                }
+            }
+            ExecutorService executor = WorkerPool.createExecutor("SixDice Export", threads);
+            try
+            {
+                errors = WorkerPool.invokeAll(executor, tasks);
+            } catch (ExecutionException e)
+            {
+                // The tasks above throw no checked exceptions.
+                throw new IllegalStateException("Image writing task threw a checked exception!", e);
+            } finally
+            {
+                executor.shutdown();
+            }
+        }
+        for (String s : errors)
+        {
+            if (s != null) error.println(s);
+        }
+
+        Configuration conf = new Configuration(META_ELEMENT_X_OFFSET, META_ELEMENT_Y_OFFSET);
+        conf.setValue(META_ELEMENT_X_OFFSET, animation.getFirstXIndex());
+        conf.setValue(META_ELEMENT_Y_OFFSET, animation.getFirstYIndex());
+        File metafile = getSeriesMetaFile(file);
+        String errorString = conf.save(metafile);
+        if (errorString != null)
+        {
+            error.println("Error writing metadata file " + metafile + ": " + errorString);
+        }
+    }
+
+    /**
+     * Creates the renderer with which the images of an image series are drawn.  The renderer copies palette indices
+     * without converting them to ARGB if every frame of the {@link Animation} is indexed in the same palette, that
+     * palette has a fully transparent entry with which to pad, no transparent color is substituted and the format is
+     * one of {@link AnimationIO#INDEXED_FORMATS}.  The images then look the same as ARGB images would; otherwise, the
+     * renderer draws in ARGB.
+     *
+     * @param animation        The {@link Animation} to render.
+     * @param formatName       The informal format name to pass to {@link ImageIO} to write the images.
+     * @param transparentColor The {@link Color} with which clear pixels are replaced, or <code>null</code> if they are
+     *                         left as they are.
+     * @return The renderer.
+     */
+    protected static PaddedImageRenderer createSeriesRenderer(Animation animation, String formatName,
+                                                              Color transparentColor)
+    {
+        if ((transparentColor != null) || (!INDEXED_FORMATS.contains(formatName.toLowerCase())))
+        {
+            return new PaddedImageRenderer(animation);
+        }
+        ColorModel model = null;
+        for (AnimationFrame frame : animation.getFrames())
+        {
+            BufferedImage image = frame.getImage();
+            if ((!DecodeCache.isIndexed(image)) || ((model != null) && (!model.equals(image.getColorModel()))))
+            {
+                return new PaddedImageRenderer(animation);
+            }
+            model = image.getColorModel();
+        }
+        if (!(model instanceof RestrictableIndexColorModel)) return new PaddedImageRenderer(animation);
+        RestrictableIndexColorModel palette = (RestrictableIndexColorModel) (model);
+        int paddingIndex = palette.getMostTransparentIndex();
+        if ((paddingIndex < 0) || (palette.getAlpha(paddingIndex) != 0)) return new PaddedImageRenderer(animation);
+        return new PaddedImageRenderer(animation, palette, paddingIndex);
+    }
+
+    /**
+     * Renders and writes a single image of an image series.
+     *
+     * @param renderer         The {@link PaddedImageRenderer} with which to render the image.
+     * @param direction        The direction number of the image.
+     * @param frame            The frame number of the image.
+     * @param transparentColor The {@link Color} with which clear pixels are replaced, or <code>null</code> to leave
+     *                         clear pixels as they are.
+     * @param formatName       The informal format name to pass to {@link ImageIO} to write the image.
+     * @param target           The {@link File} to which the image is written.
+     * @return An error message, or <code>null</code> if the image was written successfully.
+     */
+    protected static String writeSeriesImage(PaddedImageRenderer renderer, int direction, int frame,
+                                             Color transparentColor, String formatName, File target)
+    {
+        try
+        {
+            BufferedImage image = renderer.render(direction, frame);
+            if (transparentColor != null)
+            {
+                // The padding is now opaque; the next frame must not be composited onto it.
+                ImageUtilities.replaceAll(image, AWTUtilities.COLOR_TRANSPARENT, transparentColor);
+                renderer.invalidate();
+            }
+            if (!ImageUtilities.writeImage(image, formatName, target))
+            {
+                return "Direction " + direction + ", Frame " + frame +
+                       ": Image writing failed: Image format not supported.";
+            }
+        } catch (IOException e)
+        {
+            return "Direction " + direction + ", Frame " + frame + ": Image writing failed: " + e.getMessage();
+        }
+        return null;
+    }
+
+    /**
+     * Generates the names of the image files of an image series, as {@link AnimationIO#save(File, String, String,
+     * Animation, Color, int, PrintStream)} writes them.
+     *
+     * @param file       The {@link File} used to generate the names of the image files.
+     * @param separator  The separator string used to generate image file names.
+     * @param directions The number of directions in the series.
+     * @param frames     The number of frames in each direction of the series.
+     * @return The image files, ordered by direction and then by frame.
+     */
+    public static File[] getSeriesImageFiles(File file, String separator, int directions, int frames)
+    {
+        int digits = (int) (Math.ceil(Math.log10(Math.max(directions, frames))));
+        String[] split = splitSeriesFileName(file);
+        String prefix = file.getParent() + File.separatorChar + split[0] + separator;
+        File[] ret = new File[directions * frames];
+        for (int d = 0; d < directions; d++)
+        {
+            for (int f = 0; f < frames; f++)
+            {
+                ret[d * frames + f] = getSeriesImageFile(prefix, separator, split[1], digits, d, f);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Determines the metadata file of an image series, which records the offsets of the {@link Animation}.
+     *
+     * @param file The {@link File} used to generate the names of the image files.
+     * @return The metadata file of the series.  It need not exist.
+     */
+    public static File getSeriesMetaFile(File file)
+    {
+        return new File(file.getParent() + File.separatorChar + splitSeriesFileName(file)[0] + METAFILE_SUFFIX);
+    }
+
+    /**
+     * Generates the name of a single image file in an image series.
+     *
+     * @param prefix    The path of the series, including the base name and the first separator.
+     * @param separator The separator string used to generate image file names.
+     * @param extension The extension of the image files, period included.
+     * @param digits    The number of digits to which the direction and frame numbers are padded.
+     * @param direction The direction number of the image.
+     * @param frame     The frame number of the image.
+     * @return The {@link File} for the image.
+     */
+    protected static File getSeriesImageFile(String prefix, String separator, String extension, int digits,
+                                             int direction, int frame)
+    {
+        return new File(
+                prefix +
+                StringUtilities.padLeft(String.valueOf(direction), '0', digits) +
+                separator +
+                StringUtilities.padLeft(String.valueOf(frame), '0', digits) +
+                extension);
+    }
+
+    /**
+     * Saves an {@link Animation} as an image series inside a single archive.  The images are named exactly as {@link
+     * AnimationIO#save(File, String, String, Animation, Color, int, PrintStream)} would name them, using the name of
+     * the archive without its extension as the base name, and the metadata file is stored alongside them.  The
+     * archive is written sequentially to a temporary file which then replaces the target, so creating one file per
+     * image is avoided and an interrupted save never leaves a truncated archive behind.
+     *
+     * @param archive          The archive file to write.
+     * @param archiveFormat    The {@link ArchiveFormat} of the archive.
+     * @param separator        The separator string to use when generating image entry names.
+     * @param formatName       The informal format name to pass to {@link ImageIO} to write the images.
+     * @param animation        The {@link Animation} to write.
+     * @param transparentColor The {@link Color} with which clear pixels are replaced before each image is written, or
+     *                         <code>null</code> to leave clear pixels as they are.
+     * @param error            A {@link PrintStream} which should be used to record errors regarding the saving
+     *                         process.
+     */
+    public static void saveArchive(File archive, ArchiveFormat archiveFormat, String separator, String formatName,
+                                   Animation animation, Color transparentColor, PrintStream error)
     {
         int digits = (int) (Math.ceil(Math.log10(Math.max(animation.getDirectionCount(), animation.getFrameCount()))));
+        String withoutExtension = splitSeriesFileName(archive)[0];
+        String extension = '.' + formatName.toLowerCase();
+
+        File temp = new File(archive.getAbsoluteFile().getParentFile(), archive.getName() + ".tmp");
+        boolean written = false;
+        try
+        {
+            OutputStream os = new BufferedOutputStream(new FileOutputStream(temp));
+            ZipOutputStream zos = null;
+            if (archiveFormat != ArchiveFormat.TAR)
+            {
+                zos = new ZipOutputStream(os);
+                zos.setMethod(
+                        (archiveFormat == ArchiveFormat.ZIP_STORED) ? ZipOutputStream.STORED :
+                        ZipOutputStream.DEFLATED);
+                os = zos;
+            }
+            try
+            {
+                PaddedImageRenderer renderer = createSeriesRenderer(animation, formatName, transparentColor);
+                ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                for (int d = 0; d < animation.getDirectionCount(); d++)
+                {
+                    for (int f = 0; f < animation.getFrameCount(); f++)
+                    {
+                        BufferedImage image = renderer.render(d, f);
+                        if (transparentColor != null)
+                        {
+                            ImageUtilities.replaceAll(image, AWTUtilities.COLOR_TRANSPARENT, transparentColor);
+                            renderer.invalidate();
+                        }
+                        baos.reset();
+                        if (!ImageIO.write(image, formatName, baos))
+                        {
+                            error.println(
+                                    "Direction " + d + ", Frame " + f +
+                                    ": Image writing failed: Image format not supported.");
+                            continue;
+                        }
+                        String name = getSeriesImageFile(
+                                withoutExtension + separator, separator, extension, digits, d, f).getPath();
+                        writeArchiveEntry(os, zos, name, baos.toByteArray());
+                    }
+                }
+
+                Configuration conf = new Configuration(META_ELEMENT_X_OFFSET, META_ELEMENT_Y_OFFSET);
+                conf.setValue(META_ELEMENT_X_OFFSET, animation.getFirstXIndex());
+                conf.setValue(META_ELEMENT_Y_OFFSET, animation.getFirstYIndex());
+                File metafile = File.createTempFile("sixdice", METAFILE_SUFFIX);
+                try
+                {
+                    String errorString = conf.save(metafile);
+                    if (errorString == null)
+                    {
+                        writeArchiveEntry(
+                                os, zos, withoutExtension + METAFILE_SUFFIX, FileUtilities.getFileContents(metafile));
+                    } else
+                    {
+                        error.println("Error writing metadata file " + metafile + ": " + errorString);
+                    }
+                } finally
+                {
+                    metafile.delete();
+                }
 
-        String name = file.getName();
-        String withoutExtension;
-        String extension;
-        String parentPath = file.getParent() + File.separatorChar;
-        if (name.lastIndexOf('.') != -1)
+                if (zos == null)
+                {
+                    // A TAR archive ends with two empty records.
+                    os.write(new byte[TAR_RECORD_SIZE * 2]);
+                }
+            } finally
+            {
+                os.close();
+            }
+            replaceFile(temp, archive);
+            written = true;
+        } catch (IOException e)
+        {
+            error.println("Error writing archive " + archive + ": " + e.getMessage());
+        } finally
+        {
+            if (!written) temp.delete();
+        }
+    }
+
+    /**
+     * Writes a single entry to an archive being written by {@link AnimationIO#saveArchive(File, ArchiveFormat, String,
+     * String, Animation, Color, PrintStream)}.
+     *
+     * @param os   The stream to which the archive is written.
+     * @param zos  The {@link ZipOutputStream} writing the archive, or <code>null</code> if the archive is a TAR
+     *             archive.
+     * @param name The name of the entry.
+     * @param data The contents of the entry.
+     * @throws IOException If an I/O error occurs while writing the entry.
+     */
+    protected static void writeArchiveEntry(OutputStream os, ZipOutputStream zos, String name, byte[] data)
+            throws IOException
+    {
+        if (zos != null)
         {
-            withoutExtension = name.substring(0, name.lastIndexOf('.'));
-            extension = name.substring(name.lastIndexOf('.'));
+            ZipEntry entry = new ZipEntry(name);
+            entry.setTime(System.currentTimeMillis());
+            // Stored entries must declare their size and checksum before their contents.
+            CRC32 crc = new CRC32();
+            crc.update(data);
+            entry.setSize(data.length);
+            entry.setCompressedSize(-1);
+            entry.setCrc(crc.getValue());
+            zos.putNextEntry(entry);
+            zos.write(data);
+            zos.closeEntry();
         } else
         {
-            withoutExtension = name;
-            extension = "";
+            byte[] header = new byte[TAR_RECORD_SIZE];
+            byte[] nameBytes = name.getBytes("UTF-8");
+            if (nameBytes.length > 100) throw new IOException("Entry name too long for a TAR archive: " + name);
+            System.arraycopy(nameBytes, 0, header, 0, nameBytes.length);
+            writeTarNumber(header, 100, 8, 0644);
+            writeTarNumber(header, 108, 8, 0);
+            writeTarNumber(header, 116, 8, 0);
+            writeTarNumber(header, 124, 12, data.length);
+            writeTarNumber(header, 136, 12, System.currentTimeMillis() / 1000);
+            header[156] = '0';
+            System.arraycopy("ustar\u000000".getBytes("US-ASCII"), 0, header, 257, 8);
+            // The checksum is computed with the checksum field filled with spaces.
+            Arrays.fill(header, 148, 156, (byte) ' ');
+            int checksum = 0;
+            for (byte b : header) checksum += (b & 0xFF);
+            writeTarNumber(header, 148, 7, checksum);
+            os.write(header);
+            os.write(data);
+            int padding = (TAR_RECORD_SIZE - data.length % TAR_RECORD_SIZE) % TAR_RECORD_SIZE;
+            os.write(new byte[padding]);
         }
+    }
+
+    /**
+     * Writes a number into a TAR header field as a NUL-terminated, zero-padded octal string.
+     *
+     * @param header The header.
+     * @param offset The offset of the field.
+     * @param length The length of the field, terminator included.
+     * @param value  The value to write.
+     */
+    protected static void writeTarNumber(byte[] header, int offset, int length, long value)
+    {
+        String s = Long.toOctalString(value);
+        Arrays.fill(header, offset, offset + length - 1, (byte) '0');
+        for (int i = 0; i < s.length(); i++) header[offset + length - 1 - s.length() + i] = (byte) (s.charAt(i));
+        header[offset + length - 1] = 0;
+    }
 
-        for (int d = 0; d < animation.getDirectionCount(); d++)
+    /**
+     * Loads an image series stored in an archive by {@link AnimationIO#saveArchive(File, ArchiveFormat, String, String,
+     * Animation, Color, PrintStream)}.  The archive is read sequentially without being extracted; the images are then
+     * decoded concurrently.  The format of the archive is determined from its contents.
+     *
+     * @param archive   The archive file.
+     * @param separator The separator string used to generate the image entry names.
+     * @param error     A {@link PrintStream} which should be used to record errors regarding the loading process.
+     * @return The generated {@link Animation}, or <code>null</code> if the {@link Animation} could not be loaded.
+     */
+    public static Animation loadArchive(File archive, String separator, PrintStream error)
+    {
+        try
         {
-            for (int f = 0; f < animation.getFrameCount(); f++)
+            Map<String, byte[]> entries = readArchiveEntries(archive);
+
+            // The entries are indexed as though they were files in a directory named after the archive.
+            List<File> files = new ArrayList<File>();
+            for (String name : entries.keySet()) files.add(new File(archive, name));
+            Map<File, List<SeriesMember>> series = indexImageSeries(files.toArray(new File[files.size()]), separator);
+            if (series.size() == 0)
+            {
+                error.println("The archive " + archive + " does not contain an image series.");
+                return null;
+            }
+            List<String> warnings = new ArrayList<String>();
+            Iterator<Map.Entry<File, List<SeriesMember>>> iterator = series.entrySet().iterator();
+            Map.Entry<File, List<SeriesMember>> first = iterator.next();
+            while (iterator.hasNext())
+            {
+                warnings.add("Ignoring additional image series in archive: " + iterator.next().getKey().getName());
+            }
+
+            List<SeriesMember> members = first.getValue();
+            List<Callable<BufferedImage>> tasks = new ArrayList<Callable<BufferedImage>>(members.size());
+            for (SeriesMember member : members)
+            {
+                final byte[] data = entries.get(member.getFile().getName());
+                tasks.add(
+                        new Callable<BufferedImage>()
+                        {
+                            public BufferedImage call()
+                                    throws IOException
+                            {
+                                return ImageIO.read(new ByteArrayInputStream(data));
+                            }
+                        });
+            }
+            BufferedImage[][] images = decodeImageSeries(members, tasks, warnings);
+
+            int xOffsetBase = 0;
+            int yOffsetBase = 0;
+            // The metadata entry is named as save names it: after the real base name of the members, not the key.
+            File generator = getSeriesGenerationFile(members.get(0).getFile(), separator);
+            byte[] metadata = entries.get(splitSeriesFileName(generator)[0] + METAFILE_SUFFIX);
+            if (metadata != null)
             {
+                File metafile = File.createTempFile("sixdice", METAFILE_SUFFIX);
                 try
                 {
-                    if (!ImageUtilities.writeImage(
-                            animation.getPaddedImage(d, f), formatName,
-                            new File(
-                                    parentPath + withoutExtension + separator +
-                                    StringUtilities.padLeft(String.valueOf(d), '0', digits) +
-                                    separator +
-                                    StringUtilities.padLeft(String.valueOf(f), '0', digits) +
-                                    extension)))
+                    FileOutputStream fos = new FileOutputStream(metafile);
+                    try
+                    {
+                        fos.write(metadata);
+                    } finally
                     {
-                        error.println(
-                                "Direction " + d + ", Frame " + f +
-                                ": Image writing failed: Image format not supported.");
+                        fos.close();
                     }
-                } catch (IOException e)
+                    Configuration conf = new Configuration(META_ELEMENT_X_OFFSET, META_ELEMENT_Y_OFFSET);
+                    String errorString = conf.load(metafile);
+                    if (errorString == null)
+                    {
+                        xOffsetBase = conf.getValue(META_ELEMENT_X_OFFSET);
+                        yOffsetBase = conf.getValue(META_ELEMENT_Y_OFFSET);
+                    } else
+                    {
+                        error.println("Could not load metadata in " + archive + ": " + errorString);
+                    }
+                } finally
                 {
-                    error.println("Direction " + d + ", Frame " + f + ": Image writing failed: " + e.getMessage());
+                    metafile.delete();
                 }
             }
+
+            return createSeriesAnimation(images, xOffsetBase, yOffsetBase, warnings);
+        } catch (IOException e)
+        {
+            error.println("<html>An I/O error occurred during import:<br>    " + e + "<br>The import failed.");
+            return null;
         }
-        Configuration conf = new Configuration(META_ELEMENT_X_OFFSET, META_ELEMENT_Y_OFFSET);
-        conf.setValue(META_ELEMENT_X_OFFSET, animation.getFirstXIndex());
-        conf.setValue(META_ELEMENT_Y_OFFSET, animation.getFirstYIndex());
-        File metafile = new File(parentPath + withoutExtension + METAFILE_SUFFIX);
-        String errorString = conf.save(metafile);
-        if (errorString != null)
+    }
+
+    /**
+     * Reads the regular file entries of a ZIP or TAR archive.  Directory names are stripped from the entry names.
+     *
+     * @param archive The archive to read.
+     * @return A mapping from entry name to contents, in archive order.
+     * @throws IOException If an I/O error occurs or the archive is malformed.
+     */
+    protected static Map<String, byte[]> readArchiveEntries(File archive)
+            throws IOException
+    {
+        Map<String, byte[]> ret = new LinkedHashMap<String, byte[]>();
+        InputStream is = new BufferedInputStream(new FileInputStream(archive));
+        try
         {
-            error.println("Error writing metadata file " + metafile + ": " + errorString);
+            is.mark(4);
+            boolean zip = (is.read() == 'P') && (is.read() == 'K');
+            is.reset();
+            if (zip)
+            {
+                ZipInputStream zis = new ZipInputStream(is);
+                ZipEntry entry;
+                while ((entry = zis.getNextEntry()) != null)
+                {
+                    if (!entry.isDirectory()) ret.put(getArchiveEntryName(entry.getName()), readFully(zis, -1));
+                }
+            } else
+            {
+                byte[] header = new byte[TAR_RECORD_SIZE];
+                String longName = null;
+                while (true)
+                {
+                    if (readFully(is, header) < TAR_RECORD_SIZE) throw new EOFException("Truncated TAR archive.");
+                    boolean empty = true;
+                    for (byte b : header) empty &= (b == 0);
+                    if (empty) break;
+
+                    String name = readTarString(header, 0, 100);
+                    if (new String(header, 257, 5, "US-ASCII").equals("ustar"))
+                    {
+                        String prefix = readTarString(header, 345, 155);
+                        if (prefix.length() > 0) name = prefix + '/' + name;
+                    }
+                    long size = Long.parseLong("0" + readTarString(header, 124, 12).trim(), 8);
+                    if ((size < 0) || (size > Integer.MAX_VALUE))
+                    {
+                        throw new IOException("Malformed TAR entry size: " + name);
+                    }
+                    byte[] data = readFully(is, (int) size);
+                    int padding = (int) ((TAR_RECORD_SIZE - size % TAR_RECORD_SIZE) % TAR_RECORD_SIZE);
+                    if (readFully(is, new byte[padding]) < padding) throw new EOFException("Truncated TAR archive.");
+
+                    byte type = header[156];
+                    if (type == 'L')
+                    {
+                        // GNU long name: the name of the next entry is stored as the contents of this one.
+                        longName = readTarString(data, 0, data.length);
+                    } else
+                    {
+                        if (longName != null) name = longName;
+                        longName = null;
+                        if ((type == '0') || (type == 0)) ret.put(getArchiveEntryName(name), data);
+                    }
+                }
+            }
+        } catch (NumberFormatException e)
+        {
+            throw new IOException("Malformed TAR archive: " + e.getMessage());
+        } finally
+        {
+            is.close();
         }
+        return ret;
+    }
+
+    /**
+     * Strips any directory names from an archive entry name.
+     *
+     * @param name The entry name.
+     * @return The name of the entry without its directories.
+     */
+    protected static String getArchiveEntryName(String name)
+    {
+        return name.substring(name.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * Reads a NUL-terminated string from a TAR header field.
+     *
+     * @param header The header.
+     * @param offset The offset of the field.
+     * @param length The length of the field.
+     * @return The contents of the field.
+     * @throws IOException If the field cannot be decoded.
+     */
+    protected static String readTarString(byte[] header, int offset, int length)
+            throws IOException
+    {
+        int end = offset;
+        while ((end < offset + length) && (header[end] != 0)) end++;
+        return new String(header, offset, end - offset, "UTF-8");
+    }
+
+    /**
+     * Reads bytes from a stream until the provided buffer is full or the stream ends.
+     *
+     * @param is     The stream to read.
+     * @param buffer The buffer to fill.
+     * @return The number of bytes read.
+     * @throws IOException If an I/O error occurs.
+     */
+    protected static int readFully(InputStream is, byte[] buffer)
+            throws IOException
+    {
+        int total = 0;
+        while (total < buffer.length)
+        {
+            int read = is.read(buffer, total, buffer.length - total);
+            if (read == -1) break;
+            total += read;
+        }
+        return total;
+    }
+
+    /**
+     * Reads the specified number of bytes from a stream, or the remainder of the stream.
+     *
+     * @param is     The stream to read.
+     * @param length The number of bytes to read, or <code>-1</code> to read until the stream ends.
+     * @return The bytes read.
+     * @throws IOException If an I/O error occurs or the stream ends before the requested number of bytes is read.
+     */
+    protected static byte[] readFully(InputStream is, int length)
+            throws IOException
+    {
+        if (length >= 0)
+        {
+            byte[] ret = new byte[length];
+            if (readFully(is, ret) < length) throw new EOFException("Unexpected end of archive.");
+            return ret;
+        }
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = is.read(buffer)) != -1) baos.write(buffer, 0, read);
+        return baos.toByteArray();
     }
 
 // STATIC METHODS ////////////////////////////////////////////////////////////////
 
+    /**
+     * Writes the provided data to a file atomically.  The data is written to a temporary file in the same directory,
+     * which then replaces the target file.  If the write fails, the temporary file is deleted and the target file is
+     * left untouched; a crash during the write therefore never leaves a truncated file behind.
+     *
+     * @param file The {@link File} to write.
+     * @param data The data to write.
+     * @throws IOException If an I/O error occurs while writing the file.
+     */
+    public static void writeFileAtomically(File file, byte[] data)
+            throws IOException
+    {
+        File temp = new File(file.getAbsoluteFile().getParentFile(), file.getName() + ".tmp");
+        boolean written = false;
+        try
+        {
+            FileOutputStream fos = new FileOutputStream(temp);
+            try
+            {
+                fos.write(data);
+            } finally
+            {
+                fos.close();
+            }
+            replaceFile(temp, file);
+            written = true;
+        } finally
+        {
+            if (!written) temp.delete();
+        }
+    }
+
+    /**
+     * Replaces the target file with the source file.  On platforms which cannot rename a file over an existing file,
+     * the target file is deleted first.
+     *
+     * @param source The {@link File} which is to replace the target.
+     * @param target The {@link File} to replace.
+     * @throws IOException If the target file could not be replaced.
+     */
+    public static void replaceFile(File source, File target)
+            throws IOException
+    {
+        if ((!source.renameTo(target)) && ((!target.delete()) || (!source.renameTo(target))))
+        {
+            throw new IOException("Could not replace " + target + ".");
+        }
+    }
+
+// CONTAINED CLASSES /////////////////////////////////////////////////////////////
+
+    /**
+     * Enumerates the archive formats in which {@link AnimationIO#saveArchive(File, ArchiveFormat, String, String,
+     * Animation, Color, PrintStream)} can store an image series.
+     */
+    public static enum ArchiveFormat
+    {
+        /**
+         * A ZIP archive whose entries are stored without compression.
+         */
+        ZIP_STORED(".zip"),
+        /**
+         * A ZIP archive whose entries are deflated.
+         */
+        ZIP_DEFLATED(".zip"),
+        /**
+         * A POSIX (ustar) TAR archive.
+         */
+        TAR(".tar");
+
+        /**
+         * The extension, period included, of archives in this format.
+         */
+        private final String extension;
+
+        /**
+         * General constructor.
+         *
+         * @param extension The extension, period included, of archives in this format.
+         */
+        ArchiveFormat(String extension)
+        {
+            this.extension = extension;
+        }
+
+        public String getExtension()
+        {
+            return extension;
+        }
+
+        /**
+         * Determines whether or not the specified file has the extension of an archive format.
+         *
+         * @param file The file in question.
+         * @return <code>true</code> if the file appears to be an archive; <code>false</code> otherwise.
+         */
+        public static boolean isArchive(File file)
+        {
+            String name = file.getName().toLowerCase();
+            for (ArchiveFormat format : values())
+            {
+                if (name.endsWith(format.getExtension())) return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Describes a single file of an image series: the file itself and the direction and frame it contains.
+     */
+    public static class SeriesMember
+    {
+        /**
+         * The image file.
+         */
+        protected final File file;
+        /**
+         * The direction number of the image.
+         */
+        protected final int direction;
+        /**
+         * The frame number of the image.
+         */
+        protected final int frame;
+
+        /**
+         * General constructor.
+         *
+         * @param file      The image file.
+         * @param direction The direction number of the image.
+         * @param frame     The frame number of the image.
+         */
+        public SeriesMember(File file, int direction, int frame)
+        {
+            this.file = file;
+            this.direction = direction;
+            this.frame = frame;
+        }
+
+        public File getFile()
+        {
+            return file;
+        }
+
+        public int getDirection()
+        {
+            return direction;
+        }
+
+        public int getFrame()
+        {
+            return frame;
+        }
+    }
 }
 
 // END OF FILE
\ No newline at end of file
@@ -0,0 +1,425 @@
+package orioni.sixdice;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.IndexColorModel;
+import java.awt.image.WritableRaster;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * This class is designed to resize the frames of an {@link Animation}.  Frames are scaled independently of one another
+ * on an {@link ExecutorService}, so the work of scaling a large {@link Animation} is spread across the available
+ * processors.
+ * <p/>
+ * Three filters are supported.  {@link Filter#NEAREST_NEIGHBOR} replicates pixels; when a frame is stored as an 8-bit
+ * indexed image, it is scaled directly on its palette indices and the result is an indexed image in the same palette,
+ * so no colors are introduced which were not already present.  {@link Filter#BILINEAR} and {@link Filter#AREA}
+ * produce ARGB images, interpolating (or averaging) with premultiplied alpha so that clear pixels do not darken the
+ * edges of the sprite.
+ *
+ * @author Zachary Palmer
+ */
+public class AnimationScaler
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * An enumeration of the filters which may be used to resize frames.
+     */
+    public static enum Filter
+    {
+        /**
+         * Replicates or drops pixels.  Indexed frames remain indexed.
+         */
+        NEAREST_NEIGHBOR("Nearest Neighbor"),
+        /**
+         * Interpolates linearly between the four nearest source pixels.
+         */
+        BILINEAR("Bilinear"),
+        /**
+         * Averages the source pixels covered by each target pixel, weighted by coverage.  This is the best choice for
+         * reducing the size of an image.
+         */
+        AREA("Area Average");
+
+        /**
+         * The human-readable name of this filter.
+         */
+        private final String name;
+
+        /**
+         * General constructor.
+         *
+         * @param name The human-readable name of this filter.
+         */
+        Filter(String name)
+        {
+            this.name = name;
+        }
+
+        /**
+         * Retrieves the human-readable name of this filter.
+         *
+         * @return The name of this filter.
+         */
+        public String toString()
+        {
+            return name;
+        }
+
+        /**
+         * Determines the filter which best corresponds to one of the {@link Image}<code>.SCALE_XXXX</code> hints.
+         *
+         * @param hints The scaling hints.
+         * @return The corresponding filter.
+         */
+        public static Filter forHints(int hints)
+        {
+            if ((hints & (Image.SCALE_SMOOTH | Image.SCALE_AREA_AVERAGING)) != 0) return AREA;
+            if ((hints & (Image.SCALE_REPLICATE | Image.SCALE_FAST)) != 0) return NEAREST_NEIGHBOR;
+            return BILINEAR;
+        }
+    }
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+    /**
+     * The filter used by this scaler.
+     */
+    protected Filter filter;
+    /**
+     * The {@link ExecutorService} on which frames are scaled, or <code>null</code> to scale in the calling thread.
+     */
+    protected ExecutorService executor;
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * Skeleton constructor.  Uses the {@link WorkerPool#getSharedExecutor() shared executor}.
+     *
+     * @param filter The filter used by this scaler.
+     */
+    public AnimationScaler(Filter filter)
+    {
+        this(filter, WorkerPool.getSharedExecutor());
+    }
+
+    /**
+     * General constructor.
+     *
+     * @param filter   The filter used by this scaler.
+     * @param executor The {@link ExecutorService} on which frames are scaled, or <code>null</code> to scale in the
+     *                 calling thread.
+     */
+    public AnimationScaler(Filter filter, ExecutorService executor)
+    {
+        super();
+        this.filter = filter;
+        this.executor = executor;
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Resizes all images in the provided {@link Animation} on the given scale.
+     *
+     * @param animation     The {@link Animation} to resize.
+     * @param scale         The scale on which to resize the images.  A scale of <code>1.0</code> is an identity
+     *                      transform.
+     * @param adjustOffsets If <code>true</code>, the offsets of each frame are adjusted by the same amount.
+     */
+    public void scale(Animation animation, final double scale, final boolean adjustOffsets)
+    {
+        List<Callable<Object>> tasks = new ArrayList<Callable<Object>>();
+        for (final AnimationFrame af : animation.getFrames())
+        {
+            tasks.add(
+                    new Callable<Object>()
+                    {
+                        public Object call()
+                        {
+                            BufferedImage image = af.getImage();
+                            af.setImage(
+                                    scaleImage(
+                                            image,
+                                            Math.max(1, (int) (image.getWidth() * scale)),
+                                            Math.max(1, (int) (image.getHeight() * scale))));
+                            if (adjustOffsets)
+                            {
+                                af.setXOffset((int) (af.getXOffset() * scale));
+                                af.setYOffset((int) (af.getYOffset() * scale));
+                            }
+                            return null;
+                        }
+                    });
+        }
+        try
+        {
+            WorkerPool.invokeAll(executor, tasks);
+        } catch (ExecutionException e)
+        {
+            // The tasks above throw no checked exceptions.
+            throw new IllegalStateException("Frame scaling task threw a checked exception!", e);
+        }
+    }
+
+    /**
+     * Resizes a single image using this scaler's filter.
+     *
+     * @param image  The image to resize.
+     * @param width  The width of the resized image.
+     * @param height The height of the resized image.
+     * @return The resized image.
+     */
+    public BufferedImage scaleImage(BufferedImage image, int width, int height)
+    {
+        switch (filter)
+        {
+            case NEAREST_NEIGHBOR:
+                return scaleNearestNeighbor(image, width, height);
+            case BILINEAR:
+                return scaleFiltered(
+                        image, width, height,
+                        computeBilinearWeights(image.getWidth(), width),
+                        computeBilinearWeights(image.getHeight(), height));
+            default:
+                return scaleFiltered(
+                        image, width, height,
+                        computeAreaWeights(image.getWidth(), width),
+                        computeAreaWeights(image.getHeight(), height));
+        }
+    }
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+    /**
+     * Resizes an image by nearest neighbor sampling.  If the image is an 8-bit indexed image, the result is an indexed
+     * image in the same palette and the indices are copied directly.
+     *
+     * @param image  The image to resize.
+     * @param width  The width of the resized image.
+     * @param height The height of the resized image.
+     * @return The resized image.
+     */
+    protected static BufferedImage scaleNearestNeighbor(BufferedImage image, int width, int height)
+    {
+        int sourceWidth = image.getWidth();
+        int sourceHeight = image.getHeight();
+        int[] columns = new int[width];
+        for (int x = 0; x < width; x++)
+        {
+            columns[x] = Math.min(sourceWidth - 1, (int) (((x + 0.5) * sourceWidth) / width));
+        }
+
+        if ((image.getColorModel() instanceof IndexColorModel) &&
+            (image.getColorModel().getPixelSize() == 8) &&
+            (image.getRaster().getNumBands() == 1))
+        {
+            IndexColorModel model = (IndexColorModel) (image.getColorModel());
+            WritableRaster target = model.createCompatibleWritableRaster(width, height);
+            byte[] sourceRow = new byte[sourceWidth];
+            byte[] targetRow = new byte[width];
+            int lastSourceY = -1;
+            for (int y = 0; y < height; y++)
+            {
+                int sourceY = Math.min(sourceHeight - 1, (int) (((y + 0.5) * sourceHeight) / height));
+                if (sourceY != lastSourceY)
+                {
+                    image.getRaster().getDataElements(0, sourceY, sourceWidth, 1, sourceRow);
+                    for (int x = 0; x < width; x++) targetRow[x] = sourceRow[columns[x]];
+                    lastSourceY = sourceY;
+                }
+                target.setDataElements(0, y, width, 1, targetRow);
+            }
+            return new BufferedImage(model, target, false, null);
+        }
+
+        int[] source = image.getRGB(0, 0, sourceWidth, sourceHeight, null, 0, sourceWidth);
+        BufferedImage ret = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        int[] target = ((DataBufferInt) (ret.getRaster().getDataBuffer())).getData();
+        for (int y = 0; y < height; y++)
+        {
+            int sourceBase = Math.min(sourceHeight - 1, (int) (((y + 0.5) * sourceHeight) / height)) * sourceWidth;
+            int targetBase = y * width;
+            for (int x = 0; x < width; x++)
+            {
+                target[targetBase + x] = source[sourceBase + columns[x]];
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Resizes an image using separable filter weights.  The horizontal pass is performed first, then the vertical pass.
+     * All arithmetic is performed on premultiplied samples.
+     *
+     * @param image    The image to resize.
+     * @param width    The width of the resized image.
+     * @param height   The height of the resized image.
+     * @param xWeights The horizontal weights, as produced by {@link AnimationScaler#computeAreaWeights(int, int)} or
+     *                 {@link AnimationScaler#computeBilinearWeights(int, int)}.
+     * @param yWeights The vertical weights.
+     * @return The resized image.
+     */
+    protected static BufferedImage scaleFiltered(BufferedImage image, int width, int height, AxisWeights xWeights,
+                                                 AxisWeights yWeights)
+    {
+        int sourceWidth = image.getWidth();
+        int sourceHeight = image.getHeight();
+        int[] source = image.getRGB(0, 0, sourceWidth, sourceHeight, null, 0, sourceWidth);
+
+        // horizontal pass: sourceHeight rows of width premultiplied ARGB samples
+        float[] horizontal = new float[sourceHeight * width * 4];
+        for (int y = 0; y < sourceHeight; y++)
+        {
+            int sourceBase = y * sourceWidth;
+            for (int x = 0; x < width; x++)
+            {
+                float a = 0, r = 0, g = 0, b = 0;
+                int first = xWeights.first[x];
+                float[] w = xWeights.weights[x];
+                for (int i = 0; i < w.length; i++)
+                {
+                    int pixel = source[sourceBase + first + i];
+                    float alpha = (pixel >>> 24) * w[i];
+                    a += alpha;
+                    r += ((pixel >> 16) & 0xFF) * alpha;
+                    g += ((pixel >> 8) & 0xFF) * alpha;
+                    b += (pixel & 0xFF) * alpha;
+                }
+                int index = (y * width + x) * 4;
+                horizontal[index] = a;
+                horizontal[index + 1] = r;
+                horizontal[index + 2] = g;
+                horizontal[index + 3] = b;
+            }
+        }
+
+        // vertical pass
+        BufferedImage ret = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        int[] target = ((DataBufferInt) (ret.getRaster().getDataBuffer())).getData();
+        for (int y = 0; y < height; y++)
+        {
+            int first = yWeights.first[y];
+            float[] w = yWeights.weights[y];
+            for (int x = 0; x < width; x++)
+            {
+                float a = 0, r = 0, g = 0, b = 0;
+                for (int i = 0; i < w.length; i++)
+                {
+                    int index = ((first + i) * width + x) * 4;
+                    a += horizontal[index] * w[i];
+                    r += horizontal[index + 1] * w[i];
+                    g += horizontal[index + 2] * w[i];
+                    b += horizontal[index + 3] * w[i];
+                }
+                int pixel = 0;
+                int alpha = Math.min(255, Math.round(a));
+                if (alpha > 0)
+                {
+                    pixel = (alpha << 24) |
+                            (Math.min(255, Math.round(r / a)) << 16) |
+                            (Math.min(255, Math.round(g / a)) << 8) |
+                            Math.min(255, Math.round(b / a));
+                }
+                target[y * width + x] = pixel;
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Computes the weights for an area-averaging resize along one axis.  Each target pixel receives the source pixels
+     * it covers, weighted by the fraction of the target pixel they occupy.
+     *
+     * @param sourceSize The size of the source axis.
+     * @param targetSize The size of the target axis.
+     * @return The weights for the axis.
+     */
+    protected static AxisWeights computeAreaWeights(int sourceSize, int targetSize)
+    {
+        AxisWeights ret = new AxisWeights(targetSize);
+        double ratio = sourceSize / (double) targetSize;
+        for (int i = 0; i < targetSize; i++)
+        {
+            double start = i * ratio;
+            double end = Math.min(sourceSize, (i + 1) * ratio);
+            int first = (int) (start);
+            int last = Math.min(sourceSize - 1, (int) (Math.ceil(end)) - 1);
+            if (last < first) last = first;
+            float[] w = new float[last - first + 1];
+            for (int j = first; j <= last; j++)
+            {
+                w[j - first] = (float) ((Math.min(end, j + 1) - Math.max(start, j)) / ratio);
+            }
+            ret.first[i] = first;
+            ret.weights[i] = w;
+        }
+        return ret;
+    }
+
+    /**
+     * Computes the weights for a bilinear resize along one axis.
+     *
+     * @param sourceSize The size of the source axis.
+     * @param targetSize The size of the target axis.
+     * @return The weights for the axis.
+     */
+    protected static AxisWeights computeBilinearWeights(int sourceSize, int targetSize)
+    {
+        AxisWeights ret = new AxisWeights(targetSize);
+        double ratio = sourceSize / (double) targetSize;
+        for (int i = 0; i < targetSize; i++)
+        {
+            double center = Math.max(0, Math.min(sourceSize - 1, (i + 0.5) * ratio - 0.5));
+            int first = Math.min(sourceSize - 1, (int) (center));
+            float fraction = (float) (center - first);
+            if ((first == sourceSize - 1) || (fraction == 0))
+            {
+                ret.weights[i] = new float[]{1.0f};
+            } else
+            {
+                ret.weights[i] = new float[]{1.0f - fraction, fraction};
+            }
+            ret.first[i] = first;
+        }
+        return ret;
+    }
+
+// CONTAINED CLASSES /////////////////////////////////////////////////////////////
+
+    /**
+     * Describes the contributions of source pixels to target pixels along a single axis.
+     */
+    static class AxisWeights
+    {
+        /**
+         * The index of the first source pixel contributing to each target pixel.
+         */
+        protected final int[] first;
+        /**
+         * The weights of the contributing source pixels for each target pixel.
+         */
+        protected final float[][] weights;
+
+        /**
+         * General constructor.
+         *
+         * @param size The size of the target axis.
+         */
+        public AxisWeights(int size)
+        {
+            first = new int[size];
+            weights = new float[size][];
+        }
+    }
+}
+
+// END OF FILE
@@ -1,16 +1,17 @@
 package orioni.sixdice;
 
-import orioni.jz.awt.image.ImageUtilities;
 import orioni.jz.awt.image.RestrictableIndexColorModel;
 import orioni.jz.common.exception.ParseException;
 import orioni.jz.io.FileType;
 import orioni.jz.io.PrimitiveInputStream;
+import orioni.jz.io.PrimitiveOutputStream;
 import orioni.jz.io.RandomAccessByteArrayInputStream;
 import orioni.jz.util.Pair;
 import orioni.jz.util.ProgressTracker;
 import orioni.jz.util.Utilities;
 
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -25,6 +26,12 @@ import java.util.zip.DataFormatException;
 /**
  * This {@link AnimationCodec} is intended to support reading and writing BAM files.  The BAM format is used in games
  * such as Baldur's Gate, Planescape: Torment, and the Icewind Dale series.
+ * <p/>
+ * Version 1 BAM files are read and written, as are zlib-compressed "<code>BAMC</code>" files wrapping them.  Bit 31
+ * of a frame entry's data offset is set for frames which are stored raw and clear for frames which are run-length
+ * encoded; only runs of the compressed (transparent) color are encoded.  Each frame is written run-length encoded if
+ * that makes it smaller and raw otherwise.  Frames are written once per direction and frame, in order; identical
+ * frames are not shared through the frame lookup table.
  *
  * @author Zachary Palmer
  */
@@ -34,20 +41,62 @@ public class BAMCodec extends AnimationCodec
 
 // CONSTANTS /////////////////////////////////////////////////////////////////////
 
+    /**
+     * The size of the BAM header.
+     */
+    protected static final int HEADER_SIZE = 24;
+    /**
+     * The size of a single frame entry.
+     */
+    protected static final int FRAME_ENTRY_SIZE = 12;
+    /**
+     * The size of a single cycle (direction) entry.
+     */
+    protected static final int CYCLE_ENTRY_SIZE = 4;
+    /**
+     * The number of entries in a BAM palette.
+     */
+    protected static final int PALETTE_SIZE = 256;
+    /**
+     * The longest run of transparent pixels which can be stored in a single RLE signal.
+     */
+    protected static final int MAXIMUM_RUN_LENGTH = 256;
+
 // NON-STATIC FIELDS /////////////////////////////////////////////////////////////
 
 // CONSTRUCTORS //////////////////////////////////////////////////////////////////
 
     /**
-     * General constructor.
+     * General constructor.  The codec uses {@link CodecOptions#DEFAULT}.
      */
     public BAMCodec()
     {
         super();
     }
 
+    /**
+     * General constructor.
+     *
+     * @param options The {@link CodecOptions} of this codec.
+     */
+    public BAMCodec(CodecOptions options)
+    {
+        super(options);
+    }
+
 // NON-STATIC METHODS ////////////////////////////////////////////////////////////
 
+    /**
+     * Creates a BAM codec which uses the specified options.
+     *
+     * @param options The {@link CodecOptions} of the new codec.
+     * @return The new codec.
+     */
+    public BAMCodec deriveWithOptions(CodecOptions options)
+    {
+        return new BAMCodec(options);
+    }
+
     /**
      * Checks the provided {@link Animation} object to ensure that it can be written in the format supported by this
      * codec.
@@ -67,6 +116,13 @@ public class BAMCodec extends AnimationCodec
                             "BAM files cannot contain more than 255 directions.",
                             MessageType.FATAL));
         }
+        if (animation.getDirectionCount() * animation.getFrameCount() > 65535)
+        {
+            ret.add(
+                    new Pair<String, MessageType>(
+                            "BAM files cannot contain more than 65535 frames.",
+                            MessageType.FATAL));
+        }
         return ret;
     }
 
@@ -89,7 +145,7 @@ public class BAMCodec extends AnimationCodec
      */
     public FileType getFileType()
     {
-        return new FileType("BAM Files (*.bam)");
+        return new FileType("BAM Files (*.bam)", "bam");
     }
 
     /**
@@ -103,6 +159,29 @@ public class BAMCodec extends AnimationCodec
         return "BAM Codec";
     }
 
+    /**
+     * Retrieves the length of the BAM signature.
+     *
+     * @return <code>4</code>, always.
+     */
+    public int getSignatureLength()
+    {
+        return 4;
+    }
+
+    /**
+     * Determines whether data beginning with the specified bytes is a BAM file: it must begin with <code>"BAM "</code>
+     * or, if it is compressed, <code>"BAMC"</code>.
+     *
+     * @param header The first bytes of the data.
+     * @return <code>true</code> if the data begins with a BAM signature; <code>false</code> otherwise.
+     */
+    public boolean matchesSignature(byte[] header)
+    {
+        return (header.length >= 4) && (header[0] == 'B') && (header[1] == 'A') && (header[2] == 'M') &&
+               ((header[3] == ' ') || (header[3] == 'C'));
+    }
+
     /**
      * Decodes an {@link Animation} from the specified data array.  Most often, this will be a <code>byte[]</code> of
      * the entire file's contents.  The intention of this method is to contain all of the file I/O handling in the
@@ -156,6 +235,7 @@ public class BAMCodec extends AnimationCodec
                 // * DECODE THE BAM FILE *
                 // ***********************
 
+                long[] operation = options.getStatistics().startOperation();
                 ArrayList<String> warnings = new ArrayList<String>();
 
                 // *** READ HEADER ***
@@ -184,7 +264,8 @@ public class BAMCodec extends AnimationCodec
                     frameYOffsets[i] = pis.readShort() - (frameHeights[i] / 2);
                     int offsetData = pis.readInt();
                     frameDataOffsets[i] = offsetData & 0x7FFFFFFF;
-                    frameCompressed[i] = ((offsetData & 0x80000000) != 0);
+                    // Bit 31 is set for frames which are NOT run-length encoded.
+                    frameCompressed[i] = ((offsetData & 0x80000000) == 0);
                 }
 
                 int[] directionFrameCount = new int[directions];
@@ -258,11 +339,9 @@ public class BAMCodec extends AnimationCodec
                         pis.readFully(frameData);
                     }
 
-                    int imageWidth = image.getWidth();
-                    for (int i = 0; i < frameData.length; i++)
-                    {
-                        image.setRGB(i % imageWidth, i / imageWidth, paletteData[frameData[i] & 0xFF]);
-                    }
+                    PixelKernels.getInstance().setIndices(
+                            image, 0, 0, image.getWidth(), image.getHeight(), frameData, 0, image.getWidth(),
+                            paletteData);
                 }
 
                 // *** BUILD ANIMATION ***
@@ -275,10 +354,11 @@ public class BAMCodec extends AnimationCodec
                         int frameIndex = frameLookupTable[startIndex + fidx];
                         ret.setFrame(
                                 d, fidx, new AnimationFrame(
-                                ImageUtilities.copyImage(frameImage[frameIndex]),
+                                PixelKernels.copyARGBImage(frameImage[frameIndex]),
                                 frameXOffsets[frameIndex], frameYOffsets[frameIndex]));
                     }
                 }
+                stopOperation("decode", operation, ret, data.length);
                 return ret;
             } else
             {
@@ -305,11 +385,137 @@ public class BAMCodec extends AnimationCodec
      */
     public byte[] encode(Animation animation, RestrictableIndexColorModel palette, ProgressTracker tracker)
     {
-        return new byte[0];  // TODO: Consider proper implementation of this method.
+        long[] operation = options.getStatistics().startOperation();
+        palette = deriveCodecPalette(palette);
+        int transparentIndex = palette.getMostTransparentIndex();
+
+        int directions = animation.getDirectionCount();
+        int frames = animation.getFrameCount();
+        int totalFrames = directions * frames;
+        tracker.setStartingValue(0);
+        tracker.setEndingValue(totalFrames);
+
+        // Frames are stored in direction-major order, so the frame lookup table is simply the identity.
+        byte[][] frameData = new byte[totalFrames][];
+        boolean[] frameCompressed = new boolean[totalFrames];
+        for (int i = 0; i < totalFrames; i++)
+        {
+            byte[] raw = indexFrame(animation.getFrame(i / frames, i % frames).getImage(), palette);
+            byte[] compressed = compressFrame(raw, (byte) transparentIndex);
+            frameCompressed[i] = (compressed.length < raw.length);
+            frameData[i] = (frameCompressed[i]) ? compressed : raw;
+            tracker.incrementProgress(1);
+        }
+
+        int frameEntriesOffset = HEADER_SIZE;
+        int paletteOffset = frameEntriesOffset + totalFrames * FRAME_ENTRY_SIZE + directions * CYCLE_ENTRY_SIZE;
+        int frameLookupTableOffset = paletteOffset + PALETTE_SIZE * 4;
+        int frameDataOffset = frameLookupTableOffset + totalFrames * 2;
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try
+        {
+            PrimitiveOutputStream pos = new PrimitiveOutputStream(baos, PrimitiveOutputStream.LITTLE_ENDIAN);
+
+            // *** WRITE HEADER ***
+            pos.write("BAM V1  ".getBytes("US-ASCII"));
+            pos.writeShort((short) totalFrames);
+            pos.writeUnsignedByte((byte) directions);
+            pos.writeUnsignedByte((byte) transparentIndex);
+            pos.writeInt(frameEntriesOffset);
+            pos.writeInt(paletteOffset);
+            pos.writeInt(frameLookupTableOffset);
+
+            // *** WRITE FRAME ENTRIES AND "CYCLE" (DIRECTION) ENTRIES ***
+            for (int i = 0; i < totalFrames; i++)
+            {
+                AnimationFrame frame = animation.getFrame(i / frames, i % frames);
+                int width = frame.getImage().getWidth();
+                int height = frame.getImage().getHeight();
+                pos.writeShort((short) width);
+                pos.writeShort((short) height);
+                // BAM files store the offset of the center of the frame
+                pos.writeShort((short) (frame.getXOffset() + width / 2));
+                pos.writeShort((short) (frame.getYOffset() + height / 2));
+                // Bit 31 is set for frames which are NOT run-length encoded.
+                pos.writeInt(frameDataOffset | ((frameCompressed[i]) ? 0 : 0x80000000));
+                frameDataOffset += frameData[i].length;
+            }
+            for (int d = 0; d < directions; d++)
+            {
+                pos.writeShort((short) frames);
+                pos.writeShort((short) (d * frames));
+            }
+
+            // *** WRITE PALETTE ***
+            // stored as blue, green, red, 0x00; the transparent entry is written as the color it carries
+            for (int i = 0; i < PALETTE_SIZE; i++)
+            {
+                pos.writeInt((i < palette.getMapSize()) ? palette.getRGB(i) & 0x00FFFFFF : 0);
+            }
+
+            // *** WRITE FRAME LOOKUP TABLE ***
+            for (int i = 0; i < totalFrames; i++) pos.writeShort((short) i);
+
+            // *** WRITE FRAME DATA ***
+            for (byte[] data : frameData) pos.write(data);
+            pos.close();
+        } catch (IOException ioe)
+        {
+            // This can't happen unless ByteArrayOutputStream throws an IOException
+            throw new IllegalStateException("ByteArrayOutputStream threw an IOException!", ioe);
+        }
+        byte[] ret = baos.toByteArray();
+        stopOperation("encode", operation, animation, ret.length);
+        return ret;
     }
 
 // STATIC METHODS ////////////////////////////////////////////////////////////////
 
+    /**
+     * Converts the provided image into palette indices, one byte per pixel in row-major order.
+     *
+     * @param image   The image to convert.
+     * @param palette The palette in which to express the image.
+     * @return The indices of the image's pixels.
+     */
+    protected static byte[] indexFrame(BufferedImage image, RestrictableIndexColorModel palette)
+    {
+        return PixelKernels.getInstance().getIndices(image, PaletteLookupTable.getInstance(palette));
+    }
+
+    /**
+     * Compresses frame data using the BAM run-length scheme, in which a transparent index is always followed by the
+     * number of transparent pixels in its run less one.
+     *
+     * @param data             The palette indices of the frame.
+     * @param transparentIndex The transparent index of the BAM file.
+     * @return The compressed data.
+     */
+    protected static byte[] compressFrame(byte[] data, byte transparentIndex)
+    {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(data.length);
+        int index = 0;
+        while (index < data.length)
+        {
+            if (data[index] == transparentIndex)
+            {
+                int count = 0;
+                while ((index < data.length) && (data[index] == transparentIndex) && (count < MAXIMUM_RUN_LENGTH))
+                {
+                    index++;
+                    count++;
+                }
+                baos.write(transparentIndex);
+                baos.write(count - 1);
+            } else
+            {
+                baos.write(data[index++]);
+            }
+        }
+        return baos.toByteArray();
+    }
+
 }
 
 // END OF FILE
\ No newline at end of file
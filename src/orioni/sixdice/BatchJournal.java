@@ -0,0 +1,274 @@
+package orioni.sixdice;
+
+import orioni.jz.io.files.FileUtilities;
+
+import java.io.*;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class is designed to record the progress of a batch conversion so that an interrupted conversion can be resumed.
+ * The journal is an append-only file in the root directory of the batch conversion.  Its first line records the
+ * fingerprint of the conversion settings; each subsequent line records an item which was completed or which failed.
+ * An item which rewrites its own source also records a digest of the new contents before replacing the source, so
+ * that a resumed conversion can tell whether the replacement happened and does not convert the item twice.  Every
+ * line is flushed as soon as it is written, so the journal survives the termination of the process.  A line
+ * which was only partially written when the process terminated is ignored.
+ * <p/>
+ * The methods of this class are synchronized so that a single journal may be shared by concurrent batch workers.
+ *
+ * @author Zachary Palmer
+ */
+public class BatchJournal
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * The name of the journal file in the root directory of a batch conversion.
+     */
+    public static final String JOURNAL_FILENAME = ".sixdice-journal";
+
+    /**
+     * The tag of the line recording the settings fingerprint.
+     */
+    protected static final String TAG_SETTINGS = "SETTINGS";
+    /**
+     * The tag of a line recording a completed item.
+     */
+    protected static final String TAG_COMPLETED = "COMPLETED";
+    /**
+     * The tag of a line recording a failed item.
+     */
+    protected static final String TAG_FAILED = "FAILED";
+    /**
+     * The tag of a line recording the digest of the contents about to replace an item's source.
+     */
+    protected static final String TAG_WRITING = "WRITING";
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+    /**
+     * The root directory of the batch conversion.
+     */
+    protected File root;
+    /**
+     * The journal file.
+     */
+    protected File file;
+    /**
+     * The items recorded in the journal, mapping each key to <code>null</code> if the item was completed or to the
+     * reason for its failure if it failed.
+     */
+    protected Map<String, String> finished;
+    /**
+     * The items which were about to replace their sources, mapping each key to the digest of the new contents.
+     */
+    protected Map<String, String> writing;
+    /**
+     * The writer which appends to the journal file, or <code>null</code> if the journal is not open.
+     */
+    protected PrintWriter writer;
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * General constructor.  The new journal is not open; use {@link BatchJournal#open(String)} to open it.
+     *
+     * @param root The root directory of the batch conversion.
+     */
+    public BatchJournal(File root)
+    {
+        super();
+        this.root = root.getAbsoluteFile();
+        file = new File(this.root, JOURNAL_FILENAME);
+        finished = new HashMap<String, String>();
+        writing = new HashMap<String, String>();
+        writer = null;
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Opens this journal for a batch conversion with the specified settings.  If a journal written by a conversion with
+     * the same settings exists, its items are read and new items are appended to it.  Otherwise, a new journal is
+     * started.
+     *
+     * @param fingerprint The fingerprint of the conversion settings.
+     * @return <code>true</code> if an interrupted conversion is being resumed; <code>false</code> if a new journal
+     *         was started.
+     * @throws IOException If an I/O error occurs while reading or creating the journal file.
+     */
+    public synchronized boolean open(String fingerprint)
+            throws IOException
+    {
+        finished.clear();
+        writing.clear();
+        boolean resume = false;
+        if (file.isFile())
+        {
+            // Only complete lines count; the last line may have been cut short.
+            byte[] data = FileUtilities.getFileContents(file);
+            int length = data.length;
+            while ((length > 0) && (data[length - 1] != '\n')) length--;
+            String[] lines = new String(data, 0, length, "UTF-8").split("\n");
+            if (lines[0].equals(TAG_SETTINGS + '\t' + fingerprint))
+            {
+                resume = true;
+                if (length < data.length)
+                {
+                    // Drop the partial line so that new lines are not appended to it.
+                    RandomAccessFile raf = new RandomAccessFile(file, "rw");
+                    try
+                    {
+                        raf.setLength(length);
+                    } finally
+                    {
+                        raf.close();
+                    }
+                }
+                for (int i = 1; i < lines.length; i++)
+                {
+                    String[] s = lines[i].split("\t", 3);
+                    if ((s.length == 2) && (TAG_COMPLETED.equals(s[0])))
+                    {
+                        finished.put(s[1], null);
+                    } else if ((s.length == 3) && (TAG_FAILED.equals(s[0])))
+                    {
+                        finished.put(s[1], s[2]);
+                    } else if ((s.length == 3) && (TAG_WRITING.equals(s[0])))
+                    {
+                        writing.put(s[1], s[2]);
+                    }
+                }
+            }
+        }
+        writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(file, resume), "UTF-8"));
+        if (!resume) appendLine(TAG_SETTINGS + '\t' + fingerprint);
+        return resume;
+    }
+
+    /**
+     * Determines whether or not the specified item was completed or failed according to this journal.
+     *
+     * @param key The file which identifies the item.
+     * @return <code>true</code> if the item has been processed; <code>false</code> otherwise.
+     */
+    public synchronized boolean isFinished(File key)
+    {
+        return finished.containsKey(BatchManifest.getRelativePath(root, key));
+    }
+
+    /**
+     * Determines whether or not the specified item replaced its source before the conversion was interrupted: that is,
+     * whether the item recorded the contents with which it was about to replace its source and the source now has
+     * those contents.
+     *
+     * @param key The file which identifies the item and which it replaces.
+     * @return <code>true</code> if the source has been replaced; <code>false</code> otherwise.
+     */
+    public synchronized boolean isWritten(File key)
+    {
+        String digest = writing.get(BatchManifest.getRelativePath(root, key));
+        if ((digest == null) || (!key.isFile())) return false;
+        try
+        {
+            return digest.equals(BatchManifest.digest(FileUtilities.getFileContents(key)));
+        } catch (IOException e)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Retrieves the number of items recorded in this journal.
+     *
+     * @return The number of completed and failed items.
+     */
+    public synchronized int getFinishedCount()
+    {
+        return finished.size();
+    }
+
+    /**
+     * Records that the specified item was completed.
+     *
+     * @param key The file which identifies the item.
+     */
+    public synchronized void recordCompleted(File key)
+    {
+        String path = BatchManifest.getRelativePath(root, key);
+        finished.put(path, null);
+        appendLine(TAG_COMPLETED + '\t' + path);
+    }
+
+    /**
+     * Records that the specified item is about to replace its source with the provided contents.  This must be
+     * recorded before the source is replaced.
+     *
+     * @param key  The file which identifies the item and which it replaces.
+     * @param data The new contents of the file.
+     */
+    public synchronized void recordWriting(File key, byte[] data)
+    {
+        String path = BatchManifest.getRelativePath(root, key);
+        String digest = BatchManifest.digest(data);
+        writing.put(path, digest);
+        appendLine(TAG_WRITING + '\t' + path + '\t' + digest);
+    }
+
+    /**
+     * Records that the specified item failed.
+     *
+     * @param key    The file which identifies the item.
+     * @param reason The reason for the failure.
+     */
+    public synchronized void recordFailed(File key, String reason)
+    {
+        String path = BatchManifest.getRelativePath(root, key);
+        reason = reason.trim().replace('\n', ' ').replace('\r', ' ').replace('\t', ' ');
+        finished.put(path, reason);
+        appendLine(TAG_FAILED + '\t' + path + '\t' + reason);
+    }
+
+    /**
+     * Closes this journal.  The journal file is kept so that the conversion can be resumed.
+     */
+    public synchronized void close()
+    {
+        if (writer != null)
+        {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    /**
+     * Closes this journal and deletes the journal file.  This should be called once a batch conversion has processed
+     * every item.
+     */
+    public synchronized void delete()
+    {
+        close();
+        file.delete();
+    }
+
+    /**
+     * Appends a line to the journal file and flushes it.
+     *
+     * @param line The line to append.
+     */
+    protected void appendLine(String line)
+    {
+        if (writer == null) return;
+        writer.print(line);
+        writer.print('\n');
+        writer.flush();
+    }
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+}
+
+// END OF FILE
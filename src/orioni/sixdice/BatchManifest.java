@@ -0,0 +1,274 @@
+package orioni.sixdice;
+
+import java.io.*;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class is designed to record which outputs of a batch conversion are up to date.  The manifest is stored in the
+ * root directory of the batch conversion and contains one entry per converted file or image series.  Each entry
+ * records a stamp derived from the sizes and modification times of the source files, a fingerprint of the settings
+ * with which the conversion was performed and the output files which the conversion wrote.  A later batch conversion
+ * may skip any item whose stamp and fingerprint match its entry and whose output files all still exist.
+ * <p/>
+ * The methods of this class are synchronized so that a single manifest may be shared by concurrent batch workers.
+ *
+ * @author Zachary Palmer
+ */
+public class BatchManifest
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * The name of the manifest file in the root directory of a batch conversion.
+     */
+    public static final String MANIFEST_FILENAME = ".sixdice-manifest";
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+    /**
+     * The root directory of the batch conversion.
+     */
+    protected File root;
+    /**
+     * The manifest file.
+     */
+    protected File file;
+    /**
+     * The entries of this manifest, mapping each key to its stamp, its fingerprint and its outputs.  The outputs are
+     * the URI-encoded paths of the output files, relative to the root directory where possible, separated by spaces.
+     */
+    protected Map<String, String[]> entries;
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * General constructor.  The new manifest is empty; use {@link BatchManifest#load()} to read the existing manifest.
+     *
+     * @param root The root directory of the batch conversion.
+     */
+    public BatchManifest(File root)
+    {
+        super();
+        this.root = root.getAbsoluteFile();
+        file = new File(this.root, MANIFEST_FILENAME);
+        entries = new HashMap<String, String[]>();
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Reads the manifest file, if one exists.  Malformed lines, including those written before outputs were recorded,
+     * are ignored.
+     *
+     * @throws IOException If an I/O error occurs while reading the manifest file.
+     */
+    public synchronized void load()
+            throws IOException
+    {
+        entries.clear();
+        if (!file.isFile()) return;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+        try
+        {
+            String line;
+            while ((line = reader.readLine()) != null)
+            {
+                String[] s = line.split("\t", 4);
+                if (s.length != 4) continue;
+                entries.put(s[3], new String[]{s[0], s[1], s[2]});
+            }
+        } finally
+        {
+            reader.close();
+        }
+    }
+
+    /**
+     * Writes the manifest file.  The manifest is written to a temporary file which then replaces the manifest file, so
+     * an interrupted save never leaves a truncated manifest behind.
+     *
+     * @throws IOException If an I/O error occurs while writing the manifest file.
+     */
+    public synchronized void save()
+            throws IOException
+    {
+        File temp = new File(root, MANIFEST_FILENAME + ".tmp");
+        PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(temp), "UTF-8"));
+        try
+        {
+            for (Map.Entry<String, String[]> entry : entries.entrySet())
+            {
+                writer.print(entry.getValue()[0]);
+                writer.print('\t');
+                writer.print(entry.getValue()[1]);
+                writer.print('\t');
+                writer.print(entry.getValue()[2]);
+                writer.print('\t');
+                writer.print(entry.getKey());
+                writer.print('\n');
+            }
+        } finally
+        {
+            writer.close();
+        }
+        if (writer.checkError()) throw new IOException("Could not write " + temp + ".");
+        AnimationIO.replaceFile(temp, file);
+    }
+
+    /**
+     * Determines whether or not the specified item is up to date.
+     *
+     * @param key         The file which identifies the item.
+     * @param stamp       The current stamp of the item's source files.
+     * @param fingerprint The fingerprint of the current conversion settings.
+     * @return <code>true</code> if the manifest contains an entry for the item with the same stamp and fingerprint and
+     *         at least one recorded output, all of which exist; <code>false</code> otherwise.
+     */
+    public synchronized boolean isCurrent(File key, String stamp, String fingerprint)
+    {
+        String[] entry = entries.get(getKey(key));
+        if ((entry == null) || (!entry[0].equals(stamp)) || (!entry[1].equals(fingerprint)) || (entry[2].length() == 0))
+        {
+            return false;
+        }
+        for (String output : entry[2].split(" "))
+        {
+            try
+            {
+                if (!new File(root.toURI().resolve(output)).exists()) return false;
+            } catch (IllegalArgumentException e)
+            {
+                // A damaged path; the item is converted again.
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records that the specified item has been converted successfully.
+     *
+     * @param key         The file which identifies the item.
+     * @param stamp       The stamp of the item's source files at the time of the conversion.
+     * @param fingerprint The fingerprint of the settings used by the conversion.
+     * @param outputs     The files written by the conversion, or <code>null</code> if they are not known.  An item
+     *                    with no recorded outputs is never current.
+     */
+    public synchronized void record(File key, String stamp, String fingerprint, File... outputs)
+    {
+        StringBuilder sb = new StringBuilder();
+        if (outputs != null)
+        {
+            for (File output : outputs)
+            {
+                // Relative paths are marked so that a colon in a name is not read as a URI scheme.
+                URI path = root.toURI().relativize(output.getAbsoluteFile().toURI());
+                if (sb.length() > 0) sb.append(' ');
+                sb.append((path.isAbsolute()) ? path.getRawPath() : "./" + path.getRawPath());
+            }
+        }
+        entries.put(getKey(key), new String[]{stamp, fingerprint, sb.toString()});
+    }
+
+    /**
+     * Removes the entry for the specified item, ensuring that it is converted again by the next batch conversion.
+     *
+     * @param key The file which identifies the item.
+     */
+    public synchronized void remove(File key)
+    {
+        entries.remove(getKey(key));
+    }
+
+    /**
+     * Produces the key under which the specified file is recorded: its path relative to the root directory.
+     *
+     * @param key The file which identifies the item.
+     * @return The key for that file.
+     */
+    protected String getKey(File key)
+    {
+        return getRelativePath(root, key);
+    }
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+    /**
+     * Produces the path of the provided file relative to the provided root directory, using forward slashes as
+     * separators.
+     *
+     * @param root The root directory.  This must be an absolute path.
+     * @param file The file.
+     * @return The relative path of the file.
+     */
+    public static String getRelativePath(File root, File file)
+    {
+        return root.toURI().relativize(file.getAbsoluteFile().toURI()).getPath();
+    }
+
+    /**
+     * Computes the stamp of a set of source files.  The stamp changes whenever any of the files is renamed, resized or
+     * modified; computing it requires no file content to be read.
+     *
+     * @param sources The source files.
+     * @return The stamp of those files.
+     */
+    public static String computeStamp(File... sources)
+    {
+        StringBuilder sb = new StringBuilder();
+        for (File source : sources)
+        {
+            sb.append(source.getName()).append('/').append(source.length()).append('/')
+                    .append(source.lastModified()).append('\n');
+        }
+        return digest(sb.toString());
+    }
+
+    /**
+     * Computes a hexadecimal MD5 digest of the provided string, encoded in UTF-8.
+     *
+     * @param string The string to digest.
+     * @return The digest of that string.
+     */
+    public static String digest(String string)
+    {
+        try
+        {
+            return digest(string.getBytes("UTF-8"));
+        } catch (UnsupportedEncodingException e)
+        {
+            throw new IllegalStateException("UTF-8 is not supported by this JRE.", e);
+        }
+    }
+
+    /**
+     * Computes a hexadecimal MD5 digest of the provided data.
+     *
+     * @param data The data to digest.
+     * @return The digest of that data.
+     */
+    public static String digest(byte[] data)
+    {
+        try
+        {
+            byte[] hash = MessageDigest.getInstance("MD5").digest(data);
+            StringBuilder sb = new StringBuilder();
+            for (byte b : hash)
+            {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException("MD5 is not supported by this JRE.", e);
+        }
+    }
+}
+
+// END OF FILE
@@ -0,0 +1,217 @@
+package orioni.sixdice;
+
+import java.util.List;
+
+/**
+ * This immutable class describes how an {@link AnimationCodec} reads and writes files: the palette index it treats as
+ * transparent, how hard it tries to make encoded files small, how many threads it may use for a single file, and where
+ * it reports statistics and warnings.  Each codec is constructed with one {@link CodecOptions} object and never changes
+ * it, so a codec may be shared between threads; a codec with other options is obtained with {@link
+ * AnimationCodec#deriveWithOptions(CodecOptions)}.
+ * <p/>
+ * The statistics and warning sinks are not copied.  They are shared by every codec which uses these options and must
+ * therefore tolerate use from several threads at once.
+ *
+ * @author Zachary Palmer
+ */
+public class CodecOptions
+{
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * An enumeration of the amounts of work an encoder may spend making its output smaller.
+     */
+    public static enum Effort
+    {
+        /**
+         * Each file is encoded once with every optional compression technique enabled.
+         */
+        FAST,
+        /**
+         * Every combination of optional compression techniques is tried and the smallest result is kept.
+         */
+        BEST
+    }
+
+    /**
+     * The options used by codecs constructed without options: index <code>0</code> is transparent, encoding effort is
+     * {@link Effort#BEST}, each file is processed by a single thread, and neither statistics nor warnings are
+     * collected.
+     */
+    public static final CodecOptions DEFAULT = new CodecOptions(0, Effort.BEST, 1, CodecStatistics.DISABLED, null);
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+    /**
+     * The index which the codec assumes is transparent, or <code>-1</code> for no transparent index.
+     */
+    protected final int transparentIndex;
+    /**
+     * The amount of work the codec may spend making its output smaller.
+     */
+    protected final Effort effort;
+    /**
+     * The number of threads the codec may use for a single file.
+     */
+    protected final int parallelism;
+    /**
+     * The {@link CodecStatistics} to which the codec reports.
+     */
+    protected final CodecStatistics statistics;
+    /**
+     * The {@link List} to which the warnings of decoded files are added, or <code>null</code> if they are not
+     * collected.
+     */
+    protected final List<String> warnings;
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * General constructor.
+     *
+     * @param transparentIndex The index which the codec assumes is transparent, or <code>-1</code> for no transparent
+     *                         index.
+     * @param effort           The amount of work the codec may spend making its output smaller.
+     * @param parallelism      The number of threads the codec may use for a single file.
+     * @param statistics       The {@link CodecStatistics} to which the codec reports, or <code>null</code> to report
+     *                         nothing.
+     * @param warnings         The {@link List} to which the warnings of decoded files are added, or <code>null</code>
+     *                         if they are not collected.  The list must be synchronized if the codec is shared between
+     *                         threads.
+     * @throws IllegalArgumentException If <code>effort</code> is <code>null</code> or <code>parallelism</code> is less
+     *                                  than one.
+     */
+    public CodecOptions(int transparentIndex, Effort effort, int parallelism, CodecStatistics statistics,
+                        List<String> warnings)
+    {
+        super();
+        if (effort == null) throw new IllegalArgumentException("An encoding effort must be specified.");
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be at least one: " + parallelism);
+        this.transparentIndex = transparentIndex;
+        this.effort = effort;
+        this.parallelism = parallelism;
+        this.statistics = (statistics == null) ? CodecStatistics.DISABLED : statistics;
+        this.warnings = warnings;
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Retrieves the index which the codec assumes is transparent.
+     *
+     * @return The transparent index, or <code>-1</code> for no transparent index.
+     */
+    public int getTransparentIndex()
+    {
+        return transparentIndex;
+    }
+
+    /**
+     * Retrieves the amount of work the codec may spend making its output smaller.
+     *
+     * @return The encoding effort.
+     */
+    public Effort getEffort()
+    {
+        return effort;
+    }
+
+    /**
+     * Retrieves the number of threads the codec may use for a single file.  Codecs which cannot divide their work
+     * ignore this value.
+     *
+     * @return The parallelism of the codec.
+     */
+    public int getParallelism()
+    {
+        return parallelism;
+    }
+
+    /**
+     * Retrieves the {@link CodecStatistics} to which the codec reports.
+     *
+     * @return The codec's statistics; {@link CodecStatistics#DISABLED} if nothing is reported.
+     */
+    public CodecStatistics getStatistics()
+    {
+        return statistics;
+    }
+
+    /**
+     * Retrieves the {@link List} to which the warnings of decoded files are added.
+     *
+     * @return The warning list, or <code>null</code> if warnings are not collected.
+     */
+    public List<String> getWarnings()
+    {
+        return warnings;
+    }
+
+    /**
+     * Creates options which differ from these only in their transparent index.
+     *
+     * @param transparentIndex The new transparent index, or <code>-1</code> for no transparent index.
+     * @return The derived options.
+     */
+    public CodecOptions deriveWithTransparentIndex(int transparentIndex)
+    {
+        return new CodecOptions(transparentIndex, effort, parallelism, statistics, warnings);
+    }
+
+    /**
+     * Creates options which differ from these only in their encoding effort.
+     *
+     * @param effort The new encoding effort.
+     * @return The derived options.
+     */
+    public CodecOptions deriveWithEffort(Effort effort)
+    {
+        return new CodecOptions(transparentIndex, effort, parallelism, statistics, warnings);
+    }
+
+    /**
+     * Creates options which differ from these only in their parallelism.
+     *
+     * @param parallelism The new number of threads the codec may use for a single file.
+     * @return The derived options.
+     */
+    public CodecOptions deriveWithParallelism(int parallelism)
+    {
+        return new CodecOptions(transparentIndex, effort, parallelism, statistics, warnings);
+    }
+
+    /**
+     * Creates options which differ from these only in their statistics.
+     *
+     * @param statistics The new {@link CodecStatistics}, or <code>null</code> to report nothing.
+     * @return The derived options.
+     */
+    public CodecOptions deriveWithStatistics(CodecStatistics statistics)
+    {
+        return new CodecOptions(transparentIndex, effort, parallelism, statistics, warnings);
+    }
+
+    /**
+     * Creates options which differ from these only in their warning list.
+     *
+     * @param warnings The new warning list, or <code>null</code> to stop collecting warnings.
+     * @return The derived options.
+     */
+    public CodecOptions deriveWithWarnings(List<String> warnings)
+    {
+        return new CodecOptions(transparentIndex, effort, parallelism, statistics, warnings);
+    }
+
+    /**
+     * Describes the options which affect the content of encoded files.  Two codecs of the same type whose options have
+     * the same description write the same files.
+     *
+     * @return A description of these options.
+     */
+    public String toString()
+    {
+        return "transparent=" + transparentIndex + ",effort=" + effort.name().toLowerCase();
+    }
+}
+
+// END OF FILE
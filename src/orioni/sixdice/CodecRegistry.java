@@ -0,0 +1,290 @@
+package orioni.sixdice;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This class is a registry of the available {@link AnimationCodec}s.  The shared registry finds its codecs as
+ * <code>java.util.ServiceLoader</code> would: each JAR may name codecs, one class name per line, in a {@link
+ * CodecRegistry#SERVICE_RESOURCE} file.  That class appeared in Java 6, so the files are read here instead.  If no
+ * codecs are named, as when SixDice is run from a class directory, the DC6, DCC and BAM codecs are registered.
+ * <p/>
+ * Codecs are found by name or by the signatures at the beginning of their files (see {@link
+ * AnimationCodec#matchesSignature(byte[])}).  Detection reads only the first {@link CodecRegistry#getSignatureLength()}
+ * bytes of a file, so files of the wrong format are recognized without being decoded.
+ *
+ * @author Zachary Palmer
+ */
+public class CodecRegistry
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+    /**
+     * The shared registry, or <code>null</code> if it has not yet been loaded.
+     */
+    private static CodecRegistry instance = null;
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * The resource which names the codecs provided by a JAR.
+     */
+    public static final String SERVICE_RESOURCE = "META-INF/services/" + AnimationCodec.class.getName();
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+    /**
+     * The registered codecs, in order of preference.
+     */
+    protected final List<AnimationCodec> codecs;
+    /**
+     * The length of the longest signature of the registered codecs.
+     */
+    protected final int signatureLength;
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * General constructor.
+     *
+     * @param codecs The codecs to register, in order of preference.
+     */
+    public CodecRegistry(AnimationCodec... codecs)
+    {
+        super();
+        this.codecs = Collections.unmodifiableList(new ArrayList<AnimationCodec>(Arrays.asList(codecs)));
+        int length = 0;
+        for (AnimationCodec codec : codecs) length = Math.max(length, codec.getSignatureLength());
+        signatureLength = length;
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Retrieves the registered codecs.
+     *
+     * @return An unmodifiable {@link List} of the registered codecs, in order of preference.
+     */
+    public List<AnimationCodec> getCodecs()
+    {
+        return codecs;
+    }
+
+    /**
+     * Retrieves the short names of the registered codecs.  The short name of a codec is the first extension of its
+     * {@link AnimationCodec#getFileType() file type}.
+     *
+     * @return The short names of the registered codecs, in order of preference.
+     */
+    public List<String> getCodecNames()
+    {
+        List<String> ret = new ArrayList<String>();
+        for (AnimationCodec codec : codecs) ret.add(codec.getFileType().getExtensions()[0]);
+        return ret;
+    }
+
+    /**
+     * Retrieves a codec by name.
+     *
+     * @param name The short name of the codec (such as <code>"dcc"</code>) or any extension of its files, in any case.
+     * @return The first registered codec with that name, or <code>null</code> if there is none.
+     */
+    public AnimationCodec getCodec(String name)
+    {
+        for (AnimationCodec codec : codecs)
+        {
+            for (String extension : codec.getFileType().getExtensions())
+            {
+                if (extension.equalsIgnoreCase(name)) return codec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the number of bytes needed to detect the format of a file: the length of the longest signature of the
+     * registered codecs.
+     *
+     * @return The length of the longest signature.
+     */
+    public int getSignatureLength()
+    {
+        return signatureLength;
+    }
+
+    /**
+     * Detects the format of encoded data from its first bytes.  Codecs which do not recognize their files by their
+     * contents are never detected.
+     *
+     * @param header The first {@link CodecRegistry#getSignatureLength()} bytes of the data, or all of the data if it is
+     *               shorter.
+     * @return The first registered codec whose signature the data matches, or <code>null</code> if there is none.
+     */
+    public AnimationCodec detect(byte[] header)
+    {
+        for (AnimationCodec codec : codecs)
+        {
+            if ((codec.getSignatureLength() > 0) && (codec.matchesSignature(header))) return codec;
+        }
+        return null;
+    }
+
+    /**
+     * Detects the format of a file from its first bytes.
+     *
+     * @param file The {@link File} to examine.
+     * @return The first registered codec whose signature the file matches, or <code>null</code> if there is none.
+     * @throws IOException If an I/O error occurs while reading the file.
+     */
+    public AnimationCodec detect(File file)
+            throws IOException
+    {
+        return detect(readHeader(file, signatureLength));
+    }
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+    /**
+     * Retrieves the shared registry, loading its codecs on first use.
+     *
+     * @return The shared {@link CodecRegistry}.
+     */
+    public static synchronized CodecRegistry getInstance()
+    {
+        if (instance == null)
+        {
+            ClassLoader loader = CodecRegistry.class.getClassLoader();
+            List<AnimationCodec> codecs = new ArrayList<AnimationCodec>();
+            for (String name : findServiceNames(loader))
+            {
+                try
+                {
+                    codecs.add(Class.forName(name, true, loader).asSubclass(AnimationCodec.class).newInstance());
+                } catch (Exception e)
+                {
+                    // a codec which cannot be loaded is simply not available
+                } catch (LinkageError e)
+                {
+                    // nor is one which was compiled against other classes
+                }
+            }
+            if (codecs.isEmpty())
+            {
+                codecs.add(new DC6Codec());
+                codecs.add(new DCCCodec());
+                codecs.add(new BAMCodec());
+            }
+            instance = new CodecRegistry(codecs.toArray(new AnimationCodec[codecs.size()]));
+        }
+        return instance;
+    }
+
+    /**
+     * Reads the class names in every {@link CodecRegistry#SERVICE_RESOURCE} visible to a class loader.  As in
+     * <code>java.util.ServiceLoader</code>, each line names one class, <code>#</code> begins a comment and blank lines
+     * are ignored.  A resource which cannot be read contributes no names.
+     *
+     * @param loader The {@link ClassLoader} whose resources are read.
+     * @return The class names, without duplicates, in the order in which they were found.
+     */
+    protected static Set<String> findServiceNames(ClassLoader loader)
+    {
+        Set<String> ret = new LinkedHashSet<String>();
+        Enumeration<URL> resources;
+        try
+        {
+            resources = (loader == null) ? ClassLoader.getSystemResources(SERVICE_RESOURCE) :
+                        loader.getResources(SERVICE_RESOURCE);
+        } catch (IOException e)
+        {
+            return ret;
+        }
+        while (resources.hasMoreElements())
+        {
+            URL url = resources.nextElement();
+            try
+            {
+                BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), "UTF-8"));
+                try
+                {
+                    String line;
+                    while ((line = reader.readLine()) != null)
+                    {
+                        int comment = line.indexOf('#');
+                        if (comment >= 0) line = line.substring(0, comment);
+                        line = line.trim();
+                        if (line.length() > 0) ret.add(line);
+                    }
+                } finally
+                {
+                    reader.close();
+                }
+            } catch (IOException e)
+            {
+                // The other resources may still be read.
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Reads the first bytes of a file.
+     *
+     * @param file   The {@link File} to read.
+     * @param length The number of bytes to read.
+     * @return The first <code>length</code> bytes of the file, or all of the file if it is shorter.
+     * @throws IOException If an I/O error occurs while reading the file.
+     */
+    public static byte[] readHeader(File file, int length)
+            throws IOException
+    {
+        byte[] buffer = new byte[length];
+        int read = 0;
+        InputStream is = new FileInputStream(file);
+        try
+        {
+            while (read < length)
+            {
+                int count = is.read(buffer, read, length - read);
+                if (count < 0) break;
+                read += count;
+            }
+        } finally
+        {
+            is.close();
+        }
+        if (read == length) return buffer;
+        byte[] ret = new byte[read];
+        System.arraycopy(buffer, 0, ret, 0, read);
+        return ret;
+    }
+
+    /**
+     * Reads the first bytes of the remaining contents of a {@link ByteBuffer}.  The buffer's position is not changed.
+     *
+     * @param data   The {@link ByteBuffer} to read.
+     * @param length The number of bytes to read.
+     * @return The first <code>length</code> remaining bytes of the buffer, or all of them if there are fewer.
+     */
+    public static byte[] readHeader(ByteBuffer data, int length)
+    {
+        byte[] ret = new byte[Math.min(length, data.remaining())];
+        data.duplicate().get(ret);
+        return ret;
+    }
+}
+
+// END OF FILE
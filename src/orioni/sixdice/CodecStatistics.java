@@ -0,0 +1,370 @@
+package orioni.sixdice;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class collects performance statistics reported by {@link AnimationCodec}s: the time spent in named phases, the
+ * number of times each phase was entered, and named counts such as the number of bits written to each DCC bitstream.
+ * Whole decoding and encoding operations are recorded as <i>operations</i>, which additionally count frames, bytes
+ * and, where the virtual machine supports it, the bytes allocated by the operating thread.
+ * <p/>
+ * Every codec reports to {@link CodecStatistics#DISABLED} unless it is given another instance.  The disabled instance
+ * neither reads the clock nor records anything, so instrumentation costs little more than a field read and a branch
+ * when it is not in use.  Enabled instances are thread-safe and may be shared between codecs and threads.  Phases may
+ * nest; the time of an inner phase is also counted in the time of the phase which contains it.
+ *
+ * @author Zachary Palmer
+ */
+public class CodecStatistics
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+    /**
+     * The method used to determine the number of bytes allocated by a thread, or <code>null</code> if this virtual
+     * machine does not provide one.
+     */
+    private static Method allocatedBytesMethod;
+    /**
+     * The object upon which {@link CodecStatistics#allocatedBytesMethod} is invoked.
+     */
+    private static Object threadBean;
+
+    static
+    {
+        try
+        {
+            threadBean = ManagementFactory.getThreadMXBean();
+            Method method = Class.forName("com.sun.management.ThreadMXBean").getMethod(
+                    "getThreadAllocatedBytes", long.class);
+            if (method.getDeclaringClass().isInstance(threadBean)) allocatedBytesMethod = method;
+        } catch (Exception e)
+        {
+            // allocation is simply not reported on this virtual machine
+            allocatedBytesMethod = null;
+        }
+    }
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * The statistics object which records nothing.
+     */
+    public static final CodecStatistics DISABLED = new CodecStatistics(false);
+
+    /**
+     * The suffix of the counter which counts the frames processed by an operation.
+     */
+    public static final String FRAMES_SUFFIX = " frames";
+    /**
+     * The suffix of the counter which counts the encoded bytes processed by an operation.
+     */
+    public static final String BYTES_SUFFIX = " bytes";
+    /**
+     * The suffix of the counter which counts the bytes allocated during an operation.
+     */
+    public static final String ALLOCATED_SUFFIX = " allocated bytes";
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+    /**
+     * <code>true</code> if this object records statistics; <code>false</code> if it ignores them.
+     */
+    protected final boolean enabled;
+    /**
+     * The number of calls and total nanoseconds of each phase, in the order in which the phases were first reported.
+     */
+    protected final Map<String, long[]> phases;
+    /**
+     * The value of each counter, in the order in which the counters were first reported.
+     */
+    protected final Map<String, long[]> counters;
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * General constructor.  Creates an enabled statistics object.
+     */
+    public CodecStatistics()
+    {
+        this(true);
+    }
+
+    /**
+     * General constructor.
+     *
+     * @param enabled <code>true</code> if this object records statistics; <code>false</code> if it ignores them.
+     */
+    protected CodecStatistics(boolean enabled)
+    {
+        super();
+        this.enabled = enabled;
+        phases = new LinkedHashMap<String, long[]>();
+        counters = new LinkedHashMap<String, long[]>();
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Determines whether or not this object records statistics.
+     *
+     * @return <code>true</code> if statistics are recorded; <code>false</code> if they are ignored.
+     */
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Starts timing a phase.
+     *
+     * @return The starting time, to be given to {@link CodecStatistics#stopTimer(String, long)}.
+     */
+    public long startTimer()
+    {
+        return (enabled) ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Stops timing a phase, adding the time since it was started to that phase.
+     *
+     * @param phase The name of the phase.
+     * @param start The value returned by {@link CodecStatistics#startTimer()}.
+     */
+    public void stopTimer(String phase, long start)
+    {
+        if (enabled) addTime(phase, System.nanoTime() - start);
+    }
+
+    /**
+     * Adds time to a phase and counts one call of it.
+     *
+     * @param phase The name of the phase.
+     * @param nanos The time to add, in nanoseconds.
+     */
+    public void addTime(String phase, long nanos)
+    {
+        if (!enabled) return;
+        synchronized (phases)
+        {
+            long[] entry = phases.get(phase);
+            if (entry == null)
+            {
+                entry = new long[2];
+                phases.put(phase, entry);
+            }
+            entry[0]++;
+            entry[1] += nanos;
+        }
+    }
+
+    /**
+     * Adds to a counter.
+     *
+     * @param counter The name of the counter.
+     * @param amount  The amount to add.
+     */
+    public void addCount(String counter, long amount)
+    {
+        if (!enabled) return;
+        synchronized (counters)
+        {
+            long[] entry = counters.get(counter);
+            if (entry == null)
+            {
+                entry = new long[1];
+                counters.put(counter, entry);
+            }
+            entry[0] += amount;
+        }
+    }
+
+    /**
+     * Starts recording an operation.
+     *
+     * @return The state of the operation, to be given to {@link CodecStatistics#stopOperation(String, long[], int,
+     *         int)}, or <code>null</code> if this object is disabled.
+     */
+    public long[] startOperation()
+    {
+        if (!enabled) return null;
+        return new long[]{getAllocatedBytes(), System.nanoTime()};
+    }
+
+    /**
+     * Finishes recording an operation.  The time of the operation is added to the phase of the same name; the frames,
+     * bytes and allocated bytes are added to counters named with the appropriate suffixes.
+     *
+     * @param operation The name of the operation.
+     * @param start     The value returned by {@link CodecStatistics#startOperation()}.
+     * @param frames    The number of frames processed by the operation.
+     * @param bytes     The number of encoded bytes processed by the operation.
+     */
+    public void stopOperation(String operation, long[] start, int frames, int bytes)
+    {
+        if ((!enabled) || (start == null)) return;
+        addTime(operation, System.nanoTime() - start[1]);
+        addCount(operation + FRAMES_SUFFIX, frames);
+        addCount(operation + BYTES_SUFFIX, bytes);
+        if (start[0] >= 0)
+        {
+            long allocated = getAllocatedBytes();
+            if (allocated >= 0) addCount(operation + ALLOCATED_SUFFIX, allocated - start[0]);
+        }
+    }
+
+    /**
+     * Retrieves the names of the phases which have been reported.
+     *
+     * @return The names of the phases, in the order in which they were first reported.
+     */
+    public List<String> getPhases()
+    {
+        synchronized (phases)
+        {
+            return new ArrayList<String>(phases.keySet());
+        }
+    }
+
+    /**
+     * Retrieves the number of times that a phase was reported.
+     *
+     * @param phase The name of the phase.
+     * @return The number of calls of that phase.
+     */
+    public long getCalls(String phase)
+    {
+        synchronized (phases)
+        {
+            long[] entry = phases.get(phase);
+            return (entry == null) ? 0 : entry[0];
+        }
+    }
+
+    /**
+     * Retrieves the total time spent in a phase.
+     *
+     * @param phase The name of the phase.
+     * @return The time spent in that phase, in nanoseconds.
+     */
+    public long getTime(String phase)
+    {
+        synchronized (phases)
+        {
+            long[] entry = phases.get(phase);
+            return (entry == null) ? 0 : entry[1];
+        }
+    }
+
+    /**
+     * Retrieves the names of the counters which have been reported.
+     *
+     * @return The names of the counters, in the order in which they were first reported.
+     */
+    public List<String> getCounters()
+    {
+        synchronized (counters)
+        {
+            return new ArrayList<String>(counters.keySet());
+        }
+    }
+
+    /**
+     * Retrieves the value of a counter.
+     *
+     * @param counter The name of the counter.
+     * @return The value of that counter.
+     */
+    public long getCount(String counter)
+    {
+        synchronized (counters)
+        {
+            long[] entry = counters.get(counter);
+            return (entry == null) ? 0 : entry[0];
+        }
+    }
+
+    /**
+     * Determines the rate at which an operation processed frames.  Since operations may run concurrently, this is the
+     * rate of a single thread.
+     *
+     * @param operation The name of the operation.
+     * @return The number of frames processed per second of operation time, or <code>0.0</code> if the operation has
+     *         not been reported.
+     */
+    public double getFramesPerSecond(String operation)
+    {
+        long time = getTime(operation);
+        return (time == 0) ? 0.0 : getCount(operation + FRAMES_SUFFIX) * 1.0e9 / time;
+    }
+
+    /**
+     * Discards all recorded statistics.
+     */
+    public void reset()
+    {
+        synchronized (phases)
+        {
+            phases.clear();
+        }
+        synchronized (counters)
+        {
+            counters.clear();
+        }
+    }
+
+    /**
+     * Writes a report of the recorded statistics.
+     *
+     * @param out The {@link PrintStream} to which the report is written.
+     */
+    public void print(PrintStream out)
+    {
+        out.println("Codec statistics:");
+        out.println(String.format("    %-52s %8s %12s %10s", "Phase", "Calls", "Total ms", "Mean ms"));
+        for (String phase : getPhases())
+        {
+            long calls = getCalls(phase);
+            double millis = getTime(phase) / 1.0e6;
+            out.println(String.format("    %-52s %8d %12.3f %10.3f", phase, calls, millis, millis / calls));
+        }
+        out.println(String.format("    %-52s %14s", "Counter", "Value"));
+        for (String counter : getCounters())
+        {
+            out.println(String.format("    %-52s %14d", counter, getCount(counter)));
+        }
+        for (String phase : getPhases())
+        {
+            if (getCount(phase + FRAMES_SUFFIX) > 0)
+            {
+                out.println(String.format("    %-52s %14.1f frames/s", phase, getFramesPerSecond(phase)));
+            }
+        }
+    }
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+    /**
+     * Determines the number of bytes allocated by the current thread so far.
+     *
+     * @return The number of bytes allocated, or <code>-1</code> if this virtual machine does not report allocation.
+     */
+    protected static long getAllocatedBytes()
+    {
+        if (allocatedBytesMethod == null) return -1;
+        try
+        {
+            return (Long) (allocatedBytesMethod.invoke(threadBean, Thread.currentThread().getId()));
+        } catch (Exception e)
+        {
+            return -1;
+        }
+    }
+}
+
+// END OF FILE
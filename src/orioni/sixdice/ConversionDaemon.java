@@ -0,0 +1,706 @@
+package orioni.sixdice;
+
+import orioni.jz.io.files.FileUtilities;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class keeps SixDice resident so that a series of conversions pays for virtual machine startup, class loading
+ * and palette creation only once.  Each conversion job takes the same arguments as the command line; the codecs stay
+ * compiled by the JIT and the decode caches stay populated from one job to the next.  Jobs are accepted either on a
+ * port of the loopback interface, one connection per client and one thread per connection, or on standard input.
+ * <p/>
+ * The protocol is line-based and encoded in UTF-8.  Each request is a line whose fields are separated by tab
+ * characters; backslashes, tabs, carriage returns and newlines within a field are escaped as <code>\\</code>,
+ * <code>\t</code>, <code>\r</code> and <code>\n</code>.  The requests are:
+ * <ul>
+ * <li><code>AUTH</code> <i>secret</i> presents the daemon's secret.  A daemon listening on a port requires this as
+ * the first request of each connection.</li>
+ * <li><code>RUN</code> <i>directory</i> <i>argument</i>... runs a conversion job.  Relative paths among the arguments
+ * are resolved against the given directory, which is usually the working directory of the client.</li>
+ * <li><code>PING</code> does nothing.</li>
+ * <li><code>SHUTDOWN</code> stops the daemon once the running jobs are complete.</li>
+ * </ul>
+ * The response to a request is any number of <code>OUT</code> and <code>ERR</code> lines, each carrying one line of
+ * the job's standard output or error stream as it is written, followed by an <code>EXIT</code> line carrying the job's
+ * exit status.  Requests on one connection are run in order.  An unrecognized request, or any request before a
+ * required <code>AUTH</code>, is answered with an error and ends the connection.
+ * <p/>
+ * The loopback port is reachable by every local user and by web pages in a local browser, any of which could
+ * otherwise have the daemon read and write files on behalf of the user running it.  A daemon listening on a port
+ * therefore writes a random secret to a file in its user's home directory which only that user may read (see {@link
+ * ConversionDaemon#getSecretFile(int)}), and serves only connections which present it.  Setting the file's
+ * permissions requires Java 6 or later; on older virtual machines only standard input may be used.
+ *
+ * @author Zachary Palmer
+ */
+public class ConversionDaemon
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * The port on which the daemon listens if none is specified.
+     */
+    public static final int DEFAULT_PORT = 7326;
+    /**
+     * The system property which, if set, overrides the port used by {@link SixDiceClient}.
+     */
+    public static final String PORT_PROPERTY = "sixdice.port";
+    /**
+     * The address given to {@link SixDiceHeadless} to run the daemon on standard input rather than on a port.
+     */
+    public static final String STANDARD_INPUT_ADDRESS = "stdin";
+
+    /**
+     * The encoding of the protocol.
+     */
+    public static final String ENCODING = "UTF-8";
+    /**
+     * The character which separates the fields of a request.
+     */
+    public static final char SEPARATOR = '\t';
+
+    /**
+     * The request which presents the daemon's secret.
+     */
+    public static final String REQUEST_AUTH = "AUTH";
+    /**
+     * The request which runs a conversion job.
+     */
+    public static final String REQUEST_RUN = "RUN";
+    /**
+     * The request which does nothing.
+     */
+    public static final String REQUEST_PING = "PING";
+    /**
+     * The request which stops the daemon.
+     */
+    public static final String REQUEST_SHUTDOWN = "SHUTDOWN";
+
+    /**
+     * The prefix of a response line which carries a line of standard output.
+     */
+    public static final String RESPONSE_OUT = "OUT ";
+    /**
+     * The prefix of a response line which carries a line of the error stream.
+     */
+    public static final String RESPONSE_ERR = "ERR ";
+    /**
+     * The prefix of the response line which carries the exit status of a request.
+     */
+    public static final String RESPONSE_EXIT = "EXIT ";
+
+    /**
+     * The prefix of the name of the file in the user's home directory to which a daemon writes its secret.  The name
+     * ends with the daemon's port.
+     */
+    public static final String SECRET_FILENAME_PREFIX = ".sixdice-daemon-";
+    /**
+     * The number of random bytes in a daemon's secret.
+     */
+    public static final int SECRET_LENGTH = 16;
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+    /**
+     * The decode cache used by jobs which do not specify a cache directory.
+     */
+    protected DecodeCache memoryCache;
+    /**
+     * The decode caches used by jobs which specify a cache directory, keyed by that directory.
+     */
+    protected final Map<File, DecodeCache> decodeCaches;
+    /**
+     * The socket on which this daemon listens, or <code>null</code> if it is not listening.
+     */
+    protected ServerSocket serverSocket;
+    /**
+     * <code>true</code> if this daemon has been asked to stop; <code>false</code> otherwise.
+     */
+    protected volatile boolean shutdown;
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * General constructor.
+     */
+    public ConversionDaemon()
+    {
+        super();
+        memoryCache = null;
+        decodeCaches = new HashMap<File, DecodeCache>();
+        serverSocket = null;
+        shutdown = false;
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Retrieves the decode cache shared by this daemon's jobs.  A job which does not specify a cache directory shares
+     * a cache which is held in memory only.
+     *
+     * @param directory The cache directory specified by the job, or <code>null</code> if it specified none.
+     * @return The {@link DecodeCache} which the job should use.
+     */
+    public synchronized DecodeCache getDecodeCache(File directory)
+    {
+        if (directory == null)
+        {
+            if (memoryCache == null) memoryCache = new DecodeCache(DecodeCache.DEFAULT_MEMORY_LIMIT);
+            return memoryCache;
+        }
+        directory = directory.getAbsoluteFile();
+        DecodeCache cache = decodeCaches.get(directory);
+        if (cache == null)
+        {
+            cache = new DecodeCache(DecodeCache.DEFAULT_MEMORY_LIMIT, directory);
+            decodeCaches.put(directory, cache);
+        }
+        return cache;
+    }
+
+    /**
+     * Listens for connections on the specified port of the loopback interface, serving each on its own thread.  A
+     * new secret is written to {@link ConversionDaemon#getSecretFile(int)} and required of every connection; the file
+     * is removed when the daemon stops.  This method returns once a {@link ConversionDaemon#REQUEST_SHUTDOWN} request
+     * has been received; jobs which are still running are allowed to finish.
+     *
+     * @param port The port on which to listen.
+     * @param log  The {@link PrintStream} to which the daemon reports its status.
+     * @throws IOException If the port cannot be opened or the secret cannot be written.
+     */
+    public void listen(int port, PrintStream log)
+            throws IOException
+    {
+        ServerSocket server = new ServerSocket(port, 50, InetAddress.getByName("127.0.0.1"));
+        final File secretFile = getSecretFile(port);
+        final String secret;
+        try
+        {
+            secret = writeSecret(secretFile);
+        } catch (IOException e)
+        {
+            server.close();
+            throw e;
+        }
+        synchronized (this)
+        {
+            serverSocket = server;
+        }
+        log.println("SixDice daemon listening on port " + port + ".");
+        log.flush();
+        try
+        {
+            while (!shutdown)
+            {
+                final Socket socket;
+                try
+                {
+                    socket = server.accept();
+                } catch (SocketException e)
+                {
+                    // The socket is closed by shutdown(); any other failure is reported.
+                    if (shutdown) break;
+                    throw e;
+                }
+                Thread thread = new Thread(
+                        new Runnable()
+                        {
+                            public void run()
+                            {
+                                try
+                                {
+                                    if (serve(socket.getInputStream(), socket.getOutputStream(), secret)) shutdown();
+                                } catch (IOException e)
+                                {
+                                    // The client has gone; its job output has nowhere to go.
+                                } finally
+                                {
+                                    try
+                                    {
+                                        socket.close();
+                                    } catch (IOException e)
+                                    {
+                                        // The connection is finished either way.
+                                    }
+                                }
+                            }
+                        }, "SixDice Daemon Connection");
+                thread.start();
+            }
+        } finally
+        {
+            shutdown();
+            secretFile.delete();
+        }
+        log.println("SixDice daemon stopped.");
+        log.flush();
+    }
+
+    /**
+     * Stops this daemon from accepting further connections.
+     */
+    public synchronized void shutdown()
+    {
+        shutdown = true;
+        if (serverSocket != null)
+        {
+            try
+            {
+                serverSocket.close();
+            } catch (IOException e)
+            {
+                // The socket is no longer needed either way.
+            }
+            serverSocket = null;
+        }
+    }
+
+    /**
+     * Serves the requests read from an input stream until it ends, a {@link ConversionDaemon#REQUEST_SHUTDOWN} request
+     * is read or a request is refused.
+     *
+     * @param in     The {@link InputStream} from which requests are read.
+     * @param out    The {@link OutputStream} to which responses are written.
+     * @param secret The secret which must be presented by a {@link ConversionDaemon#REQUEST_AUTH} request before any
+     *               other, or <code>null</code> if none is required.
+     * @return <code>true</code> if a shutdown was requested; <code>false</code> if the input ended or a request was
+     *         refused.
+     * @throws IOException If an I/O error occurs while reading requests or writing responses.
+     */
+    public boolean serve(InputStream in, OutputStream out, String secret)
+            throws IOException
+    {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, ENCODING));
+        boolean authenticated = (secret == null);
+        String line;
+        while ((line = reader.readLine()) != null)
+        {
+            if (line.length() == 0) continue;
+            List<String> fields = split(line);
+            String request = fields.get(0);
+            if (!authenticated)
+            {
+                if ((REQUEST_AUTH.equals(request)) && (fields.size() == 2) &&
+                    (MessageDigest.isEqual(secret.getBytes(ENCODING), fields.get(1).getBytes(ENCODING))))
+                {
+                    authenticated = true;
+                    continue;
+                }
+                // Nothing of the request is echoed; it may not have been meant for this daemon at all.
+                writeLine(out, RESPONSE_ERR + "Not authenticated.");
+                writeLine(out, RESPONSE_EXIT + 1);
+                return false;
+            }
+            if (REQUEST_RUN.equals(request))
+            {
+                String directory = (fields.size() > 1) ? fields.get(1) : "";
+                List<String> args = fields.subList(Math.min(fields.size(), 2), fields.size());
+                int status = run(
+                        args.toArray(new String[args.size()]), (directory.length() == 0) ? null : new File(directory),
+                        out);
+                writeLine(out, RESPONSE_EXIT + status);
+            } else if (REQUEST_PING.equals(request))
+            {
+                writeLine(out, RESPONSE_EXIT + 0);
+            } else if (REQUEST_SHUTDOWN.equals(request))
+            {
+                writeLine(out, RESPONSE_EXIT + 0);
+                return true;
+            } else
+            {
+                // The client does not speak the protocol; nothing else it sends can be trusted to be a request.
+                writeLine(out, RESPONSE_ERR + "Unknown request \"" + request + "\".");
+                writeLine(out, RESPONSE_EXIT + 1);
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Runs a conversion job, streaming its output as response lines.
+     *
+     * @param args      The arguments of the job.
+     * @param directory The directory against which relative paths are resolved, or <code>null</code> to use the
+     *                  working directory of the daemon.
+     * @param out       The {@link OutputStream} to which the response lines are written.
+     * @return The exit status of the job.
+     */
+    protected int run(String[] args, File directory, OutputStream out)
+    {
+        PrintStream jobOut = new JobPrintStream(new ResponseOutputStream(out, RESPONSE_OUT));
+        PrintStream jobErr = new JobPrintStream(new ResponseOutputStream(out, RESPONSE_ERR));
+        int status;
+        try
+        {
+            status = SixDiceHeadless.run(args, directory, jobOut, jobErr, this);
+        } catch (RuntimeException e)
+        {
+            jobErr.println("Unexpected error during conversion: " + e);
+            status = 1;
+        } catch (OutOfMemoryError e)
+        {
+            // The job's data is unreachable now; the daemon should survive it.
+            jobErr.println("Out of memory during conversion.");
+            status = 1;
+        }
+        // Closing writes any unfinished last line, which flushing would leave behind.
+        jobOut.close();
+        jobErr.close();
+        return status;
+    }
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+    /**
+     * Starts a daemon as requested on the command line.  This method returns once the daemon has stopped.
+     *
+     * @param address Either {@link ConversionDaemon#STANDARD_INPUT_ADDRESS} or the port on which to listen.
+     * @param out     The standard output stream of the program.
+     * @param err     The error stream of the program.
+     * @return The exit status of the program.
+     * @throws SixDiceHeadless.UsageException If the address is invalid.
+     */
+    public static int start(String address, PrintStream out, PrintStream err)
+            throws SixDiceHeadless.UsageException
+    {
+        ConversionDaemon daemon = new ConversionDaemon();
+        try
+        {
+            if (STANDARD_INPUT_ADDRESS.equalsIgnoreCase(address))
+            {
+                daemon.serve(System.in, out, null);
+            } else
+            {
+                int port;
+                try
+                {
+                    port = Integer.parseInt(address);
+                } catch (NumberFormatException e)
+                {
+                    port = -1;
+                }
+                if ((port < 1) || (port > 65535))
+                {
+                    throw new SixDiceHeadless.UsageException(
+                            "Invalid daemon address (\"" + address + "\").\nAddress must be a port or \"" +
+                            STANDARD_INPUT_ADDRESS + "\".");
+                }
+                daemon.listen(port, out);
+            }
+        } catch (IOException e)
+        {
+            err.println("SixDice daemon failed: " + e.getMessage());
+            return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Retrieves the file to which a daemon listening on the specified port writes its secret.
+     *
+     * @param port The port of the daemon.
+     * @return The secret file, in the user's home directory.
+     */
+    public static File getSecretFile(int port)
+    {
+        return new File(System.getProperty("user.home"), SECRET_FILENAME_PREFIX + port);
+    }
+
+    /**
+     * Reads the secret of a daemon from its secret file.
+     *
+     * @param port The port of the daemon.
+     * @return The daemon's secret, or <code>null</code> if no daemon has written one for the current user.
+     * @throws IOException If the secret file exists but cannot be read.
+     */
+    public static String readSecret(int port)
+            throws IOException
+    {
+        File file = getSecretFile(port);
+        if (!file.isFile()) return null;
+        return new String(FileUtilities.getFileContents(file), ENCODING).trim();
+    }
+
+    /**
+     * Creates a new random secret and writes it to a file which only the current user may read.  Any existing file is
+     * replaced.
+     *
+     * @param file The file to which the secret is written.
+     * @return The secret.
+     * @throws IOException If the file cannot be created, restricted to its owner or written.
+     */
+    protected static String writeSecret(File file)
+            throws IOException
+    {
+        byte[] random = new byte[SECRET_LENGTH];
+        new SecureRandom().nextBytes(random);
+        StringBuilder sb = new StringBuilder();
+        for (byte b : random)
+        {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        String secret = sb.toString();
+
+        file.delete();
+        if (!file.createNewFile()) throw new IOException("Could not create the secret file " + file + ".");
+        file.deleteOnExit();
+        try
+        {
+            // File.setReadable and File.setWritable appeared in Java 6.  On file systems without permissions for
+            // others, such as those of Windows, revoking them fails harmlessly and the results are ignored.
+            Method setReadable = File.class.getMethod("setReadable", boolean.class, boolean.class);
+            Method setWritable = File.class.getMethod("setWritable", boolean.class, boolean.class);
+            setReadable.invoke(file, false, false);
+            setWritable.invoke(file, false, false);
+            setReadable.invoke(file, true, true);
+            setWritable.invoke(file, true, true);
+        } catch (Exception e)
+        {
+            file.delete();
+            throw new IOException(
+                    "Could not restrict the secret file to its owner; listen on \"" + STANDARD_INPUT_ADDRESS +
+                    "\" instead.");
+        }
+        FileOutputStream fos = new FileOutputStream(file);
+        try
+        {
+            fos.write((secret + '\n').getBytes(ENCODING));
+        } finally
+        {
+            fos.close();
+        }
+        return secret;
+    }
+
+    /**
+     * Writes a line of the protocol.
+     *
+     * @param out  The {@link OutputStream} to which the line is written.
+     * @param line The line, without its terminator.
+     * @throws IOException If an I/O error occurs.
+     */
+    public static void writeLine(OutputStream out, String line)
+            throws IOException
+    {
+        byte[] data = (line + '\n').getBytes(ENCODING);
+        synchronized (out)
+        {
+            out.write(data);
+            out.flush();
+        }
+    }
+
+    /**
+     * Joins the fields of a request, escaping them as necessary.
+     *
+     * @param fields The fields of the request.
+     * @return The request line, without its terminator.
+     */
+    public static String join(List<String> fields)
+    {
+        StringBuilder sb = new StringBuilder();
+        for (String field : fields)
+        {
+            if (sb.length() > 0) sb.append(SEPARATOR);
+            for (int i = 0; i < field.length(); i++)
+            {
+                char c = field.charAt(i);
+                switch (c)
+                {
+                    case '\\':
+                        sb.append("\\\\");
+                        break;
+                    case '\t':
+                        sb.append("\\t");
+                        break;
+                    case '\r':
+                        sb.append("\\r");
+                        break;
+                    case '\n':
+                        sb.append("\\n");
+                        break;
+                    default:
+                        sb.append(c);
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Splits a request line into its fields, removing their escapes.
+     *
+     * @param line The request line, without its terminator.
+     * @return The fields of the request.
+     */
+    public static List<String> split(String line)
+    {
+        List<String> ret = new ArrayList<String>();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < line.length(); i++)
+        {
+            char c = line.charAt(i);
+            if (c == SEPARATOR)
+            {
+                ret.add(sb.toString());
+                sb.setLength(0);
+            } else if ((c == '\\') && (i + 1 < line.length()))
+            {
+                c = line.charAt(++i);
+                switch (c)
+                {
+                    case 't':
+                        sb.append('\t');
+                        break;
+                    case 'r':
+                        sb.append('\r');
+                        break;
+                    case 'n':
+                        sb.append('\n');
+                        break;
+                    default:
+                        sb.append(c);
+                }
+            } else
+            {
+                sb.append(c);
+            }
+        }
+        ret.add(sb.toString());
+        return ret;
+    }
+
+// CONTAINED CLASSES /////////////////////////////////////////////////////////////
+
+    /**
+     * This {@link OutputStream} writes each line written to it as a response line with a given prefix.
+     */
+    protected static class ResponseOutputStream extends OutputStream
+    {
+        /**
+         * The {@link OutputStream} to which response lines are written.
+         */
+        protected OutputStream out;
+        /**
+         * The prefix of each response line.
+         */
+        protected String prefix;
+        /**
+         * The bytes of the current, unfinished line.
+         */
+        protected ByteArrayOutputStream line;
+
+        /**
+         * General constructor.
+         *
+         * @param out    The {@link OutputStream} to which response lines are written.
+         * @param prefix The prefix of each response line.
+         */
+        public ResponseOutputStream(OutputStream out, String prefix)
+        {
+            super();
+            this.out = out;
+            this.prefix = prefix;
+            line = new ByteArrayOutputStream();
+        }
+
+        /**
+         * Writes a byte, writing a response line if it ends one.
+         *
+         * @param b The byte to write.
+         * @throws IOException If an I/O error occurs while writing a response line.
+         */
+        public synchronized void write(int b)
+                throws IOException
+        {
+            if (b == '\n')
+            {
+                writeResponse();
+            } else if (b != '\r')
+            {
+                line.write(b);
+            }
+        }
+
+        /**
+         * Writes any unfinished line as a response line.
+         *
+         * @throws IOException If an I/O error occurs while writing the response line.
+         */
+        public synchronized void close()
+                throws IOException
+        {
+            if (line.size() > 0) writeResponse();
+        }
+
+        /**
+         * Writes the current line as a response line.
+         *
+         * @throws IOException If an I/O error occurs.
+         */
+        protected void writeResponse()
+                throws IOException
+        {
+            // The job's characters were encoded in the platform's default encoding.
+            writeLine(out, prefix + line.toString());
+            line.reset();
+        }
+    }
+
+    /**
+     * This {@link PrintStream} carries a job's output.  Closing it writes any unfinished line but leaves the stream
+     * open: {@link SixDiceCore} closes its streams at the end of each batch conversion, but a job may run several.
+     */
+    protected static class JobPrintStream extends PrintStream
+    {
+        /**
+         * General constructor.
+         *
+         * @param out The {@link ResponseOutputStream} to which the output is written.
+         */
+        public JobPrintStream(ResponseOutputStream out)
+        {
+            super(out, true);
+        }
+
+        /**
+         * Writes any unfinished line without closing this stream.
+         */
+        public void close()
+        {
+            flush();
+            try
+            {
+                out.close();
+            } catch (IOException e)
+            {
+                setError();
+            }
+        }
+    }
+}
+
+// END OF FILE
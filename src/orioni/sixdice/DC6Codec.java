@@ -32,15 +32,36 @@ public class DC6Codec extends AnimationCodec
 // CONSTRUCTORS //////////////////////////////////////////////////////////////////
 
     /**
-     * General constructor.
+     * General constructor.  The codec uses {@link CodecOptions#DEFAULT}.
      */
     public DC6Codec()
     {
         super();
     }
 
+    /**
+     * General constructor.
+     *
+     * @param options The {@link CodecOptions} of this codec.
+     */
+    public DC6Codec(CodecOptions options)
+    {
+        super(options);
+    }
+
 // NON-STATIC METHODS ////////////////////////////////////////////////////////////
 
+    /**
+     * Creates a DC6 codec which uses the specified options.
+     *
+     * @param options The {@link CodecOptions} of the new codec.
+     * @return The new codec.
+     */
+    public DC6Codec deriveWithOptions(CodecOptions options)
+    {
+        return new DC6Codec(options);
+    }
+
     /**
      * Specifies that DC6 files do not contain their own palettes.
      *
@@ -108,6 +129,29 @@ public class DC6Codec extends AnimationCodec
         return new FileType("DC6 Files (*.dc6)", "dc6");
     }
 
+    /**
+     * Retrieves the length of the DC6 signature: the version, flags and encoding fields of the header.
+     *
+     * @return <code>12</code>, always.
+     */
+    public int getSignatureLength()
+    {
+        return 12;
+    }
+
+    /**
+     * Determines whether data beginning with the specified bytes is a DC6 file: the header's version, flags and
+     * encoding fields must be <code>6</code>, <code>1</code> and <code>0</code>.
+     *
+     * @param header The first bytes of the data.
+     * @return <code>true</code> if the data has a DC6 header; <code>false</code> otherwise.
+     */
+    public boolean matchesSignature(byte[] header)
+    {
+        return (header.length >= 12) && (readInt(header, 0) == 6) && (readInt(header, 4) == 1) &&
+               (readInt(header, 8) == 0);
+    }
+
     /**
      * Reads an {@link Animation} from the specified {@link File}.
      *
@@ -120,6 +164,7 @@ public class DC6Codec extends AnimationCodec
     public Animation decode(byte[] encodedData, RestrictableIndexColorModel palette, ProgressTracker tracker)
             throws ParseException
     {
+        long[] operation = options.getStatistics().startOperation();
         palette = deriveCodecPalette(palette);
 
         List<String> warnings = new ArrayList<String>();
@@ -269,6 +314,7 @@ public class DC6Codec extends AnimationCodec
 
             Animation ret = new Animation(frameList, directions, frames);
             ret.addWarnings(warnings);
+            stopOperation("decode", operation, ret, encodedData.length);
             return ret;
         } catch (EOFException eofe)
         {
@@ -291,6 +337,7 @@ public class DC6Codec extends AnimationCodec
      */
     public byte[] encode(Animation animation, RestrictableIndexColorModel palette, ProgressTracker tracker)
     {
+        long[] operation = options.getStatistics().startOperation();
         palette = deriveCodecPalette(palette);
 
         ByteArrayOutputStream encodingBuffer = new ByteArrayOutputStream();
@@ -370,7 +417,9 @@ public class DC6Codec extends AnimationCodec
             // This can't happen unless ByteArrayOutputStream throws an IOException
             throw new IllegalStateException("ByteArrayOutputStream threw an IOException!", ioe);
         }
-        return encodingBuffer.toByteArray();
+        byte[] ret = encodingBuffer.toByteArray();
+        stopOperation("encode", operation, animation, ret.length);
+        return ret;
     }
 
 // STATIC METHODS ////////////////////////////////////////////////////////////////
@@ -398,14 +447,7 @@ public class DC6Codec extends AnimationCodec
             int yOffset = image.getHeight() - 1;
             int xOffset = 0;
 
-            int width = image.getWidth();
-            int height = image.getHeight();
-            int[] rgbs = image.getRGB(0, 0, width, height, null, 0, width);
-            int[] rawdata = new int[width * height];
-            for (int i = 0; i < rgbs.length; i++)
-            {
-                rawdata[i] = palette.find(rgbs[i]);
-            }
+            byte[] rawdata = PixelKernels.getInstance().getIndices(image, PaletteLookupTable.getInstance(palette));
 
             int mostTransparent = palette.getMostTransparentIndex();
             int transparentPixelsBuffer;
@@ -430,12 +472,12 @@ public class DC6Codec extends AnimationCodec
                             transparentPixelsBuffer = 0;
                         }
                     }
-                    if (rawdata[imageWidthTimesYOffset + xOffset] == mostTransparent)
+                    if ((rawdata[imageWidthTimesYOffset + xOffset] & 0xFF) == mostTransparent)
                     {
                         // Write a series of transparent data.  To do that, first we'll have to find out how much
                         // transparent data there is.
                         while ((xOffset < imageWidth) &&
-                               (rawdata[imageWidthTimesYOffset + xOffset] == mostTransparent))
+                               ((rawdata[imageWidthTimesYOffset + xOffset] & 0xFF) == mostTransparent))
                         {
                             xOffset++;
                             transparentPixelsBuffer++;
@@ -449,10 +491,10 @@ public class DC6Codec extends AnimationCodec
                         byte[] realRaw = new byte[127];
                         int count = 0;
                         while ((xOffset < imageWidth) &&
-                               (!(rawdata[imageWidthTimesYOffset + xOffset] == mostTransparent)) &&
+                               (!((rawdata[imageWidthTimesYOffset + xOffset] & 0xFF) == mostTransparent)) &&
                                (count < 127))
                         {
-                            realRaw[count] = (byte) (rawdata[imageWidthTimesYOffset + xOffset]);
+                            realRaw[count] = rawdata[imageWidthTimesYOffset + xOffset];
                             xOffset++;
                             count++;
                         }
@@ -474,6 +516,19 @@ public class DC6Codec extends AnimationCodec
             throw new IllegalStateException("ByteArrayOutputStream threw an IOException!", ioe);
         }
     }
+
+    /**
+     * Reads a little-endian <code>int</code> from an array.
+     *
+     * @param data   The array.
+     * @param offset The index of the first byte of the <code>int</code>.
+     * @return The <code>int</code>.
+     */
+    protected static int readInt(byte[] data, int offset)
+    {
+        return (data[offset] & 0xFF) | ((data[offset + 1] & 0xFF) << 8) | ((data[offset + 2] & 0xFF) << 16) |
+               (data[offset + 3] << 24);
+    }
 }
 
 // END OF FILE
\ No newline at end of file
@@ -11,9 +11,13 @@ import orioni.jz.util.*;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
 import java.io.*;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 
 /**
  * This {@link AnimationCodec} implementation reads and writes DCC files.
@@ -42,7 +46,64 @@ public class DCCCodec extends AnimationCodec
                     -1, 13, -1, 14, -1, 15};
 
     /**
-     * A singleton instance of the {@link DCCCodec}.
+     * The {@link CodecStatistics} phase for reading direction headers and buffering bitstreams.
+     */
+    protected static final String PHASE_DECODE_HEADERS = "DCC Codec: decode direction headers";
+    /**
+     * The {@link CodecStatistics} phase for decoding the cell palettes of a direction.
+     */
+    protected static final String PHASE_DECODE_PALETTES = "DCC Codec: decode cell palettes";
+    /**
+     * The {@link CodecStatistics} phase for decoding the pixels of a direction.
+     */
+    protected static final String PHASE_DECODE_PIXELS = "DCC Codec: decode pixels";
+    /**
+     * The {@link CodecStatistics} phase for estimating the buffer sizes written in the direction headers.
+     */
+    protected static final String PHASE_ENCODE_SIZING = "DCC Codec: encode size estimation";
+    /**
+     * The {@link CodecStatistics} phases for each of the four trial encodings of a direction, indexed by
+     * <code>(compressionFlagA ? 0 : 2) + (compressionFlagB ? 0 : 1)</code>.
+     */
+    protected static final String[] PHASE_ENCODE_TRIALS = {
+            "DCC Codec: encode trial (equal cells, raw codes)", "DCC Codec: encode trial (equal cells)",
+            "DCC Codec: encode trial (raw codes)", "DCC Codec: encode trial (no flags)"};
+    /**
+     * The {@link CodecStatistics} phase for dithering the cells of a direction to four colors.
+     */
+    protected static final String PHASE_ENCODE_DITHERING = "DCC Codec: encode dithering";
+    /**
+     * The {@link CodecStatistics} phase for encoding the cells of a direction into bitstreams.
+     */
+    protected static final String PHASE_ENCODE_CELLS = "DCC Codec: encode cells";
+    /**
+     * The {@link CodecStatistics} phase for determining whether cells equal those of the previous frame.  This time is
+     * also counted in {@link DCCCodec#PHASE_ENCODE_CELLS}.
+     */
+    protected static final String PHASE_ENCODE_EQUAL_CELLS = "DCC Codec: encode equal cell checks";
+    /**
+     * The {@link CodecStatistics} phase for assembling the bitstreams into the encoded direction.
+     */
+    protected static final String PHASE_ENCODE_BITSTREAMS = "DCC Codec: encode bitstream writing";
+    /**
+     * The {@link CodecStatistics} counters for the bits in each bitstream of the chosen encodings: equal cells, pixel
+     * mask, encoding type, raw pixel codes, displacement and pixel codes.
+     */
+    protected static final String[] COUNTER_ENCODE_BITSTREAMS = {
+            "DCC Codec: encode equal cells bits", "DCC Codec: encode pixel mask bits",
+            "DCC Codec: encode encoding type bits", "DCC Codec: encode raw pixel codes bits",
+            "DCC Codec: encode displacement bits", "DCC Codec: encode pixel codes bits"};
+    /**
+     * The {@link CodecStatistics} counters for the bits in the bitstreams read whose sizes are stored: equal cells,
+     * pixel mask, encoding type and raw pixel codes.
+     */
+    protected static final String[] COUNTER_DECODE_BITSTREAMS = {
+            "DCC Codec: decode equal cells bits", "DCC Codec: decode pixel mask bits",
+            "DCC Codec: decode encoding type bits", "DCC Codec: decode raw pixel codes bits"};
+
+    /**
+     * A singleton instance of the {@link DCCCodec} with the default options.  Codecs are immutable, so this instance
+     * may be shared freely.
      */
     public static final DCCCodec SINGLETON = new DCCCodec();
 
@@ -51,15 +112,36 @@ public class DCCCodec extends AnimationCodec
 // CONSTRUCTORS //////////////////////////////////////////////////////////////////
 
     /**
-     * General constructor.
+     * General constructor.  The codec uses {@link CodecOptions#DEFAULT}.
      */
     public DCCCodec()
     {
         super();
     }
 
+    /**
+     * General constructor.
+     *
+     * @param options The {@link CodecOptions} of this codec.
+     */
+    public DCCCodec(CodecOptions options)
+    {
+        super(options);
+    }
+
 // NON-STATIC METHODS ////////////////////////////////////////////////////////////
 
+    /**
+     * Creates a DCC codec which uses the specified options.
+     *
+     * @param options The {@link CodecOptions} of the new codec.
+     * @return The new codec.
+     */
+    public DCCCodec deriveWithOptions(CodecOptions options)
+    {
+        return new DCCCodec(options);
+    }
+
     /**
      * Specifies that DCC files do not contain their own palettes.
      *
@@ -127,6 +209,29 @@ public class DCCCodec extends AnimationCodec
         return new FileType("DCC Files (*.dcc)", "dcc");
     }
 
+    /**
+     * Retrieves the length of the DCC signature byte.
+     *
+     * @return <code>1</code>, always.
+     */
+    public int getSignatureLength()
+    {
+        return 1;
+    }
+
+    /**
+     * Determines whether data beginning with the specified bytes is a DCC file.  Only the signature byte
+     * <code>0x74</code> is checked; a version other than <code>6</code> is reported as a warning by the decoder rather
+     * than rejected, so it is not checked here either.
+     *
+     * @param header The first bytes of the data.
+     * @return <code>true</code> if the data begins with the DCC signature byte; <code>false</code> otherwise.
+     */
+    public boolean matchesSignature(byte[] header)
+    {
+        return (header.length >= 1) && (header[0] == 0x74);
+    }
+
     /**
      * Reads an {@link Animation} from the specified {@link java.io.File}.
      *
@@ -140,6 +245,7 @@ public class DCCCodec extends AnimationCodec
     public Animation decode(byte[] data, RestrictableIndexColorModel palette, ProgressTracker tracker)
             throws ParseException
     {
+        long[] operation = options.getStatistics().startOperation();
         palette = deriveCodecPalette(palette);
 
         RandomAccessByteArrayInputStream rabais = new RandomAccessByteArrayInputStream(data);
@@ -190,12 +296,14 @@ public class DCCCodec extends AnimationCodec
             for (int i = 0; i < directionOffsetTable.length; i++)
             {
                 rabais.seek(directionOffsetTable[i]);
-                animationFrames.addAll(readDCCDirection(rabais, i, frames, palette, warnings));
+                animationFrames.addAll(readDCCDirection(rabais, i, frames, palette, warnings, options.getStatistics()));
                 tracker.incrementProgress(1);
             }
 
             tracker.setProgressCompleted();
-            return new Animation(animationFrames, directions, frames);
+            Animation ret = new Animation(animationFrames, directions, frames);
+            stopOperation("decode", operation, ret, data.length);
+            return ret;
         } catch (IOException ioe)
         {
             // This can't happen unless ByteArrayInputStream throws an IOException
@@ -206,22 +314,25 @@ public class DCCCodec extends AnimationCodec
     /**
      * Reads a single DCC direction from a {@link orioni.jz.io.bit.BitInputStream}.
      *
-     * @param source    The {@link orioni.jz.io.bit.BitInputStream} from which to read.
-     * @param direction The direction number.  Purely for the construction of warning strings.
-     * @param frames    The number of frames which appear in this direction.
-     * @param model     The {@link orioni.jz.awt.image.RestrictableIndexColorModel} for this direction.
-     * @param warnings  A list of warnings to which any warnings generated by this operation should be added.
+     * @param source     The {@link orioni.jz.io.bit.BitInputStream} from which to read.
+     * @param direction  The direction number.  Purely for the construction of warning strings.
+     * @param frames     The number of frames which appear in this direction.
+     * @param model      The {@link orioni.jz.awt.image.RestrictableIndexColorModel} for this direction.
+     * @param warnings   A list of warnings to which any warnings generated by this operation should be added.
+     * @param statistics The {@link CodecStatistics} to which the phases of this operation are reported.
      * @return A list of {@link AnimationFrame}s, one for each direction which was read.
      * @throws IOException    If an I/O error occurs while reading the direction.
      * @throws ParseException If the provided {@link orioni.jz.io.bit.BitInputStream} does not appear to contain a DCC
      *                        direction.
      */
     private static List<AnimationFrame> readDCCDirection(InputStream source, int direction, int frames,
-                                                         RestrictableIndexColorModel model, List<String> warnings)
+                                                         RestrictableIndexColorModel model, List<String> warnings,
+                                                         CodecStatistics statistics)
             throws IOException, ParseException
     {
         try
         {
+            long time = statistics.startTimer();
             byte transparentIndex = (byte) (model.getMostTransparentIndex());
 
             // construct return buffer as an array just as an extra precaution that we don't return the wrong number of
@@ -344,6 +455,13 @@ public class DCCCodec extends AnimationCodec
                 encodingTypeBistreamSize = bis.readBits(20);
                 rawPixelCodesBitstreamSize = bis.readBits(20);
             }
+            if (statistics.isEnabled())
+            {
+                statistics.addCount(COUNTER_DECODE_BITSTREAMS[0], Math.max(equalCellsBitstreamSize, 0));
+                statistics.addCount(COUNTER_DECODE_BITSTREAMS[1], pixelMaskBitstreamSize);
+                statistics.addCount(COUNTER_DECODE_BITSTREAMS[2], Math.max(encodingTypeBistreamSize, 0));
+                statistics.addCount(COUNTER_DECODE_BITSTREAMS[3], Math.max(rawPixelCodesBitstreamSize, 0));
+            }
 
             byte[] pixelValuesMapping = new byte[256];
             int pixelValuesKeyIndex = 0;
@@ -417,7 +535,10 @@ public class DCCCodec extends AnimationCodec
                                 frameHeaders[frame].getYOffset() + frameHeaders[frame].getHeight());
             }
 
+            statistics.stopTimer(PHASE_DECODE_HEADERS, time);
+
             // ********** PHASE 1: DECODE PALETTES **********
+            time = statistics.startTimer();
             int frameBufferWidth = frameBufferMaxX - frameBufferMinX;
             int frameBufferHeight = frameBufferMaxY - frameBufferMinY;
             DCCFrameBufferPalette[][][] frameBufferCellPalettes =
@@ -518,7 +639,10 @@ public class DCCCodec extends AnimationCodec
                 }
             }
 
+            statistics.stopTimer(PHASE_DECODE_PALETTES, time);
+
             // ********** PHASE 2: DECODE FRAMES **********
+            time = statistics.startTimer();
             byte[][] pixelData = new byte[frameBufferHeight][frameBufferWidth];
             //noinspection MismatchedReadAndWriteOfArray
             DCCFrameBufferCell[][] frameBufferCells =
@@ -603,38 +727,27 @@ public class DCCCodec extends AnimationCodec
                     }
                 }
 
-                // Frame decode complete... copy and store the image.
+                // Frame decode complete... copy and store the image.  The palette indices are kept as they are.
                 BufferedImage image = new BufferedImage(
                         Math.max(1, frameHeaders[frame].getWidth()),
                         Math.max(1, frameHeaders[frame].getHeight()),
-                        BufferedImage.TYPE_INT_ARGB);
+                        BufferedImage.TYPE_BYTE_INDEXED, model);
+                byte[] imageData = ((DataBufferByte) (image.getRaster().getDataBuffer())).getData();
+                Arrays.fill(imageData, transparentIndex);
+                int frameBufferRelX = frameHeaders[frame].getXOffset() - frameBufferMinX;
+                int frameBufferRelY;
                 if (frameHeaders[frame].isBottomUp())
                 {
-                    for (int y = 0; y < frameHeaders[frame].getHeight(); y++)
-                    {
-                        for (int x = 0; x < frameHeaders[frame].getWidth(); x++)
-                        {
-                            int frameBufferRelX = frameHeaders[frame].getXOffset() - frameBufferMinX;
-                            int frameBufferRelY = frameBufferHeight -
-                                                  (frameHeaders[frame].getYOffset() - frameBufferMinY) - 1;
-                            image.setRGB(
-                                    x, y,
-                                    model.getRGB(pixelData[frameBufferRelY + y][frameBufferRelX + x] & 0xFF));
-                        }
-                    }
+                    frameBufferRelY = frameBufferHeight - (frameHeaders[frame].getYOffset() - frameBufferMinY) - 1;
                 } else
                 {
-                    for (int y = 0; y < frameHeaders[frame].getHeight(); y++)
-                    {
-                        for (int x = 0; x < frameHeaders[frame].getWidth(); x++)
-                        {
-                            int frameBufferRelX = frameHeaders[frame].getXOffset() - frameBufferMinX;
-                            int frameBufferRelY = frameHeaders[frame].getYOffset() - frameBufferMinY;
-                            image.setRGB(
-                                    x, y,
-                                    model.getRGB(pixelData[frameBufferRelY + y][frameBufferRelX + x] & 0xFF));
-                        }
-                    }
+                    frameBufferRelY = frameHeaders[frame].getYOffset() - frameBufferMinY;
+                }
+                for (int y = 0; y < frameHeaders[frame].getHeight(); y++)
+                {
+                    System.arraycopy(
+                            pixelData[frameBufferRelY + y], frameBufferRelX, imageData, y * image.getWidth(),
+                            frameHeaders[frame].getWidth());
                 }
 
                 // TODO: add some kind of configuration option for whether or not SixDice respects bottom-up Y-offsets
@@ -646,6 +759,7 @@ public class DCCCodec extends AnimationCodec
                     ret[frame].setOptionalData(frameHeaders[frame].getOptionalData());
                 }
             }
+            statistics.stopTimer(PHASE_DECODE_PIXELS, time);
 
             return Arrays.asList(ret);
         } catch (EOFException eofe)
@@ -664,62 +778,82 @@ public class DCCCodec extends AnimationCodec
      * @param tracker   The {@link ProgressTracker} which tracks the progress of this operation.
      * @return The encoded DCC data.
      */
-    public byte[] encode(Animation animation, RestrictableIndexColorModel palette, ProgressTracker tracker)
+    public byte[] encode(final Animation animation, RestrictableIndexColorModel palette, ProgressTracker tracker)
     {
+        final CodecStatistics statistics = options.getStatistics();
+        long[] operation = statistics.startOperation();
         ByteArrayOutputStream encodingBuffer = new ByteArrayOutputStream();
 
-        palette = deriveCodecPalette(palette);
+        final RestrictableIndexColorModel codecPalette = deriveCodecPalette(palette);
 
         // buffer the OutSizeCoded value for each frame, since it's such a weighty calculation
-        int[] outSizeCodedValues = new int[animation.getDirectionCount()];
-        int[][] codedFrameValues = new int[animation.getDirectionCount()][animation.getFrameCount()];
+        final int[] outSizeCodedValues = new int[animation.getDirectionCount()];
+        final int[][] codedFrameValues = new int[animation.getDirectionCount()][animation.getFrameCount()];
         int totalSizeCoded = 24 + 4 * animation.getDirectionCount() * animation.getFrameCount();
+        long time = statistics.startTimer();
         for (int d = 0; d < codedFrameValues.length; d++)
         {
             int outSizeCoded = 0;
             for (int f = 0; f < codedFrameValues[d].length; f++)
             {
                 // TODO: replace this routine with an estimation?
-                codedFrameValues[d][f] = DC6Codec.encodeFrame(animation, d, f, palette).length;
+                codedFrameValues[d][f] = DC6Codec.encodeFrame(animation, d, f, codecPalette).length;
                 outSizeCoded += codedFrameValues[d][f];
             }
             outSizeCoded += 35 * animation.getFrameCount();
             outSizeCodedValues[d] = outSizeCoded;
             totalSizeCoded += outSizeCoded;
         }
+        statistics.stopTimer(PHASE_ENCODE_SIZING, time);
 
         // DEBUG: The following statement describes the TotalSizeCoded of the DCC being written.
         //System.err.println("Writing DCC with TotalSizeCoded value of " + total_size_coded);
 
+        // Encode the directions, in parallel if the options allow it.  Each task uses its own progress tracker; the
+        // shared tracker is advanced in the calling thread as the results are collected.
+        final int trials = (options.getEffort() == CodecOptions.Effort.FAST) ? 1 : PHASE_ENCODE_TRIALS.length;
         byte[][] encodedDirectionData = new byte[animation.getDirectionCount()][];
-        for (int i = 0; i < animation.getDirectionCount(); i++)
+        int threads = Math.min(options.getParallelism(), animation.getDirectionCount());
+        if (threads > 1)
         {
-            encodedDirectionData[i] = encodeDirection(
-                    animation, i, true, true, outSizeCodedValues[i], codedFrameValues[i], palette,
-                    tracker.getSubtrackerByPercentage(25));
-
-            byte[] temp = encodeDirection(
-                    animation, i, true, false, outSizeCodedValues[i], codedFrameValues[i], palette,
-                    tracker.getSubtrackerByPercentage(25));
-            if (temp.length < encodedDirectionData[i].length)
+            List<Callable<byte[]>> tasks = new ArrayList<Callable<byte[]>>();
+            for (int i = 0; i < animation.getDirectionCount(); i++)
             {
-                encodedDirectionData[i] = temp;
+                final int direction = i;
+                tasks.add(
+                        new Callable<byte[]>()
+                        {
+                            public byte[] call()
+                            {
+                                return encodeSmallestDirection(
+                                        animation, direction, trials, outSizeCodedValues[direction],
+                                        codedFrameValues[direction], codecPalette, new ProgressTracker(), statistics);
+                            }
+                        });
             }
-
-            temp = encodeDirection(
-                    animation, i, false, true, outSizeCodedValues[i], codedFrameValues[i], palette,
-                    tracker.getSubtrackerByPercentage(25));
-            if (temp.length < encodedDirectionData[i].length)
+            ExecutorService executor = WorkerPool.createExecutor("DCC Encoder", threads);
+            try
+            {
+                encodedDirectionData = WorkerPool.invokeAll(executor, tasks).toArray(encodedDirectionData);
+            } catch (ExecutionException e)
             {
-                encodedDirectionData[i] = temp;
+                // encodeSmallestDirection throws no checked exceptions
+                throw new IllegalStateException("DCC direction encoding failed.", e.getCause());
+            } finally
+            {
+                executor.shutdown();
             }
-
-            temp = encodeDirection(
-                    animation, i, false, false, outSizeCodedValues[i], codedFrameValues[i], palette,
-                    tracker.getSubtrackerByPercentage(25));
-            if (temp.length < encodedDirectionData[i].length)
+            for (int i = 0; i < animation.getDirectionCount() * trials; i++)
             {
-                encodedDirectionData[i] = temp;
+                tracker.getSubtrackerByPercentage(25).setProgressCompleted();
+            }
+        } else
+        {
+            for (int i = 0; i < animation.getDirectionCount(); i++)
+            {
+                encodedDirectionData[i] = encodeSmallestDirection(
+                        animation, i, trials, outSizeCodedValues[i], codedFrameValues[i], codecPalette, tracker,
+                        statistics);
             }
         }
 
@@ -756,7 +890,55 @@ public class DCCCodec extends AnimationCodec
             throw new IllegalStateException("ByteArrayOutputStream threw an IOException!", ioe);
         }
         tracker.setProgressCompleted();
-        return encodingBuffer.toByteArray();
+        byte[] ret = encodingBuffer.toByteArray();
+        stopOperation("encode", operation, animation, ret.length);
+        return ret;
+    }
+
+    /**
+     * Encodes the specified direction of the provided {@link Animation} object with each of the first
+     * <code>trials</code> combinations of compression flags and keeps the smallest result.  The trials are made in the
+     * order of {@link DCCCodec#PHASE_ENCODE_TRIALS}; the first of equally small results is kept.
+     *
+     * @param animation       The {@link Animation} with the direction to encode.
+     * @param direction       The index of the direction to encode.
+     * @param trials          The number of combinations of compression flags to try.
+     * @param outSizeCoded    The OutSizeCoded value for this direction.
+     * @param codedFrameSizes The coded frame sizes for this direction.
+     * @param palette         The palette in which to encode the direction.
+     * @param tracker         The {@link ProgressTracker} which tracks the progress of this operation.  A quarter of it
+     *                        is used by each trial.
+     * @param statistics      The {@link CodecStatistics} to which the trials are reported.
+     * @return The smallest DCC encoding of the direction.
+     */
+    private byte[] encodeSmallestDirection(Animation animation, int direction, int trials, int outSizeCoded,
+                                           int[] codedFrameSizes, RestrictableIndexColorModel palette,
+                                           ProgressTracker tracker, CodecStatistics statistics)
+    {
+        byte[] ret = null;
+        long[] bitstreamBits = (statistics.isEnabled()) ? new long[COUNTER_ENCODE_BITSTREAMS.length] : null;
+        long[] chosenBitstreamBits = null;
+        for (int trial = 0; trial < trials; trial++)
+        {
+            long time = statistics.startTimer();
+            byte[] temp = encodeDirection(
+                    animation, direction, trial < 2, trial % 2 == 0, outSizeCoded, codedFrameSizes, palette,
+                    tracker.getSubtrackerByPercentage(25), bitstreamBits);
+            statistics.stopTimer(PHASE_ENCODE_TRIALS[trial], time);
+            if ((ret == null) || (temp.length < ret.length))
+            {
+                ret = temp;
+                if (bitstreamBits != null) chosenBitstreamBits = bitstreamBits.clone();
+            }
+        }
+        if (chosenBitstreamBits != null)
+        {
+            for (int j = 0; j < chosenBitstreamBits.length; j++)
+            {
+                statistics.addCount(COUNTER_ENCODE_BITSTREAMS[j], chosenBitstreamBits[j]);
+            }
+        }
+        return ret;
     }
 
     /**
@@ -777,12 +959,17 @@ public class DCCCodec extends AnimationCodec
      * @param codedFrameSizes  The coded frame sizes for this direction.    This value is passed as a parameter to avoid
      *                         determining the sizes more than once for each direction, as this is a costly operation.
      * @param tracker          The {@link ProgressTracker} which tracks the progress of this encoding sequence.
+     * @param bitstreamBits    An array into which the number of bits written to each bitstream is stored, in the
+     *                         order of {@link DCCCodec#COUNTER_ENCODE_BITSTREAMS}, or <code>null</code> if the sizes
+     *                         are not needed.
      * @return The DCC-encoded data.
      */
     private byte[] encodeDirection(Animation animation, int direction, boolean compressionFlagA,
                                    boolean compressionFlagB, int outSizeCoded, int[] codedFrameSizes,
-                                   RestrictableIndexColorModel animationPalette, ProgressTracker tracker)
+                                   RestrictableIndexColorModel animationPalette, ProgressTracker tracker,
+                                   long[] bitstreamBits)
     {
+        CodecStatistics statistics = options.getStatistics();
         ProgressTracker ditherTracker = tracker.getSubtrackerByPercentage(0, animation.getFrameCount(), 50);
         ProgressTracker encodeTracker = tracker.getSubtrackerByPercentage(0, animation.getFrameCount(), 50);
         // TODO: move or remove these compression-disabling statements
@@ -915,9 +1102,9 @@ public class DCCCodec extends AnimationCodec
             DCCFrameBufferPalette[][][] framePalettes =
                     new DCCFrameBufferPalette[animation.getFrameCount()]
                             [(frameBufferHeight + 3) / 4][(frameBufferWidth + 3) / 4];
-            BufferedImage[][][] frameSlices =
-                    new BufferedImage[animation.getFrameCount()]
-                            [(frameBufferHeight + 3) / 4][(frameBufferWidth + 3) / 4];
+            byte[][] framePixels = new byte[animation.getFrameCount()][];
+            int[][][] frameCellOffsets =
+                    new int[animation.getFrameCount()][(frameBufferHeight + 3) / 4][(frameBufferWidth + 3) / 4];
 
             for (DCCFrameBufferCell[] arr : frameBufferCells)
             {
@@ -940,11 +1127,27 @@ public class DCCCodec extends AnimationCodec
                     rgbModelReverseMapping.put(rgb, (byte) i);
                 }
             }
+            // The sample value written for each palette index: the first valid index with the same color
+            byte[] sampleValues = new byte[256];
+            Arrays.fill(sampleValues, (byte) transparentIndex);
+            for (int i = 0; i < animationPalette.getMapSize(); i++)
+            {
+                if (animationPalette.isValid(i))
+                {
+                    sampleValues[i] = rgbModelReverseMapping.get(animationPalette.getRGB(i));
+                }
+            }
+            int transparentRGB = transparentColor.getRGB();
 
             // Note that the encoding process does not need to be multiphase
             // ********** PERFORM ENCODING PROCESS **********
-            // First, dither the frames
+            // First, dither the frames.  Frames are carried as arrays of sample values; only cells with more than
+            // four distinct values are dithered, which requires their colors.
+            long time = statistics.startTimer();
             BitMap pixelValuesKey = new BitMap(256);
+            PixelKernels kernels = PixelKernels.getInstance();
+            PaletteLookupTable table = PaletteLookupTable.getInstance(animationPalette);
+            byte[] cellValues = new byte[4];
             for (int frameIndex = 0; frameIndex < animation.getFrameCount(); frameIndex++)
             {
                 AnimationFrame frame = animation.getFrame(direction, frameIndex);
@@ -952,7 +1155,10 @@ public class DCCCodec extends AnimationCodec
                         new DCCFrameCellContext(frameBufferMinX, frameBufferMinY, frame);
 
                 int yoffset = 0; // used to determine the yoffset in the image of the current cell
-                BufferedImage imageCopy = animationPalette.redraw(frame.getImage());
+                int frameWidth = frame.getImage().getWidth();
+                byte[] pixels = kernels.getIndices(frame.getImage(), table);
+                kernels.remap(pixels, 0, sampleValues, pixels, 0, pixels.length);
+                framePixels[frameIndex] = pixels;
 
                 for (int y = cellContext.getFrameCellTopIndex(); y <= cellContext.getFrameCellBottomIndex(); y++)
                 {
@@ -967,21 +1173,53 @@ public class DCCCodec extends AnimationCodec
                         // Establish frame dimensions and position
                         int frameCellWidth = cellContext.getFrameCellWidth(x);
 
-                        // Establish frame cell image
-                        BufferedImage slice = imageCopy.getSubimage(
-                                xoffset, yoffset, frameCellWidth, frameCellHeight);
-                        frameSlices[frameIndex][y][x] = slice;
+                        // Establish frame cell pixels
+                        int offset = yoffset * frameWidth + xoffset;
+                        frameCellOffsets[frameIndex][y][x] = offset;
 
                         // Establish and write color_set for this frame
-                        Set<Color> colorSet = ImageUtilities.ditherImage(
-                                slice, 4, true, TransparencyCriticizingSampleDifferenceComparator.SINGLETON,
-                                transparentColor);
-                        colorSet.remove(transparentColor);
                         int index = 0;
                         DCCFrameBufferPalette palette = new DCCFrameBufferPalette();
-                        for (Color c : colorSet)
+                        int valueCount = collectSampleValues(
+                                pixels, offset, frameWidth, frameCellWidth, frameCellHeight, cellValues);
+                        if (valueCount <= cellValues.length)
+                        {
+                            // The cell needs no dithering.
+                            for (int i = 0; i < valueCount; i++)
+                            {
+                                if (animationPalette.getRGB(cellValues[i] & 0xFF) != transparentRGB)
+                                {
+                                    palette.setColor(index++, cellValues[i]);
+                                }
+                            }
+                        } else
                         {
-                            palette.setColor(index++, colorModelReverseMapping.get(c));
+                            BufferedImage slice = new BufferedImage(
+                                    frameCellWidth, frameCellHeight, BufferedImage.TYPE_BYTE_INDEXED,
+                                    animationPalette);
+                            byte[] sliceData = ((DataBufferByte) (slice.getRaster().getDataBuffer())).getData();
+                            for (int yidx = 0; yidx < frameCellHeight; yidx++)
+                            {
+                                System.arraycopy(
+                                        pixels, offset + yidx * frameWidth, sliceData, yidx * frameCellWidth,
+                                        frameCellWidth);
+                            }
+                            Set<Color> colorSet = ImageUtilities.ditherImage(
+                                    slice, 4, true, TransparencyCriticizingSampleDifferenceComparator.SINGLETON,
+                                    transparentColor);
+                            colorSet.remove(transparentColor);
+                            for (Color c : colorSet)
+                            {
+                                palette.setColor(index++, colorModelReverseMapping.get(c));
+                            }
+                            for (int yidx = 0; yidx < frameCellHeight; yidx++)
+                            {
+                                for (int xidx = 0; xidx < frameCellWidth; xidx++)
+                                {
+                                    pixels[offset + yidx * frameWidth + xidx] =
+                                            rgbModelReverseMapping.get(slice.getRGB(xidx, yidx));
+                                }
+                            }
                         }
                         while (index < 4)
                         {
@@ -1003,6 +1241,7 @@ public class DCCCodec extends AnimationCodec
 
                 ditherTracker.incrementProgress(1);
             }
+            statistics.stopTimer(PHASE_ENCODE_DITHERING, time);
 
             // Maps the pixel values (sample values in the IndexColorModel) to pixel codes (see pixel_values_key)
             Map<Byte, Integer> pixelCodesMapping = new HashMap<Byte, Integer>();
@@ -1016,6 +1255,8 @@ public class DCCCodec extends AnimationCodec
             }
 
             // Now encode frames
+            time = statistics.startTimer();
+            long equalCellNanos = 0;
             for (int frameIndex = 0; frameIndex < animation.getFrameCount(); frameIndex++)
             {
                 AnimationFrame frame = animation.getFrame(direction, frameIndex);
@@ -1036,10 +1277,13 @@ public class DCCCodec extends AnimationCodec
                         int frameCellXOffset = cellContext.getFrameCellXOffset(x);
 
                         // BEGIN ACTUAL ENCODE AND WRITE PROCESS
-                        BufferedImage slice = frameSlices[frameIndex][y][x];
+                        byte[] pixels = framePixels[frameIndex];
+                        int frameWidth = frame.getImage().getWidth();
+                        int offset = frameCellOffsets[frameIndex][y][x];
                         DCCFrameBufferPalette palette = framePalettes[frameIndex][y][x];
 
                         // WRITE STEP 1: EVALUATE EQUAL CELLS BITSTREAM
+                        long equalCellTime = statistics.startTimer();
                         boolean cellIdentical = false;
                         if ((compressionFlagA) && (previouslyEncodedFrame[y][x]))
                         {
@@ -1056,7 +1300,7 @@ public class DCCCodec extends AnimationCodec
                                 {
                                     for (int xidx = 0; xidx < frameCellWidth; xidx++)
                                     {
-                                        if (rgbModelReverseMapping.get(slice.getRGB(xidx, yidx)) !=
+                                        if (pixels[offset + yidx * frameWidth + xidx] !=
                                             frameBufferPixels[y * 4 + yidx][x * 4 + xidx])
                                         {
                                             cellIdentical = false;
@@ -1082,8 +1326,7 @@ public class DCCCodec extends AnimationCodec
                                     {
                                         for (int xidx = 0; xidx < frameCellWidth; xidx++)
                                         {
-                                            if (rgbModelReverseMapping.get(slice.getRGB(xidx, yidx)) !=
-                                                transparentIndex)
+                                            if (pixels[offset + yidx * frameWidth + xidx] != transparentIndex)
                                             {
                                                 cellIdentical = false;
                                                 break;
@@ -1109,6 +1352,7 @@ public class DCCCodec extends AnimationCodec
                                 }
                             }
                         }
+                        if (statistics.isEnabled()) equalCellNanos += System.nanoTime() - equalCellTime;
 
                         if (cellIdentical)
                         {
@@ -1220,11 +1464,11 @@ public class DCCCodec extends AnimationCodec
                             frameBufferPaletteBuffer[y][x] = palette;
 
                             // WRITE STEP 4: ENCODE AND WRITE PIXEL CODES FOR SLICE
-                            for (int yidx = 0; yidx < slice.getHeight(); yidx++)
+                            for (int yidx = 0; yidx < frameCellHeight; yidx++)
                             {
-                                for (int xidx = 0; xidx < slice.getWidth(); xidx++)
+                                for (int xidx = 0; xidx < frameCellWidth; xidx++)
                                 {
-                                    byte sampleValue = rgbModelReverseMapping.get(slice.getRGB(xidx, yidx));
+                                    byte sampleValue = pixels[offset + yidx * frameWidth + xidx];
                                     pixelCodesBitstream.writeBits(
                                             palette.findSampleValue(sampleValue), palette.getColorBits());
                                     frameBufferPixels[y * 4 + frameCellYOffset + yidx]
@@ -1246,7 +1490,20 @@ public class DCCCodec extends AnimationCodec
 
                 encodeTracker.incrementProgress(1);
             }
+            statistics.stopTimer(PHASE_ENCODE_CELLS, time);
+            if (compressionFlagA) statistics.addTime(PHASE_ENCODE_EQUAL_CELLS, equalCellNanos);
+
+            if (bitstreamBits != null)
+            {
+                bitstreamBits[0] = (compressionFlagA) ? equalCellsBitstream.bitsWritten() : 0;
+                bitstreamBits[1] = pixelMaskBitstream.bitsWritten();
+                bitstreamBits[2] = (compressionFlagB) ? encodingTypeBitstream.bitsWritten() : 0;
+                bitstreamBits[3] = (compressionFlagB) ? rawPixelCodesBitstream.bitsWritten() : 0;
+                bitstreamBits[4] = displacementBitstream.bitsWritten();
+                bitstreamBits[5] = pixelCodesBitstream.bitsWritten();
+            }
 
+            time = statistics.startTimer();
             if (compressionFlagA) bos.writeBits(equalCellsBitstream.bitsWritten(), 20);
             bos.writeBits(pixelMaskBitstream.bitsWritten(), 20);
             if (compressionFlagB)
@@ -1283,6 +1540,7 @@ public class DCCCodec extends AnimationCodec
                     pixelCodesBitstream.bitsWritten());
 
             bos.close();
+            statistics.stopTimer(PHASE_ENCODE_BITSTREAMS, time);
 
             return baos.toByteArray();
         } catch (IOException e)
@@ -1292,6 +1550,39 @@ public class DCCCodec extends AnimationCodec
         }
     }
 
+    /**
+     * Collects the distinct sample values of a frame cell.
+     *
+     * @param pixels   The sample values of the frame, in row-major order.
+     * @param offset   The index in <code>pixels</code> of the top left pixel of the cell.
+     * @param scansize The width of the frame.
+     * @param width    The width of the cell.
+     * @param height   The height of the cell.
+     * @param values   The array into which the distinct values are stored, in the order in which they appear.
+     * @return The number of distinct values in the cell, or <code>values.length + 1</code> if there are more than will
+     *         fit in <code>values</code>.
+     */
+    private static int collectSampleValues(byte[] pixels, int offset, int scansize, int width, int height,
+                                           byte[] values)
+    {
+        int count = 0;
+        for (int y = 0; y < height; y++)
+        {
+            for (int x = 0; x < width; x++)
+            {
+                byte value = pixels[offset + y * scansize + x];
+                int i = 0;
+                while ((i < count) && (values[i] != value)) i++;
+                if (i == count)
+                {
+                    if (count == values.length) return count + 1;
+                    values[count++] = value;
+                }
+            }
+        }
+        return count;
+    }
+
     /**
      * Gets the bit code representing the number of bits necessary to represent the provided value.
      *
@@ -0,0 +1,604 @@
+package orioni.sixdice;
+
+import orioni.jz.awt.image.RestrictableIndexColorModel;
+import orioni.jz.common.exception.ParseException;
+import orioni.jz.io.files.FileUtilities;
+import orioni.jz.util.ProgressTracker;
+
+import java.awt.image.*;
+import java.io.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.List;
+
+/**
+ * This class is designed to cache decoded {@link Animation}s so that repeated loads of the same content do not decode
+ * it again.  Entries are keyed by the content of the file, the codec, the palette and the codec's transparent index;
+ * renaming or touching a file therefore does not invalidate its entry, but changing its content does.
+ * <p/>
+ * The cache has two tiers.  The memory tier holds decoded {@link Animation}s in least-recently-used order and is bounded
+ * by the estimated size of the images it holds.  The optional disk tier stores the indices of {@link Animation}s whose
+ * frames are all indexed in the codec's palette; {@link Animation}s with other frames (such as those decoded by codecs
+ * which carry their own palettes) are only cached in memory.
+ * <p/>
+ * {@link Animation}s are mutable, so the cache never hands out the instances it holds: every load returns a deep copy.
+ * This class is thread-safe and may be shared by several {@link SixDiceCore}s.
+ *
+ * @author Zachary Palmer
+ */
+public class DecodeCache
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * The default bound of the memory tier, in bytes.
+     */
+    public static final long DEFAULT_MEMORY_LIMIT = 64L * 1024 * 1024;
+
+    /**
+     * The suffix of the files in the disk tier.
+     */
+    public static final String DISK_FILE_SUFFIX = ".sdc";
+
+    /**
+     * The first four bytes of each file in the disk tier.
+     */
+    protected static final int DISK_FILE_MAGIC = 0x53444331; // "SDC1"
+
+    /**
+     * The estimated overhead of each cached frame beyond its pixel data, in bytes.
+     */
+    protected static final int FRAME_OVERHEAD = 128;
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+    /**
+     * The memory tier, in least-recently-used order.
+     */
+    protected LinkedHashMap<String, Animation> memory;
+    /**
+     * The estimated sizes of the entries in the memory tier.
+     */
+    protected Map<String, Long> sizes;
+    /**
+     * The estimated size of the memory tier.
+     */
+    protected long memorySize;
+    /**
+     * The bound of the memory tier, in bytes.
+     */
+    protected long memoryLimit;
+    /**
+     * The directory of the disk tier, or <code>null</code> if there is no disk tier.
+     */
+    protected File diskDirectory;
+    /**
+     * The keys of the disk tier entries currently being written.
+     */
+    protected Set<String> pendingWrites;
+    /**
+     * The number of loads satisfied by the cache.
+     */
+    protected long hits;
+    /**
+     * The number of loads which required decoding.
+     */
+    protected long misses;
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * Memory-only constructor.
+     *
+     * @param memoryLimit The bound of the memory tier, in bytes.
+     */
+    public DecodeCache(long memoryLimit)
+    {
+        this(memoryLimit, null);
+    }
+
+    /**
+     * General constructor.
+     *
+     * @param memoryLimit   The bound of the memory tier, in bytes.
+     * @param diskDirectory The directory of the disk tier, or <code>null</code> for no disk tier.  The directory is
+     *                      created if it does not exist.
+     */
+    public DecodeCache(long memoryLimit, File diskDirectory)
+    {
+        super();
+        memory = new LinkedHashMap<String, Animation>(16, 0.75f, true);
+        sizes = new HashMap<String, Long>();
+        memorySize = 0;
+        this.memoryLimit = memoryLimit;
+        this.diskDirectory = diskDirectory;
+        if (diskDirectory != null) diskDirectory.mkdirs();
+        pendingWrites = new HashSet<String>();
+        hits = 0;
+        misses = 0;
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Reads an {@link Animation} from the specified {@link File} using the provided codec, consulting the cache first.
+     * The result is equivalent to that of {@link AnimationCodec#read(File, RestrictableIndexColorModel,
+     * ProgressTracker)}.
+     *
+     * @param codec   The {@link AnimationCodec} with which to decode the file.
+     * @param file    The {@link File} from which to read the {@link Animation}.
+     * @param palette The palette in which to render the image, or <code>null</code> to use the palette stored in the
+     *                file.
+     * @param tracker The {@link ProgressTracker} which will track the progress of the loading operation, or
+     *                <code>null</code> if no {@link ProgressTracker} is desired.
+     * @return The {@link Animation} which was read.  The caller may modify it freely.
+     * @throws ParseException If the provided {@link File} cannot be read by the codec.
+     * @throws IOException    If an I/O error occurs while attempting to read the file.
+     */
+    public Animation read(AnimationCodec codec, File file, RestrictableIndexColorModel palette,
+                          ProgressTracker tracker)
+            throws ParseException, IOException
+    {
+        return decode(codec, FileUtilities.getFileContents(file), file.getPath(), palette, tracker);
+    }
+
+    /**
+     * Decodes an {@link Animation} from the provided data using the provided codec, consulting the cache first.  The
+     * result is equivalent to that of {@link AnimationCodec#decode(byte[], RestrictableIndexColorModel,
+     * ProgressTracker)}.
+     *
+     * @param codec   The {@link AnimationCodec} with which to decode the data.
+     * @param data    The contents of the file to decode.
+     * @param palette The palette in which to render the image, or <code>null</code> to use the palette stored in the
+     *                data.
+     * @param tracker The {@link ProgressTracker} which will track the progress of the decoding operation, or
+     *                <code>null</code> if no {@link ProgressTracker} is desired.
+     * @return The {@link Animation} which was decoded.  The caller may modify it freely.
+     * @throws ParseException If the provided data cannot be decoded by the codec.
+     */
+    public Animation decode(AnimationCodec codec, byte[] data, RestrictableIndexColorModel palette,
+                            ProgressTracker tracker)
+            throws ParseException
+    {
+        return decode(codec, data, null, palette, tracker);
+    }
+
+    /**
+     * Decodes an {@link Animation} from the provided data using the provided codec, consulting the cache first.  The
+     * result is equivalent to that of {@link AnimationCodec#decode(byte[], String, RestrictableIndexColorModel,
+     * ProgressTracker)}.  Each lookup is reported to the {@link EventRecorder}.
+     *
+     * @param codec   The {@link AnimationCodec} with which to decode the data.
+     * @param data    The contents of the file to decode.
+     * @param source  The name of the file from which the data was read, or <code>null</code> if it is not known.
+     * @param palette The palette in which to render the image, or <code>null</code> to use the palette stored in the
+     *                data.
+     * @param tracker The {@link ProgressTracker} which will track the progress of the decoding operation, or
+     *                <code>null</code> if no {@link ProgressTracker} is desired.
+     * @return The {@link Animation} which was decoded.  The caller may modify it freely.
+     * @throws ParseException If the provided data cannot be decoded by the codec.
+     */
+    public Animation decode(AnimationCodec codec, byte[] data, String source, RestrictableIndexColorModel palette,
+                            ProgressTracker tracker)
+            throws ParseException
+    {
+        if (tracker == null) tracker = new ProgressTracker(0, 1);
+        String key = createKey(data, codec, palette);
+
+        EventRecorder recorder = EventRecorder.getInstance();
+        Animation cached;
+        synchronized (this)
+        {
+            cached = memory.get(key);
+            if (cached != null) hits++;
+        }
+        if (cached != null)
+        {
+            recorder.cacheLookup(codec, source, data.length, EventRecorder.TIER_MEMORY);
+        } else
+        {
+            cached = readFromDisk(key, codec, palette);
+            if (cached != null)
+            {
+                synchronized (this)
+                {
+                    hits++;
+                }
+                recorder.cacheLookup(codec, source, data.length, EventRecorder.TIER_DISK);
+                store(key, cached);
+            }
+        }
+        if (cached != null)
+        {
+            tracker.setProgressCompleted();
+            return copyAnimation(cached);
+        }
+
+        synchronized (this)
+        {
+            misses++;
+        }
+        recorder.cacheLookup(codec, source, data.length, null);
+        Animation animation = codec.decode(data, source, palette, tracker);
+        cached = copyAnimation(animation);
+        store(key, cached);
+        writeToDisk(key, cached, palette);
+        return animation;
+    }
+
+    /**
+     * Removes all entries from the memory tier.  The disk tier is not affected.
+     */
+    public synchronized void clear()
+    {
+        memory.clear();
+        sizes.clear();
+        memorySize = 0;
+    }
+
+    /**
+     * Retrieves the estimated size of the memory tier.
+     *
+     * @return The estimated size of the memory tier, in bytes.
+     */
+    public synchronized long getMemorySize()
+    {
+        return memorySize;
+    }
+
+    /**
+     * Retrieves the number of loads which were satisfied by this cache.
+     *
+     * @return The number of cache hits.
+     */
+    public synchronized long getHitCount()
+    {
+        return hits;
+    }
+
+    /**
+     * Retrieves the number of loads which required the file to be decoded.
+     *
+     * @return The number of cache misses.
+     */
+    public synchronized long getMissCount()
+    {
+        return misses;
+    }
+
+    /**
+     * Places an {@link Animation} in the memory tier, evicting the least recently used entries as necessary.  An
+     * {@link Animation} which is larger than the entire memory tier is not stored.
+     *
+     * @param key       The key of the entry.
+     * @param animation The {@link Animation} to store.  This instance must not be handed out.
+     */
+    protected synchronized void store(String key, Animation animation)
+    {
+        long size = estimateSize(animation);
+        if (size > memoryLimit) return;
+        Long previous = sizes.remove(key);
+        if (previous != null)
+        {
+            memory.remove(key);
+            memorySize -= previous;
+        }
+        Iterator<Map.Entry<String, Animation>> it = memory.entrySet().iterator();
+        while ((memorySize + size > memoryLimit) && (it.hasNext()))
+        {
+            String evicted = it.next().getKey();
+            it.remove();
+            memorySize -= sizes.remove(evicted);
+        }
+        memory.put(key, animation);
+        sizes.put(key, size);
+        memorySize += size;
+    }
+
+    /**
+     * Reads an entry from the disk tier.
+     *
+     * @param key     The key of the entry.
+     * @param codec   The codec which decoded the entry.
+     * @param palette The palette in which the entry was decoded.
+     * @return The {@link Animation} stored in the entry, or <code>null</code> if there is no such entry or it could
+     *         not be read.  An entry which cannot be read is deleted.
+     */
+    protected Animation readFromDisk(String key, AnimationCodec codec, RestrictableIndexColorModel palette)
+    {
+        if ((diskDirectory == null) || (palette == null)) return null;
+        File file = new File(diskDirectory, key + DISK_FILE_SUFFIX);
+        if (!file.isFile()) return null;
+        try
+        {
+            // Every size is checked against the bytes remaining, so a damaged or foreign file cannot demand more.
+            DataInputStream dis = new DataInputStream(new ByteArrayInputStream(FileUtilities.getFileContents(file)));
+            if (dis.readInt() != DISK_FILE_MAGIC) throw new IOException("Not a decode cache entry.");
+            // The frames were decoded in the codec's palette; the key guarantees the same palette is derived here.
+            IndexColorModel model = codec.deriveCodecPalette(palette);
+            int directions = dis.readInt();
+            int frames = dis.readInt();
+            if ((directions < 1) || (frames < 1)) throw new IOException("Invalid dimensions.");
+            // Each frame occupies at least its four sizes and the length of its optional data.
+            checkSize(dis, (long) (directions) * frames * 20);
+            byte[] optionalData = readBytes(dis);
+            List<String> warnings = new ArrayList<String>();
+            int warningCount = dis.readInt();
+            // Each warning occupies at least its two-byte length.
+            checkSize(dis, (long) (warningCount) * 2);
+            for (int i = 0; i < warningCount; i++) warnings.add(dis.readUTF());
+            List<AnimationFrame> frameList = new ArrayList<AnimationFrame>();
+            for (int i = 0; i < directions * frames; i++)
+            {
+                int xOffset = dis.readInt();
+                int yOffset = dis.readInt();
+                int width = dis.readInt();
+                int height = dis.readInt();
+                if ((width < 1) || (height < 1)) throw new IOException("Invalid frame size.");
+                byte[] frameOptionalData = readBytes(dis);
+                checkSize(dis, (long) (width) * height);
+                BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_INDEXED, model);
+                dis.readFully(((DataBufferByte) (image.getRaster().getDataBuffer())).getData());
+                AnimationFrame frame = new AnimationFrame(image, xOffset, yOffset);
+                if (frameOptionalData != null) frame.setOptionalData(frameOptionalData);
+                frameList.add(frame);
+            }
+            Animation animation = new Animation(frameList, directions, frames, warnings);
+            animation.setOptionalData(optionalData);
+            return animation;
+        } catch (IOException e)
+        {
+            // A damaged entry is treated as a miss and rewritten.
+            file.delete();
+            return null;
+        } catch (RuntimeException e)
+        {
+            // Sizes which pass the checks may still be inconsistent with each other.
+            file.delete();
+            return null;
+        }
+    }
+
+    /**
+     * Writes an entry to the disk tier if the {@link Animation}'s frames are all indexed.
+     *
+     * @param key       The key of the entry.
+     * @param animation The {@link Animation} to write.
+     * @param palette   The palette in which the {@link Animation} was decoded.
+     */
+    protected void writeToDisk(String key, Animation animation, RestrictableIndexColorModel palette)
+    {
+        if ((diskDirectory == null) || (palette == null)) return;
+        for (AnimationFrame frame : animation.getFrames())
+        {
+            if (!isIndexed(frame.getImage())) return;
+        }
+        synchronized (this)
+        {
+            if (!pendingWrites.add(key)) return;
+        }
+        try
+        {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            DataOutputStream dos = new DataOutputStream(baos);
+            dos.writeInt(DISK_FILE_MAGIC);
+            dos.writeInt(animation.getDirectionCount());
+            dos.writeInt(animation.getFrameCount());
+            writeBytes(dos, animation.getOptionalData());
+            String[] warnings = animation.getWarnings();
+            dos.writeInt(warnings.length);
+            for (String warning : warnings) dos.writeUTF(warning);
+            for (AnimationFrame frame : animation.getFrames())
+            {
+                BufferedImage image = frame.getImage();
+                dos.writeInt(frame.getXOffset());
+                dos.writeInt(frame.getYOffset());
+                dos.writeInt(image.getWidth());
+                dos.writeInt(image.getHeight());
+                writeBytes(dos, frame.getOptionalData());
+                byte[] row = new byte[image.getWidth()];
+                for (int y = 0; y < image.getHeight(); y++)
+                {
+                    image.getRaster().getDataElements(0, y, row.length, 1, row);
+                    dos.write(row);
+                }
+            }
+            dos.close();
+            AnimationIO.writeFileAtomically(new File(diskDirectory, key + DISK_FILE_SUFFIX), baos.toByteArray());
+        } catch (IOException e)
+        {
+            // The disk tier is an optimization; failing to write it is not an error.
+        } finally
+        {
+            synchronized (this)
+            {
+                pendingWrites.remove(key);
+            }
+        }
+    }
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates the key under which a decoded {@link Animation} is cached.
+     *
+     * @param data    The content of the file.
+     * @param codec   The codec decoding the file.
+     * @param palette The palette in which the file is decoded, or <code>null</code>.
+     * @return The key for the decoded {@link Animation}.
+     */
+    protected static String createKey(byte[] data, AnimationCodec codec, IndexColorModel palette)
+    {
+        String contentHash;
+        try
+        {
+            byte[] hash = MessageDigest.getInstance("MD5").digest(data);
+            StringBuilder sb = new StringBuilder();
+            for (byte b : hash)
+            {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            contentHash = sb.toString();
+        } catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException("MD5 is not supported by this JRE.", e);
+        }
+        return BatchManifest.digest(
+                contentHash + '\n' + codec.getClass().getName() + '\n' + codec.getTransparentIndex() + '\n' +
+                describePalette(palette));
+    }
+
+    /**
+     * Produces a string which describes every entry of the provided palette.
+     *
+     * @param palette The palette to describe, or <code>null</code>.
+     * @return A description of the palette.
+     */
+    public static String describePalette(IndexColorModel palette)
+    {
+        if (palette == null) return "none";
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < palette.getMapSize(); i++)
+        {
+            sb.append(Integer.toHexString(palette.getRGB(i))).append(',');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Estimates the memory occupied by the provided {@link Animation}.
+     *
+     * @param animation The {@link Animation} to measure.
+     * @return The estimated size of the {@link Animation}, in bytes.
+     */
+    public static long estimateSize(Animation animation)
+    {
+        long ret = 0;
+        for (AnimationFrame frame : animation.getFrames())
+        {
+            DataBuffer buffer = frame.getImage().getRaster().getDataBuffer();
+            ret += (long) (buffer.getSize()) * buffer.getNumBanks() *
+                   DataBuffer.getDataTypeSize(buffer.getDataType()) / 8 + FRAME_OVERHEAD;
+        }
+        return ret;
+    }
+
+    /**
+     * Creates a deep copy of the provided {@link Animation}.  Unlike {@link Animation#Animation(Animation)}, this
+     * preserves the type and color model of each frame image as well as each frame's optional data.
+     *
+     * @param animation The {@link Animation} to copy.
+     * @return The copy.
+     */
+    public static Animation copyAnimation(Animation animation)
+    {
+        List<AnimationFrame> frameList = new ArrayList<AnimationFrame>();
+        for (AnimationFrame frame : animation.getFrames())
+        {
+            AnimationFrame frameCopy =
+                    new AnimationFrame(copyImage(frame.getImage()), frame.getXOffset(), frame.getYOffset());
+            if (frame.getOptionalData() != null) frameCopy.setOptionalData(frame.getOptionalData().clone());
+            frameList.add(frameCopy);
+        }
+        Animation ret = new Animation(
+                frameList, animation.getDirectionCount(), animation.getFrameCount(),
+                new ArrayList<String>(Arrays.asList(animation.getWarnings())));
+        if (animation.getOptionalData() != null) ret.setOptionalData(animation.getOptionalData().clone());
+        return ret;
+    }
+
+    /**
+     * Creates a copy of the provided image with the same type and color model.
+     *
+     * @param image The image to copy.
+     * @return The copy.
+     */
+    protected static BufferedImage copyImage(BufferedImage image)
+    {
+        BufferedImage ret;
+        if (isIndexed(image))
+        {
+            // Constructing from the raster would yield TYPE_CUSTOM for IndexColorModel subclasses.
+            ret = new BufferedImage(
+                    image.getWidth(), image.getHeight(), BufferedImage.TYPE_BYTE_INDEXED,
+                    (IndexColorModel) (image.getColorModel()));
+            ret.setData(image.getRaster());
+        } else
+        {
+            ret = new BufferedImage(
+                    image.getColorModel(), image.copyData(null), image.isAlphaPremultiplied(), null);
+        }
+        return ret;
+    }
+
+    /**
+     * Determines whether or not the provided image stores one 8-bit palette index per pixel.
+     *
+     * @param image The image to test.
+     * @return <code>true</code> if the image is indexed; <code>false</code> otherwise.
+     */
+    protected static boolean isIndexed(BufferedImage image)
+    {
+        return (image.getColorModel() instanceof IndexColorModel) &&
+               (image.getColorModel().getPixelSize() == 8) &&
+               (image.getRaster().getNumBands() == 1) &&
+               (image.getRaster().getTransferType() == DataBuffer.TYPE_BYTE);
+    }
+
+    /**
+     * Writes a possibly <code>null</code> byte array.
+     *
+     * @param dos  The stream to which to write.
+     * @param data The array to write.
+     * @throws IOException If an I/O error occurs.
+     */
+    protected static void writeBytes(DataOutputStream dos, byte[] data)
+            throws IOException
+    {
+        if (data == null)
+        {
+            dos.writeInt(-1);
+        } else
+        {
+            dos.writeInt(data.length);
+            dos.write(data);
+        }
+    }
+
+    /**
+     * Reads a possibly <code>null</code> byte array written by {@link DecodeCache#writeBytes(DataOutputStream,
+     * byte[])}.
+     *
+     * @param dis The stream from which to read.
+     * @return The array which was read.
+     * @throws IOException If an I/O error occurs.
+     */
+    protected static byte[] readBytes(DataInputStream dis)
+            throws IOException
+    {
+        int length = dis.readInt();
+        if (length < 0) return null;
+        checkSize(dis, length);
+        byte[] ret = new byte[length];
+        dis.readFully(ret);
+        return ret;
+    }
+
+    /**
+     * Ensures that a size read from an entry of the disk tier does not exceed the data remaining in the entry.
+     *
+     * @param dis  The {@link DataInputStream} reading the entry, which must read from memory.
+     * @param size The number of bytes which the size requires.
+     * @throws IOException If the size is negative or more bytes are required than remain.
+     */
+    protected static void checkSize(DataInputStream dis, long size)
+            throws IOException
+    {
+        if ((size < 0) || (size > dis.available())) throw new IOException("Size exceeds the remaining data.");
+    }
+}
+
+// END OF FILE
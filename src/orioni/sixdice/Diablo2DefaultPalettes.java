@@ -4,11 +4,21 @@ import orioni.jz.awt.image.ImageUtilities;
 import orioni.jz.awt.image.PaletteDataInterpretation;
 import orioni.jz.awt.image.RestrictableIndexColorModel;
 
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 import java.awt.image.IndexColorModel;
 
 /**
  * This class is designed as a utility class to hold the default palettes for Diablo II.
+ * <p/>
+ * The palette data is stored in the {@link Diablo2DefaultPalettes#RESOURCE_NAME} resource rather than in this class,
+ * and each palette is only created when it is first retrieved from {@link Diablo2DefaultPalettes#PALETTE_MAP}.  Most
+ * conversions use a single palette and therefore never pay for creating the others.  The resource begins with the
+ * bytes <code>D2PL</code> and the number of palettes as an unsigned byte; each palette follows as its name in the
+ * format of {@link DataInputStream#readUTF()}, the length of its data as an unsigned big-endian short and its data as
+ * blue-green-red triples.
  *
  * @author Zachary Palmer
  */
@@ -18,2458 +28,114 @@ public class Diablo2DefaultPalettes
 
 // CONSTANTS /////////////////////////////////////////////////////////////////////
 
-    public static final Map<String, RestrictableIndexColorModel> PALETTE_MAP;
+    /**
+     * The name of the resource containing the palette data.
+     */
+    public static final String RESOURCE_NAME = "/media/Diablo2DefaultPalettes.dat";
+    /**
+     * The bytes with which the palette resource begins.
+     */
+    protected static final byte[] RESOURCE_MAGIC = {'D', '2', 'P', 'L'};
 
-    private static final void performMapCreate1(Map<String,RestrictableIndexColorModel> map)
-    {
-        map.put(
-                "Act 1",
-                new RestrictableIndexColorModel(ImageUtilities.interpretIndexColorModel(
-                        new byte[]{
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x24),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x1C), (byte) (0x10), (byte) (0x24), (byte) (0x2C),
-                            (byte) (0x18), (byte) (0x34), (byte) (0x3C), (byte) (0x00), (byte) (0x00), (byte) (0x5C),
-                            (byte) (0x20), (byte) (0x40), (byte) (0x48), (byte) (0x28), (byte) (0x48), (byte) (0x54),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x90), (byte) (0x10), (byte) (0x48), (byte) (0x8C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0xBC), (byte) (0x20), (byte) (0x84), (byte) (0xD0),
-                            (byte) (0x6C), (byte) (0xC4), (byte) (0xF4), (byte) (0x50), (byte) (0x7C), (byte) (0x8C),
-                            (byte) (0x64), (byte) (0x9C), (byte) (0xAC), (byte) (0x08), (byte) (0x0C), (byte) (0x0C),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x1C),
-                            (byte) (0x1C), (byte) (0x24), (byte) (0x28), (byte) (0x2C), (byte) (0x2C), (byte) (0x2C),
-                            (byte) (0x30), (byte) (0x38), (byte) (0x3C), (byte) (0x38), (byte) (0x38), (byte) (0x38),
-                            (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x50), (byte) (0x58),
-                            (byte) (0x34), (byte) (0x58), (byte) (0x64), (byte) (0x58), (byte) (0x58), (byte) (0x58),
-                            (byte) (0x3C), (byte) (0x64), (byte) (0x74), (byte) (0x64), (byte) (0x64), (byte) (0x64),
-                            (byte) (0x70), (byte) (0x74), (byte) (0x7C), (byte) (0x84), (byte) (0x84), (byte) (0x84),
-                            (byte) (0x94), (byte) (0x98), (byte) (0x9C), (byte) (0xC4), (byte) (0xC4), (byte) (0xC4),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xF4), (byte) (0x04), (byte) (0x04), (byte) (0x08),
-                            (byte) (0x00), (byte) (0x04), (byte) (0x10), (byte) (0x04), (byte) (0x08), (byte) (0x18),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x18), (byte) (0x10), (byte) (0x14), (byte) (0x1C),
-                            (byte) (0x04), (byte) (0x0C), (byte) (0x24), (byte) (0x0C), (byte) (0x18), (byte) (0x20),
-                            (byte) (0x14), (byte) (0x18), (byte) (0x20), (byte) (0x08), (byte) (0x10), (byte) (0x2C),
-                            (byte) (0x10), (byte) (0x1C), (byte) (0x24), (byte) (0x0C), (byte) (0x20), (byte) (0x28),
-                            (byte) (0x04), (byte) (0x08), (byte) (0x38), (byte) (0x10), (byte) (0x1C), (byte) (0x30),
-                            (byte) (0x14), (byte) (0x28), (byte) (0x30), (byte) (0x0C), (byte) (0x14), (byte) (0x40),
-                            (byte) (0x10), (byte) (0x28), (byte) (0x38), (byte) (0x04), (byte) (0x0C), (byte) (0x48),
-                            (byte) (0x1C), (byte) (0x28), (byte) (0x38), (byte) (0x0C), (byte) (0x20), (byte) (0x4C),
-                            (byte) (0x14), (byte) (0x2C), (byte) (0x44), (byte) (0x20), (byte) (0x2C), (byte) (0x40),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x58), (byte) (0x20), (byte) (0x34), (byte) (0x48),
-                            (byte) (0x28), (byte) (0x34), (byte) (0x44), (byte) (0x1C), (byte) (0x28), (byte) (0x54),
-                            (byte) (0x14), (byte) (0x1C), (byte) (0x5C), (byte) (0x08), (byte) (0x24), (byte) (0x5C),
-                            (byte) (0x18), (byte) (0x38), (byte) (0x54), (byte) (0x24), (byte) (0x38), (byte) (0x54),
-                            (byte) (0x10), (byte) (0x18), (byte) (0x6C), (byte) (0x10), (byte) (0x2C), (byte) (0x68),
-                            (byte) (0x24), (byte) (0x44), (byte) (0x5C), (byte) (0x18), (byte) (0x24), (byte) (0x70),
-                            (byte) (0x24), (byte) (0x3C), (byte) (0x68), (byte) (0x0C), (byte) (0x2C), (byte) (0x7C),
-                            (byte) (0x2C), (byte) (0x4C), (byte) (0x64), (byte) (0x08), (byte) (0x48), (byte) (0x70),
-                            (byte) (0x18), (byte) (0x28), (byte) (0x80), (byte) (0x28), (byte) (0x50), (byte) (0x74),
-                            (byte) (0x24), (byte) (0x30), (byte) (0x88), (byte) (0x40), (byte) (0x50), (byte) (0x6C),
-                            (byte) (0x0C), (byte) (0x34), (byte) (0x8C), (byte) (0x68), (byte) (0x20), (byte) (0x70),
-                            (byte) (0x44), (byte) (0x58), (byte) (0x78), (byte) (0x40), (byte) (0x40), (byte) (0x8C),
-                            (byte) (0x30), (byte) (0x5C), (byte) (0x84), (byte) (0x24), (byte) (0x34), (byte) (0x9C),
-                            (byte) (0x18), (byte) (0x28), (byte) (0xA4), (byte) (0x14), (byte) (0x48), (byte) (0xA4),
-                            (byte) (0x40), (byte) (0x64), (byte) (0x8C), (byte) (0x38), (byte) (0x70), (byte) (0x8C),
-                            (byte) (0x50), (byte) (0x68), (byte) (0x8C), (byte) (0x34), (byte) (0x44), (byte) (0xB0),
-                            (byte) (0x20), (byte) (0x4C), (byte) (0xB4), (byte) (0x58), (byte) (0x70), (byte) (0x98),
-                            (byte) (0x40), (byte) (0x78), (byte) (0xA0), (byte) (0x1C), (byte) (0x60), (byte) (0xBC),
-                            (byte) (0x48), (byte) (0x84), (byte) (0x9C), (byte) (0x54), (byte) (0x54), (byte) (0xC4),
-                            (byte) (0x20), (byte) (0x6C), (byte) (0xC8), (byte) (0x58), (byte) (0x7C), (byte) (0xAC),
-                            (byte) (0x48), (byte) (0x88), (byte) (0xB0), (byte) (0x54), (byte) (0x7C), (byte) (0xC8),
-                            (byte) (0x20), (byte) (0x70), (byte) (0xE0), (byte) (0x54), (byte) (0x9C), (byte) (0xB8),
-                            (byte) (0x00), (byte) (0x2C), (byte) (0xFC), (byte) (0x70), (byte) (0x8C), (byte) (0xC0),
-                            (byte) (0x50), (byte) (0x98), (byte) (0xCC), (byte) (0x30), (byte) (0x84), (byte) (0xE4),
-                            (byte) (0x70), (byte) (0x70), (byte) (0xE0), (byte) (0x78), (byte) (0x98), (byte) (0xD0),
-                            (byte) (0x3C), (byte) (0x88), (byte) (0xF8), (byte) (0x38), (byte) (0xA0), (byte) (0xEC),
-                            (byte) (0x64), (byte) (0xB8), (byte) (0xD8), (byte) (0x84), (byte) (0xA4), (byte) (0xE0),
-                            (byte) (0x44), (byte) (0xB4), (byte) (0xF0), (byte) (0x4C), (byte) (0xC0), (byte) (0xF4),
-                            (byte) (0x8C), (byte) (0xB0), (byte) (0xF0), (byte) (0x5C), (byte) (0xD4), (byte) (0xFC),
-                            (byte) (0xB0), (byte) (0xB0), (byte) (0xFC), (byte) (0x10), (byte) (0x24), (byte) (0x04),
-                            (byte) (0x18), (byte) (0x24), (byte) (0x14), (byte) (0x18), (byte) (0x3C), (byte) (0x20),
-                            (byte) (0x0C), (byte) (0x48), (byte) (0x18), (byte) (0x30), (byte) (0x44), (byte) (0x00),
-                            (byte) (0x08), (byte) (0x64), (byte) (0x18), (byte) (0x24), (byte) (0x5C), (byte) (0x24),
-                            (byte) (0x24), (byte) (0x5C), (byte) (0x38), (byte) (0x44), (byte) (0x6C), (byte) (0x08),
-                            (byte) (0x14), (byte) (0x7C), (byte) (0x28), (byte) (0x34), (byte) (0x74), (byte) (0x40),
-                            (byte) (0x30), (byte) (0x78), (byte) (0x58), (byte) (0x1C), (byte) (0x9C), (byte) (0x34),
-                            (byte) (0x38), (byte) (0x84), (byte) (0x70), (byte) (0x34), (byte) (0xA0), (byte) (0x48),
-                            (byte) (0x4C), (byte) (0x90), (byte) (0x58), (byte) (0x28), (byte) (0xBC), (byte) (0x44),
-                            (byte) (0x48), (byte) (0x98), (byte) (0x84), (byte) (0x4C), (byte) (0xB8), (byte) (0x60),
-                            (byte) (0x00), (byte) (0xFC), (byte) (0x18), (byte) (0x5C), (byte) (0xDC), (byte) (0x74),
-                            (byte) (0x7C), (byte) (0xD0), (byte) (0x8C), (byte) (0x88), (byte) (0xFC), (byte) (0xA0),
-                            (byte) (0x28), (byte) (0x0C), (byte) (0x0C), (byte) (0x48), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x58), (byte) (0x00), (byte) (0x00), (byte) (0x44), (byte) (0x14), (byte) (0x38),
-                            (byte) (0x68), (byte) (0x24), (byte) (0x10), (byte) (0x64), (byte) (0x3C), (byte) (0x28),
-                            (byte) (0x78), (byte) (0x28), (byte) (0x28), (byte) (0x80), (byte) (0x10), (byte) (0x4C),
-                            (byte) (0x84), (byte) (0x4C), (byte) (0x38), (byte) (0x94), (byte) (0x30), (byte) (0x30),
-                            (byte) (0x8C), (byte) (0x60), (byte) (0x48), (byte) (0xA0), (byte) (0x5C), (byte) (0x38),
-                            (byte) (0xAC), (byte) (0x50), (byte) (0x50), (byte) (0xAC), (byte) (0x6C), (byte) (0x4C),
-                            (byte) (0xBC), (byte) (0x78), (byte) (0x54), (byte) (0xD8), (byte) (0x60), (byte) (0x24),
-                            (byte) (0xD0), (byte) (0x78), (byte) (0x64), (byte) (0xE0), (byte) (0x90), (byte) (0x64),
-                            (byte) (0xDC), (byte) (0xA0), (byte) (0x80), (byte) (0xFC), (byte) (0x20), (byte) (0xA4),
-                            (byte) (0xF0), (byte) (0x84), (byte) (0x84), (byte) (0xFC), (byte) (0xA0), (byte) (0xA0),
-                            (byte) (0xFC), (byte) (0xB8), (byte) (0x90), (byte) (0x90), (byte) (0x8C), (byte) (0x58),
-                            (byte) (0xA4), (byte) (0xA0), (byte) (0x68), (byte) (0xC4), (byte) (0xC0), (byte) (0x84),
-                            (byte) (0xD4), (byte) (0xD0), (byte) (0x98), (byte) (0xFC), (byte) (0xCC), (byte) (0xA8),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xCC), (byte) (0x80), (byte) (0xA0), (byte) (0xC0),
-                            (byte) (0xA8), (byte) (0xC0), (byte) (0xC4), (byte) (0x94), (byte) (0xC4), (byte) (0xE0),
-                            (byte) (0x74), (byte) (0xE8), (byte) (0xFC), (byte) (0xB0), (byte) (0xFC), (byte) (0xC4),
-                            (byte) (0xA4), (byte) (0xE4), (byte) (0xFC), (byte) (0xC4), (byte) (0xFC), (byte) (0xFC),
-                            (byte) (0x04), (byte) (0x04), (byte) (0x04), (byte) (0x08), (byte) (0x08), (byte) (0x08),
-                            (byte) (0x0C), (byte) (0x0C), (byte) (0x0C), (byte) (0x10), (byte) (0x10), (byte) (0x10),
-                            (byte) (0x14), (byte) (0x14), (byte) (0x14), (byte) (0x18), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x18), (byte) (0x1C), (byte) (0x24), (byte) (0x20), (byte) (0x20), (byte) (0x20),
-                            (byte) (0x24), (byte) (0x24), (byte) (0x24), (byte) (0x28), (byte) (0x28), (byte) (0x28),
-                            (byte) (0x20), (byte) (0x28), (byte) (0x30), (byte) (0x30), (byte) (0x30), (byte) (0x30),
-                            (byte) (0x28), (byte) (0x30), (byte) (0x38), (byte) (0x34), (byte) (0x34), (byte) (0x34),
-                            (byte) (0x3C), (byte) (0x38), (byte) (0x34), (byte) (0x34), (byte) (0x38), (byte) (0x44),
-                            (byte) (0x3C), (byte) (0x3C), (byte) (0x3C), (byte) (0x30), (byte) (0x3C), (byte) (0x4C),
-                            (byte) (0x40), (byte) (0x40), (byte) (0x40), (byte) (0x3C), (byte) (0x40), (byte) (0x44),
-                            (byte) (0x44), (byte) (0x44), (byte) (0x44), (byte) (0x3C), (byte) (0x48), (byte) (0x50),
-                            (byte) (0x38), (byte) (0x44), (byte) (0x58), (byte) (0x4C), (byte) (0x4C), (byte) (0x4C),
-                            (byte) (0x3C), (byte) (0x4C), (byte) (0x60), (byte) (0x5C), (byte) (0x58), (byte) (0x34),
-                            (byte) (0x50), (byte) (0x50), (byte) (0x50), (byte) (0x54), (byte) (0x54), (byte) (0x54),
-                            (byte) (0x5C), (byte) (0x5C), (byte) (0x5C), (byte) (0x50), (byte) (0x5C), (byte) (0x68),
-                            (byte) (0x60), (byte) (0x60), (byte) (0x60), (byte) (0x74), (byte) (0x70), (byte) (0x44),
-                            (byte) (0x50), (byte) (0x64), (byte) (0x7C), (byte) (0x68), (byte) (0x68), (byte) (0x68),
-                            (byte) (0x6C), (byte) (0x6C), (byte) (0x6C), (byte) (0x60), (byte) (0x6C), (byte) (0x78),
-                            (byte) (0x70), (byte) (0x70), (byte) (0x70), (byte) (0x74), (byte) (0x74), (byte) (0x74),
-                            (byte) (0x7C), (byte) (0x7C), (byte) (0x7C), (byte) (0x64), (byte) (0x80), (byte) (0x94),
-                            (byte) (0x74), (byte) (0x84), (byte) (0x90), (byte) (0x70), (byte) (0x88), (byte) (0xAC),
-                            (byte) (0x90), (byte) (0x90), (byte) (0x90), (byte) (0x84), (byte) (0x94), (byte) (0x9C),
-                            (byte) (0xB8), (byte) (0x94), (byte) (0x80), (byte) (0xA0), (byte) (0xA0), (byte) (0xA0),
-                            (byte) (0x98), (byte) (0xAC), (byte) (0xB0), (byte) (0xAC), (byte) (0xAC), (byte) (0xAC),
-                            (byte) (0xB8), (byte) (0xB8), (byte) (0xB8), (byte) (0xCC), (byte) (0xCC), (byte) (0xCC),
-                            (byte) (0xD8), (byte) (0xD8), (byte) (0xD8), (byte) (0xFC), (byte) (0xCC), (byte) (0xCC),
-                            (byte) (0xE4), (byte) (0xE4), (byte) (0xE4), (byte) (0x80), (byte) (0x00), (byte) (0xFC),
-                            (byte) (0x08), (byte) (0x14), (byte) (0x10), (byte) (0x08), (byte) (0x1C), (byte) (0x14),
-                            (byte) (0x08), (byte) (0x20), (byte) (0x14), (byte) (0x0C), (byte) (0x24), (byte) (0x18),
-                            (byte) (0x0C), (byte) (0x2C), (byte) (0x20), (byte) (0x18), (byte) (0x34), (byte) (0x20),
-                            (byte) (0x1C), (byte) (0x38), (byte) (0x30), (byte) (0x44), (byte) (0x20), (byte) (0x00),
-                            (byte) (0x68), (byte) (0x00), (byte) (0x18), (byte) (0x04), (byte) (0x08), (byte) (0x08),
-                            (byte) (0x10), (byte) (0x14), (byte) (0x14), (byte) (0x14), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x10), (byte) (0x20), (byte) (0x1C),
-                            (byte) (0x18), (byte) (0x20), (byte) (0x24), (byte) (0x14), (byte) (0x28), (byte) (0x24),
-                            (byte) (0x20), (byte) (0x28), (byte) (0x28), (byte) (0x24), (byte) (0x28), (byte) (0x2C),
-                            (byte) (0x30), (byte) (0x2C), (byte) (0x20), (byte) (0x24), (byte) (0x2C), (byte) (0x30),
-                            (byte) (0x28), (byte) (0x30), (byte) (0x34), (byte) (0x2C), (byte) (0x34), (byte) (0x38),
-                            (byte) (0x40), (byte) (0x3C), (byte) (0x30), (byte) (0x34), (byte) (0x3C), (byte) (0x40),
-                            (byte) (0x38), (byte) (0x44), (byte) (0x48), (byte) (0x44), (byte) (0x4C), (byte) (0x50),
-                            (byte) (0x4C), (byte) (0x58), (byte) (0x5C), (byte) (0x54), (byte) (0x5C), (byte) (0x60),
-                            (byte) (0x58), (byte) (0x64), (byte) (0x68), (byte) (0xFF), (byte) (0xFF), (byte) (0xFF)},
-                        PaletteDataInterpretation.BGR)));
-        map.put(
-                "Act 2",
-                new RestrictableIndexColorModel(ImageUtilities.interpretIndexColorModel(
-                        new byte[]{
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x24),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x1C), (byte) (0x10), (byte) (0x24), (byte) (0x2C),
-                            (byte) (0x18), (byte) (0x34), (byte) (0x3C), (byte) (0x00), (byte) (0x00), (byte) (0x5C),
-                            (byte) (0x20), (byte) (0x40), (byte) (0x48), (byte) (0x28), (byte) (0x48), (byte) (0x54),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x90), (byte) (0x10), (byte) (0x48), (byte) (0x8C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0xBC), (byte) (0x20), (byte) (0x84), (byte) (0xD0),
-                            (byte) (0x6C), (byte) (0xC4), (byte) (0xF4), (byte) (0x50), (byte) (0x7C), (byte) (0x8C),
-                            (byte) (0x64), (byte) (0x9C), (byte) (0xAC), (byte) (0x08), (byte) (0x0C), (byte) (0x0C),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x1C),
-                            (byte) (0x1C), (byte) (0x24), (byte) (0x28), (byte) (0x2C), (byte) (0x2C), (byte) (0x2C),
-                            (byte) (0x30), (byte) (0x38), (byte) (0x3C), (byte) (0x38), (byte) (0x38), (byte) (0x38),
-                            (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x50), (byte) (0x58),
-                            (byte) (0x34), (byte) (0x58), (byte) (0x64), (byte) (0x58), (byte) (0x58), (byte) (0x58),
-                            (byte) (0x3C), (byte) (0x64), (byte) (0x74), (byte) (0x64), (byte) (0x64), (byte) (0x64),
-                            (byte) (0x70), (byte) (0x74), (byte) (0x7C), (byte) (0x84), (byte) (0x84), (byte) (0x84),
-                            (byte) (0x94), (byte) (0x98), (byte) (0x9C), (byte) (0xC4), (byte) (0xC4), (byte) (0xC4),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xF4), (byte) (0x04), (byte) (0x04), (byte) (0x08),
-                            (byte) (0x00), (byte) (0x04), (byte) (0x10), (byte) (0x04), (byte) (0x08), (byte) (0x18),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x18), (byte) (0x10), (byte) (0x14), (byte) (0x1C),
-                            (byte) (0x04), (byte) (0x0C), (byte) (0x24), (byte) (0x0C), (byte) (0x18), (byte) (0x20),
-                            (byte) (0x14), (byte) (0x18), (byte) (0x20), (byte) (0x08), (byte) (0x10), (byte) (0x2C),
-                            (byte) (0x10), (byte) (0x1C), (byte) (0x24), (byte) (0x0C), (byte) (0x20), (byte) (0x28),
-                            (byte) (0x04), (byte) (0x08), (byte) (0x38), (byte) (0x10), (byte) (0x1C), (byte) (0x30),
-                            (byte) (0x14), (byte) (0x28), (byte) (0x30), (byte) (0x0C), (byte) (0x14), (byte) (0x40),
-                            (byte) (0x10), (byte) (0x28), (byte) (0x38), (byte) (0x04), (byte) (0x0C), (byte) (0x48),
-                            (byte) (0x1C), (byte) (0x28), (byte) (0x38), (byte) (0x0C), (byte) (0x20), (byte) (0x4C),
-                            (byte) (0x14), (byte) (0x2C), (byte) (0x44), (byte) (0x20), (byte) (0x2C), (byte) (0x40),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x58), (byte) (0x20), (byte) (0x34), (byte) (0x48),
-                            (byte) (0x28), (byte) (0x34), (byte) (0x44), (byte) (0x1C), (byte) (0x28), (byte) (0x54),
-                            (byte) (0x14), (byte) (0x1C), (byte) (0x5C), (byte) (0x08), (byte) (0x24), (byte) (0x5C),
-                            (byte) (0x18), (byte) (0x38), (byte) (0x54), (byte) (0x24), (byte) (0x38), (byte) (0x54),
-                            (byte) (0x10), (byte) (0x18), (byte) (0x6C), (byte) (0x10), (byte) (0x2C), (byte) (0x68),
-                            (byte) (0x24), (byte) (0x44), (byte) (0x5C), (byte) (0x18), (byte) (0x24), (byte) (0x70),
-                            (byte) (0x24), (byte) (0x3C), (byte) (0x68), (byte) (0x0C), (byte) (0x2C), (byte) (0x7C),
-                            (byte) (0x2C), (byte) (0x4C), (byte) (0x64), (byte) (0x08), (byte) (0x48), (byte) (0x70),
-                            (byte) (0x18), (byte) (0x28), (byte) (0x80), (byte) (0x28), (byte) (0x50), (byte) (0x74),
-                            (byte) (0x24), (byte) (0x30), (byte) (0x88), (byte) (0x40), (byte) (0x50), (byte) (0x6C),
-                            (byte) (0x0C), (byte) (0x34), (byte) (0x8C), (byte) (0x68), (byte) (0x20), (byte) (0x70),
-                            (byte) (0x44), (byte) (0x58), (byte) (0x78), (byte) (0x40), (byte) (0x40), (byte) (0x8C),
-                            (byte) (0x30), (byte) (0x5C), (byte) (0x84), (byte) (0x24), (byte) (0x34), (byte) (0x9C),
-                            (byte) (0x18), (byte) (0x28), (byte) (0xA4), (byte) (0x14), (byte) (0x48), (byte) (0xA4),
-                            (byte) (0x40), (byte) (0x64), (byte) (0x8C), (byte) (0x38), (byte) (0x70), (byte) (0x8C),
-                            (byte) (0x50), (byte) (0x68), (byte) (0x8C), (byte) (0x34), (byte) (0x44), (byte) (0xB0),
-                            (byte) (0x20), (byte) (0x4C), (byte) (0xB4), (byte) (0x58), (byte) (0x70), (byte) (0x98),
-                            (byte) (0x40), (byte) (0x78), (byte) (0xA0), (byte) (0x1C), (byte) (0x60), (byte) (0xBC),
-                            (byte) (0x48), (byte) (0x84), (byte) (0x9C), (byte) (0x54), (byte) (0x54), (byte) (0xC4),
-                            (byte) (0x20), (byte) (0x6C), (byte) (0xC8), (byte) (0x58), (byte) (0x7C), (byte) (0xAC),
-                            (byte) (0x48), (byte) (0x88), (byte) (0xB0), (byte) (0x54), (byte) (0x7C), (byte) (0xC8),
-                            (byte) (0x20), (byte) (0x70), (byte) (0xE0), (byte) (0x54), (byte) (0x9C), (byte) (0xB8),
-                            (byte) (0x00), (byte) (0x2C), (byte) (0xFC), (byte) (0x70), (byte) (0x8C), (byte) (0xC0),
-                            (byte) (0x50), (byte) (0x98), (byte) (0xCC), (byte) (0x30), (byte) (0x84), (byte) (0xE4),
-                            (byte) (0x70), (byte) (0x70), (byte) (0xE0), (byte) (0x78), (byte) (0x98), (byte) (0xD0),
-                            (byte) (0x3C), (byte) (0x88), (byte) (0xF8), (byte) (0x38), (byte) (0xA0), (byte) (0xEC),
-                            (byte) (0x64), (byte) (0xB8), (byte) (0xD8), (byte) (0x84), (byte) (0xA4), (byte) (0xE0),
-                            (byte) (0x44), (byte) (0xB4), (byte) (0xF0), (byte) (0x4C), (byte) (0xC0), (byte) (0xF4),
-                            (byte) (0x8C), (byte) (0xB0), (byte) (0xF0), (byte) (0x5C), (byte) (0xD4), (byte) (0xFC),
-                            (byte) (0xB0), (byte) (0xB0), (byte) (0xFC), (byte) (0x10), (byte) (0x24), (byte) (0x04),
-                            (byte) (0x18), (byte) (0x24), (byte) (0x14), (byte) (0x18), (byte) (0x3C), (byte) (0x20),
-                            (byte) (0x0C), (byte) (0x48), (byte) (0x18), (byte) (0x30), (byte) (0x44), (byte) (0x00),
-                            (byte) (0x08), (byte) (0x64), (byte) (0x18), (byte) (0x24), (byte) (0x5C), (byte) (0x24),
-                            (byte) (0x24), (byte) (0x5C), (byte) (0x38), (byte) (0x44), (byte) (0x6C), (byte) (0x08),
-                            (byte) (0x14), (byte) (0x7C), (byte) (0x28), (byte) (0x34), (byte) (0x74), (byte) (0x40),
-                            (byte) (0x30), (byte) (0x78), (byte) (0x58), (byte) (0x1C), (byte) (0x9C), (byte) (0x34),
-                            (byte) (0x38), (byte) (0x84), (byte) (0x70), (byte) (0x34), (byte) (0xA0), (byte) (0x48),
-                            (byte) (0x4C), (byte) (0x90), (byte) (0x58), (byte) (0x28), (byte) (0xBC), (byte) (0x44),
-                            (byte) (0x48), (byte) (0x98), (byte) (0x84), (byte) (0x4C), (byte) (0xB8), (byte) (0x60),
-                            (byte) (0x00), (byte) (0xFC), (byte) (0x18), (byte) (0x5C), (byte) (0xDC), (byte) (0x74),
-                            (byte) (0x7C), (byte) (0xD0), (byte) (0x8C), (byte) (0x88), (byte) (0xFC), (byte) (0xA0),
-                            (byte) (0x28), (byte) (0x0C), (byte) (0x0C), (byte) (0x48), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x58), (byte) (0x00), (byte) (0x00), (byte) (0x44), (byte) (0x14), (byte) (0x38),
-                            (byte) (0x68), (byte) (0x24), (byte) (0x10), (byte) (0x64), (byte) (0x3C), (byte) (0x28),
-                            (byte) (0x78), (byte) (0x28), (byte) (0x28), (byte) (0x80), (byte) (0x10), (byte) (0x4C),
-                            (byte) (0x84), (byte) (0x4C), (byte) (0x38), (byte) (0x94), (byte) (0x30), (byte) (0x30),
-                            (byte) (0x8C), (byte) (0x60), (byte) (0x48), (byte) (0xA0), (byte) (0x5C), (byte) (0x38),
-                            (byte) (0xAC), (byte) (0x50), (byte) (0x50), (byte) (0xAC), (byte) (0x6C), (byte) (0x4C),
-                            (byte) (0xBC), (byte) (0x78), (byte) (0x54), (byte) (0xD8), (byte) (0x60), (byte) (0x24),
-                            (byte) (0xD0), (byte) (0x78), (byte) (0x64), (byte) (0xE0), (byte) (0x90), (byte) (0x64),
-                            (byte) (0xDC), (byte) (0xA0), (byte) (0x80), (byte) (0xFC), (byte) (0x20), (byte) (0xA4),
-                            (byte) (0xF0), (byte) (0x84), (byte) (0x84), (byte) (0xFC), (byte) (0xA0), (byte) (0xA0),
-                            (byte) (0xFC), (byte) (0xB8), (byte) (0x90), (byte) (0x90), (byte) (0x8C), (byte) (0x58),
-                            (byte) (0xA4), (byte) (0xA0), (byte) (0x68), (byte) (0xC4), (byte) (0xC0), (byte) (0x84),
-                            (byte) (0xD4), (byte) (0xD0), (byte) (0x98), (byte) (0xFC), (byte) (0xCC), (byte) (0xA8),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xCC), (byte) (0x80), (byte) (0xA0), (byte) (0xC0),
-                            (byte) (0xA8), (byte) (0xC0), (byte) (0xC4), (byte) (0x94), (byte) (0xC4), (byte) (0xE0),
-                            (byte) (0x74), (byte) (0xE8), (byte) (0xFC), (byte) (0xB0), (byte) (0xFC), (byte) (0xC4),
-                            (byte) (0xA4), (byte) (0xE4), (byte) (0xFC), (byte) (0xC4), (byte) (0xFC), (byte) (0xFC),
-                            (byte) (0x04), (byte) (0x04), (byte) (0x04), (byte) (0x08), (byte) (0x08), (byte) (0x08),
-                            (byte) (0x0C), (byte) (0x0C), (byte) (0x0C), (byte) (0x10), (byte) (0x10), (byte) (0x10),
-                            (byte) (0x14), (byte) (0x14), (byte) (0x14), (byte) (0x18), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x18), (byte) (0x1C), (byte) (0x24), (byte) (0x20), (byte) (0x20), (byte) (0x20),
-                            (byte) (0x24), (byte) (0x24), (byte) (0x24), (byte) (0x28), (byte) (0x28), (byte) (0x28),
-                            (byte) (0x20), (byte) (0x28), (byte) (0x30), (byte) (0x30), (byte) (0x30), (byte) (0x30),
-                            (byte) (0x28), (byte) (0x30), (byte) (0x38), (byte) (0x34), (byte) (0x34), (byte) (0x34),
-                            (byte) (0x3C), (byte) (0x38), (byte) (0x34), (byte) (0x34), (byte) (0x38), (byte) (0x44),
-                            (byte) (0x3C), (byte) (0x3C), (byte) (0x3C), (byte) (0x30), (byte) (0x3C), (byte) (0x4C),
-                            (byte) (0x40), (byte) (0x40), (byte) (0x40), (byte) (0x3C), (byte) (0x40), (byte) (0x44),
-                            (byte) (0x44), (byte) (0x44), (byte) (0x44), (byte) (0x3C), (byte) (0x48), (byte) (0x50),
-                            (byte) (0x38), (byte) (0x44), (byte) (0x58), (byte) (0x4C), (byte) (0x4C), (byte) (0x4C),
-                            (byte) (0x3C), (byte) (0x4C), (byte) (0x60), (byte) (0x5C), (byte) (0x58), (byte) (0x34),
-                            (byte) (0x50), (byte) (0x50), (byte) (0x50), (byte) (0x54), (byte) (0x54), (byte) (0x54),
-                            (byte) (0x5C), (byte) (0x5C), (byte) (0x5C), (byte) (0x50), (byte) (0x5C), (byte) (0x68),
-                            (byte) (0x60), (byte) (0x60), (byte) (0x60), (byte) (0x74), (byte) (0x70), (byte) (0x44),
-                            (byte) (0x50), (byte) (0x64), (byte) (0x7C), (byte) (0x68), (byte) (0x68), (byte) (0x68),
-                            (byte) (0x6C), (byte) (0x6C), (byte) (0x6C), (byte) (0x60), (byte) (0x6C), (byte) (0x78),
-                            (byte) (0x70), (byte) (0x70), (byte) (0x70), (byte) (0x74), (byte) (0x74), (byte) (0x74),
-                            (byte) (0x7C), (byte) (0x7C), (byte) (0x7C), (byte) (0x64), (byte) (0x80), (byte) (0x94),
-                            (byte) (0x74), (byte) (0x84), (byte) (0x90), (byte) (0x70), (byte) (0x88), (byte) (0xAC),
-                            (byte) (0x90), (byte) (0x90), (byte) (0x90), (byte) (0x84), (byte) (0x94), (byte) (0x9C),
-                            (byte) (0xB8), (byte) (0x94), (byte) (0x80), (byte) (0xA0), (byte) (0xA0), (byte) (0xA0),
-                            (byte) (0x98), (byte) (0xAC), (byte) (0xB0), (byte) (0xAC), (byte) (0xAC), (byte) (0xAC),
-                            (byte) (0xB8), (byte) (0xB8), (byte) (0xB8), (byte) (0xCC), (byte) (0xCC), (byte) (0xCC),
-                            (byte) (0xD8), (byte) (0xD8), (byte) (0xD8), (byte) (0xFC), (byte) (0xCC), (byte) (0xCC),
-                            (byte) (0xE4), (byte) (0xE4), (byte) (0xE4), (byte) (0x34), (byte) (0x5C), (byte) (0x70),
-                            (byte) (0x40), (byte) (0x68), (byte) (0x7C), (byte) (0x44), (byte) (0x70), (byte) (0x88),
-                            (byte) (0xE0), (byte) (0x18), (byte) (0xFC), (byte) (0xE8), (byte) (0x10), (byte) (0xF8),
-                            (byte) (0xF4), (byte) (0x14), (byte) (0xFC), (byte) (0xF8), (byte) (0x14), (byte) (0xFC),
-                            (byte) (0x14), (byte) (0x24), (byte) (0x1C), (byte) (0x38), (byte) (0x44), (byte) (0x20),
-                            (byte) (0x58), (byte) (0x80), (byte) (0x94), (byte) (0x5C), (byte) (0x88), (byte) (0x9C),
-                            (byte) (0x64), (byte) (0x8C), (byte) (0xA0), (byte) (0x78), (byte) (0x9C), (byte) (0xAC),
-                            (byte) (0x7C), (byte) (0xA8), (byte) (0xB8), (byte) (0x88), (byte) (0xB4), (byte) (0xC4),
-                            (byte) (0xA8), (byte) (0xD4), (byte) (0xE4), (byte) (0x24), (byte) (0x34), (byte) (0x3C),
-                            (byte) (0x2C), (byte) (0x40), (byte) (0x48), (byte) (0x30), (byte) (0x44), (byte) (0x50),
-                            (byte) (0x34), (byte) (0x4C), (byte) (0x58), (byte) (0x40), (byte) (0x58), (byte) (0x60),
-                            (byte) (0x44), (byte) (0x5C), (byte) (0x68), (byte) (0x48), (byte) (0x64), (byte) (0x70),
-                            (byte) (0x4C), (byte) (0x68), (byte) (0x74), (byte) (0x48), (byte) (0x70), (byte) (0x80),
-                            (byte) (0x54), (byte) (0x70), (byte) (0x7C), (byte) (0x4C), (byte) (0x74), (byte) (0x88),
-                            (byte) (0x58), (byte) (0x78), (byte) (0x84), (byte) (0x60), (byte) (0x7C), (byte) (0x88),
-                            (byte) (0x70), (byte) (0x94), (byte) (0xA0), (byte) (0xFF), (byte) (0xFF), (byte) (0xFF)},
-                        PaletteDataInterpretation.BGR)));
-        map.put(
-                "Act 3",
-                new RestrictableIndexColorModel(ImageUtilities.interpretIndexColorModel(
-                        new byte[]{
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x24),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x1C), (byte) (0x10), (byte) (0x24), (byte) (0x2C),
-                            (byte) (0x18), (byte) (0x34), (byte) (0x3C), (byte) (0x00), (byte) (0x00), (byte) (0x5C),
-                            (byte) (0x20), (byte) (0x40), (byte) (0x48), (byte) (0x28), (byte) (0x48), (byte) (0x54),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x90), (byte) (0x10), (byte) (0x48), (byte) (0x8C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0xBC), (byte) (0x20), (byte) (0x84), (byte) (0xD0),
-                            (byte) (0x6C), (byte) (0xC4), (byte) (0xF4), (byte) (0x50), (byte) (0x7C), (byte) (0x8C),
-                            (byte) (0x64), (byte) (0x9C), (byte) (0xAC), (byte) (0x08), (byte) (0x0C), (byte) (0x0C),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x1C),
-                            (byte) (0x1C), (byte) (0x24), (byte) (0x28), (byte) (0x2C), (byte) (0x2C), (byte) (0x2C),
-                            (byte) (0x30), (byte) (0x38), (byte) (0x3C), (byte) (0x38), (byte) (0x38), (byte) (0x38),
-                            (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x50), (byte) (0x58),
-                            (byte) (0x34), (byte) (0x58), (byte) (0x64), (byte) (0x58), (byte) (0x58), (byte) (0x58),
-                            (byte) (0x3C), (byte) (0x64), (byte) (0x74), (byte) (0x64), (byte) (0x64), (byte) (0x64),
-                            (byte) (0x70), (byte) (0x74), (byte) (0x7C), (byte) (0x84), (byte) (0x84), (byte) (0x84),
-                            (byte) (0x94), (byte) (0x98), (byte) (0x9C), (byte) (0xC4), (byte) (0xC4), (byte) (0xC4),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xF4), (byte) (0x04), (byte) (0x04), (byte) (0x08),
-                            (byte) (0x00), (byte) (0x04), (byte) (0x10), (byte) (0x04), (byte) (0x08), (byte) (0x18),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x18), (byte) (0x10), (byte) (0x14), (byte) (0x1C),
-                            (byte) (0x04), (byte) (0x0C), (byte) (0x24), (byte) (0x0C), (byte) (0x18), (byte) (0x20),
-                            (byte) (0x14), (byte) (0x18), (byte) (0x20), (byte) (0x08), (byte) (0x10), (byte) (0x2C),
-                            (byte) (0x10), (byte) (0x1C), (byte) (0x24), (byte) (0x0C), (byte) (0x20), (byte) (0x28),
-                            (byte) (0x04), (byte) (0x08), (byte) (0x38), (byte) (0x10), (byte) (0x1C), (byte) (0x30),
-                            (byte) (0x14), (byte) (0x28), (byte) (0x30), (byte) (0x0C), (byte) (0x14), (byte) (0x40),
-                            (byte) (0x10), (byte) (0x28), (byte) (0x38), (byte) (0x04), (byte) (0x0C), (byte) (0x48),
-                            (byte) (0x1C), (byte) (0x28), (byte) (0x38), (byte) (0x0C), (byte) (0x20), (byte) (0x4C),
-                            (byte) (0x14), (byte) (0x2C), (byte) (0x44), (byte) (0x20), (byte) (0x2C), (byte) (0x40),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x58), (byte) (0x20), (byte) (0x34), (byte) (0x48),
-                            (byte) (0x28), (byte) (0x34), (byte) (0x44), (byte) (0x1C), (byte) (0x28), (byte) (0x54),
-                            (byte) (0x14), (byte) (0x1C), (byte) (0x5C), (byte) (0x08), (byte) (0x24), (byte) (0x5C),
-                            (byte) (0x18), (byte) (0x38), (byte) (0x54), (byte) (0x24), (byte) (0x38), (byte) (0x54),
-                            (byte) (0x10), (byte) (0x18), (byte) (0x6C), (byte) (0x10), (byte) (0x2C), (byte) (0x68),
-                            (byte) (0x24), (byte) (0x44), (byte) (0x5C), (byte) (0x18), (byte) (0x24), (byte) (0x70),
-                            (byte) (0x24), (byte) (0x3C), (byte) (0x68), (byte) (0x0C), (byte) (0x2C), (byte) (0x7C),
-                            (byte) (0x2C), (byte) (0x4C), (byte) (0x64), (byte) (0x08), (byte) (0x48), (byte) (0x70),
-                            (byte) (0x18), (byte) (0x28), (byte) (0x80), (byte) (0x28), (byte) (0x50), (byte) (0x74),
-                            (byte) (0x24), (byte) (0x30), (byte) (0x88), (byte) (0x40), (byte) (0x50), (byte) (0x6C),
-                            (byte) (0x0C), (byte) (0x34), (byte) (0x8C), (byte) (0x68), (byte) (0x20), (byte) (0x70),
-                            (byte) (0x44), (byte) (0x58), (byte) (0x78), (byte) (0x40), (byte) (0x40), (byte) (0x8C),
-                            (byte) (0x30), (byte) (0x5C), (byte) (0x84), (byte) (0x24), (byte) (0x34), (byte) (0x9C),
-                            (byte) (0x18), (byte) (0x28), (byte) (0xA4), (byte) (0x14), (byte) (0x48), (byte) (0xA4),
-                            (byte) (0x40), (byte) (0x64), (byte) (0x8C), (byte) (0x38), (byte) (0x70), (byte) (0x8C),
-                            (byte) (0x50), (byte) (0x68), (byte) (0x8C), (byte) (0x34), (byte) (0x44), (byte) (0xB0),
-                            (byte) (0x20), (byte) (0x4C), (byte) (0xB4), (byte) (0x58), (byte) (0x70), (byte) (0x98),
-                            (byte) (0x40), (byte) (0x78), (byte) (0xA0), (byte) (0x1C), (byte) (0x60), (byte) (0xBC),
-                            (byte) (0x48), (byte) (0x84), (byte) (0x9C), (byte) (0x54), (byte) (0x54), (byte) (0xC4),
-                            (byte) (0x20), (byte) (0x6C), (byte) (0xC8), (byte) (0x58), (byte) (0x7C), (byte) (0xAC),
-                            (byte) (0x48), (byte) (0x88), (byte) (0xB0), (byte) (0x54), (byte) (0x7C), (byte) (0xC8),
-                            (byte) (0x20), (byte) (0x70), (byte) (0xE0), (byte) (0x54), (byte) (0x9C), (byte) (0xB8),
-                            (byte) (0x00), (byte) (0x2C), (byte) (0xFC), (byte) (0x70), (byte) (0x8C), (byte) (0xC0),
-                            (byte) (0x50), (byte) (0x98), (byte) (0xCC), (byte) (0x30), (byte) (0x84), (byte) (0xE4),
-                            (byte) (0x70), (byte) (0x70), (byte) (0xE0), (byte) (0x78), (byte) (0x98), (byte) (0xD0),
-                            (byte) (0x3C), (byte) (0x88), (byte) (0xF8), (byte) (0x38), (byte) (0xA0), (byte) (0xEC),
-                            (byte) (0x64), (byte) (0xB8), (byte) (0xD8), (byte) (0x84), (byte) (0xA4), (byte) (0xE0),
-                            (byte) (0x44), (byte) (0xB4), (byte) (0xF0), (byte) (0x4C), (byte) (0xC0), (byte) (0xF4),
-                            (byte) (0x8C), (byte) (0xB0), (byte) (0xF0), (byte) (0x5C), (byte) (0xD4), (byte) (0xFC),
-                            (byte) (0xB0), (byte) (0xB0), (byte) (0xFC), (byte) (0x10), (byte) (0x24), (byte) (0x04),
-                            (byte) (0x18), (byte) (0x24), (byte) (0x14), (byte) (0x18), (byte) (0x3C), (byte) (0x20),
-                            (byte) (0x0C), (byte) (0x48), (byte) (0x18), (byte) (0x30), (byte) (0x44), (byte) (0x00),
-                            (byte) (0x08), (byte) (0x64), (byte) (0x18), (byte) (0x24), (byte) (0x5C), (byte) (0x24),
-                            (byte) (0x24), (byte) (0x5C), (byte) (0x38), (byte) (0x44), (byte) (0x6C), (byte) (0x08),
-                            (byte) (0x14), (byte) (0x7C), (byte) (0x28), (byte) (0x34), (byte) (0x74), (byte) (0x40),
-                            (byte) (0x30), (byte) (0x78), (byte) (0x58), (byte) (0x1C), (byte) (0x9C), (byte) (0x34),
-                            (byte) (0x38), (byte) (0x84), (byte) (0x70), (byte) (0x34), (byte) (0xA0), (byte) (0x48),
-                            (byte) (0x4C), (byte) (0x90), (byte) (0x58), (byte) (0x28), (byte) (0xBC), (byte) (0x44),
-                            (byte) (0x48), (byte) (0x98), (byte) (0x84), (byte) (0x4C), (byte) (0xB8), (byte) (0x60),
-                            (byte) (0x00), (byte) (0xFC), (byte) (0x18), (byte) (0x5C), (byte) (0xDC), (byte) (0x74),
-                            (byte) (0x7C), (byte) (0xD0), (byte) (0x8C), (byte) (0x88), (byte) (0xFC), (byte) (0xA0),
-                            (byte) (0x28), (byte) (0x0C), (byte) (0x0C), (byte) (0x48), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x58), (byte) (0x00), (byte) (0x00), (byte) (0x44), (byte) (0x14), (byte) (0x38),
-                            (byte) (0x68), (byte) (0x24), (byte) (0x10), (byte) (0x64), (byte) (0x3C), (byte) (0x28),
-                            (byte) (0x78), (byte) (0x28), (byte) (0x28), (byte) (0x80), (byte) (0x10), (byte) (0x4C),
-                            (byte) (0x84), (byte) (0x4C), (byte) (0x38), (byte) (0x94), (byte) (0x30), (byte) (0x30),
-                            (byte) (0x8C), (byte) (0x60), (byte) (0x48), (byte) (0xA0), (byte) (0x5C), (byte) (0x38),
-                            (byte) (0xAC), (byte) (0x50), (byte) (0x50), (byte) (0xAC), (byte) (0x6C), (byte) (0x4C),
-                            (byte) (0xBC), (byte) (0x78), (byte) (0x54), (byte) (0xD8), (byte) (0x60), (byte) (0x24),
-                            (byte) (0xD0), (byte) (0x78), (byte) (0x64), (byte) (0xE0), (byte) (0x90), (byte) (0x64),
-                            (byte) (0xDC), (byte) (0xA0), (byte) (0x80), (byte) (0xFC), (byte) (0x20), (byte) (0xA4),
-                            (byte) (0xF0), (byte) (0x84), (byte) (0x84), (byte) (0xFC), (byte) (0xA0), (byte) (0xA0),
-                            (byte) (0xFC), (byte) (0xB8), (byte) (0x90), (byte) (0x90), (byte) (0x8C), (byte) (0x58),
-                            (byte) (0xA4), (byte) (0xA0), (byte) (0x68), (byte) (0xC4), (byte) (0xC0), (byte) (0x84),
-                            (byte) (0xD4), (byte) (0xD0), (byte) (0x98), (byte) (0xFC), (byte) (0xCC), (byte) (0xA8),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xCC), (byte) (0x80), (byte) (0xA0), (byte) (0xC0),
-                            (byte) (0xA8), (byte) (0xC0), (byte) (0xC4), (byte) (0x94), (byte) (0xC4), (byte) (0xE0),
-                            (byte) (0x74), (byte) (0xE8), (byte) (0xFC), (byte) (0xB0), (byte) (0xFC), (byte) (0xC4),
-                            (byte) (0xA4), (byte) (0xE4), (byte) (0xFC), (byte) (0xC4), (byte) (0xFC), (byte) (0xFC),
-                            (byte) (0x04), (byte) (0x04), (byte) (0x04), (byte) (0x08), (byte) (0x08), (byte) (0x08),
-                            (byte) (0x0C), (byte) (0x0C), (byte) (0x0C), (byte) (0x10), (byte) (0x10), (byte) (0x10),
-                            (byte) (0x14), (byte) (0x14), (byte) (0x14), (byte) (0x18), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x18), (byte) (0x1C), (byte) (0x24), (byte) (0x20), (byte) (0x20), (byte) (0x20),
-                            (byte) (0x24), (byte) (0x24), (byte) (0x24), (byte) (0x28), (byte) (0x28), (byte) (0x28),
-                            (byte) (0x20), (byte) (0x28), (byte) (0x30), (byte) (0x30), (byte) (0x30), (byte) (0x30),
-                            (byte) (0x28), (byte) (0x30), (byte) (0x38), (byte) (0x34), (byte) (0x34), (byte) (0x34),
-                            (byte) (0x3C), (byte) (0x38), (byte) (0x34), (byte) (0x34), (byte) (0x38), (byte) (0x44),
-                            (byte) (0x3C), (byte) (0x3C), (byte) (0x3C), (byte) (0x30), (byte) (0x3C), (byte) (0x4C),
-                            (byte) (0x40), (byte) (0x40), (byte) (0x40), (byte) (0x3C), (byte) (0x40), (byte) (0x44),
-                            (byte) (0x44), (byte) (0x44), (byte) (0x44), (byte) (0x3C), (byte) (0x48), (byte) (0x50),
-                            (byte) (0x38), (byte) (0x44), (byte) (0x58), (byte) (0x4C), (byte) (0x4C), (byte) (0x4C),
-                            (byte) (0x3C), (byte) (0x4C), (byte) (0x60), (byte) (0x5C), (byte) (0x58), (byte) (0x34),
-                            (byte) (0x50), (byte) (0x50), (byte) (0x50), (byte) (0x54), (byte) (0x54), (byte) (0x54),
-                            (byte) (0x5C), (byte) (0x5C), (byte) (0x5C), (byte) (0x50), (byte) (0x5C), (byte) (0x68),
-                            (byte) (0x60), (byte) (0x60), (byte) (0x60), (byte) (0x74), (byte) (0x70), (byte) (0x44),
-                            (byte) (0x50), (byte) (0x64), (byte) (0x7C), (byte) (0x68), (byte) (0x68), (byte) (0x68),
-                            (byte) (0x6C), (byte) (0x6C), (byte) (0x6C), (byte) (0x60), (byte) (0x6C), (byte) (0x78),
-                            (byte) (0x70), (byte) (0x70), (byte) (0x70), (byte) (0x74), (byte) (0x74), (byte) (0x74),
-                            (byte) (0x7C), (byte) (0x7C), (byte) (0x7C), (byte) (0x64), (byte) (0x80), (byte) (0x94),
-                            (byte) (0x74), (byte) (0x84), (byte) (0x90), (byte) (0x70), (byte) (0x88), (byte) (0xAC),
-                            (byte) (0x90), (byte) (0x90), (byte) (0x90), (byte) (0x84), (byte) (0x94), (byte) (0x9C),
-                            (byte) (0xB8), (byte) (0x94), (byte) (0x80), (byte) (0xA0), (byte) (0xA0), (byte) (0xA0),
-                            (byte) (0x98), (byte) (0xAC), (byte) (0xB0), (byte) (0xAC), (byte) (0xAC), (byte) (0xAC),
-                            (byte) (0xB8), (byte) (0xB8), (byte) (0xB8), (byte) (0xCC), (byte) (0xCC), (byte) (0xCC),
-                            (byte) (0xD8), (byte) (0xD8), (byte) (0xD8), (byte) (0xFC), (byte) (0xCC), (byte) (0xCC),
-                            (byte) (0xE4), (byte) (0xE4), (byte) (0xE4), (byte) (0x00), (byte) (0x04), (byte) (0x08),
-                            (byte) (0x00), (byte) (0x08), (byte) (0x0C), (byte) (0x04), (byte) (0x08), (byte) (0x0C),
-                            (byte) (0x00), (byte) (0x0C), (byte) (0x10), (byte) (0x00), (byte) (0x10), (byte) (0x14),
-                            (byte) (0x04), (byte) (0x10), (byte) (0x14), (byte) (0x08), (byte) (0x10), (byte) (0x14),
-                            (byte) (0x04), (byte) (0x14), (byte) (0x18), (byte) (0x0C), (byte) (0x14), (byte) (0x18),
-                            (byte) (0x04), (byte) (0x1C), (byte) (0x20), (byte) (0x0C), (byte) (0x1C), (byte) (0x20),
-                            (byte) (0x00), (byte) (0x0C), (byte) (0x04), (byte) (0x00), (byte) (0x10), (byte) (0x0C),
-                            (byte) (0x04), (byte) (0x18), (byte) (0x0C), (byte) (0x04), (byte) (0x1C), (byte) (0x14),
-                            (byte) (0x08), (byte) (0x24), (byte) (0x14), (byte) (0x04), (byte) (0x24), (byte) (0x20),
-                            (byte) (0x0C), (byte) (0x2C), (byte) (0x1C), (byte) (0x0C), (byte) (0x30), (byte) (0x2C),
-                            (byte) (0x14), (byte) (0x40), (byte) (0x34), (byte) (0x00), (byte) (0x04), (byte) (0x04),
-                            (byte) (0x00), (byte) (0x18), (byte) (0x18), (byte) (0x18), (byte) (0x1C), (byte) (0x1C),
-                            (byte) (0x1C), (byte) (0x20), (byte) (0x20), (byte) (0x14), (byte) (0x24), (byte) (0x24),
-                            (byte) (0x20), (byte) (0x28), (byte) (0x28), (byte) (0x24), (byte) (0x2C), (byte) (0x2C),
-                            (byte) (0x20), (byte) (0x30), (byte) (0x34), (byte) (0x28), (byte) (0x30), (byte) (0x30),
-                            (byte) (0x2C), (byte) (0x34), (byte) (0x34), (byte) (0xFF), (byte) (0xFF), (byte) (0xFF)},
-                        PaletteDataInterpretation.BGR)));
-    }
+    /**
+     * The name of the palette derived from the palettes of the five acts.
+     */
+    public static final String ACT_0_PALETTE_NAME = "Act 0";
+    /**
+     * The names of the palettes from which {@link Diablo2DefaultPalettes#ACT_0_PALETTE_NAME} is derived.
+     */
+    protected static final String[] ACT_PALETTE_NAMES = {"Act 1", "Act 2", "Act 3", "Act 4", "Act 5"};
 
-    private static void performMapCreate2(Map<String,RestrictableIndexColorModel> map)
-    {
-        map.put(
-                "Act 4",
-                new RestrictableIndexColorModel(ImageUtilities.interpretIndexColorModel(
-                        new byte[]{
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x24),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x1C), (byte) (0x10), (byte) (0x24), (byte) (0x2C),
-                            (byte) (0x18), (byte) (0x34), (byte) (0x3C), (byte) (0x00), (byte) (0x00), (byte) (0x5C),
-                            (byte) (0x20), (byte) (0x40), (byte) (0x48), (byte) (0x28), (byte) (0x48), (byte) (0x54),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x90), (byte) (0x10), (byte) (0x48), (byte) (0x8C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0xBC), (byte) (0x20), (byte) (0x84), (byte) (0xD0),
-                            (byte) (0x6C), (byte) (0xC4), (byte) (0xF4), (byte) (0x50), (byte) (0x7C), (byte) (0x8C),
-                            (byte) (0x64), (byte) (0x9C), (byte) (0xAC), (byte) (0x08), (byte) (0x0C), (byte) (0x0C),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x1C),
-                            (byte) (0x1C), (byte) (0x24), (byte) (0x28), (byte) (0x2C), (byte) (0x2C), (byte) (0x2C),
-                            (byte) (0x30), (byte) (0x38), (byte) (0x3C), (byte) (0x38), (byte) (0x38), (byte) (0x38),
-                            (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x50), (byte) (0x58),
-                            (byte) (0x34), (byte) (0x58), (byte) (0x64), (byte) (0x58), (byte) (0x58), (byte) (0x58),
-                            (byte) (0x3C), (byte) (0x64), (byte) (0x74), (byte) (0x64), (byte) (0x64), (byte) (0x64),
-                            (byte) (0x70), (byte) (0x74), (byte) (0x7C), (byte) (0x84), (byte) (0x84), (byte) (0x84),
-                            (byte) (0x94), (byte) (0x98), (byte) (0x9C), (byte) (0xC4), (byte) (0xC4), (byte) (0xC4),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xF4), (byte) (0x04), (byte) (0x04), (byte) (0x08),
-                            (byte) (0x00), (byte) (0x04), (byte) (0x10), (byte) (0x04), (byte) (0x08), (byte) (0x18),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x18), (byte) (0x10), (byte) (0x14), (byte) (0x1C),
-                            (byte) (0x04), (byte) (0x0C), (byte) (0x24), (byte) (0x0C), (byte) (0x18), (byte) (0x20),
-                            (byte) (0x14), (byte) (0x18), (byte) (0x20), (byte) (0x08), (byte) (0x10), (byte) (0x2C),
-                            (byte) (0x10), (byte) (0x1C), (byte) (0x24), (byte) (0x0C), (byte) (0x20), (byte) (0x28),
-                            (byte) (0x04), (byte) (0x08), (byte) (0x38), (byte) (0x10), (byte) (0x1C), (byte) (0x30),
-                            (byte) (0x14), (byte) (0x28), (byte) (0x30), (byte) (0x0C), (byte) (0x14), (byte) (0x40),
-                            (byte) (0x10), (byte) (0x28), (byte) (0x38), (byte) (0x04), (byte) (0x0C), (byte) (0x48),
-                            (byte) (0x1C), (byte) (0x28), (byte) (0x38), (byte) (0x0C), (byte) (0x20), (byte) (0x4C),
-                            (byte) (0x14), (byte) (0x2C), (byte) (0x44), (byte) (0x20), (byte) (0x2C), (byte) (0x40),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x58), (byte) (0x20), (byte) (0x34), (byte) (0x48),
-                            (byte) (0x28), (byte) (0x34), (byte) (0x44), (byte) (0x1C), (byte) (0x28), (byte) (0x54),
-                            (byte) (0x14), (byte) (0x1C), (byte) (0x5C), (byte) (0x08), (byte) (0x24), (byte) (0x5C),
-                            (byte) (0x18), (byte) (0x38), (byte) (0x54), (byte) (0x24), (byte) (0x38), (byte) (0x54),
-                            (byte) (0x10), (byte) (0x18), (byte) (0x6C), (byte) (0x10), (byte) (0x2C), (byte) (0x68),
-                            (byte) (0x24), (byte) (0x44), (byte) (0x5C), (byte) (0x18), (byte) (0x24), (byte) (0x70),
-                            (byte) (0x24), (byte) (0x3C), (byte) (0x68), (byte) (0x0C), (byte) (0x2C), (byte) (0x7C),
-                            (byte) (0x2C), (byte) (0x4C), (byte) (0x64), (byte) (0x08), (byte) (0x48), (byte) (0x70),
-                            (byte) (0x18), (byte) (0x28), (byte) (0x80), (byte) (0x28), (byte) (0x50), (byte) (0x74),
-                            (byte) (0x24), (byte) (0x30), (byte) (0x88), (byte) (0x40), (byte) (0x50), (byte) (0x6C),
-                            (byte) (0x0C), (byte) (0x34), (byte) (0x8C), (byte) (0x68), (byte) (0x20), (byte) (0x70),
-                            (byte) (0x44), (byte) (0x58), (byte) (0x78), (byte) (0x40), (byte) (0x40), (byte) (0x8C),
-                            (byte) (0x30), (byte) (0x5C), (byte) (0x84), (byte) (0x24), (byte) (0x34), (byte) (0x9C),
-                            (byte) (0x18), (byte) (0x28), (byte) (0xA4), (byte) (0x14), (byte) (0x48), (byte) (0xA4),
-                            (byte) (0x40), (byte) (0x64), (byte) (0x8C), (byte) (0x38), (byte) (0x70), (byte) (0x8C),
-                            (byte) (0x50), (byte) (0x68), (byte) (0x8C), (byte) (0x34), (byte) (0x44), (byte) (0xB0),
-                            (byte) (0x20), (byte) (0x4C), (byte) (0xB4), (byte) (0x58), (byte) (0x70), (byte) (0x98),
-                            (byte) (0x40), (byte) (0x78), (byte) (0xA0), (byte) (0x1C), (byte) (0x60), (byte) (0xBC),
-                            (byte) (0x48), (byte) (0x84), (byte) (0x9C), (byte) (0x54), (byte) (0x54), (byte) (0xC4),
-                            (byte) (0x20), (byte) (0x6C), (byte) (0xC8), (byte) (0x58), (byte) (0x7C), (byte) (0xAC),
-                            (byte) (0x48), (byte) (0x88), (byte) (0xB0), (byte) (0x54), (byte) (0x7C), (byte) (0xC8),
-                            (byte) (0x20), (byte) (0x70), (byte) (0xE0), (byte) (0x54), (byte) (0x9C), (byte) (0xB8),
-                            (byte) (0x00), (byte) (0x2C), (byte) (0xFC), (byte) (0x70), (byte) (0x8C), (byte) (0xC0),
-                            (byte) (0x50), (byte) (0x98), (byte) (0xCC), (byte) (0x30), (byte) (0x84), (byte) (0xE4),
-                            (byte) (0x70), (byte) (0x70), (byte) (0xE0), (byte) (0x78), (byte) (0x98), (byte) (0xD0),
-                            (byte) (0x3C), (byte) (0x88), (byte) (0xF8), (byte) (0x38), (byte) (0xA0), (byte) (0xEC),
-                            (byte) (0x64), (byte) (0xB8), (byte) (0xD8), (byte) (0x84), (byte) (0xA4), (byte) (0xE0),
-                            (byte) (0x44), (byte) (0xB4), (byte) (0xF0), (byte) (0x4C), (byte) (0xC0), (byte) (0xF4),
-                            (byte) (0x8C), (byte) (0xB0), (byte) (0xF0), (byte) (0x5C), (byte) (0xD4), (byte) (0xFC),
-                            (byte) (0xB0), (byte) (0xB0), (byte) (0xFC), (byte) (0x10), (byte) (0x24), (byte) (0x04),
-                            (byte) (0x18), (byte) (0x24), (byte) (0x14), (byte) (0x18), (byte) (0x3C), (byte) (0x20),
-                            (byte) (0x0C), (byte) (0x48), (byte) (0x18), (byte) (0x30), (byte) (0x44), (byte) (0x00),
-                            (byte) (0x08), (byte) (0x64), (byte) (0x18), (byte) (0x24), (byte) (0x5C), (byte) (0x24),
-                            (byte) (0x24), (byte) (0x5C), (byte) (0x38), (byte) (0x44), (byte) (0x6C), (byte) (0x08),
-                            (byte) (0x14), (byte) (0x7C), (byte) (0x28), (byte) (0x34), (byte) (0x74), (byte) (0x40),
-                            (byte) (0x30), (byte) (0x78), (byte) (0x58), (byte) (0x1C), (byte) (0x9C), (byte) (0x34),
-                            (byte) (0x38), (byte) (0x84), (byte) (0x70), (byte) (0x34), (byte) (0xA0), (byte) (0x48),
-                            (byte) (0x4C), (byte) (0x90), (byte) (0x58), (byte) (0x28), (byte) (0xBC), (byte) (0x44),
-                            (byte) (0x48), (byte) (0x98), (byte) (0x84), (byte) (0x4C), (byte) (0xB8), (byte) (0x60),
-                            (byte) (0x00), (byte) (0xFC), (byte) (0x18), (byte) (0x5C), (byte) (0xDC), (byte) (0x74),
-                            (byte) (0x7C), (byte) (0xD0), (byte) (0x8C), (byte) (0x88), (byte) (0xFC), (byte) (0xA0),
-                            (byte) (0x28), (byte) (0x0C), (byte) (0x0C), (byte) (0x48), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x58), (byte) (0x00), (byte) (0x00), (byte) (0x44), (byte) (0x14), (byte) (0x38),
-                            (byte) (0x68), (byte) (0x24), (byte) (0x10), (byte) (0x64), (byte) (0x3C), (byte) (0x28),
-                            (byte) (0x78), (byte) (0x28), (byte) (0x28), (byte) (0x80), (byte) (0x10), (byte) (0x4C),
-                            (byte) (0x84), (byte) (0x4C), (byte) (0x38), (byte) (0x94), (byte) (0x30), (byte) (0x30),
-                            (byte) (0x8C), (byte) (0x60), (byte) (0x48), (byte) (0xA0), (byte) (0x5C), (byte) (0x38),
-                            (byte) (0xAC), (byte) (0x50), (byte) (0x50), (byte) (0xAC), (byte) (0x6C), (byte) (0x4C),
-                            (byte) (0xBC), (byte) (0x78), (byte) (0x54), (byte) (0xD8), (byte) (0x60), (byte) (0x24),
-                            (byte) (0xD0), (byte) (0x78), (byte) (0x64), (byte) (0xE0), (byte) (0x90), (byte) (0x64),
-                            (byte) (0xDC), (byte) (0xA0), (byte) (0x80), (byte) (0xFC), (byte) (0x20), (byte) (0xA4),
-                            (byte) (0xF0), (byte) (0x84), (byte) (0x84), (byte) (0xFC), (byte) (0xA0), (byte) (0xA0),
-                            (byte) (0xFC), (byte) (0xB8), (byte) (0x90), (byte) (0x90), (byte) (0x8C), (byte) (0x58),
-                            (byte) (0xA4), (byte) (0xA0), (byte) (0x68), (byte) (0xC4), (byte) (0xC0), (byte) (0x84),
-                            (byte) (0xD4), (byte) (0xD0), (byte) (0x98), (byte) (0xFC), (byte) (0xCC), (byte) (0xA8),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xCC), (byte) (0x80), (byte) (0xA0), (byte) (0xC0),
-                            (byte) (0xA8), (byte) (0xC0), (byte) (0xC4), (byte) (0x94), (byte) (0xC4), (byte) (0xE0),
-                            (byte) (0x74), (byte) (0xE8), (byte) (0xFC), (byte) (0xB0), (byte) (0xFC), (byte) (0xC4),
-                            (byte) (0xA4), (byte) (0xE4), (byte) (0xFC), (byte) (0xC4), (byte) (0xFC), (byte) (0xFC),
-                            (byte) (0x04), (byte) (0x04), (byte) (0x04), (byte) (0x08), (byte) (0x08), (byte) (0x08),
-                            (byte) (0x0C), (byte) (0x0C), (byte) (0x0C), (byte) (0x10), (byte) (0x10), (byte) (0x10),
-                            (byte) (0x14), (byte) (0x14), (byte) (0x14), (byte) (0x18), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x18), (byte) (0x1C), (byte) (0x24), (byte) (0x20), (byte) (0x20), (byte) (0x20),
-                            (byte) (0x24), (byte) (0x24), (byte) (0x24), (byte) (0x28), (byte) (0x28), (byte) (0x28),
-                            (byte) (0x20), (byte) (0x28), (byte) (0x30), (byte) (0x30), (byte) (0x30), (byte) (0x30),
-                            (byte) (0x28), (byte) (0x30), (byte) (0x38), (byte) (0x34), (byte) (0x34), (byte) (0x34),
-                            (byte) (0x3C), (byte) (0x38), (byte) (0x34), (byte) (0x34), (byte) (0x38), (byte) (0x44),
-                            (byte) (0x3C), (byte) (0x3C), (byte) (0x3C), (byte) (0x30), (byte) (0x3C), (byte) (0x4C),
-                            (byte) (0x40), (byte) (0x40), (byte) (0x40), (byte) (0x3C), (byte) (0x40), (byte) (0x44),
-                            (byte) (0x44), (byte) (0x44), (byte) (0x44), (byte) (0x3C), (byte) (0x48), (byte) (0x50),
-                            (byte) (0x38), (byte) (0x44), (byte) (0x58), (byte) (0x4C), (byte) (0x4C), (byte) (0x4C),
-                            (byte) (0x3C), (byte) (0x4C), (byte) (0x60), (byte) (0x5C), (byte) (0x58), (byte) (0x34),
-                            (byte) (0x50), (byte) (0x50), (byte) (0x50), (byte) (0x54), (byte) (0x54), (byte) (0x54),
-                            (byte) (0x5C), (byte) (0x5C), (byte) (0x5C), (byte) (0x50), (byte) (0x5C), (byte) (0x68),
-                            (byte) (0x60), (byte) (0x60), (byte) (0x60), (byte) (0x74), (byte) (0x70), (byte) (0x44),
-                            (byte) (0x50), (byte) (0x64), (byte) (0x7C), (byte) (0x68), (byte) (0x68), (byte) (0x68),
-                            (byte) (0x6C), (byte) (0x6C), (byte) (0x6C), (byte) (0x60), (byte) (0x6C), (byte) (0x78),
-                            (byte) (0x70), (byte) (0x70), (byte) (0x70), (byte) (0x74), (byte) (0x74), (byte) (0x74),
-                            (byte) (0x7C), (byte) (0x7C), (byte) (0x7C), (byte) (0x64), (byte) (0x80), (byte) (0x94),
-                            (byte) (0x74), (byte) (0x84), (byte) (0x90), (byte) (0x70), (byte) (0x88), (byte) (0xAC),
-                            (byte) (0x90), (byte) (0x90), (byte) (0x90), (byte) (0x84), (byte) (0x94), (byte) (0x9C),
-                            (byte) (0xB8), (byte) (0x94), (byte) (0x80), (byte) (0xA0), (byte) (0xA0), (byte) (0xA0),
-                            (byte) (0x98), (byte) (0xAC), (byte) (0xB0), (byte) (0xAC), (byte) (0xAC), (byte) (0xAC),
-                            (byte) (0xB8), (byte) (0xB8), (byte) (0xB8), (byte) (0xCC), (byte) (0xCC), (byte) (0xCC),
-                            (byte) (0xD8), (byte) (0xD8), (byte) (0xD8), (byte) (0xFC), (byte) (0xCC), (byte) (0xCC),
-                            (byte) (0xE4), (byte) (0xE4), (byte) (0xE4), (byte) (0x00), (byte) (0x00), (byte) (0x04),
-                            (byte) (0x08), (byte) (0x08), (byte) (0x0C), (byte) (0x04), (byte) (0x20), (byte) (0x74),
-                            (byte) (0x04), (byte) (0x3C), (byte) (0x80), (byte) (0x08), (byte) (0x58), (byte) (0x98),
-                            (byte) (0x0C), (byte) (0x68), (byte) (0xA4), (byte) (0x10), (byte) (0x54), (byte) (0xB8),
-                            (byte) (0x14), (byte) (0x84), (byte) (0xB8), (byte) (0x1C), (byte) (0x88), (byte) (0xE0),
-                            (byte) (0x20), (byte) (0x9C), (byte) (0xE8), (byte) (0x24), (byte) (0xAC), (byte) (0xF0),
-                            (byte) (0x28), (byte) (0xBC), (byte) (0xF4), (byte) (0x34), (byte) (0xE0), (byte) (0xFC),
-                            (byte) (0x00), (byte) (0x7C), (byte) (0x00), (byte) (0xC4), (byte) (0x74), (byte) (0x04),
-                            (byte) (0x00), (byte) (0x04), (byte) (0x04), (byte) (0x04), (byte) (0x08), (byte) (0x08),
-                            (byte) (0x0C), (byte) (0x0C), (byte) (0x10), (byte) (0x0C), (byte) (0x10), (byte) (0x10),
-                            (byte) (0x0C), (byte) (0x10), (byte) (0x14), (byte) (0x10), (byte) (0x14), (byte) (0x14),
-                            (byte) (0x10), (byte) (0x14), (byte) (0x18), (byte) (0x14), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x14), (byte) (0x18), (byte) (0x1C), (byte) (0x18), (byte) (0x1C), (byte) (0x20),
-                            (byte) (0x18), (byte) (0x20), (byte) (0x24), (byte) (0x1C), (byte) (0x20), (byte) (0x24),
-                            (byte) (0x20), (byte) (0x24), (byte) (0x28), (byte) (0x20), (byte) (0x28), (byte) (0x2C),
-                            (byte) (0x24), (byte) (0x2C), (byte) (0x30), (byte) (0xFF), (byte) (0xFF), (byte) (0xFF)},
-                        PaletteDataInterpretation.BGR)));
-        map.put(
-                "Act 5",
-                new RestrictableIndexColorModel(ImageUtilities.interpretIndexColorModel(
-                        new byte[]{
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x24),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x1C), (byte) (0x10), (byte) (0x24), (byte) (0x2C),
-                            (byte) (0x18), (byte) (0x34), (byte) (0x3C), (byte) (0x00), (byte) (0x00), (byte) (0x5C),
-                            (byte) (0x20), (byte) (0x40), (byte) (0x48), (byte) (0x28), (byte) (0x48), (byte) (0x54),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x90), (byte) (0x10), (byte) (0x48), (byte) (0x8C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0xBC), (byte) (0x20), (byte) (0x84), (byte) (0xD0),
-                            (byte) (0x6C), (byte) (0xC4), (byte) (0xF4), (byte) (0x50), (byte) (0x7C), (byte) (0x8C),
-                            (byte) (0x64), (byte) (0x9C), (byte) (0xAC), (byte) (0x08), (byte) (0x0C), (byte) (0x0C),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x1C),
-                            (byte) (0x1C), (byte) (0x24), (byte) (0x28), (byte) (0x2C), (byte) (0x2C), (byte) (0x2C),
-                            (byte) (0x30), (byte) (0x38), (byte) (0x3C), (byte) (0x38), (byte) (0x38), (byte) (0x38),
-                            (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x50), (byte) (0x58),
-                            (byte) (0x34), (byte) (0x58), (byte) (0x64), (byte) (0x58), (byte) (0x58), (byte) (0x58),
-                            (byte) (0x3C), (byte) (0x64), (byte) (0x74), (byte) (0x64), (byte) (0x64), (byte) (0x64),
-                            (byte) (0x70), (byte) (0x74), (byte) (0x7C), (byte) (0x84), (byte) (0x84), (byte) (0x84),
-                            (byte) (0x94), (byte) (0x98), (byte) (0x9C), (byte) (0xC4), (byte) (0xC4), (byte) (0xC4),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xF4), (byte) (0x04), (byte) (0x04), (byte) (0x08),
-                            (byte) (0x00), (byte) (0x04), (byte) (0x10), (byte) (0x04), (byte) (0x08), (byte) (0x18),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x18), (byte) (0x10), (byte) (0x14), (byte) (0x1C),
-                            (byte) (0x04), (byte) (0x0C), (byte) (0x24), (byte) (0x0C), (byte) (0x18), (byte) (0x20),
-                            (byte) (0x14), (byte) (0x18), (byte) (0x20), (byte) (0x08), (byte) (0x10), (byte) (0x2C),
-                            (byte) (0x10), (byte) (0x1C), (byte) (0x24), (byte) (0x0C), (byte) (0x20), (byte) (0x28),
-                            (byte) (0x04), (byte) (0x08), (byte) (0x38), (byte) (0x10), (byte) (0x1C), (byte) (0x30),
-                            (byte) (0x14), (byte) (0x28), (byte) (0x30), (byte) (0x0C), (byte) (0x14), (byte) (0x40),
-                            (byte) (0x10), (byte) (0x28), (byte) (0x38), (byte) (0x04), (byte) (0x0C), (byte) (0x48),
-                            (byte) (0x1C), (byte) (0x28), (byte) (0x38), (byte) (0x0C), (byte) (0x20), (byte) (0x4C),
-                            (byte) (0x14), (byte) (0x2C), (byte) (0x44), (byte) (0x20), (byte) (0x2C), (byte) (0x40),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x58), (byte) (0x20), (byte) (0x34), (byte) (0x48),
-                            (byte) (0x28), (byte) (0x34), (byte) (0x44), (byte) (0x1C), (byte) (0x28), (byte) (0x54),
-                            (byte) (0x14), (byte) (0x1C), (byte) (0x5C), (byte) (0x08), (byte) (0x24), (byte) (0x5C),
-                            (byte) (0x18), (byte) (0x38), (byte) (0x54), (byte) (0x24), (byte) (0x38), (byte) (0x54),
-                            (byte) (0x10), (byte) (0x18), (byte) (0x6C), (byte) (0x10), (byte) (0x2C), (byte) (0x68),
-                            (byte) (0x24), (byte) (0x44), (byte) (0x5C), (byte) (0x18), (byte) (0x24), (byte) (0x70),
-                            (byte) (0x24), (byte) (0x3C), (byte) (0x68), (byte) (0x0C), (byte) (0x2C), (byte) (0x7C),
-                            (byte) (0x2C), (byte) (0x4C), (byte) (0x64), (byte) (0x08), (byte) (0x48), (byte) (0x70),
-                            (byte) (0x18), (byte) (0x28), (byte) (0x80), (byte) (0x28), (byte) (0x50), (byte) (0x74),
-                            (byte) (0x24), (byte) (0x30), (byte) (0x88), (byte) (0x40), (byte) (0x50), (byte) (0x6C),
-                            (byte) (0x0C), (byte) (0x34), (byte) (0x8C), (byte) (0x68), (byte) (0x20), (byte) (0x70),
-                            (byte) (0x44), (byte) (0x58), (byte) (0x78), (byte) (0x40), (byte) (0x40), (byte) (0x8C),
-                            (byte) (0x30), (byte) (0x5C), (byte) (0x84), (byte) (0x24), (byte) (0x34), (byte) (0x9C),
-                            (byte) (0x18), (byte) (0x28), (byte) (0xA4), (byte) (0x14), (byte) (0x48), (byte) (0xA4),
-                            (byte) (0x40), (byte) (0x64), (byte) (0x8C), (byte) (0x38), (byte) (0x70), (byte) (0x8C),
-                            (byte) (0x50), (byte) (0x68), (byte) (0x8C), (byte) (0x34), (byte) (0x44), (byte) (0xB0),
-                            (byte) (0x20), (byte) (0x4C), (byte) (0xB4), (byte) (0x58), (byte) (0x70), (byte) (0x98),
-                            (byte) (0x40), (byte) (0x78), (byte) (0xA0), (byte) (0x1C), (byte) (0x60), (byte) (0xBC),
-                            (byte) (0x48), (byte) (0x84), (byte) (0x9C), (byte) (0x54), (byte) (0x54), (byte) (0xC4),
-                            (byte) (0x20), (byte) (0x6C), (byte) (0xC8), (byte) (0x58), (byte) (0x7C), (byte) (0xAC),
-                            (byte) (0x48), (byte) (0x88), (byte) (0xB0), (byte) (0x54), (byte) (0x7C), (byte) (0xC8),
-                            (byte) (0x20), (byte) (0x70), (byte) (0xE0), (byte) (0x54), (byte) (0x9C), (byte) (0xB8),
-                            (byte) (0x00), (byte) (0x2C), (byte) (0xFC), (byte) (0x70), (byte) (0x8C), (byte) (0xC0),
-                            (byte) (0x50), (byte) (0x98), (byte) (0xCC), (byte) (0x30), (byte) (0x84), (byte) (0xE4),
-                            (byte) (0x70), (byte) (0x70), (byte) (0xE0), (byte) (0x78), (byte) (0x98), (byte) (0xD0),
-                            (byte) (0x3C), (byte) (0x88), (byte) (0xF8), (byte) (0x38), (byte) (0xA0), (byte) (0xEC),
-                            (byte) (0x64), (byte) (0xB8), (byte) (0xD8), (byte) (0x84), (byte) (0xA4), (byte) (0xE0),
-                            (byte) (0x44), (byte) (0xB4), (byte) (0xF0), (byte) (0x4C), (byte) (0xC0), (byte) (0xF4),
-                            (byte) (0x8C), (byte) (0xB0), (byte) (0xF0), (byte) (0x5C), (byte) (0xD4), (byte) (0xFC),
-                            (byte) (0xB0), (byte) (0xB0), (byte) (0xFC), (byte) (0x10), (byte) (0x24), (byte) (0x04),
-                            (byte) (0x18), (byte) (0x24), (byte) (0x14), (byte) (0x18), (byte) (0x3C), (byte) (0x20),
-                            (byte) (0x0C), (byte) (0x48), (byte) (0x18), (byte) (0x30), (byte) (0x44), (byte) (0x00),
-                            (byte) (0x08), (byte) (0x64), (byte) (0x18), (byte) (0x24), (byte) (0x5C), (byte) (0x24),
-                            (byte) (0x24), (byte) (0x5C), (byte) (0x38), (byte) (0x44), (byte) (0x6C), (byte) (0x08),
-                            (byte) (0x14), (byte) (0x7C), (byte) (0x28), (byte) (0x34), (byte) (0x74), (byte) (0x40),
-                            (byte) (0x30), (byte) (0x78), (byte) (0x58), (byte) (0x1C), (byte) (0x9C), (byte) (0x34),
-                            (byte) (0x38), (byte) (0x84), (byte) (0x70), (byte) (0x34), (byte) (0xA0), (byte) (0x48),
-                            (byte) (0x4C), (byte) (0x90), (byte) (0x58), (byte) (0x28), (byte) (0xBC), (byte) (0x44),
-                            (byte) (0x48), (byte) (0x98), (byte) (0x84), (byte) (0x4C), (byte) (0xB8), (byte) (0x60),
-                            (byte) (0x00), (byte) (0xFC), (byte) (0x18), (byte) (0x5C), (byte) (0xDC), (byte) (0x74),
-                            (byte) (0x7C), (byte) (0xD0), (byte) (0x8C), (byte) (0x88), (byte) (0xFC), (byte) (0xA0),
-                            (byte) (0x28), (byte) (0x0C), (byte) (0x0C), (byte) (0x48), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x58), (byte) (0x00), (byte) (0x00), (byte) (0x44), (byte) (0x14), (byte) (0x38),
-                            (byte) (0x68), (byte) (0x24), (byte) (0x10), (byte) (0x64), (byte) (0x3C), (byte) (0x28),
-                            (byte) (0x78), (byte) (0x28), (byte) (0x28), (byte) (0x80), (byte) (0x10), (byte) (0x4C),
-                            (byte) (0x84), (byte) (0x4C), (byte) (0x38), (byte) (0x94), (byte) (0x30), (byte) (0x30),
-                            (byte) (0x8C), (byte) (0x60), (byte) (0x48), (byte) (0xA0), (byte) (0x5C), (byte) (0x38),
-                            (byte) (0xAC), (byte) (0x50), (byte) (0x50), (byte) (0xAC), (byte) (0x6C), (byte) (0x4C),
-                            (byte) (0xBC), (byte) (0x78), (byte) (0x54), (byte) (0xD8), (byte) (0x60), (byte) (0x24),
-                            (byte) (0xD0), (byte) (0x78), (byte) (0x64), (byte) (0xE0), (byte) (0x90), (byte) (0x64),
-                            (byte) (0xDC), (byte) (0xA0), (byte) (0x80), (byte) (0xFC), (byte) (0x20), (byte) (0xA4),
-                            (byte) (0xF0), (byte) (0x84), (byte) (0x84), (byte) (0xFC), (byte) (0xA0), (byte) (0xA0),
-                            (byte) (0xFC), (byte) (0xB8), (byte) (0x90), (byte) (0x90), (byte) (0x8C), (byte) (0x58),
-                            (byte) (0xA4), (byte) (0xA0), (byte) (0x68), (byte) (0xC4), (byte) (0xC0), (byte) (0x84),
-                            (byte) (0xD4), (byte) (0xD0), (byte) (0x98), (byte) (0xFC), (byte) (0xCC), (byte) (0xA8),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xCC), (byte) (0x80), (byte) (0xA0), (byte) (0xC0),
-                            (byte) (0xA8), (byte) (0xC0), (byte) (0xC4), (byte) (0x94), (byte) (0xC4), (byte) (0xE0),
-                            (byte) (0x74), (byte) (0xE8), (byte) (0xFC), (byte) (0xB0), (byte) (0xFC), (byte) (0xC4),
-                            (byte) (0xA4), (byte) (0xE4), (byte) (0xFC), (byte) (0xC4), (byte) (0xFC), (byte) (0xFC),
-                            (byte) (0x04), (byte) (0x04), (byte) (0x04), (byte) (0x08), (byte) (0x08), (byte) (0x08),
-                            (byte) (0x0C), (byte) (0x0C), (byte) (0x0C), (byte) (0x10), (byte) (0x10), (byte) (0x10),
-                            (byte) (0x14), (byte) (0x14), (byte) (0x14), (byte) (0x18), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x18), (byte) (0x1C), (byte) (0x24), (byte) (0x20), (byte) (0x20), (byte) (0x20),
-                            (byte) (0x24), (byte) (0x24), (byte) (0x24), (byte) (0x28), (byte) (0x28), (byte) (0x28),
-                            (byte) (0x20), (byte) (0x28), (byte) (0x30), (byte) (0x30), (byte) (0x30), (byte) (0x30),
-                            (byte) (0x28), (byte) (0x30), (byte) (0x38), (byte) (0x34), (byte) (0x34), (byte) (0x34),
-                            (byte) (0x3C), (byte) (0x38), (byte) (0x34), (byte) (0x34), (byte) (0x38), (byte) (0x44),
-                            (byte) (0x3C), (byte) (0x3C), (byte) (0x3C), (byte) (0x30), (byte) (0x3C), (byte) (0x4C),
-                            (byte) (0x40), (byte) (0x40), (byte) (0x40), (byte) (0x3C), (byte) (0x40), (byte) (0x44),
-                            (byte) (0x44), (byte) (0x44), (byte) (0x44), (byte) (0x3C), (byte) (0x48), (byte) (0x50),
-                            (byte) (0x38), (byte) (0x44), (byte) (0x58), (byte) (0x4C), (byte) (0x4C), (byte) (0x4C),
-                            (byte) (0x3C), (byte) (0x4C), (byte) (0x60), (byte) (0x5C), (byte) (0x58), (byte) (0x34),
-                            (byte) (0x50), (byte) (0x50), (byte) (0x50), (byte) (0x54), (byte) (0x54), (byte) (0x54),
-                            (byte) (0x5C), (byte) (0x5C), (byte) (0x5C), (byte) (0x50), (byte) (0x5C), (byte) (0x68),
-                            (byte) (0x60), (byte) (0x60), (byte) (0x60), (byte) (0x74), (byte) (0x70), (byte) (0x44),
-                            (byte) (0x50), (byte) (0x64), (byte) (0x7C), (byte) (0x68), (byte) (0x68), (byte) (0x68),
-                            (byte) (0x6C), (byte) (0x6C), (byte) (0x6C), (byte) (0x60), (byte) (0x6C), (byte) (0x78),
-                            (byte) (0x70), (byte) (0x70), (byte) (0x70), (byte) (0x74), (byte) (0x74), (byte) (0x74),
-                            (byte) (0x7C), (byte) (0x7C), (byte) (0x7C), (byte) (0x64), (byte) (0x80), (byte) (0x94),
-                            (byte) (0x74), (byte) (0x84), (byte) (0x90), (byte) (0x70), (byte) (0x88), (byte) (0xAC),
-                            (byte) (0x90), (byte) (0x90), (byte) (0x90), (byte) (0x84), (byte) (0x94), (byte) (0x9C),
-                            (byte) (0xB8), (byte) (0x94), (byte) (0x80), (byte) (0xA0), (byte) (0xA0), (byte) (0xA0),
-                            (byte) (0x98), (byte) (0xAC), (byte) (0xB0), (byte) (0xAC), (byte) (0xAC), (byte) (0xAC),
-                            (byte) (0xB8), (byte) (0xB8), (byte) (0xB8), (byte) (0xCC), (byte) (0xCC), (byte) (0xCC),
-                            (byte) (0xD8), (byte) (0xD8), (byte) (0xD8), (byte) (0xFC), (byte) (0xCC), (byte) (0xCC),
-                            (byte) (0xE4), (byte) (0xE4), (byte) (0xE4), (byte) (0x28), (byte) (0x08), (byte) (0xC4),
-                            (byte) (0x18), (byte) (0x2C), (byte) (0xCC), (byte) (0x1C), (byte) (0x04), (byte) (0xF0),
-                            (byte) (0x3C), (byte) (0x10), (byte) (0xEC), (byte) (0x28), (byte) (0x58), (byte) (0xFC),
-                            (byte) (0x64), (byte) (0x38), (byte) (0xF8), (byte) (0x29), (byte) (0x6E), (byte) (0x4C),
-                            (byte) (0xD2), (byte) (0xBF), (byte) (0x71), (byte) (0x00), (byte) (0x34), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x84), (byte) (0x00), (byte) (0x50), (byte) (0x8C), (byte) (0x0C),
-                            (byte) (0x1C), (byte) (0xC4), (byte) (0x0C), (byte) (0xC4), (byte) (0xB4), (byte) (0x28),
-                            (byte) (0xE4), (byte) (0x70), (byte) (0x5C), (byte) (0xF8), (byte) (0xF8), (byte) (0x4C),
-                            (byte) (0x25), (byte) (0x43), (byte) (0x36), (byte) (0x2D), (byte) (0x59), (byte) (0x43),
-                            (byte) (0x3C), (byte) (0x6E), (byte) (0x53), (byte) (0x18), (byte) (0x24), (byte) (0x1F),
-                            (byte) (0x20), (byte) (0x3E), (byte) (0x2F), (byte) (0x14), (byte) (0x20), (byte) (0x24),
-                            (byte) (0x20), (byte) (0x30), (byte) (0x34), (byte) (0x34), (byte) (0x34), (byte) (0x28),
-                            (byte) (0x48), (byte) (0x48), (byte) (0x38), (byte) (0x58), (byte) (0x5C), (byte) (0x48),
-                            (byte) (0x64), (byte) (0x68), (byte) (0x54), (byte) (0x74), (byte) (0x78), (byte) (0x64),
-                            (byte) (0x84), (byte) (0x88), (byte) (0x74), (byte) (0x9C), (byte) (0x9C), (byte) (0x94),
-                            (byte) (0xFC), (byte) (0xFC), (byte) (0xFC), (byte) (0xFF), (byte) (0xFF), (byte) (0xFF)},
-                        PaletteDataInterpretation.BGR)));
-        map.put(
-                "Endgame",
-                new RestrictableIndexColorModel(ImageUtilities.interpretIndexColorModel(
-                        new byte[]{
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x24),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x1C), (byte) (0x10), (byte) (0x24), (byte) (0x2C),
-                            (byte) (0x18), (byte) (0x34), (byte) (0x3C), (byte) (0x00), (byte) (0x00), (byte) (0x5C),
-                            (byte) (0x20), (byte) (0x40), (byte) (0x48), (byte) (0x28), (byte) (0x48), (byte) (0x54),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x90), (byte) (0x10), (byte) (0x48), (byte) (0x8C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0xBC), (byte) (0x20), (byte) (0x84), (byte) (0xD0),
-                            (byte) (0x6C), (byte) (0xC4), (byte) (0xF4), (byte) (0x50), (byte) (0x7C), (byte) (0x8C),
-                            (byte) (0x64), (byte) (0x9C), (byte) (0xAC), (byte) (0x08), (byte) (0x0C), (byte) (0x0C),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x1C),
-                            (byte) (0x1C), (byte) (0x24), (byte) (0x28), (byte) (0x2C), (byte) (0x2C), (byte) (0x2C),
-                            (byte) (0x30), (byte) (0x38), (byte) (0x3C), (byte) (0x38), (byte) (0x38), (byte) (0x38),
-                            (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x50), (byte) (0x58),
-                            (byte) (0x34), (byte) (0x58), (byte) (0x64), (byte) (0x58), (byte) (0x58), (byte) (0x58),
-                            (byte) (0x3C), (byte) (0x64), (byte) (0x74), (byte) (0x64), (byte) (0x64), (byte) (0x64),
-                            (byte) (0x70), (byte) (0x74), (byte) (0x7C), (byte) (0x84), (byte) (0x84), (byte) (0x84),
-                            (byte) (0x94), (byte) (0x98), (byte) (0x9C), (byte) (0xC4), (byte) (0xC4), (byte) (0xC4),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xF4), (byte) (0x00), (byte) (0x00), (byte) (0x04),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x08), (byte) (0x00), (byte) (0x04), (byte) (0x08),
-                            (byte) (0x04), (byte) (0x04), (byte) (0x08), (byte) (0x04), (byte) (0x04), (byte) (0x0C),
-                            (byte) (0x04), (byte) (0x08), (byte) (0x0C), (byte) (0x00), (byte) (0x00), (byte) (0x10),
-                            (byte) (0x08), (byte) (0x08), (byte) (0x0C), (byte) (0x04), (byte) (0x08), (byte) (0x10),
-                            (byte) (0x04), (byte) (0x0C), (byte) (0x10), (byte) (0x08), (byte) (0x0C), (byte) (0x10),
-                            (byte) (0x04), (byte) (0x0C), (byte) (0x14), (byte) (0x08), (byte) (0x0C), (byte) (0x14),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x14), (byte) (0x08), (byte) (0x10), (byte) (0x18),
-                            (byte) (0x0C), (byte) (0x14), (byte) (0x18), (byte) (0x08), (byte) (0x14), (byte) (0x1C),
-                            (byte) (0x0C), (byte) (0x14), (byte) (0x1C), (byte) (0x10), (byte) (0x14), (byte) (0x1C),
-                            (byte) (0x0C), (byte) (0x18), (byte) (0x20), (byte) (0x08), (byte) (0x14), (byte) (0x24),
-                            (byte) (0x10), (byte) (0x18), (byte) (0x20), (byte) (0x14), (byte) (0x18), (byte) (0x20),
-                            (byte) (0x10), (byte) (0x1C), (byte) (0x24), (byte) (0x14), (byte) (0x1C), (byte) (0x24),
-                            (byte) (0x0C), (byte) (0x1C), (byte) (0x2C), (byte) (0x14), (byte) (0x20), (byte) (0x28),
-                            (byte) (0x0C), (byte) (0x20), (byte) (0x34), (byte) (0x14), (byte) (0x24), (byte) (0x30),
-                            (byte) (0x14), (byte) (0x28), (byte) (0x38), (byte) (0x14), (byte) (0x28), (byte) (0x44),
-                            (byte) (0x1C), (byte) (0x2C), (byte) (0x40), (byte) (0x20), (byte) (0x34), (byte) (0x48),
-                            (byte) (0x18), (byte) (0x34), (byte) (0x50), (byte) (0x14), (byte) (0x2C), (byte) (0x60),
-                            (byte) (0x28), (byte) (0x3C), (byte) (0x50), (byte) (0x1C), (byte) (0x40), (byte) (0x54),
-                            (byte) (0x1C), (byte) (0x3C), (byte) (0x60), (byte) (0x24), (byte) (0x48), (byte) (0x60),
-                            (byte) (0x10), (byte) (0x28), (byte) (0x78), (byte) (0x20), (byte) (0x40), (byte) (0x6C),
-                            (byte) (0x28), (byte) (0x50), (byte) (0x68), (byte) (0x28), (byte) (0x48), (byte) (0x78),
-                            (byte) (0x2C), (byte) (0x58), (byte) (0x74), (byte) (0x20), (byte) (0x48), (byte) (0x84),
-                            (byte) (0x2C), (byte) (0x58), (byte) (0x80), (byte) (0x40), (byte) (0x5C), (byte) (0x80),
-                            (byte) (0x34), (byte) (0x58), (byte) (0x8C), (byte) (0x24), (byte) (0x54), (byte) (0x98),
-                            (byte) (0x34), (byte) (0x6C), (byte) (0x84), (byte) (0x18), (byte) (0x64), (byte) (0x94),
-                            (byte) (0x4C), (byte) (0x64), (byte) (0x84), (byte) (0x30), (byte) (0x6C), (byte) (0x94),
-                            (byte) (0x38), (byte) (0x78), (byte) (0x90), (byte) (0x50), (byte) (0x6C), (byte) (0x90),
-                            (byte) (0x34), (byte) (0x80), (byte) (0x94), (byte) (0x54), (byte) (0x74), (byte) (0x98),
-                            (byte) (0x00), (byte) (0x04), (byte) (0x00), (byte) (0x48), (byte) (0x88), (byte) (0x94),
-                            (byte) (0x3C), (byte) (0x8C), (byte) (0x98), (byte) (0x40), (byte) (0x94), (byte) (0x98),
-                            (byte) (0x4C), (byte) (0x98), (byte) (0x98), (byte) (0x58), (byte) (0x98), (byte) (0x98),
-                            (byte) (0x68), (byte) (0x98), (byte) (0x98), (byte) (0x00), (byte) (0x04), (byte) (0x04),
-                            (byte) (0x04), (byte) (0x04), (byte) (0x04), (byte) (0x04), (byte) (0x08), (byte) (0x08),
-                            (byte) (0x08), (byte) (0x08), (byte) (0x08), (byte) (0x0C), (byte) (0x0C), (byte) (0x0C),
-                            (byte) (0x0C), (byte) (0x0C), (byte) (0x10), (byte) (0x08), (byte) (0x10), (byte) (0x10),
-                            (byte) (0x0C), (byte) (0x10), (byte) (0x10), (byte) (0x10), (byte) (0x10), (byte) (0x10),
-                            (byte) (0x0C), (byte) (0x10), (byte) (0x14), (byte) (0x0C), (byte) (0x14), (byte) (0x14),
-                            (byte) (0x10), (byte) (0x14), (byte) (0x14), (byte) (0x14), (byte) (0x14), (byte) (0x14),
-                            (byte) (0x10), (byte) (0x14), (byte) (0x18), (byte) (0x14), (byte) (0x14), (byte) (0x18),
-                            (byte) (0x10), (byte) (0x18), (byte) (0x18), (byte) (0x14), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x10), (byte) (0x18), (byte) (0x1C), (byte) (0x18), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x14), (byte) (0x18), (byte) (0x1C), (byte) (0x18), (byte) (0x18), (byte) (0x1C),
-                            (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x10), (byte) (0x1C), (byte) (0x20),
-                            (byte) (0x18), (byte) (0x1C), (byte) (0x1C), (byte) (0x14), (byte) (0x1C), (byte) (0x20),
-                            (byte) (0x18), (byte) (0x1C), (byte) (0x20), (byte) (0x1C), (byte) (0x1C), (byte) (0x20),
-                            (byte) (0x18), (byte) (0x20), (byte) (0x20), (byte) (0x18), (byte) (0x1C), (byte) (0x24),
-                            (byte) (0x14), (byte) (0x20), (byte) (0x24), (byte) (0x1C), (byte) (0x20), (byte) (0x20),
-                            (byte) (0x18), (byte) (0x20), (byte) (0x24), (byte) (0x20), (byte) (0x20), (byte) (0x20),
-                            (byte) (0x1C), (byte) (0x20), (byte) (0x24), (byte) (0x18), (byte) (0x20), (byte) (0x28),
-                            (byte) (0x20), (byte) (0x20), (byte) (0x24), (byte) (0x1C), (byte) (0x20), (byte) (0x28),
-                            (byte) (0x20), (byte) (0x24), (byte) (0x24), (byte) (0x24), (byte) (0x24), (byte) (0x24),
-                            (byte) (0x20), (byte) (0x24), (byte) (0x28), (byte) (0x1C), (byte) (0x24), (byte) (0x2C),
-                            (byte) (0x18), (byte) (0x28), (byte) (0x2C), (byte) (0x24), (byte) (0x24), (byte) (0x28),
-                            (byte) (0x24), (byte) (0x28), (byte) (0x28), (byte) (0x20), (byte) (0x28), (byte) (0x2C),
-                            (byte) (0x1C), (byte) (0x28), (byte) (0x30), (byte) (0x28), (byte) (0x28), (byte) (0x28),
-                            (byte) (0x24), (byte) (0x28), (byte) (0x2C), (byte) (0x20), (byte) (0x28), (byte) (0x30),
-                            (byte) (0x28), (byte) (0x28), (byte) (0x2C), (byte) (0x1C), (byte) (0x2C), (byte) (0x34),
-                            (byte) (0x28), (byte) (0x2C), (byte) (0x2C), (byte) (0x24), (byte) (0x2C), (byte) (0x30),
-                            (byte) (0x28), (byte) (0x2C), (byte) (0x30), (byte) (0x28), (byte) (0x30), (byte) (0x30),
-                            (byte) (0x20), (byte) (0x30), (byte) (0x38), (byte) (0x2C), (byte) (0x30), (byte) (0x30),
-                            (byte) (0x28), (byte) (0x30), (byte) (0x34), (byte) (0x2C), (byte) (0x30), (byte) (0x34),
-                            (byte) (0x34), (byte) (0x30), (byte) (0x2C), (byte) (0x30), (byte) (0x30), (byte) (0x34),
-                            (byte) (0x24), (byte) (0x34), (byte) (0x3C), (byte) (0x30), (byte) (0x34), (byte) (0x34),
-                            (byte) (0x2C), (byte) (0x34), (byte) (0x38), (byte) (0x30), (byte) (0x34), (byte) (0x38),
-                            (byte) (0x20), (byte) (0x38), (byte) (0x40), (byte) (0x34), (byte) (0x34), (byte) (0x38),
-                            (byte) (0x34), (byte) (0x38), (byte) (0x38), (byte) (0x34), (byte) (0x38), (byte) (0x3C),
-                            (byte) (0x28), (byte) (0x3C), (byte) (0x44), (byte) (0x38), (byte) (0x3C), (byte) (0x3C),
-                            (byte) (0x34), (byte) (0x3C), (byte) (0x40), (byte) (0x38), (byte) (0x3C), (byte) (0x40),
-                            (byte) (0x38), (byte) (0x40), (byte) (0x40), (byte) (0x3C), (byte) (0x40), (byte) (0x40),
-                            (byte) (0x38), (byte) (0x40), (byte) (0x44), (byte) (0x34), (byte) (0x40), (byte) (0x48),
-                            (byte) (0x3C), (byte) (0x40), (byte) (0x44), (byte) (0x3C), (byte) (0x40), (byte) (0x48),
-                            (byte) (0x40), (byte) (0x44), (byte) (0x44), (byte) (0x3C), (byte) (0x44), (byte) (0x48),
-                            (byte) (0x48), (byte) (0x44), (byte) (0x3C), (byte) (0x38), (byte) (0x44), (byte) (0x4C),
-                            (byte) (0x40), (byte) (0x44), (byte) (0x48), (byte) (0x40), (byte) (0x44), (byte) (0x4C),
-                            (byte) (0x40), (byte) (0x48), (byte) (0x4C), (byte) (0x44), (byte) (0x48), (byte) (0x4C),
-                            (byte) (0x3C), (byte) (0x48), (byte) (0x54), (byte) (0x44), (byte) (0x48), (byte) (0x50),
-                            (byte) (0x30), (byte) (0x50), (byte) (0x58), (byte) (0x44), (byte) (0x4C), (byte) (0x50),
-                            (byte) (0x48), (byte) (0x4C), (byte) (0x50), (byte) (0x40), (byte) (0x4C), (byte) (0x58),
-                            (byte) (0x48), (byte) (0x4C), (byte) (0x54), (byte) (0x3C), (byte) (0x4C), (byte) (0x60),
-                            (byte) (0x48), (byte) (0x50), (byte) (0x54), (byte) (0x58), (byte) (0x50), (byte) (0x44),
-                            (byte) (0x50), (byte) (0x50), (byte) (0x50), (byte) (0x4C), (byte) (0x50), (byte) (0x54),
-                            (byte) (0x4C), (byte) (0x54), (byte) (0x58), (byte) (0x50), (byte) (0x54), (byte) (0x58),
-                            (byte) (0x48), (byte) (0x54), (byte) (0x60), (byte) (0x40), (byte) (0x54), (byte) (0x68),
-                            (byte) (0x50), (byte) (0x58), (byte) (0x5C), (byte) (0x54), (byte) (0x58), (byte) (0x5C),
-                            (byte) (0x50), (byte) (0x58), (byte) (0x60), (byte) (0x4C), (byte) (0x58), (byte) (0x64),
-                            (byte) (0x54), (byte) (0x58), (byte) (0x60), (byte) (0x54), (byte) (0x5C), (byte) (0x60),
-                            (byte) (0x50), (byte) (0x5C), (byte) (0x64), (byte) (0x58), (byte) (0x5C), (byte) (0x60),
-                            (byte) (0x60), (byte) (0x5C), (byte) (0x58), (byte) (0x48), (byte) (0x5C), (byte) (0x70),
-                            (byte) (0x58), (byte) (0x60), (byte) (0x64), (byte) (0x68), (byte) (0x60), (byte) (0x54),
-                            (byte) (0x54), (byte) (0x60), (byte) (0x68), (byte) (0x50), (byte) (0x60), (byte) (0x6C),
-                            (byte) (0x5C), (byte) (0x60), (byte) (0x64), (byte) (0x5C), (byte) (0x64), (byte) (0x68),
-                            (byte) (0x4C), (byte) (0x60), (byte) (0x78), (byte) (0x60), (byte) (0x64), (byte) (0x68),
-                            (byte) (0x58), (byte) (0x64), (byte) (0x70), (byte) (0x60), (byte) (0x68), (byte) (0x6C),
-                            (byte) (0x68), (byte) (0x68), (byte) (0x68), (byte) (0x60), (byte) (0x68), (byte) (0x70),
-                            (byte) (0x50), (byte) (0x64), (byte) (0x80), (byte) (0x64), (byte) (0x6C), (byte) (0x70),
-                            (byte) (0x60), (byte) (0x6C), (byte) (0x74), (byte) (0x44), (byte) (0x74), (byte) (0x80),
-                            (byte) (0x64), (byte) (0x6C), (byte) (0x74), (byte) (0x70), (byte) (0x70), (byte) (0x6C),
-                            (byte) (0x68), (byte) (0x70), (byte) (0x74), (byte) (0x78), (byte) (0x70), (byte) (0x64),
-                            (byte) (0x64), (byte) (0x70), (byte) (0x78), (byte) (0x5C), (byte) (0x70), (byte) (0x84),
-                            (byte) (0x6C), (byte) (0x74), (byte) (0x78), (byte) (0x68), (byte) (0x74), (byte) (0x7C),
-                            (byte) (0x74), (byte) (0x74), (byte) (0x74), (byte) (0x6C), (byte) (0x78), (byte) (0x80),
-                            (byte) (0x7C), (byte) (0x7C), (byte) (0x78), (byte) (0x74), (byte) (0x7C), (byte) (0x80),
-                            (byte) (0x5C), (byte) (0x7C), (byte) (0x98), (byte) (0x74), (byte) (0x80), (byte) (0x88),
-                            (byte) (0x80), (byte) (0x80), (byte) (0x80), (byte) (0x60), (byte) (0x84), (byte) (0x98),
-                            (byte) (0x78), (byte) (0x84), (byte) (0x8C), (byte) (0x8C), (byte) (0x84), (byte) (0x7C),
-                            (byte) (0x68), (byte) (0x8C), (byte) (0x98), (byte) (0x7C), (byte) (0x88), (byte) (0x90),
-                            (byte) (0x88), (byte) (0x88), (byte) (0x88), (byte) (0x8C), (byte) (0x8C), (byte) (0x88),
-                            (byte) (0x80), (byte) (0x8C), (byte) (0x94), (byte) (0x78), (byte) (0x98), (byte) (0x98),
-                            (byte) (0x88), (byte) (0x90), (byte) (0x94), (byte) (0x90), (byte) (0x90), (byte) (0x90),
-                            (byte) (0x94), (byte) (0x94), (byte) (0x94), (byte) (0x8C), (byte) (0x98), (byte) (0x98),
-                            (byte) (0x98), (byte) (0x98), (byte) (0x98), (byte) (0xFF), (byte) (0xFF), (byte) (0xFF)},
-                        PaletteDataInterpretation.BGR)));
-    }
+    /**
+     * The default palettes, keyed by name.  This map may not be modified.  Its names are read from the palette resource
+     * when it is first used; each palette is created when it is first retrieved.
+     */
+    public static final Map<String, RestrictableIndexColorModel> PALETTE_MAP = new LazyPaletteMap();
 
-    private static void performMapCreate3(Map<String,RestrictableIndexColorModel> map)
-    {
-        map.put(
-                "Endgame 2",
-                new RestrictableIndexColorModel(ImageUtilities.interpretIndexColorModel(
-                        new byte[]{
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x24),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x1C), (byte) (0x10), (byte) (0x24), (byte) (0x2C),
-                            (byte) (0x18), (byte) (0x34), (byte) (0x3C), (byte) (0x00), (byte) (0x00), (byte) (0x5C),
-                            (byte) (0x20), (byte) (0x40), (byte) (0x48), (byte) (0x28), (byte) (0x48), (byte) (0x54),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x90), (byte) (0x10), (byte) (0x48), (byte) (0x8C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0xBC), (byte) (0x20), (byte) (0x84), (byte) (0xD0),
-                            (byte) (0x6C), (byte) (0xC4), (byte) (0xF4), (byte) (0x50), (byte) (0x7C), (byte) (0x8C),
-                            (byte) (0x64), (byte) (0x9C), (byte) (0xAC), (byte) (0x08), (byte) (0x0C), (byte) (0x0C),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x1C),
-                            (byte) (0x1C), (byte) (0x24), (byte) (0x28), (byte) (0x2C), (byte) (0x2C), (byte) (0x2C),
-                            (byte) (0x30), (byte) (0x38), (byte) (0x3C), (byte) (0x38), (byte) (0x38), (byte) (0x38),
-                            (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x50), (byte) (0x58),
-                            (byte) (0x34), (byte) (0x58), (byte) (0x64), (byte) (0x58), (byte) (0x58), (byte) (0x58),
-                            (byte) (0x3C), (byte) (0x64), (byte) (0x74), (byte) (0x64), (byte) (0x64), (byte) (0x64),
-                            (byte) (0x70), (byte) (0x74), (byte) (0x7C), (byte) (0x84), (byte) (0x84), (byte) (0x84),
-                            (byte) (0x94), (byte) (0x98), (byte) (0x9C), (byte) (0xC4), (byte) (0xC4), (byte) (0xC4),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xF4), (byte) (0x04), (byte) (0x04), (byte) (0x08),
-                            (byte) (0x04), (byte) (0x08), (byte) (0x0C), (byte) (0x04), (byte) (0x08), (byte) (0x10),
-                            (byte) (0x04), (byte) (0x0C), (byte) (0x10), (byte) (0x08), (byte) (0x0C), (byte) (0x10),
-                            (byte) (0x04), (byte) (0x0C), (byte) (0x14), (byte) (0x08), (byte) (0x0C), (byte) (0x14),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x14), (byte) (0x04), (byte) (0x10), (byte) (0x18),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x18), (byte) (0x08), (byte) (0x14), (byte) (0x18),
-                            (byte) (0x08), (byte) (0x14), (byte) (0x1C), (byte) (0x08), (byte) (0x14), (byte) (0x20),
-                            (byte) (0x0C), (byte) (0x18), (byte) (0x1C), (byte) (0x08), (byte) (0x18), (byte) (0x20),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x24), (byte) (0x08), (byte) (0x1C), (byte) (0x24),
-                            (byte) (0x0C), (byte) (0x1C), (byte) (0x24), (byte) (0x08), (byte) (0x1C), (byte) (0x28),
-                            (byte) (0x10), (byte) (0x20), (byte) (0x24), (byte) (0x0C), (byte) (0x20), (byte) (0x28),
-                            (byte) (0x10), (byte) (0x20), (byte) (0x28), (byte) (0x0C), (byte) (0x20), (byte) (0x2C),
-                            (byte) (0x08), (byte) (0x20), (byte) (0x30), (byte) (0x14), (byte) (0x24), (byte) (0x2C),
-                            (byte) (0x0C), (byte) (0x24), (byte) (0x30), (byte) (0x10), (byte) (0x24), (byte) (0x30),
-                            (byte) (0x14), (byte) (0x28), (byte) (0x30), (byte) (0x10), (byte) (0x28), (byte) (0x34),
-                            (byte) (0x14), (byte) (0x28), (byte) (0x34), (byte) (0x10), (byte) (0x28), (byte) (0x38),
-                            (byte) (0x14), (byte) (0x2C), (byte) (0x34), (byte) (0x18), (byte) (0x2C), (byte) (0x34),
-                            (byte) (0x14), (byte) (0x2C), (byte) (0x38), (byte) (0x18), (byte) (0x2C), (byte) (0x38),
-                            (byte) (0x14), (byte) (0x2C), (byte) (0x3C), (byte) (0x1C), (byte) (0x30), (byte) (0x38),
-                            (byte) (0x18), (byte) (0x30), (byte) (0x3C), (byte) (0x14), (byte) (0x30), (byte) (0x44),
-                            (byte) (0x1C), (byte) (0x34), (byte) (0x40), (byte) (0x18), (byte) (0x34), (byte) (0x44),
-                            (byte) (0x24), (byte) (0x38), (byte) (0x44), (byte) (0x1C), (byte) (0x38), (byte) (0x48),
-                            (byte) (0x18), (byte) (0x38), (byte) (0x4C), (byte) (0x20), (byte) (0x3C), (byte) (0x4C),
-                            (byte) (0x1C), (byte) (0x3C), (byte) (0x50), (byte) (0x24), (byte) (0x40), (byte) (0x4C),
-                            (byte) (0x20), (byte) (0x40), (byte) (0x54), (byte) (0x0C), (byte) (0x28), (byte) (0x6C),
-                            (byte) (0x20), (byte) (0x44), (byte) (0x5C), (byte) (0x2C), (byte) (0x4C), (byte) (0x58),
-                            (byte) (0x28), (byte) (0x4C), (byte) (0x60), (byte) (0x2C), (byte) (0x50), (byte) (0x64),
-                            (byte) (0x30), (byte) (0x58), (byte) (0x70), (byte) (0x34), (byte) (0x60), (byte) (0x7C),
-                            (byte) (0x40), (byte) (0x6C), (byte) (0x84), (byte) (0x44), (byte) (0x74), (byte) (0x90),
-                            (byte) (0x04), (byte) (0x08), (byte) (0x04), (byte) (0x08), (byte) (0x0C), (byte) (0x08),
-                            (byte) (0x08), (byte) (0x04), (byte) (0x04), (byte) (0x0C), (byte) (0x08), (byte) (0x08),
-                            (byte) (0x10), (byte) (0x0C), (byte) (0x08), (byte) (0x18), (byte) (0x14), (byte) (0x0C),
-                            (byte) (0x20), (byte) (0x0C), (byte) (0x08), (byte) (0x1C), (byte) (0x14), (byte) (0x10),
-                            (byte) (0x38), (byte) (0x28), (byte) (0x24), (byte) (0x48), (byte) (0x28), (byte) (0x20),
-                            (byte) (0x48), (byte) (0x30), (byte) (0x28), (byte) (0x4C), (byte) (0x38), (byte) (0x30),
-                            (byte) (0x58), (byte) (0x84), (byte) (0x90), (byte) (0x60), (byte) (0x8C), (byte) (0x9C),
-                            (byte) (0x70), (byte) (0xA8), (byte) (0xBC), (byte) (0x80), (byte) (0xB4), (byte) (0xCC),
-                            (byte) (0x94), (byte) (0xD4), (byte) (0xF0), (byte) (0x04), (byte) (0x04), (byte) (0x04),
-                            (byte) (0x08), (byte) (0x08), (byte) (0x04), (byte) (0x04), (byte) (0x08), (byte) (0x08),
-                            (byte) (0x08), (byte) (0x08), (byte) (0x08), (byte) (0x0C), (byte) (0x0C), (byte) (0x08),
-                            (byte) (0x0C), (byte) (0x10), (byte) (0x0C), (byte) (0x10), (byte) (0x0C), (byte) (0x0C),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x10), (byte) (0x10), (byte) (0x10), (byte) (0x08),
-                            (byte) (0x0C), (byte) (0x10), (byte) (0x10), (byte) (0x10), (byte) (0x10), (byte) (0x0C),
-                            (byte) (0x14), (byte) (0x10), (byte) (0x0C), (byte) (0x0C), (byte) (0x14), (byte) (0x10),
-                            (byte) (0x14), (byte) (0x14), (byte) (0x08), (byte) (0x10), (byte) (0x14), (byte) (0x10),
-                            (byte) (0x0C), (byte) (0x14), (byte) (0x14), (byte) (0x10), (byte) (0x14), (byte) (0x14),
-                            (byte) (0x18), (byte) (0x14), (byte) (0x10), (byte) (0x10), (byte) (0x18), (byte) (0x14),
-                            (byte) (0x14), (byte) (0x18), (byte) (0x14), (byte) (0x10), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x14), (byte) (0x18), (byte) (0x18), (byte) (0x14), (byte) (0x1C), (byte) (0x18),
-                            (byte) (0x1C), (byte) (0x1C), (byte) (0x10), (byte) (0x18), (byte) (0x1C), (byte) (0x18),
-                            (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x10), (byte) (0x1C), (byte) (0x20),
-                            (byte) (0x18), (byte) (0x1C), (byte) (0x1C), (byte) (0x20), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x18), (byte) (0x20), (byte) (0x1C), (byte) (0x1C), (byte) (0x20), (byte) (0x1C),
-                            (byte) (0x18), (byte) (0x20), (byte) (0x20), (byte) (0x24), (byte) (0x20), (byte) (0x14),
-                            (byte) (0x1C), (byte) (0x24), (byte) (0x20), (byte) (0x20), (byte) (0x24), (byte) (0x20),
-                            (byte) (0x1C), (byte) (0x24), (byte) (0x24), (byte) (0x24), (byte) (0x20), (byte) (0x24),
-                            (byte) (0x2C), (byte) (0x20), (byte) (0x20), (byte) (0x18), (byte) (0x28), (byte) (0x2C),
-                            (byte) (0x24), (byte) (0x28), (byte) (0x24), (byte) (0x20), (byte) (0x28), (byte) (0x28),
-                            (byte) (0x24), (byte) (0x2C), (byte) (0x28), (byte) (0x20), (byte) (0x2C), (byte) (0x2C),
-                            (byte) (0x1C), (byte) (0x2C), (byte) (0x30), (byte) (0x28), (byte) (0x28), (byte) (0x2C),
-                            (byte) (0x24), (byte) (0x2C), (byte) (0x2C), (byte) (0x30), (byte) (0x28), (byte) (0x28),
-                            (byte) (0x20), (byte) (0x30), (byte) (0x34), (byte) (0x28), (byte) (0x30), (byte) (0x30),
-                            (byte) (0x28), (byte) (0x34), (byte) (0x34), (byte) (0x30), (byte) (0x34), (byte) (0x30),
-                            (byte) (0x20), (byte) (0x34), (byte) (0x3C), (byte) (0x24), (byte) (0x34), (byte) (0x3C),
-                            (byte) (0x38), (byte) (0x30), (byte) (0x30), (byte) (0x2C), (byte) (0x38), (byte) (0x38),
-                            (byte) (0x24), (byte) (0x38), (byte) (0x40), (byte) (0x34), (byte) (0x38), (byte) (0x34),
-                            (byte) (0x34), (byte) (0x3C), (byte) (0x38), (byte) (0x24), (byte) (0x3C), (byte) (0x44),
-                            (byte) (0x28), (byte) (0x3C), (byte) (0x44), (byte) (0x34), (byte) (0x40), (byte) (0x40),
-                            (byte) (0x48), (byte) (0x38), (byte) (0x34), (byte) (0x2C), (byte) (0x40), (byte) (0x48),
-                            (byte) (0x3C), (byte) (0x40), (byte) (0x3C), (byte) (0x44), (byte) (0x3C), (byte) (0x3C),
-                            (byte) (0x2C), (byte) (0x44), (byte) (0x4C), (byte) (0x38), (byte) (0x44), (byte) (0x44),
-                            (byte) (0x38), (byte) (0x44), (byte) (0x48), (byte) (0x50), (byte) (0x3C), (byte) (0x38),
-                            (byte) (0x48), (byte) (0x40), (byte) (0x40), (byte) (0x30), (byte) (0x48), (byte) (0x50),
-                            (byte) (0x40), (byte) (0x48), (byte) (0x48), (byte) (0x4C), (byte) (0x44), (byte) (0x44),
-                            (byte) (0x38), (byte) (0x4C), (byte) (0x50), (byte) (0x54), (byte) (0x44), (byte) (0x40),
-                            (byte) (0x44), (byte) (0x50), (byte) (0x4C), (byte) (0x34), (byte) (0x50), (byte) (0x58),
-                            (byte) (0x54), (byte) (0x4C), (byte) (0x4C), (byte) (0x3C), (byte) (0x54), (byte) (0x5C),
-                            (byte) (0x4C), (byte) (0x50), (byte) (0x54), (byte) (0x60), (byte) (0x4C), (byte) (0x44),
-                            (byte) (0x5C), (byte) (0x50), (byte) (0x4C), (byte) (0x40), (byte) (0x58), (byte) (0x60),
-                            (byte) (0x3C), (byte) (0x5C), (byte) (0x68), (byte) (0x64), (byte) (0x54), (byte) (0x50),
-                            (byte) (0x60), (byte) (0x58), (byte) (0x54), (byte) (0x44), (byte) (0x60), (byte) (0x68),
-                            (byte) (0x54), (byte) (0x5C), (byte) (0x60), (byte) (0x6C), (byte) (0x58), (byte) (0x50),
-                            (byte) (0x58), (byte) (0x60), (byte) (0x64), (byte) (0x68), (byte) (0x5C), (byte) (0x58),
-                            (byte) (0x68), (byte) (0x60), (byte) (0x5C), (byte) (0x48), (byte) (0x68), (byte) (0x70),
-                            (byte) (0x60), (byte) (0x64), (byte) (0x68), (byte) (0x70), (byte) (0x60), (byte) (0x5C),
-                            (byte) (0x6C), (byte) (0x64), (byte) (0x60), (byte) (0x4C), (byte) (0x6C), (byte) (0x74),
-                            (byte) (0x74), (byte) (0x60), (byte) (0x5C), (byte) (0x60), (byte) (0x68), (byte) (0x70),
-                            (byte) (0x74), (byte) (0x64), (byte) (0x60), (byte) (0x68), (byte) (0x68), (byte) (0x6C),
-                            (byte) (0x70), (byte) (0x68), (byte) (0x64), (byte) (0x74), (byte) (0x68), (byte) (0x60),
-                            (byte) (0x50), (byte) (0x70), (byte) (0x7C), (byte) (0x6C), (byte) (0x6C), (byte) (0x6C),
-                            (byte) (0x74), (byte) (0x6C), (byte) (0x68), (byte) (0x64), (byte) (0x70), (byte) (0x74),
-                            (byte) (0x78), (byte) (0x6C), (byte) (0x64), (byte) (0x6C), (byte) (0x70), (byte) (0x74),
-                            (byte) (0x58), (byte) (0x78), (byte) (0x80), (byte) (0x74), (byte) (0x70), (byte) (0x70),
-                            (byte) (0x7C), (byte) (0x70), (byte) (0x68), (byte) (0x78), (byte) (0x74), (byte) (0x70),
-                            (byte) (0x78), (byte) (0x74), (byte) (0x74), (byte) (0x80), (byte) (0x74), (byte) (0x70),
-                            (byte) (0x60), (byte) (0x80), (byte) (0x88), (byte) (0x7C), (byte) (0x78), (byte) (0x78),
-                            (byte) (0x84), (byte) (0x78), (byte) (0x74), (byte) (0x78), (byte) (0x7C), (byte) (0x80),
-                            (byte) (0x80), (byte) (0x7C), (byte) (0x7C), (byte) (0x84), (byte) (0x7C), (byte) (0x78),
-                            (byte) (0x88), (byte) (0x7C), (byte) (0x78), (byte) (0x80), (byte) (0x80), (byte) (0x80),
-                            (byte) (0x64), (byte) (0x88), (byte) (0x90), (byte) (0x88), (byte) (0x80), (byte) (0x7C),
-                            (byte) (0x88), (byte) (0x84), (byte) (0x80), (byte) (0x7C), (byte) (0x88), (byte) (0x8C),
-                            (byte) (0x88), (byte) (0x88), (byte) (0x88), (byte) (0x8C), (byte) (0x88), (byte) (0x84),
-                            (byte) (0x90), (byte) (0x88), (byte) (0x88), (byte) (0x80), (byte) (0x8C), (byte) (0x94),
-                            (byte) (0x70), (byte) (0x94), (byte) (0x9C), (byte) (0x90), (byte) (0x8C), (byte) (0x8C),
-                            (byte) (0x94), (byte) (0x90), (byte) (0x8C), (byte) (0x8C), (byte) (0x94), (byte) (0x94),
-                            (byte) (0x98), (byte) (0x94), (byte) (0x90), (byte) (0x88), (byte) (0x98), (byte) (0x9C),
-                            (byte) (0x90), (byte) (0x9C), (byte) (0xA4), (byte) (0x9C), (byte) (0x9C), (byte) (0x9C),
-                            (byte) (0x9C), (byte) (0xA4), (byte) (0xA8), (byte) (0xA4), (byte) (0xA4), (byte) (0xA4),
-                            (byte) (0x98), (byte) (0xA8), (byte) (0xB0), (byte) (0xAC), (byte) (0xAC), (byte) (0xAC),
-                            (byte) (0xA4), (byte) (0xB0), (byte) (0xB4), (byte) (0xB0), (byte) (0xB0), (byte) (0xB0),
-                            (byte) (0xB4), (byte) (0xB8), (byte) (0xB8), (byte) (0xB8), (byte) (0xC0), (byte) (0xC0),
-                            (byte) (0xC4), (byte) (0xCC), (byte) (0xCC), (byte) (0xFF), (byte) (0xFF), (byte) (0xFF)},
-                        PaletteDataInterpretation.BGR)));
-        map.put(
-                "Character Creation (fechar)",
-                new RestrictableIndexColorModel(ImageUtilities.interpretIndexColorModel(
-                        new byte[]{
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x24),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x1C), (byte) (0x10), (byte) (0x24), (byte) (0x2C),
-                            (byte) (0x18), (byte) (0x34), (byte) (0x3C), (byte) (0x00), (byte) (0x00), (byte) (0x5C),
-                            (byte) (0x20), (byte) (0x40), (byte) (0x48), (byte) (0x28), (byte) (0x48), (byte) (0x54),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x90), (byte) (0x10), (byte) (0x48), (byte) (0x8C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0xBC), (byte) (0x20), (byte) (0x84), (byte) (0xD0),
-                            (byte) (0x6C), (byte) (0xC4), (byte) (0xF4), (byte) (0x50), (byte) (0x7C), (byte) (0x8C),
-                            (byte) (0x64), (byte) (0x9C), (byte) (0xAC), (byte) (0x08), (byte) (0x0C), (byte) (0x0C),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x1C),
-                            (byte) (0x1C), (byte) (0x24), (byte) (0x28), (byte) (0x2C), (byte) (0x2C), (byte) (0x2C),
-                            (byte) (0x30), (byte) (0x38), (byte) (0x3C), (byte) (0x38), (byte) (0x38), (byte) (0x38),
-                            (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x50), (byte) (0x58),
-                            (byte) (0x34), (byte) (0x58), (byte) (0x64), (byte) (0x58), (byte) (0x58), (byte) (0x58),
-                            (byte) (0x3C), (byte) (0x64), (byte) (0x74), (byte) (0x64), (byte) (0x64), (byte) (0x64),
-                            (byte) (0x70), (byte) (0x74), (byte) (0x7C), (byte) (0x84), (byte) (0x84), (byte) (0x84),
-                            (byte) (0x94), (byte) (0x98), (byte) (0x9C), (byte) (0xC4), (byte) (0xC4), (byte) (0xC4),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xF4), (byte) (0x00), (byte) (0x00), (byte) (0x04),
-                            (byte) (0x04), (byte) (0x04), (byte) (0x08), (byte) (0x04), (byte) (0x08), (byte) (0x0C),
-                            (byte) (0x08), (byte) (0x08), (byte) (0x0C), (byte) (0x04), (byte) (0x04), (byte) (0x14),
-                            (byte) (0x08), (byte) (0x0C), (byte) (0x10), (byte) (0x08), (byte) (0x0C), (byte) (0x14),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x14), (byte) (0x04), (byte) (0x0C), (byte) (0x18),
-                            (byte) (0x0C), (byte) (0x10), (byte) (0x18), (byte) (0x04), (byte) (0x08), (byte) (0x20),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x1C), (byte) (0x0C), (byte) (0x14), (byte) (0x18),
-                            (byte) (0x0C), (byte) (0x14), (byte) (0x1C), (byte) (0x10), (byte) (0x14), (byte) (0x1C),
-                            (byte) (0x04), (byte) (0x10), (byte) (0x24), (byte) (0x08), (byte) (0x14), (byte) (0x24),
-                            (byte) (0x10), (byte) (0x18), (byte) (0x20), (byte) (0x04), (byte) (0x10), (byte) (0x2C),
-                            (byte) (0x0C), (byte) (0x1C), (byte) (0x24), (byte) (0x14), (byte) (0x1C), (byte) (0x24),
-                            (byte) (0x0C), (byte) (0x18), (byte) (0x2C), (byte) (0x14), (byte) (0x1C), (byte) (0x2C),
-                            (byte) (0x08), (byte) (0x14), (byte) (0x34), (byte) (0x0C), (byte) (0x1C), (byte) (0x34),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x40), (byte) (0x18), (byte) (0x24), (byte) (0x34),
-                            (byte) (0x10), (byte) (0x20), (byte) (0x3C), (byte) (0x04), (byte) (0x04), (byte) (0x48),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x44), (byte) (0x04), (byte) (0x24), (byte) (0x44),
-                            (byte) (0x14), (byte) (0x28), (byte) (0x40), (byte) (0x10), (byte) (0x18), (byte) (0x4C),
-                            (byte) (0x20), (byte) (0x2C), (byte) (0x40), (byte) (0x04), (byte) (0x04), (byte) (0x54),
-                            (byte) (0x14), (byte) (0x28), (byte) (0x4C), (byte) (0x0C), (byte) (0x20), (byte) (0x54),
-                            (byte) (0x18), (byte) (0x34), (byte) (0x48), (byte) (0x04), (byte) (0x04), (byte) (0x60),
-                            (byte) (0x24), (byte) (0x34), (byte) (0x4C), (byte) (0x18), (byte) (0x30), (byte) (0x54),
-                            (byte) (0x04), (byte) (0x30), (byte) (0x58), (byte) (0x14), (byte) (0x20), (byte) (0x60),
-                            (byte) (0x04), (byte) (0x04), (byte) (0x68), (byte) (0x2C), (byte) (0x3C), (byte) (0x58),
-                            (byte) (0x20), (byte) (0x38), (byte) (0x60), (byte) (0x04), (byte) (0x38), (byte) (0x68),
-                            (byte) (0x18), (byte) (0x24), (byte) (0x70), (byte) (0x08), (byte) (0x08), (byte) (0x78),
-                            (byte) (0x10), (byte) (0x34), (byte) (0x6C), (byte) (0x1C), (byte) (0x48), (byte) (0x64),
-                            (byte) (0x20), (byte) (0x3C), (byte) (0x6C), (byte) (0x30), (byte) (0x44), (byte) (0x64),
-                            (byte) (0x08), (byte) (0x08), (byte) (0x84), (byte) (0x08), (byte) (0x44), (byte) (0x78),
-                            (byte) (0x24), (byte) (0x48), (byte) (0x74), (byte) (0x1C), (byte) (0x2C), (byte) (0x84),
-                            (byte) (0x14), (byte) (0x14), (byte) (0x8C), (byte) (0x28), (byte) (0x58), (byte) (0x70),
-                            (byte) (0x38), (byte) (0x50), (byte) (0x74), (byte) (0x20), (byte) (0x20), (byte) (0x94),
-                            (byte) (0x04), (byte) (0x5C), (byte) (0x80), (byte) (0x28), (byte) (0x4C), (byte) (0x88),
-                            (byte) (0x40), (byte) (0x58), (byte) (0x7C), (byte) (0x0C), (byte) (0x0C), (byte) (0xA8),
-                            (byte) (0x3C), (byte) (0x5C), (byte) (0x88), (byte) (0x2C), (byte) (0x60), (byte) (0x8C),
-                            (byte) (0x10), (byte) (0x58), (byte) (0x98), (byte) (0x30), (byte) (0x34), (byte) (0xA4),
-                            (byte) (0x4C), (byte) (0x68), (byte) (0x94), (byte) (0x08), (byte) (0x5C), (byte) (0xB0),
-                            (byte) (0x1C), (byte) (0x1C), (byte) (0xC4), (byte) (0x30), (byte) (0x74), (byte) (0x9C),
-                            (byte) (0x18), (byte) (0x64), (byte) (0xAC), (byte) (0x10), (byte) (0x7C), (byte) (0xA0),
-                            (byte) (0x34), (byte) (0x34), (byte) (0xC0), (byte) (0x08), (byte) (0x08), (byte) (0xD8),
-                            (byte) (0x34), (byte) (0x80), (byte) (0xAC), (byte) (0x54), (byte) (0x74), (byte) (0xA8),
-                            (byte) (0x18), (byte) (0x74), (byte) (0xC0), (byte) (0x50), (byte) (0x50), (byte) (0xC8),
-                            (byte) (0x10), (byte) (0x88), (byte) (0xBC), (byte) (0x60), (byte) (0x84), (byte) (0xB8),
-                            (byte) (0x28), (byte) (0x28), (byte) (0xF0), (byte) (0x08), (byte) (0x08), (byte) (0xFC),
-                            (byte) (0x18), (byte) (0x7C), (byte) (0xDC), (byte) (0x30), (byte) (0x9C), (byte) (0xC4),
-                            (byte) (0x3C), (byte) (0x94), (byte) (0xC8), (byte) (0x1C), (byte) (0xA4), (byte) (0xD4),
-                            (byte) (0x44), (byte) (0x44), (byte) (0xFC), (byte) (0x30), (byte) (0x90), (byte) (0xE0),
-                            (byte) (0x40), (byte) (0xB0), (byte) (0xD0), (byte) (0x24), (byte) (0x90), (byte) (0xF0),
-                            (byte) (0x60), (byte) (0x60), (byte) (0xFC), (byte) (0x1C), (byte) (0x94), (byte) (0xFC),
-                            (byte) (0x54), (byte) (0xBC), (byte) (0xDC), (byte) (0x2C), (byte) (0xA0), (byte) (0xFC),
-                            (byte) (0x78), (byte) (0x78), (byte) (0xFC), (byte) (0x30), (byte) (0xB0), (byte) (0xFC),
-                            (byte) (0x44), (byte) (0xBC), (byte) (0xFC), (byte) (0x24), (byte) (0xD4), (byte) (0xFC),
-                            (byte) (0x44), (byte) (0xD4), (byte) (0xFC), (byte) (0xA4), (byte) (0xA4), (byte) (0xFC),
-                            (byte) (0x58), (byte) (0xDC), (byte) (0xFC), (byte) (0x80), (byte) (0xD0), (byte) (0xFC),
-                            (byte) (0x00), (byte) (0x04), (byte) (0x00), (byte) (0x0C), (byte) (0x14), (byte) (0x04),
-                            (byte) (0x14), (byte) (0x20), (byte) (0x04), (byte) (0x1C), (byte) (0x28), (byte) (0x04),
-                            (byte) (0x2C), (byte) (0x3C), (byte) (0x04), (byte) (0x04), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x08), (byte) (0x04), (byte) (0x00), (byte) (0x0C), (byte) (0x08), (byte) (0x00),
-                            (byte) (0x10), (byte) (0x0C), (byte) (0x00), (byte) (0x18), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x14), (byte) (0x10), (byte) (0x00), (byte) (0x18), (byte) (0x14), (byte) (0x04),
-                            (byte) (0x28), (byte) (0x00), (byte) (0x00), (byte) (0x24), (byte) (0x18), (byte) (0x04),
-                            (byte) (0x30), (byte) (0x04), (byte) (0x00), (byte) (0x28), (byte) (0x20), (byte) (0x04),
-                            (byte) (0x34), (byte) (0x18), (byte) (0x10), (byte) (0x30), (byte) (0x24), (byte) (0x04),
-                            (byte) (0x40), (byte) (0x14), (byte) (0x04), (byte) (0x38), (byte) (0x2C), (byte) (0x04),
-                            (byte) (0x48), (byte) (0x1C), (byte) (0x0C), (byte) (0x40), (byte) (0x30), (byte) (0x08),
-                            (byte) (0x48), (byte) (0x24), (byte) (0x18), (byte) (0x50), (byte) (0x3C), (byte) (0x08),
-                            (byte) (0x54), (byte) (0x0C), (byte) (0x38), (byte) (0x54), (byte) (0x30), (byte) (0x20),
-                            (byte) (0x58), (byte) (0x44), (byte) (0x08), (byte) (0x64), (byte) (0x4C), (byte) (0x08),
-                            (byte) (0x60), (byte) (0x50), (byte) (0x28), (byte) (0x74), (byte) (0x58), (byte) (0x0C),
-                            (byte) (0x80), (byte) (0x10), (byte) (0x5C), (byte) (0x88), (byte) (0x68), (byte) (0x0C),
-                            (byte) (0x8C), (byte) (0x74), (byte) (0x30), (byte) (0xA0), (byte) (0x78), (byte) (0x10),
-                            (byte) (0xB8), (byte) (0x58), (byte) (0x14), (byte) (0xA8), (byte) (0x18), (byte) (0x7C),
-                            (byte) (0xB4), (byte) (0x88), (byte) (0x10), (byte) (0xB0), (byte) (0x88), (byte) (0x60),
-                            (byte) (0xCC), (byte) (0x9C), (byte) (0x14), (byte) (0xE4), (byte) (0x80), (byte) (0x38),
-                            (byte) (0xD0), (byte) (0xA0), (byte) (0x70), (byte) (0xE8), (byte) (0xB0), (byte) (0x18),
-                            (byte) (0xDC), (byte) (0xB4), (byte) (0x48), (byte) (0xFC), (byte) (0x28), (byte) (0xA4),
-                            (byte) (0xE8), (byte) (0xB0), (byte) (0x78), (byte) (0xFC), (byte) (0xC8), (byte) (0x18),
-                            (byte) (0xF0), (byte) (0xCC), (byte) (0x68), (byte) (0xFC), (byte) (0xE4), (byte) (0x30),
-                            (byte) (0xD8), (byte) (0xBC), (byte) (0xAC), (byte) (0xFC), (byte) (0xD4), (byte) (0x90),
-                            (byte) (0xFC), (byte) (0xFC), (byte) (0x54), (byte) (0xF0), (byte) (0xD0), (byte) (0xBC),
-                            (byte) (0xFC), (byte) (0xFC), (byte) (0x94), (byte) (0xFC), (byte) (0xE4), (byte) (0xB8),
-                            (byte) (0xFC), (byte) (0xF0), (byte) (0xD8), (byte) (0x34), (byte) (0xB8), (byte) (0xB8),
-                            (byte) (0x7C), (byte) (0xA8), (byte) (0xB8), (byte) (0x88), (byte) (0xB0), (byte) (0xD4),
-                            (byte) (0x94), (byte) (0xBC), (byte) (0xCC), (byte) (0x80), (byte) (0xC4), (byte) (0xD8),
-                            (byte) (0x40), (byte) (0xF4), (byte) (0xFC), (byte) (0x6C), (byte) (0xF0), (byte) (0xFC),
-                            (byte) (0x9C), (byte) (0xE0), (byte) (0xFC), (byte) (0x84), (byte) (0xFC), (byte) (0xFC),
-                            (byte) (0xA4), (byte) (0xFC), (byte) (0xFC), (byte) (0x00), (byte) (0x04), (byte) (0x04),
-                            (byte) (0x04), (byte) (0x04), (byte) (0x00), (byte) (0x04), (byte) (0x04), (byte) (0x04),
-                            (byte) (0x04), (byte) (0x08), (byte) (0x08), (byte) (0x08), (byte) (0x08), (byte) (0x08),
-                            (byte) (0x0C), (byte) (0x0C), (byte) (0x0C), (byte) (0x0C), (byte) (0x0C), (byte) (0x10),
-                            (byte) (0x10), (byte) (0x0C), (byte) (0x0C), (byte) (0x0C), (byte) (0x10), (byte) (0x10),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x10), (byte) (0x0C), (byte) (0x10), (byte) (0x14),
-                            (byte) (0x14), (byte) (0x10), (byte) (0x10), (byte) (0x10), (byte) (0x14), (byte) (0x14),
-                            (byte) (0x14), (byte) (0x14), (byte) (0x14), (byte) (0x10), (byte) (0x14), (byte) (0x18),
-                            (byte) (0x14), (byte) (0x14), (byte) (0x18), (byte) (0x18), (byte) (0x14), (byte) (0x14),
-                            (byte) (0x10), (byte) (0x18), (byte) (0x1C), (byte) (0x18), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x14), (byte) (0x18), (byte) (0x1C), (byte) (0x14), (byte) (0x1C), (byte) (0x20),
-                            (byte) (0x18), (byte) (0x1C), (byte) (0x20), (byte) (0x18), (byte) (0x20), (byte) (0x24),
-                            (byte) (0x20), (byte) (0x20), (byte) (0x20), (byte) (0x18), (byte) (0x20), (byte) (0x28),
-                            (byte) (0x24), (byte) (0x24), (byte) (0x24), (byte) (0x20), (byte) (0x28), (byte) (0x2C),
-                            (byte) (0x2C), (byte) (0x28), (byte) (0x24), (byte) (0x20), (byte) (0x2C), (byte) (0x34),
-                            (byte) (0x30), (byte) (0x30), (byte) (0x30), (byte) (0x28), (byte) (0x30), (byte) (0x38),
-                            (byte) (0x30), (byte) (0x3C), (byte) (0x44), (byte) (0x3C), (byte) (0x40), (byte) (0x44),
-                            (byte) (0x4C), (byte) (0x40), (byte) (0x38), (byte) (0x38), (byte) (0x44), (byte) (0x4C),
-                            (byte) (0x3C), (byte) (0x4C), (byte) (0x54), (byte) (0x48), (byte) (0x4C), (byte) (0x50),
-                            (byte) (0x44), (byte) (0x54), (byte) (0x60), (byte) (0x64), (byte) (0x54), (byte) (0x44),
-                            (byte) (0x50), (byte) (0x5C), (byte) (0x64), (byte) (0x70), (byte) (0x60), (byte) (0x54),
-                            (byte) (0x50), (byte) (0x64), (byte) (0x70), (byte) (0x68), (byte) (0x6C), (byte) (0x70),
-                            (byte) (0x80), (byte) (0x6C), (byte) (0x60), (byte) (0x5C), (byte) (0x70), (byte) (0x80),
-                            (byte) (0x7C), (byte) (0x7C), (byte) (0x7C), (byte) (0x8C), (byte) (0x7C), (byte) (0x70),
-                            (byte) (0x6C), (byte) (0x88), (byte) (0x98), (byte) (0xA0), (byte) (0x8C), (byte) (0x80),
-                            (byte) (0xA8), (byte) (0xA8), (byte) (0xA8), (byte) (0xC0), (byte) (0xA8), (byte) (0x98),
-                            (byte) (0xE0), (byte) (0xE0), (byte) (0xE0), (byte) (0xFF), (byte) (0xFF), (byte) (0xFF)},
-                        PaletteDataInterpretation.BGR)));
-        map.put(
-                "Loading",
-                new RestrictableIndexColorModel(ImageUtilities.interpretIndexColorModel(
-                        new byte[]{
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x24),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x1C), (byte) (0x10), (byte) (0x24), (byte) (0x2C),
-                            (byte) (0x18), (byte) (0x34), (byte) (0x3C), (byte) (0x00), (byte) (0x00), (byte) (0x5C),
-                            (byte) (0x20), (byte) (0x40), (byte) (0x48), (byte) (0x28), (byte) (0x48), (byte) (0x54),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x90), (byte) (0x10), (byte) (0x48), (byte) (0x8C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0xBC), (byte) (0x20), (byte) (0x84), (byte) (0xD0),
-                            (byte) (0x6C), (byte) (0xC4), (byte) (0xF4), (byte) (0x50), (byte) (0x7C), (byte) (0x8C),
-                            (byte) (0x64), (byte) (0x9C), (byte) (0xAC), (byte) (0x08), (byte) (0x0C), (byte) (0x0C),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x1C),
-                            (byte) (0x1C), (byte) (0x24), (byte) (0x28), (byte) (0x2C), (byte) (0x2C), (byte) (0x2C),
-                            (byte) (0x30), (byte) (0x38), (byte) (0x3C), (byte) (0x38), (byte) (0x38), (byte) (0x38),
-                            (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x50), (byte) (0x58),
-                            (byte) (0x34), (byte) (0x58), (byte) (0x64), (byte) (0x58), (byte) (0x58), (byte) (0x58),
-                            (byte) (0x3C), (byte) (0x64), (byte) (0x74), (byte) (0x64), (byte) (0x64), (byte) (0x64),
-                            (byte) (0x70), (byte) (0x74), (byte) (0x7C), (byte) (0x84), (byte) (0x84), (byte) (0x84),
-                            (byte) (0x94), (byte) (0x98), (byte) (0x9C), (byte) (0xC4), (byte) (0xC4), (byte) (0xC4),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xF4), (byte) (0x04), (byte) (0x04), (byte) (0x08),
-                            (byte) (0x04), (byte) (0x08), (byte) (0x0C), (byte) (0x08), (byte) (0x08), (byte) (0x0C),
-                            (byte) (0x08), (byte) (0x0C), (byte) (0x10), (byte) (0x0C), (byte) (0x10), (byte) (0x18),
-                            (byte) (0x0C), (byte) (0x10), (byte) (0x20), (byte) (0x10), (byte) (0x14), (byte) (0x1C),
-                            (byte) (0x14), (byte) (0x18), (byte) (0x20), (byte) (0x10), (byte) (0x14), (byte) (0x28),
-                            (byte) (0x14), (byte) (0x18), (byte) (0x24), (byte) (0x18), (byte) (0x1C), (byte) (0x28),
-                            (byte) (0x14), (byte) (0x1C), (byte) (0x30), (byte) (0x18), (byte) (0x20), (byte) (0x2C),
-                            (byte) (0x10), (byte) (0x18), (byte) (0x38), (byte) (0x18), (byte) (0x20), (byte) (0x34),
-                            (byte) (0x1C), (byte) (0x24), (byte) (0x34), (byte) (0x18), (byte) (0x20), (byte) (0x3C),
-                            (byte) (0x20), (byte) (0x28), (byte) (0x34), (byte) (0x1C), (byte) (0x24), (byte) (0x3C),
-                            (byte) (0x14), (byte) (0x20), (byte) (0x48), (byte) (0x20), (byte) (0x28), (byte) (0x40),
-                            (byte) (0x1C), (byte) (0x28), (byte) (0x48), (byte) (0x24), (byte) (0x2C), (byte) (0x44),
-                            (byte) (0x18), (byte) (0x24), (byte) (0x50), (byte) (0x28), (byte) (0x30), (byte) (0x48),
-                            (byte) (0x20), (byte) (0x2C), (byte) (0x50), (byte) (0x18), (byte) (0x28), (byte) (0x5C),
-                            (byte) (0x24), (byte) (0x30), (byte) (0x58), (byte) (0x2C), (byte) (0x38), (byte) (0x50),
-                            (byte) (0x20), (byte) (0x30), (byte) (0x64), (byte) (0x2C), (byte) (0x38), (byte) (0x5C),
-                            (byte) (0x24), (byte) (0x34), (byte) (0x6C), (byte) (0x2C), (byte) (0x4C), (byte) (0x5C),
-                            (byte) (0x2C), (byte) (0x3C), (byte) (0x68), (byte) (0x1C), (byte) (0x30), (byte) (0x74),
-                            (byte) (0x38), (byte) (0x44), (byte) (0x60), (byte) (0x24), (byte) (0x38), (byte) (0x78),
-                            (byte) (0x30), (byte) (0x40), (byte) (0x70), (byte) (0x28), (byte) (0x3C), (byte) (0x7C),
-                            (byte) (0x40), (byte) (0x50), (byte) (0x68), (byte) (0x2C), (byte) (0x40), (byte) (0x80),
-                            (byte) (0x24), (byte) (0x3C), (byte) (0x88), (byte) (0x38), (byte) (0x48), (byte) (0x7C),
-                            (byte) (0x30), (byte) (0x44), (byte) (0x88), (byte) (0x38), (byte) (0x4C), (byte) (0x88),
-                            (byte) (0x28), (byte) (0x40), (byte) (0x94), (byte) (0x30), (byte) (0x48), (byte) (0x90),
-                            (byte) (0x34), (byte) (0x4C), (byte) (0x98), (byte) (0x28), (byte) (0x44), (byte) (0xA0),
-                            (byte) (0x50), (byte) (0x60), (byte) (0x80), (byte) (0x3C), (byte) (0x54), (byte) (0x98),
-                            (byte) (0x2C), (byte) (0x48), (byte) (0xA8), (byte) (0x38), (byte) (0x50), (byte) (0xA4),
-                            (byte) (0x44), (byte) (0x5C), (byte) (0x9C), (byte) (0x34), (byte) (0x50), (byte) (0xB0),
-                            (byte) (0x54), (byte) (0x68), (byte) (0x98), (byte) (0x2C), (byte) (0x4C), (byte) (0xB8),
-                            (byte) (0x4C), (byte) (0x64), (byte) (0xA4), (byte) (0x3C), (byte) (0x58), (byte) (0xB4),
-                            (byte) (0x38), (byte) (0x58), (byte) (0xBC), (byte) (0x30), (byte) (0x50), (byte) (0xC4),
-                            (byte) (0x24), (byte) (0x48), (byte) (0xCC), (byte) (0x50), (byte) (0x6C), (byte) (0xB8),
-                            (byte) (0x3C), (byte) (0x5C), (byte) (0xC8), (byte) (0x5C), (byte) (0x74), (byte) (0xB0),
-                            (byte) (0x50), (byte) (0x88), (byte) (0xAC), (byte) (0x34), (byte) (0x58), (byte) (0xD4),
-                            (byte) (0x44), (byte) (0x68), (byte) (0xD0), (byte) (0x38), (byte) (0x5C), (byte) (0xE0),
-                            (byte) (0x40), (byte) (0x64), (byte) (0xDC), (byte) (0x64), (byte) (0x80), (byte) (0xC4),
-                            (byte) (0x48), (byte) (0x6C), (byte) (0xDC), (byte) (0x38), (byte) (0x60), (byte) (0xF0),
-                            (byte) (0x50), (byte) (0x74), (byte) (0xE0), (byte) (0x44), (byte) (0x6C), (byte) (0xE8),
-                            (byte) (0x5C), (byte) (0x7C), (byte) (0xD8), (byte) (0x40), (byte) (0x68), (byte) (0xF0),
-                            (byte) (0x70), (byte) (0x8C), (byte) (0xCC), (byte) (0x58), (byte) (0x7C), (byte) (0xE4),
-                            (byte) (0x4C), (byte) (0x74), (byte) (0xF0), (byte) (0x3C), (byte) (0x68), (byte) (0xFC),
-                            (byte) (0x4C), (byte) (0x80), (byte) (0xF0), (byte) (0x44), (byte) (0x74), (byte) (0xFC),
-                            (byte) (0x48), (byte) (0x7C), (byte) (0xFC), (byte) (0x64), (byte) (0x88), (byte) (0xF0),
-                            (byte) (0x50), (byte) (0x80), (byte) (0xFC), (byte) (0x50), (byte) (0x8C), (byte) (0xFC),
-                            (byte) (0x58), (byte) (0x90), (byte) (0xFC), (byte) (0x68), (byte) (0x90), (byte) (0xFC),
-                            (byte) (0x5C), (byte) (0x98), (byte) (0xFC), (byte) (0x5C), (byte) (0xA0), (byte) (0xFC),
-                            (byte) (0x64), (byte) (0xA0), (byte) (0xFC), (byte) (0x60), (byte) (0xA8), (byte) (0xFC),
-                            (byte) (0x70), (byte) (0xA4), (byte) (0xFC), (byte) (0x6C), (byte) (0xB0), (byte) (0xFC),
-                            (byte) (0x68), (byte) (0xB8), (byte) (0xFC), (byte) (0x78), (byte) (0xB8), (byte) (0xFC),
-                            (byte) (0x70), (byte) (0xC0), (byte) (0xFC), (byte) (0x78), (byte) (0xCC), (byte) (0xFC),
-                            (byte) (0x7C), (byte) (0xD4), (byte) (0xFC), (byte) (0x04), (byte) (0x08), (byte) (0x04),
-                            (byte) (0x08), (byte) (0x0C), (byte) (0x08), (byte) (0x58), (byte) (0x2C), (byte) (0x34),
-                            (byte) (0x4C), (byte) (0x98), (byte) (0x84), (byte) (0x5C), (byte) (0x88), (byte) (0x94),
-                            (byte) (0x58), (byte) (0x94), (byte) (0x8C), (byte) (0x60), (byte) (0x90), (byte) (0x9C),
-                            (byte) (0x6C), (byte) (0xA0), (byte) (0xAC), (byte) (0x74), (byte) (0xAC), (byte) (0xB8),
-                            (byte) (0x7C), (byte) (0xB8), (byte) (0xC4), (byte) (0x80), (byte) (0xC4), (byte) (0xD8),
-                            (byte) (0x88), (byte) (0xC8), (byte) (0xDC), (byte) (0x8C), (byte) (0xD8), (byte) (0xEC),
-                            (byte) (0x84), (byte) (0xDC), (byte) (0xFC), (byte) (0x90), (byte) (0xDC), (byte) (0xF8),
-                            (byte) (0x84), (byte) (0xE4), (byte) (0xFC), (byte) (0x88), (byte) (0xEC), (byte) (0xFC),
-                            (byte) (0xB8), (byte) (0xE0), (byte) (0xEC), (byte) (0x9C), (byte) (0xF0), (byte) (0xFC),
-                            (byte) (0x94), (byte) (0xFC), (byte) (0xFC), (byte) (0xA0), (byte) (0xFC), (byte) (0xFC),
-                            (byte) (0xA8), (byte) (0xFC), (byte) (0xFC), (byte) (0xB0), (byte) (0xFC), (byte) (0xFC),
-                            (byte) (0xBC), (byte) (0xFC), (byte) (0xFC), (byte) (0xC4), (byte) (0xFC), (byte) (0xFC),
-                            (byte) (0xD0), (byte) (0xFC), (byte) (0xFC), (byte) (0xF0), (byte) (0xFC), (byte) (0xFC),
-                            (byte) (0x04), (byte) (0x04), (byte) (0x04), (byte) (0x04), (byte) (0x08), (byte) (0x08),
-                            (byte) (0x08), (byte) (0x08), (byte) (0x04), (byte) (0x08), (byte) (0x08), (byte) (0x08),
-                            (byte) (0x0C), (byte) (0x0C), (byte) (0x08), (byte) (0x0C), (byte) (0x0C), (byte) (0x0C),
-                            (byte) (0x0C), (byte) (0x10), (byte) (0x0C), (byte) (0x0C), (byte) (0x0C), (byte) (0x10),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x0C), (byte) (0x0C), (byte) (0x10), (byte) (0x10),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x10), (byte) (0x0C), (byte) (0x10), (byte) (0x14),
-                            (byte) (0x10), (byte) (0x14), (byte) (0x10), (byte) (0x14), (byte) (0x14), (byte) (0x10),
-                            (byte) (0x10), (byte) (0x14), (byte) (0x14), (byte) (0x14), (byte) (0x14), (byte) (0x14),
-                            (byte) (0x10), (byte) (0x14), (byte) (0x18), (byte) (0x14), (byte) (0x18), (byte) (0x14),
-                            (byte) (0x14), (byte) (0x14), (byte) (0x18), (byte) (0x18), (byte) (0x18), (byte) (0x14),
-                            (byte) (0x14), (byte) (0x18), (byte) (0x18), (byte) (0x18), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x14), (byte) (0x18), (byte) (0x1C), (byte) (0x18), (byte) (0x1C), (byte) (0x18),
-                            (byte) (0x18), (byte) (0x18), (byte) (0x1C), (byte) (0x1C), (byte) (0x1C), (byte) (0x18),
-                            (byte) (0x18), (byte) (0x1C), (byte) (0x1C), (byte) (0x18), (byte) (0x1C), (byte) (0x20),
-                            (byte) (0x1C), (byte) (0x20), (byte) (0x18), (byte) (0x1C), (byte) (0x20), (byte) (0x1C),
-                            (byte) (0x18), (byte) (0x1C), (byte) (0x24), (byte) (0x20), (byte) (0x20), (byte) (0x1C),
-                            (byte) (0x1C), (byte) (0x20), (byte) (0x20), (byte) (0x20), (byte) (0x20), (byte) (0x20),
-                            (byte) (0x1C), (byte) (0x20), (byte) (0x24), (byte) (0x20), (byte) (0x24), (byte) (0x1C),
-                            (byte) (0x20), (byte) (0x24), (byte) (0x20), (byte) (0x1C), (byte) (0x20), (byte) (0x28),
-                            (byte) (0x24), (byte) (0x24), (byte) (0x20), (byte) (0x20), (byte) (0x24), (byte) (0x24),
-                            (byte) (0x24), (byte) (0x28), (byte) (0x20), (byte) (0x20), (byte) (0x24), (byte) (0x28),
-                            (byte) (0x24), (byte) (0x28), (byte) (0x24), (byte) (0x28), (byte) (0x28), (byte) (0x20),
-                            (byte) (0x20), (byte) (0x24), (byte) (0x2C), (byte) (0x28), (byte) (0x28), (byte) (0x24),
-                            (byte) (0x24), (byte) (0x28), (byte) (0x2C), (byte) (0x28), (byte) (0x2C), (byte) (0x24),
-                            (byte) (0x2C), (byte) (0x2C), (byte) (0x24), (byte) (0x20), (byte) (0x2C), (byte) (0x30),
-                            (byte) (0x2C), (byte) (0x2C), (byte) (0x28), (byte) (0x28), (byte) (0x2C), (byte) (0x30),
-                            (byte) (0x2C), (byte) (0x30), (byte) (0x28), (byte) (0x30), (byte) (0x30), (byte) (0x28),
-                            (byte) (0x24), (byte) (0x2C), (byte) (0x38), (byte) (0x24), (byte) (0x34), (byte) (0x34),
-                            (byte) (0x2C), (byte) (0x30), (byte) (0x34), (byte) (0x34), (byte) (0x34), (byte) (0x2C),
-                            (byte) (0x28), (byte) (0x34), (byte) (0x3C), (byte) (0x38), (byte) (0x38), (byte) (0x30),
-                            (byte) (0x28), (byte) (0x3C), (byte) (0x40), (byte) (0x2C), (byte) (0x40), (byte) (0x44),
-                            (byte) (0x38), (byte) (0x40), (byte) (0x44), (byte) (0x40), (byte) (0x40), (byte) (0x40),
-                            (byte) (0x30), (byte) (0x48), (byte) (0x4C), (byte) (0x34), (byte) (0x44), (byte) (0x50),
-                            (byte) (0x30), (byte) (0x4C), (byte) (0x54), (byte) (0x40), (byte) (0x48), (byte) (0x50),
-                            (byte) (0x38), (byte) (0x50), (byte) (0x54), (byte) (0x34), (byte) (0x54), (byte) (0x5C),
-                            (byte) (0x3C), (byte) (0x58), (byte) (0x5C), (byte) (0x50), (byte) (0x54), (byte) (0x54),
-                            (byte) (0x44), (byte) (0x58), (byte) (0x60), (byte) (0x50), (byte) (0x58), (byte) (0x5C),
-                            (byte) (0x3C), (byte) (0x5C), (byte) (0x68), (byte) (0x50), (byte) (0x5C), (byte) (0x68),
-                            (byte) (0x48), (byte) (0x68), (byte) (0x6C), (byte) (0x54), (byte) (0x60), (byte) (0x70),
-                            (byte) (0x44), (byte) (0x6C), (byte) (0x74), (byte) (0x4C), (byte) (0x6C), (byte) (0x74),
-                            (byte) (0x4C), (byte) (0x70), (byte) (0x7C), (byte) (0x60), (byte) (0x6C), (byte) (0x74),
-                            (byte) (0x4C), (byte) (0x74), (byte) (0x80), (byte) (0x54), (byte) (0x7C), (byte) (0x80),
-                            (byte) (0x5C), (byte) (0x70), (byte) (0x8C), (byte) (0x58), (byte) (0x80), (byte) (0x88),
-                            (byte) (0x68), (byte) (0x7C), (byte) (0x84), (byte) (0x64), (byte) (0x78), (byte) (0x9C),
-                            (byte) (0x74), (byte) (0x88), (byte) (0x90), (byte) (0xAC), (byte) (0xAC), (byte) (0xAC),
-                            (byte) (0xBC), (byte) (0xBC), (byte) (0xBC), (byte) (0xD0), (byte) (0xD0), (byte) (0xD0),
-                            (byte) (0xE0), (byte) (0xE0), (byte) (0xE0), (byte) (0xFC), (byte) (0xFC), (byte) (0xFC),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0xFF), (byte) (0xFF), (byte) (0xFF)},
-                        PaletteDataInterpretation.BGR)));
-    }
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
 
-    private static void performMapCreate4(Map<String,RestrictableIndexColorModel> map)
-    {
-        map.put(
-                "Menu 0",
-                new RestrictableIndexColorModel(ImageUtilities.interpretIndexColorModel(
-                        new byte[]{
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x24),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x1C), (byte) (0x10), (byte) (0x24), (byte) (0x2C),
-                            (byte) (0x18), (byte) (0x34), (byte) (0x3C), (byte) (0x00), (byte) (0x00), (byte) (0x5C),
-                            (byte) (0x20), (byte) (0x40), (byte) (0x48), (byte) (0x28), (byte) (0x48), (byte) (0x54),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x90), (byte) (0x10), (byte) (0x48), (byte) (0x8C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0xBC), (byte) (0x20), (byte) (0x84), (byte) (0xD0),
-                            (byte) (0x6C), (byte) (0xC4), (byte) (0xF4), (byte) (0x50), (byte) (0x7C), (byte) (0x8C),
-                            (byte) (0x64), (byte) (0x9C), (byte) (0xAC), (byte) (0x08), (byte) (0x0C), (byte) (0x0C),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x1C),
-                            (byte) (0x1C), (byte) (0x24), (byte) (0x28), (byte) (0x2C), (byte) (0x2C), (byte) (0x2C),
-                            (byte) (0x30), (byte) (0x38), (byte) (0x3C), (byte) (0x38), (byte) (0x38), (byte) (0x38),
-                            (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x50), (byte) (0x58),
-                            (byte) (0x34), (byte) (0x58), (byte) (0x64), (byte) (0x58), (byte) (0x58), (byte) (0x58),
-                            (byte) (0x3C), (byte) (0x64), (byte) (0x74), (byte) (0x64), (byte) (0x64), (byte) (0x64),
-                            (byte) (0x70), (byte) (0x74), (byte) (0x7C), (byte) (0x84), (byte) (0x84), (byte) (0x84),
-                            (byte) (0x94), (byte) (0x98), (byte) (0x9C), (byte) (0xC4), (byte) (0xC4), (byte) (0xC4),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xF4), (byte) (0x00), (byte) (0x00), (byte) (0x08),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x10), (byte) (0x00), (byte) (0x08), (byte) (0x10),
-                            (byte) (0x08), (byte) (0x08), (byte) (0x10), (byte) (0x08), (byte) (0x08), (byte) (0x18),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x18), (byte) (0x10), (byte) (0x10), (byte) (0x18),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x20), (byte) (0x10), (byte) (0x10), (byte) (0x20),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x20), (byte) (0x10), (byte) (0x18), (byte) (0x20),
-                            (byte) (0x18), (byte) (0x10), (byte) (0x20), (byte) (0x08), (byte) (0x10), (byte) (0x28),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x28), (byte) (0x10), (byte) (0x18), (byte) (0x28),
-                            (byte) (0x18), (byte) (0x18), (byte) (0x28), (byte) (0x10), (byte) (0x18), (byte) (0x30),
-                            (byte) (0x18), (byte) (0x18), (byte) (0x30), (byte) (0x10), (byte) (0x20), (byte) (0x30),
-                            (byte) (0x18), (byte) (0x20), (byte) (0x30), (byte) (0x10), (byte) (0x18), (byte) (0x38),
-                            (byte) (0x20), (byte) (0x20), (byte) (0x30), (byte) (0x10), (byte) (0x20), (byte) (0x38),
-                            (byte) (0x18), (byte) (0x20), (byte) (0x38), (byte) (0x20), (byte) (0x20), (byte) (0x38),
-                            (byte) (0x18), (byte) (0x28), (byte) (0x38), (byte) (0x20), (byte) (0x28), (byte) (0x38),
-                            (byte) (0x18), (byte) (0x20), (byte) (0x44), (byte) (0x20), (byte) (0x20), (byte) (0x44),
-                            (byte) (0x18), (byte) (0x28), (byte) (0x44), (byte) (0x10), (byte) (0x20), (byte) (0x4C),
-                            (byte) (0x20), (byte) (0x28), (byte) (0x44), (byte) (0x18), (byte) (0x20), (byte) (0x4C),
-                            (byte) (0x28), (byte) (0x28), (byte) (0x44), (byte) (0x18), (byte) (0x28), (byte) (0x4C),
-                            (byte) (0x20), (byte) (0x30), (byte) (0x44), (byte) (0x20), (byte) (0x28), (byte) (0x4C),
-                            (byte) (0x28), (byte) (0x30), (byte) (0x44), (byte) (0x28), (byte) (0x28), (byte) (0x4C),
-                            (byte) (0x20), (byte) (0x30), (byte) (0x4C), (byte) (0x18), (byte) (0x28), (byte) (0x54),
-                            (byte) (0x28), (byte) (0x30), (byte) (0x4C), (byte) (0x20), (byte) (0x28), (byte) (0x54),
-                            (byte) (0x20), (byte) (0x30), (byte) (0x54), (byte) (0x28), (byte) (0x30), (byte) (0x54),
-                            (byte) (0x18), (byte) (0x30), (byte) (0x5C), (byte) (0x20), (byte) (0x30), (byte) (0x5C),
-                            (byte) (0x28), (byte) (0x38), (byte) (0x54), (byte) (0x28), (byte) (0x30), (byte) (0x5C),
-                            (byte) (0x20), (byte) (0x38), (byte) (0x5C), (byte) (0x28), (byte) (0x38), (byte) (0x5C),
-                            (byte) (0x20), (byte) (0x30), (byte) (0x64), (byte) (0x20), (byte) (0x38), (byte) (0x64),
-                            (byte) (0x28), (byte) (0x38), (byte) (0x64), (byte) (0x28), (byte) (0x38), (byte) (0x6C),
-                            (byte) (0x30), (byte) (0x44), (byte) (0x74), (byte) (0x00), (byte) (0x08), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x10), (byte) (0x08), (byte) (0x08), (byte) (0x10), (byte) (0x08),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x10), (byte) (0x10), (byte) (0x18), (byte) (0x10),
-                            (byte) (0x08), (byte) (0x00), (byte) (0x00), (byte) (0x10), (byte) (0x08), (byte) (0x08),
-                            (byte) (0x18), (byte) (0x10), (byte) (0x10), (byte) (0x00), (byte) (0x08), (byte) (0x08),
-                            (byte) (0x08), (byte) (0x00), (byte) (0x08), (byte) (0x08), (byte) (0x08), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x10), (byte) (0x10), (byte) (0x08), (byte) (0x10), (byte) (0x10),
-                            (byte) (0x10), (byte) (0x08), (byte) (0x10), (byte) (0x10), (byte) (0x10), (byte) (0x08),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x10), (byte) (0x10), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x18), (byte) (0x10), (byte) (0x18), (byte) (0x18), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x18), (byte) (0x18), (byte) (0x20), (byte) (0x18), (byte) (0x20), (byte) (0x18),
-                            (byte) (0x20), (byte) (0x18), (byte) (0x18), (byte) (0x10), (byte) (0x20), (byte) (0x20),
-                            (byte) (0x18), (byte) (0x20), (byte) (0x20), (byte) (0x20), (byte) (0x18), (byte) (0x20),
-                            (byte) (0x20), (byte) (0x20), (byte) (0x20), (byte) (0x18), (byte) (0x20), (byte) (0x28),
-                            (byte) (0x20), (byte) (0x20), (byte) (0x28), (byte) (0x20), (byte) (0x28), (byte) (0x20),
-                            (byte) (0x28), (byte) (0x20), (byte) (0x20), (byte) (0x18), (byte) (0x28), (byte) (0x28),
-                            (byte) (0x20), (byte) (0x28), (byte) (0x28), (byte) (0x28), (byte) (0x20), (byte) (0x28),
-                            (byte) (0x28), (byte) (0x28), (byte) (0x28), (byte) (0x20), (byte) (0x28), (byte) (0x30),
-                            (byte) (0x28), (byte) (0x28), (byte) (0x30), (byte) (0x28), (byte) (0x30), (byte) (0x28),
-                            (byte) (0x30), (byte) (0x28), (byte) (0x28), (byte) (0x20), (byte) (0x30), (byte) (0x30),
-                            (byte) (0x28), (byte) (0x30), (byte) (0x30), (byte) (0x30), (byte) (0x28), (byte) (0x30),
-                            (byte) (0x30), (byte) (0x30), (byte) (0x28), (byte) (0x30), (byte) (0x30), (byte) (0x30),
-                            (byte) (0x28), (byte) (0x30), (byte) (0x38), (byte) (0x30), (byte) (0x30), (byte) (0x38),
-                            (byte) (0x30), (byte) (0x38), (byte) (0x30), (byte) (0x38), (byte) (0x30), (byte) (0x30),
-                            (byte) (0x28), (byte) (0x38), (byte) (0x38), (byte) (0x30), (byte) (0x38), (byte) (0x38),
-                            (byte) (0x38), (byte) (0x30), (byte) (0x38), (byte) (0x38), (byte) (0x38), (byte) (0x38),
-                            (byte) (0x30), (byte) (0x38), (byte) (0x44), (byte) (0x38), (byte) (0x38), (byte) (0x44),
-                            (byte) (0x38), (byte) (0x44), (byte) (0x38), (byte) (0x44), (byte) (0x38), (byte) (0x38),
-                            (byte) (0x30), (byte) (0x44), (byte) (0x44), (byte) (0x38), (byte) (0x44), (byte) (0x44),
-                            (byte) (0x44), (byte) (0x38), (byte) (0x44), (byte) (0x38), (byte) (0x44), (byte) (0x4C),
-                            (byte) (0x38), (byte) (0x4C), (byte) (0x44), (byte) (0x44), (byte) (0x44), (byte) (0x44),
-                            (byte) (0x38), (byte) (0x4C), (byte) (0x4C), (byte) (0x44), (byte) (0x44), (byte) (0x4C),
-                            (byte) (0x44), (byte) (0x4C), (byte) (0x44), (byte) (0x4C), (byte) (0x44), (byte) (0x44),
-                            (byte) (0x38), (byte) (0x4C), (byte) (0x54), (byte) (0x44), (byte) (0x4C), (byte) (0x4C),
-                            (byte) (0x4C), (byte) (0x44), (byte) (0x4C), (byte) (0x4C), (byte) (0x4C), (byte) (0x44),
-                            (byte) (0x4C), (byte) (0x4C), (byte) (0x4C), (byte) (0x44), (byte) (0x4C), (byte) (0x54),
-                            (byte) (0x4C), (byte) (0x4C), (byte) (0x54), (byte) (0x4C), (byte) (0x54), (byte) (0x4C),
-                            (byte) (0x54), (byte) (0x4C), (byte) (0x4C), (byte) (0x44), (byte) (0x54), (byte) (0x54),
-                            (byte) (0x4C), (byte) (0x54), (byte) (0x54), (byte) (0x54), (byte) (0x4C), (byte) (0x54),
-                            (byte) (0x54), (byte) (0x54), (byte) (0x4C), (byte) (0x44), (byte) (0x54), (byte) (0x5C),
-                            (byte) (0x54), (byte) (0x54), (byte) (0x54), (byte) (0x4C), (byte) (0x54), (byte) (0x5C),
-                            (byte) (0x54), (byte) (0x54), (byte) (0x5C), (byte) (0x54), (byte) (0x5C), (byte) (0x54),
-                            (byte) (0x5C), (byte) (0x54), (byte) (0x54), (byte) (0x4C), (byte) (0x5C), (byte) (0x5C),
-                            (byte) (0x54), (byte) (0x5C), (byte) (0x5C), (byte) (0x5C), (byte) (0x54), (byte) (0x5C),
-                            (byte) (0x5C), (byte) (0x5C), (byte) (0x54), (byte) (0x4C), (byte) (0x5C), (byte) (0x64),
-                            (byte) (0x5C), (byte) (0x5C), (byte) (0x5C), (byte) (0x54), (byte) (0x5C), (byte) (0x64),
-                            (byte) (0x5C), (byte) (0x5C), (byte) (0x64), (byte) (0x5C), (byte) (0x64), (byte) (0x5C),
-                            (byte) (0x64), (byte) (0x5C), (byte) (0x5C), (byte) (0x54), (byte) (0x64), (byte) (0x64),
-                            (byte) (0x5C), (byte) (0x64), (byte) (0x64), (byte) (0x64), (byte) (0x5C), (byte) (0x64),
-                            (byte) (0x54), (byte) (0x64), (byte) (0x6C), (byte) (0x64), (byte) (0x64), (byte) (0x64),
-                            (byte) (0x64), (byte) (0x64), (byte) (0x6C), (byte) (0x64), (byte) (0x6C), (byte) (0x64),
-                            (byte) (0x6C), (byte) (0x64), (byte) (0x64), (byte) (0x5C), (byte) (0x6C), (byte) (0x6C),
-                            (byte) (0x64), (byte) (0x6C), (byte) (0x6C), (byte) (0x6C), (byte) (0x64), (byte) (0x6C),
-                            (byte) (0x6C), (byte) (0x6C), (byte) (0x6C), (byte) (0x64), (byte) (0x6C), (byte) (0x74),
-                            (byte) (0x6C), (byte) (0x6C), (byte) (0x74), (byte) (0x6C), (byte) (0x74), (byte) (0x6C),
-                            (byte) (0x74), (byte) (0x6C), (byte) (0x6C), (byte) (0x6C), (byte) (0x74), (byte) (0x74),
-                            (byte) (0x74), (byte) (0x6C), (byte) (0x74), (byte) (0x74), (byte) (0x74), (byte) (0x74),
-                            (byte) (0x7C), (byte) (0x74), (byte) (0x74), (byte) (0x74), (byte) (0x7C), (byte) (0x74),
-                            (byte) (0x74), (byte) (0x74), (byte) (0x7C), (byte) (0x74), (byte) (0x7C), (byte) (0x7C),
-                            (byte) (0x7C), (byte) (0x7C), (byte) (0x7C), (byte) (0x74), (byte) (0x7C), (byte) (0x84),
-                            (byte) (0x7C), (byte) (0x7C), (byte) (0x84), (byte) (0x7C), (byte) (0x84), (byte) (0x7C),
-                            (byte) (0x84), (byte) (0x7C), (byte) (0x7C), (byte) (0x74), (byte) (0x84), (byte) (0x84),
-                            (byte) (0x7C), (byte) (0x84), (byte) (0x84), (byte) (0x84), (byte) (0x84), (byte) (0x84),
-                            (byte) (0x7C), (byte) (0x84), (byte) (0x8C), (byte) (0x8C), (byte) (0x84), (byte) (0x84),
-                            (byte) (0x84), (byte) (0x84), (byte) (0x8C), (byte) (0x84), (byte) (0x8C), (byte) (0x84),
-                            (byte) (0x7C), (byte) (0x8C), (byte) (0x8C), (byte) (0x84), (byte) (0x8C), (byte) (0x8C),
-                            (byte) (0x8C), (byte) (0x8C), (byte) (0x84), (byte) (0x8C), (byte) (0x8C), (byte) (0x8C),
-                            (byte) (0x84), (byte) (0x8C), (byte) (0x94), (byte) (0x94), (byte) (0x8C), (byte) (0x8C),
-                            (byte) (0x8C), (byte) (0x8C), (byte) (0x94), (byte) (0x84), (byte) (0x94), (byte) (0x94),
-                            (byte) (0x8C), (byte) (0x94), (byte) (0x94), (byte) (0x94), (byte) (0x94), (byte) (0x94),
-                            (byte) (0x8C), (byte) (0x94), (byte) (0x9C), (byte) (0x9C), (byte) (0x94), (byte) (0x94),
-                            (byte) (0x94), (byte) (0x94), (byte) (0x9C), (byte) (0x8C), (byte) (0x9C), (byte) (0x9C),
-                            (byte) (0x94), (byte) (0x9C), (byte) (0x9C), (byte) (0x9C), (byte) (0x94), (byte) (0x9C),
-                            (byte) (0x8C), (byte) (0x9C), (byte) (0xA4), (byte) (0x9C), (byte) (0x9C), (byte) (0x9C),
-                            (byte) (0x94), (byte) (0x9C), (byte) (0xA4), (byte) (0x94), (byte) (0xA4), (byte) (0xA4),
-                            (byte) (0x9C), (byte) (0xA4), (byte) (0xA4), (byte) (0xA4), (byte) (0xA4), (byte) (0xA4),
-                            (byte) (0x9C), (byte) (0xA4), (byte) (0xAC), (byte) (0xAC), (byte) (0xA4), (byte) (0xA4),
-                            (byte) (0x9C), (byte) (0xAC), (byte) (0xAC), (byte) (0xA4), (byte) (0xAC), (byte) (0xAC),
-                            (byte) (0xAC), (byte) (0xAC), (byte) (0xAC), (byte) (0xB4), (byte) (0xAC), (byte) (0xAC),
-                            (byte) (0xAC), (byte) (0xB4), (byte) (0xB4), (byte) (0xB4), (byte) (0xB4), (byte) (0xB4),
-                            (byte) (0xB4), (byte) (0xBC), (byte) (0xBC), (byte) (0xBC), (byte) (0xBC), (byte) (0xBC),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0xFF), (byte) (0xFF), (byte) (0xFF)},
-                        PaletteDataInterpretation.BGR)));
-        map.put(
-                "Menu 1",
-                new RestrictableIndexColorModel(ImageUtilities.interpretIndexColorModel(
-                        new byte[]{
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x24),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x1C), (byte) (0x10), (byte) (0x24), (byte) (0x2C),
-                            (byte) (0x18), (byte) (0x34), (byte) (0x3C), (byte) (0x00), (byte) (0x00), (byte) (0x5C),
-                            (byte) (0x20), (byte) (0x40), (byte) (0x48), (byte) (0x28), (byte) (0x48), (byte) (0x54),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x90), (byte) (0x10), (byte) (0x48), (byte) (0x8C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0xBC), (byte) (0x20), (byte) (0x84), (byte) (0xD0),
-                            (byte) (0x6C), (byte) (0xC4), (byte) (0xF4), (byte) (0x50), (byte) (0x7C), (byte) (0x8C),
-                            (byte) (0x64), (byte) (0x9C), (byte) (0xAC), (byte) (0x08), (byte) (0x0C), (byte) (0x0C),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x1C),
-                            (byte) (0x1C), (byte) (0x24), (byte) (0x28), (byte) (0x2C), (byte) (0x2C), (byte) (0x2C),
-                            (byte) (0x30), (byte) (0x38), (byte) (0x3C), (byte) (0x38), (byte) (0x38), (byte) (0x38),
-                            (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x50), (byte) (0x58),
-                            (byte) (0x34), (byte) (0x58), (byte) (0x64), (byte) (0x58), (byte) (0x58), (byte) (0x58),
-                            (byte) (0x3C), (byte) (0x64), (byte) (0x74), (byte) (0x64), (byte) (0x64), (byte) (0x64),
-                            (byte) (0x70), (byte) (0x74), (byte) (0x7C), (byte) (0x84), (byte) (0x84), (byte) (0x84),
-                            (byte) (0x94), (byte) (0x98), (byte) (0x9C), (byte) (0xC4), (byte) (0xC4), (byte) (0xC4),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xF4), (byte) (0x00), (byte) (0x00), (byte) (0x04),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x08), (byte) (0x04), (byte) (0x04), (byte) (0x08),
-                            (byte) (0x00), (byte) (0x08), (byte) (0x10), (byte) (0x04), (byte) (0x08), (byte) (0x10),
-                            (byte) (0x00), (byte) (0x08), (byte) (0x18), (byte) (0x04), (byte) (0x08), (byte) (0x18),
-                            (byte) (0x0C), (byte) (0x0C), (byte) (0x18), (byte) (0x08), (byte) (0x10), (byte) (0x18),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x1C), (byte) (0x08), (byte) (0x10), (byte) (0x20),
-                            (byte) (0x0C), (byte) (0x10), (byte) (0x20), (byte) (0x10), (byte) (0x10), (byte) (0x20),
-                            (byte) (0x00), (byte) (0x08), (byte) (0x28), (byte) (0x14), (byte) (0x14), (byte) (0x20),
-                            (byte) (0x00), (byte) (0x10), (byte) (0x28), (byte) (0x10), (byte) (0x18), (byte) (0x20),
-                            (byte) (0x04), (byte) (0x10), (byte) (0x28), (byte) (0x0C), (byte) (0x10), (byte) (0x28),
-                            (byte) (0x14), (byte) (0x18), (byte) (0x24), (byte) (0x10), (byte) (0x18), (byte) (0x28),
-                            (byte) (0x04), (byte) (0x14), (byte) (0x30), (byte) (0x18), (byte) (0x18), (byte) (0x28),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x30), (byte) (0x14), (byte) (0x1C), (byte) (0x2C),
-                            (byte) (0x10), (byte) (0x18), (byte) (0x30), (byte) (0x00), (byte) (0x08), (byte) (0x38),
-                            (byte) (0x00), (byte) (0x10), (byte) (0x38), (byte) (0x04), (byte) (0x14), (byte) (0x38),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x38), (byte) (0x14), (byte) (0x1C), (byte) (0x34),
-                            (byte) (0x18), (byte) (0x20), (byte) (0x30), (byte) (0x10), (byte) (0x20), (byte) (0x38),
-                            (byte) (0x00), (byte) (0x08), (byte) (0x44), (byte) (0x00), (byte) (0x10), (byte) (0x44),
-                            (byte) (0x14), (byte) (0x20), (byte) (0x3C), (byte) (0x08), (byte) (0x20), (byte) (0x40),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x44), (byte) (0x10), (byte) (0x18), (byte) (0x44),
-                            (byte) (0x10), (byte) (0x20), (byte) (0x44), (byte) (0x00), (byte) (0x10), (byte) (0x4C),
-                            (byte) (0x00), (byte) (0x28), (byte) (0x44), (byte) (0x14), (byte) (0x24), (byte) (0x44),
-                            (byte) (0x10), (byte) (0x18), (byte) (0x4C), (byte) (0x08), (byte) (0x20), (byte) (0x4C),
-                            (byte) (0x10), (byte) (0x20), (byte) (0x4C), (byte) (0x00), (byte) (0x10), (byte) (0x54),
-                            (byte) (0x08), (byte) (0x20), (byte) (0x54), (byte) (0x10), (byte) (0x28), (byte) (0x50),
-                            (byte) (0x10), (byte) (0x20), (byte) (0x54), (byte) (0x28), (byte) (0x30), (byte) (0x44),
-                            (byte) (0x18), (byte) (0x28), (byte) (0x54), (byte) (0x10), (byte) (0x20), (byte) (0x5C),
-                            (byte) (0x08), (byte) (0x28), (byte) (0x5C), (byte) (0x10), (byte) (0x30), (byte) (0x58),
-                            (byte) (0x10), (byte) (0x28), (byte) (0x5C), (byte) (0x00), (byte) (0x30), (byte) (0x5C),
-                            (byte) (0x10), (byte) (0x28), (byte) (0x60), (byte) (0x08), (byte) (0x20), (byte) (0x64),
-                            (byte) (0x10), (byte) (0x20), (byte) (0x64), (byte) (0x18), (byte) (0x30), (byte) (0x5C),
-                            (byte) (0x10), (byte) (0x28), (byte) (0x64), (byte) (0x00), (byte) (0x10), (byte) (0x6C),
-                            (byte) (0x08), (byte) (0x20), (byte) (0x6C), (byte) (0x10), (byte) (0x20), (byte) (0x6C),
-                            (byte) (0x10), (byte) (0x34), (byte) (0x64), (byte) (0x18), (byte) (0x28), (byte) (0x6C),
-                            (byte) (0x10), (byte) (0x2C), (byte) (0x6C), (byte) (0x10), (byte) (0x30), (byte) (0x6C),
-                            (byte) (0x00), (byte) (0x20), (byte) (0x74), (byte) (0x10), (byte) (0x28), (byte) (0x74),
-                            (byte) (0x10), (byte) (0x30), (byte) (0x74), (byte) (0x18), (byte) (0x30), (byte) (0x74),
-                            (byte) (0x10), (byte) (0x3C), (byte) (0x70), (byte) (0x28), (byte) (0x38), (byte) (0x6C),
-                            (byte) (0x10), (byte) (0x38), (byte) (0x74), (byte) (0x10), (byte) (0x28), (byte) (0x7C),
-                            (byte) (0x00), (byte) (0x10), (byte) (0x84), (byte) (0x10), (byte) (0x30), (byte) (0x7C),
-                            (byte) (0x18), (byte) (0x30), (byte) (0x7C), (byte) (0x10), (byte) (0x3C), (byte) (0x78),
-                            (byte) (0x14), (byte) (0x50), (byte) (0x6C), (byte) (0x10), (byte) (0x38), (byte) (0x80),
-                            (byte) (0x10), (byte) (0x30), (byte) (0x84), (byte) (0x18), (byte) (0x30), (byte) (0x84),
-                            (byte) (0x08), (byte) (0x20), (byte) (0x8C), (byte) (0x18), (byte) (0x38), (byte) (0x84),
-                            (byte) (0x10), (byte) (0x44), (byte) (0x80), (byte) (0x30), (byte) (0x44), (byte) (0x7C),
-                            (byte) (0x00), (byte) (0x18), (byte) (0x94), (byte) (0x10), (byte) (0x40), (byte) (0x88),
-                            (byte) (0x10), (byte) (0x38), (byte) (0x8C), (byte) (0x18), (byte) (0x38), (byte) (0x8C),
-                            (byte) (0x10), (byte) (0x4C), (byte) (0x84), (byte) (0x18), (byte) (0x38), (byte) (0x94),
-                            (byte) (0x14), (byte) (0x44), (byte) (0x90), (byte) (0x14), (byte) (0x4C), (byte) (0x94),
-                            (byte) (0x14), (byte) (0x54), (byte) (0x90), (byte) (0x08), (byte) (0x30), (byte) (0xA4),
-                            (byte) (0x00), (byte) (0x10), (byte) (0xAC), (byte) (0x28), (byte) (0x44), (byte) (0x9C),
-                            (byte) (0x14), (byte) (0x54), (byte) (0x9C), (byte) (0x18), (byte) (0x44), (byte) (0xA4),
-                            (byte) (0x10), (byte) (0x50), (byte) (0xA0), (byte) (0x18), (byte) (0x58), (byte) (0xA4),
-                            (byte) (0x18), (byte) (0x60), (byte) (0xA0), (byte) (0x08), (byte) (0x38), (byte) (0xB4),
-                            (byte) (0x10), (byte) (0x58), (byte) (0xA8), (byte) (0x10), (byte) (0x60), (byte) (0xA4),
-                            (byte) (0x28), (byte) (0x4C), (byte) (0xAC), (byte) (0x08), (byte) (0x30), (byte) (0xBC),
-                            (byte) (0x38), (byte) (0x68), (byte) (0xA0), (byte) (0x18), (byte) (0x64), (byte) (0xAC),
-                            (byte) (0x00), (byte) (0x18), (byte) (0xC8), (byte) (0x10), (byte) (0x60), (byte) (0xB4),
-                            (byte) (0x14), (byte) (0x6C), (byte) (0xB0), (byte) (0x1C), (byte) (0x6C), (byte) (0xB0),
-                            (byte) (0x08), (byte) (0x30), (byte) (0xD0), (byte) (0x20), (byte) (0x70), (byte) (0xB4),
-                            (byte) (0x0C), (byte) (0x64), (byte) (0xC0), (byte) (0x0C), (byte) (0x6C), (byte) (0xBC),
-                            (byte) (0x00), (byte) (0x18), (byte) (0xD8), (byte) (0x10), (byte) (0x4C), (byte) (0xD0),
-                            (byte) (0x14), (byte) (0x78), (byte) (0xBC), (byte) (0x20), (byte) (0x78), (byte) (0xBC),
-                            (byte) (0x48), (byte) (0x80), (byte) (0xB0), (byte) (0x0C), (byte) (0x70), (byte) (0xC8),
-                            (byte) (0x08), (byte) (0x38), (byte) (0xE0), (byte) (0x24), (byte) (0x80), (byte) (0xC0),
-                            (byte) (0x10), (byte) (0x80), (byte) (0xC8), (byte) (0x08), (byte) (0x54), (byte) (0xE0),
-                            (byte) (0x08), (byte) (0x78), (byte) (0xD4), (byte) (0x24), (byte) (0x88), (byte) (0xC8),
-                            (byte) (0x00), (byte) (0x30), (byte) (0xF0), (byte) (0x00), (byte) (0x20), (byte) (0xF8),
-                            (byte) (0x0C), (byte) (0x80), (byte) (0xD8), (byte) (0x18), (byte) (0x8C), (byte) (0xD0),
-                            (byte) (0x40), (byte) (0x90), (byte) (0xC8), (byte) (0x08), (byte) (0x38), (byte) (0xFC),
-                            (byte) (0x28), (byte) (0x94), (byte) (0xD0), (byte) (0x10), (byte) (0x8C), (byte) (0xDC),
-                            (byte) (0x10), (byte) (0x5C), (byte) (0xFC), (byte) (0x1C), (byte) (0x98), (byte) (0xDC),
-                            (byte) (0x2C), (byte) (0x9C), (byte) (0xD8), (byte) (0x0C), (byte) (0x90), (byte) (0xE8),
-                            (byte) (0x10), (byte) (0x74), (byte) (0xFC), (byte) (0x2C), (byte) (0xA4), (byte) (0xDC),
-                            (byte) (0x10), (byte) (0x98), (byte) (0xEC), (byte) (0x24), (byte) (0xA4), (byte) (0xE4),
-                            (byte) (0x54), (byte) (0xA4), (byte) (0xD8), (byte) (0x6C), (byte) (0xA4), (byte) (0xD0),
-                            (byte) (0x14), (byte) (0xA0), (byte) (0xF0), (byte) (0x30), (byte) (0xAC), (byte) (0xE4),
-                            (byte) (0x44), (byte) (0xAC), (byte) (0xE0), (byte) (0x20), (byte) (0xAC), (byte) (0xF0),
-                            (byte) (0x30), (byte) (0xB4), (byte) (0xEC), (byte) (0x48), (byte) (0xB4), (byte) (0xE8),
-                            (byte) (0x34), (byte) (0xB8), (byte) (0xEC), (byte) (0x24), (byte) (0xB4), (byte) (0xF4),
-                            (byte) (0x6C), (byte) (0xB4), (byte) (0xE0), (byte) (0x34), (byte) (0xBC), (byte) (0xF0),
-                            (byte) (0x2C), (byte) (0xBC), (byte) (0xF8), (byte) (0x34), (byte) (0xC0), (byte) (0xF4),
-                            (byte) (0x48), (byte) (0xBC), (byte) (0xF4), (byte) (0x50), (byte) (0xC0), (byte) (0xF0),
-                            (byte) (0x5C), (byte) (0xC0), (byte) (0xF0), (byte) (0x3C), (byte) (0xC8), (byte) (0xF8),
-                            (byte) (0x54), (byte) (0xC8), (byte) (0xF8), (byte) (0x84), (byte) (0xC8), (byte) (0xF0),
-                            (byte) (0x5C), (byte) (0xD0), (byte) (0xFC), (byte) (0x78), (byte) (0xCC), (byte) (0xF4),
-                            (byte) (0x08), (byte) (0xF0), (byte) (0xFC), (byte) (0x74), (byte) (0xD8), (byte) (0xFC),
-                            (byte) (0x84), (byte) (0xA4), (byte) (0xBC), (byte) (0x90), (byte) (0xB0), (byte) (0xC8),
-                            (byte) (0x90), (byte) (0xB8), (byte) (0xD4), (byte) (0xA0), (byte) (0xC0), (byte) (0xD8),
-                            (byte) (0xAC), (byte) (0xC4), (byte) (0xCC), (byte) (0xA4), (byte) (0xC8), (byte) (0xE4),
-                            (byte) (0x8C), (byte) (0xD0), (byte) (0xF4), (byte) (0xB8), (byte) (0xD0), (byte) (0xDC),
-                            (byte) (0x80), (byte) (0xDC), (byte) (0xFC), (byte) (0xA8), (byte) (0xD4), (byte) (0xEC),
-                            (byte) (0x9C), (byte) (0xD8), (byte) (0xF8), (byte) (0x94), (byte) (0xDC), (byte) (0xFC),
-                            (byte) (0xA0), (byte) (0xE4), (byte) (0xFC), (byte) (0xB8), (byte) (0xDC), (byte) (0xF4),
-                            (byte) (0xB4), (byte) (0xD8), (byte) (0xFC), (byte) (0xB4), (byte) (0xEC), (byte) (0xFC),
-                            (byte) (0xC8), (byte) (0xE8), (byte) (0xFC), (byte) (0xD0), (byte) (0xF4), (byte) (0xFC),
-                            (byte) (0xDC), (byte) (0xF4), (byte) (0xFC), (byte) (0xE4), (byte) (0xFC), (byte) (0xFC),
-                            (byte) (0xF0), (byte) (0xFC), (byte) (0xFC), (byte) (0x04), (byte) (0x04), (byte) (0x04),
-                            (byte) (0x08), (byte) (0x08), (byte) (0x08), (byte) (0x0C), (byte) (0x0C), (byte) (0x0C),
-                            (byte) (0x0C), (byte) (0x0C), (byte) (0x10), (byte) (0x08), (byte) (0x10), (byte) (0x10),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x10), (byte) (0x10), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x20), (byte) (0x20), (byte) (0x20), (byte) (0x18), (byte) (0x20), (byte) (0x28),
-                            (byte) (0x28), (byte) (0x28), (byte) (0x28), (byte) (0x34), (byte) (0x40), (byte) (0x48),
-                            (byte) (0x50), (byte) (0x50), (byte) (0x50), (byte) (0x58), (byte) (0x6C), (byte) (0x7C),
-                            (byte) (0x74), (byte) (0x70), (byte) (0x70), (byte) (0x68), (byte) (0x80), (byte) (0x8C),
-                            (byte) (0x8C), (byte) (0x8C), (byte) (0x8C), (byte) (0x70), (byte) (0x8C), (byte) (0xA4),
-                            (byte) (0x80), (byte) (0x98), (byte) (0xAC), (byte) (0xA0), (byte) (0xA0), (byte) (0xA0),
-                            (byte) (0xAC), (byte) (0xAC), (byte) (0xAC), (byte) (0xA0), (byte) (0xB0), (byte) (0xB8),
-                            (byte) (0xB8), (byte) (0xB8), (byte) (0xB8), (byte) (0xD0), (byte) (0xD0), (byte) (0xD0),
-                            (byte) (0xCC), (byte) (0xD8), (byte) (0xDC), (byte) (0xD8), (byte) (0xDC), (byte) (0xDC),
-                            (byte) (0xDC), (byte) (0xE4), (byte) (0xE8), (byte) (0xE8), (byte) (0xEC), (byte) (0xEC),
-                            (byte) (0xFC), (byte) (0xFC), (byte) (0xFC), (byte) (0xFF), (byte) (0xFF), (byte) (0xFF)},
-                        PaletteDataInterpretation.BGR)));
-        map.put(
-                "Menu 2",
-                new RestrictableIndexColorModel(ImageUtilities.interpretIndexColorModel(
-                        new byte[]{
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x24),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x1C), (byte) (0x10), (byte) (0x24), (byte) (0x2C),
-                            (byte) (0x18), (byte) (0x34), (byte) (0x3C), (byte) (0x00), (byte) (0x00), (byte) (0x5C),
-                            (byte) (0x20), (byte) (0x40), (byte) (0x48), (byte) (0x28), (byte) (0x48), (byte) (0x54),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x90), (byte) (0x10), (byte) (0x48), (byte) (0x8C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0xBC), (byte) (0x20), (byte) (0x84), (byte) (0xD0),
-                            (byte) (0x6C), (byte) (0xC4), (byte) (0xF4), (byte) (0x50), (byte) (0x7C), (byte) (0x8C),
-                            (byte) (0x64), (byte) (0x9C), (byte) (0xAC), (byte) (0x08), (byte) (0x0C), (byte) (0x0C),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x1C),
-                            (byte) (0x1C), (byte) (0x24), (byte) (0x28), (byte) (0x2C), (byte) (0x2C), (byte) (0x2C),
-                            (byte) (0x30), (byte) (0x38), (byte) (0x3C), (byte) (0x38), (byte) (0x38), (byte) (0x38),
-                            (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x50), (byte) (0x58),
-                            (byte) (0x34), (byte) (0x58), (byte) (0x64), (byte) (0x58), (byte) (0x58), (byte) (0x58),
-                            (byte) (0x3C), (byte) (0x64), (byte) (0x74), (byte) (0x64), (byte) (0x64), (byte) (0x64),
-                            (byte) (0x70), (byte) (0x74), (byte) (0x7C), (byte) (0x84), (byte) (0x84), (byte) (0x84),
-                            (byte) (0x94), (byte) (0x98), (byte) (0x9C), (byte) (0xC4), (byte) (0xC4), (byte) (0xC4),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xF4), (byte) (0x04), (byte) (0x04), (byte) (0x0C),
-                            (byte) (0x08), (byte) (0x08), (byte) (0x0C), (byte) (0x00), (byte) (0x00), (byte) (0x14),
-                            (byte) (0x00), (byte) (0x0C), (byte) (0x14), (byte) (0x00), (byte) (0x08), (byte) (0x20),
-                            (byte) (0x08), (byte) (0x14), (byte) (0x1C), (byte) (0x00), (byte) (0x00), (byte) (0x24),
-                            (byte) (0x04), (byte) (0x10), (byte) (0x24), (byte) (0x00), (byte) (0x00), (byte) (0x2C),
-                            (byte) (0x00), (byte) (0x20), (byte) (0x28), (byte) (0x00), (byte) (0x04), (byte) (0x3C),
-                            (byte) (0x18), (byte) (0x28), (byte) (0x30), (byte) (0x08), (byte) (0x18), (byte) (0x40),
-                            (byte) (0x00), (byte) (0x14), (byte) (0x44), (byte) (0x1C), (byte) (0x30), (byte) (0x38),
-                            (byte) (0x00), (byte) (0x20), (byte) (0x0C), (byte) (0x00), (byte) (0x54), (byte) (0x1C),
-                            (byte) (0x00), (byte) (0x88), (byte) (0x2C), (byte) (0x00), (byte) (0xBC), (byte) (0x40),
-                            (byte) (0x00), (byte) (0xF0), (byte) (0x50), (byte) (0x0C), (byte) (0x08), (byte) (0x04),
-                            (byte) (0x5C), (byte) (0x8C), (byte) (0x98), (byte) (0x64), (byte) (0x9C), (byte) (0xAC),
-                            (byte) (0x6C), (byte) (0xA8), (byte) (0xBC), (byte) (0x74), (byte) (0xB8), (byte) (0xCC),
-                            (byte) (0x80), (byte) (0xC4), (byte) (0xDC), (byte) (0x8C), (byte) (0xD0), (byte) (0xF0),
-                            (byte) (0xA4), (byte) (0xE4), (byte) (0xFC), (byte) (0x10), (byte) (0x10), (byte) (0x10),
-                            (byte) (0x00), (byte) (0x18), (byte) (0x18), (byte) (0x24), (byte) (0x24), (byte) (0x24),
-                            (byte) (0x28), (byte) (0x28), (byte) (0x28), (byte) (0x2C), (byte) (0x2C), (byte) (0x2C),
-                            (byte) (0x30), (byte) (0x30), (byte) (0x30), (byte) (0x34), (byte) (0x34), (byte) (0x34),
-                            (byte) (0x38), (byte) (0x38), (byte) (0x38), (byte) (0x3C), (byte) (0x3C), (byte) (0x3C),
-                            (byte) (0x28), (byte) (0x40), (byte) (0x48), (byte) (0x40), (byte) (0x40), (byte) (0x40),
-                            (byte) (0x4C), (byte) (0x4C), (byte) (0x4C), (byte) (0x34), (byte) (0x50), (byte) (0x5C),
-                            (byte) (0x58), (byte) (0x58), (byte) (0x58), (byte) (0x40), (byte) (0x60), (byte) (0x68),
-                            (byte) (0x48), (byte) (0x70), (byte) (0x78), (byte) (0x68), (byte) (0x68), (byte) (0x68),
-                            (byte) (0x74), (byte) (0x74), (byte) (0x74), (byte) (0x54), (byte) (0x80), (byte) (0x88),
-                            (byte) (0x84), (byte) (0x84), (byte) (0x84), (byte) (0x94), (byte) (0x94), (byte) (0x94),
-                            (byte) (0xA4), (byte) (0xA4), (byte) (0xA4), (byte) (0xB8), (byte) (0xB8), (byte) (0xB8),
-                            (byte) (0xCC), (byte) (0xCC), (byte) (0xCC), (byte) (0xE0), (byte) (0xE0), (byte) (0xE0),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xF4), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0xFF), (byte) (0xFF), (byte) (0xFF)},
-                        PaletteDataInterpretation.BGR)));
-    }
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
 
-    private static void performMapCreate5(Map<String,RestrictableIndexColorModel> map)
+    /**
+     * Private constructor.
+     */
+    private Diablo2DefaultPalettes()
     {
-        map.put(
-                        "Menu 3",
-                        new RestrictableIndexColorModel(ImageUtilities.interpretIndexColorModel(
-                                new byte[]{
-                                    (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x24),
-                                    (byte) (0x08), (byte) (0x18), (byte) (0x1C), (byte) (0x10), (byte) (0x24), (byte) (0x2C),
-                                    (byte) (0x18), (byte) (0x34), (byte) (0x3C), (byte) (0x00), (byte) (0x00), (byte) (0x5C),
-                                    (byte) (0x20), (byte) (0x40), (byte) (0x48), (byte) (0x28), (byte) (0x48), (byte) (0x54),
-                                    (byte) (0x00), (byte) (0x00), (byte) (0x90), (byte) (0x10), (byte) (0x48), (byte) (0x8C),
-                                    (byte) (0x00), (byte) (0x00), (byte) (0xBC), (byte) (0x20), (byte) (0x84), (byte) (0xD0),
-                                    (byte) (0x6C), (byte) (0xC4), (byte) (0xF4), (byte) (0x50), (byte) (0x7C), (byte) (0x8C),
-                                    (byte) (0x64), (byte) (0x9C), (byte) (0xAC), (byte) (0x08), (byte) (0x0C), (byte) (0x0C),
-                                    (byte) (0x10), (byte) (0x10), (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x1C),
-                                    (byte) (0x1C), (byte) (0x24), (byte) (0x28), (byte) (0x2C), (byte) (0x2C), (byte) (0x2C),
-                                    (byte) (0x30), (byte) (0x38), (byte) (0x3C), (byte) (0x38), (byte) (0x38), (byte) (0x38),
-                                    (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x50), (byte) (0x58),
-                                    (byte) (0x34), (byte) (0x58), (byte) (0x64), (byte) (0x58), (byte) (0x58), (byte) (0x58),
-                                    (byte) (0x3C), (byte) (0x64), (byte) (0x74), (byte) (0x64), (byte) (0x64), (byte) (0x64),
-                                    (byte) (0x70), (byte) (0x74), (byte) (0x7C), (byte) (0x84), (byte) (0x84), (byte) (0x84),
-                                    (byte) (0x94), (byte) (0x98), (byte) (0x9C), (byte) (0xC4), (byte) (0xC4), (byte) (0xC4),
-                                    (byte) (0xF4), (byte) (0xF4), (byte) (0xF4), (byte) (0x00), (byte) (0x00), (byte) (0x04),
-                                    (byte) (0x00), (byte) (0x04), (byte) (0x08), (byte) (0x04), (byte) (0x04), (byte) (0x08),
-                                    (byte) (0x04), (byte) (0x08), (byte) (0x0C), (byte) (0x08), (byte) (0x08), (byte) (0x0C),
-                                    (byte) (0x08), (byte) (0x0C), (byte) (0x10), (byte) (0x00), (byte) (0x00), (byte) (0x1C),
-                                    (byte) (0x0C), (byte) (0x14), (byte) (0x18), (byte) (0x0C), (byte) (0x0C), (byte) (0x28),
-                                    (byte) (0x14), (byte) (0x14), (byte) (0x2C), (byte) (0x00), (byte) (0x00), (byte) (0x38),
-                                    (byte) (0x0C), (byte) (0x14), (byte) (0x38), (byte) (0x20), (byte) (0x24), (byte) (0x40),
-                                    (byte) (0x14), (byte) (0x1C), (byte) (0x4C), (byte) (0x28), (byte) (0x2C), (byte) (0x48),
-                                    (byte) (0x18), (byte) (0x24), (byte) (0x5C), (byte) (0x2C), (byte) (0x34), (byte) (0x50),
-                                    (byte) (0x28), (byte) (0x40), (byte) (0x4C), (byte) (0x2C), (byte) (0x34), (byte) (0x5C),
-                                    (byte) (0x34), (byte) (0x3C), (byte) (0x58), (byte) (0x30), (byte) (0x4C), (byte) (0x5C),
-                                    (byte) (0x3C), (byte) (0x44), (byte) (0x60), (byte) (0x2C), (byte) (0x3C), (byte) (0x78),
-                                    (byte) (0x3C), (byte) (0x50), (byte) (0x70), (byte) (0x3C), (byte) (0x54), (byte) (0x80),
-                                    (byte) (0x50), (byte) (0x5C), (byte) (0x7C), (byte) (0x40), (byte) (0x5C), (byte) (0x90),
-                                    (byte) (0x54), (byte) (0x64), (byte) (0x94), (byte) (0x4C), (byte) (0x88), (byte) (0xB0),
-                                    (byte) (0x54), (byte) (0xB8), (byte) (0xD0), (byte) (0x00), (byte) (0x04), (byte) (0x00),
-                                    (byte) (0x04), (byte) (0x08), (byte) (0x04), (byte) (0x08), (byte) (0x0C), (byte) (0x08),
-                                    (byte) (0x0C), (byte) (0x10), (byte) (0x08), (byte) (0x78), (byte) (0x90), (byte) (0xB4),
-                                    (byte) (0x80), (byte) (0xA4), (byte) (0xB8), (byte) (0x8C), (byte) (0xB4), (byte) (0xC8),
-                                    (byte) (0x9C), (byte) (0xB8), (byte) (0xBC), (byte) (0xA0), (byte) (0xBC), (byte) (0xC4),
-                                    (byte) (0x90), (byte) (0xC4), (byte) (0xDC), (byte) (0xB0), (byte) (0xCC), (byte) (0xD4),
-                                    (byte) (0x98), (byte) (0xD4), (byte) (0xE8), (byte) (0xBC), (byte) (0xD0), (byte) (0xD4),
-                                    (byte) (0x68), (byte) (0xE8), (byte) (0xFC), (byte) (0xC0), (byte) (0xD8), (byte) (0xDC),
-                                    (byte) (0xA0), (byte) (0xE0), (byte) (0xF4), (byte) (0xC4), (byte) (0xE4), (byte) (0xEC),
-                                    (byte) (0xD0), (byte) (0xE4), (byte) (0xE8), (byte) (0x9C), (byte) (0xFC), (byte) (0xFC),
-                                    (byte) (0xAC), (byte) (0xF4), (byte) (0xFC), (byte) (0xDC), (byte) (0xE8), (byte) (0xE8),
-                                    (byte) (0xC0), (byte) (0xFC), (byte) (0xFC), (byte) (0xDC), (byte) (0xF4), (byte) (0xF8),
-                                    (byte) (0xEC), (byte) (0xFC), (byte) (0xFC), (byte) (0x00), (byte) (0x04), (byte) (0x04),
-                                    (byte) (0x04), (byte) (0x04), (byte) (0x00), (byte) (0x04), (byte) (0x04), (byte) (0x04),
-                                    (byte) (0x04), (byte) (0x08), (byte) (0x08), (byte) (0x08), (byte) (0x08), (byte) (0x04),
-                                    (byte) (0x08), (byte) (0x08), (byte) (0x08), (byte) (0x0C), (byte) (0x0C), (byte) (0x08),
-                                    (byte) (0x0C), (byte) (0x0C), (byte) (0x0C), (byte) (0x0C), (byte) (0x10), (byte) (0x0C),
-                                    (byte) (0x0C), (byte) (0x0C), (byte) (0x10), (byte) (0x10), (byte) (0x10), (byte) (0x08),
-                                    (byte) (0x10), (byte) (0x10), (byte) (0x0C), (byte) (0x0C), (byte) (0x10), (byte) (0x10),
-                                    (byte) (0x10), (byte) (0x10), (byte) (0x10), (byte) (0x10), (byte) (0x14), (byte) (0x0C),
-                                    (byte) (0x10), (byte) (0x14), (byte) (0x10), (byte) (0x14), (byte) (0x14), (byte) (0x0C),
-                                    (byte) (0x10), (byte) (0x14), (byte) (0x14), (byte) (0x14), (byte) (0x14), (byte) (0x10),
-                                    (byte) (0x14), (byte) (0x14), (byte) (0x14), (byte) (0x14), (byte) (0x18), (byte) (0x10),
-                                    (byte) (0x14), (byte) (0x18), (byte) (0x14), (byte) (0x18), (byte) (0x18), (byte) (0x10),
-                                    (byte) (0x14), (byte) (0x18), (byte) (0x18), (byte) (0x18), (byte) (0x18), (byte) (0x18),
-                                    (byte) (0x1C), (byte) (0x1C), (byte) (0x10), (byte) (0x18), (byte) (0x1C), (byte) (0x18),
-                                    (byte) (0x10), (byte) (0x1C), (byte) (0x20), (byte) (0x18), (byte) (0x1C), (byte) (0x1C),
-                                    (byte) (0x20), (byte) (0x20), (byte) (0x14), (byte) (0x1C), (byte) (0x20), (byte) (0x1C),
-                                    (byte) (0x14), (byte) (0x20), (byte) (0x24), (byte) (0x1C), (byte) (0x20), (byte) (0x20),
-                                    (byte) (0x20), (byte) (0x24), (byte) (0x20), (byte) (0x20), (byte) (0x24), (byte) (0x24),
-                                    (byte) (0x20), (byte) (0x28), (byte) (0x24), (byte) (0x24), (byte) (0x28), (byte) (0x24),
-                                    (byte) (0x20), (byte) (0x28), (byte) (0x28), (byte) (0x24), (byte) (0x28), (byte) (0x28),
-                                    (byte) (0x1C), (byte) (0x28), (byte) (0x30), (byte) (0x24), (byte) (0x2C), (byte) (0x28),
-                                    (byte) (0x28), (byte) (0x2C), (byte) (0x28), (byte) (0x24), (byte) (0x2C), (byte) (0x2C),
-                                    (byte) (0x1C), (byte) (0x2C), (byte) (0x34), (byte) (0x28), (byte) (0x2C), (byte) (0x2C),
-                                    (byte) (0x28), (byte) (0x30), (byte) (0x2C), (byte) (0x2C), (byte) (0x30), (byte) (0x2C),
-                                    (byte) (0x28), (byte) (0x30), (byte) (0x30), (byte) (0x2C), (byte) (0x30), (byte) (0x30),
-                                    (byte) (0x24), (byte) (0x30), (byte) (0x38), (byte) (0x2C), (byte) (0x34), (byte) (0x30),
-                                    (byte) (0x30), (byte) (0x34), (byte) (0x30), (byte) (0x2C), (byte) (0x34), (byte) (0x34),
-                                    (byte) (0x30), (byte) (0x34), (byte) (0x34), (byte) (0x28), (byte) (0x34), (byte) (0x3C),
-                                    (byte) (0x30), (byte) (0x38), (byte) (0x34), (byte) (0x24), (byte) (0x38), (byte) (0x40),
-                                    (byte) (0x30), (byte) (0x38), (byte) (0x38), (byte) (0x34), (byte) (0x38), (byte) (0x38),
-                                    (byte) (0x34), (byte) (0x3C), (byte) (0x38), (byte) (0x34), (byte) (0x3C), (byte) (0x3C),
-                                    (byte) (0x2C), (byte) (0x3C), (byte) (0x44), (byte) (0x38), (byte) (0x40), (byte) (0x3C),
-                                    (byte) (0x38), (byte) (0x40), (byte) (0x40), (byte) (0x38), (byte) (0x40), (byte) (0x44),
-                                    (byte) (0x3C), (byte) (0x44), (byte) (0x40), (byte) (0x30), (byte) (0x44), (byte) (0x4C),
-                                    (byte) (0x3C), (byte) (0x44), (byte) (0x44), (byte) (0x3C), (byte) (0x44), (byte) (0x48),
-                                    (byte) (0x40), (byte) (0x48), (byte) (0x44), (byte) (0x3C), (byte) (0x48), (byte) (0x48),
-                                    (byte) (0x40), (byte) (0x48), (byte) (0x48), (byte) (0x34), (byte) (0x48), (byte) (0x54),
-                                    (byte) (0x44), (byte) (0x4C), (byte) (0x48), (byte) (0x40), (byte) (0x4C), (byte) (0x4C),
-                                    (byte) (0x44), (byte) (0x4C), (byte) (0x4C), (byte) (0x44), (byte) (0x4C), (byte) (0x50),
-                                    (byte) (0x44), (byte) (0x50), (byte) (0x50), (byte) (0x48), (byte) (0x50), (byte) (0x50),
-                                    (byte) (0x38), (byte) (0x50), (byte) (0x5C), (byte) (0x48), (byte) (0x54), (byte) (0x50),
-                                    (byte) (0x48), (byte) (0x54), (byte) (0x54), (byte) (0x4C), (byte) (0x54), (byte) (0x54),
-                                    (byte) (0x40), (byte) (0x58), (byte) (0x60), (byte) (0x4C), (byte) (0x58), (byte) (0x58),
-                                    (byte) (0x44), (byte) (0x50), (byte) (0x68), (byte) (0x50), (byte) (0x58), (byte) (0x58),
-                                    (byte) (0x50), (byte) (0x5C), (byte) (0x5C), (byte) (0x3C), (byte) (0x5C), (byte) (0x6C),
-                                    (byte) (0x44), (byte) (0x5C), (byte) (0x68), (byte) (0x54), (byte) (0x5C), (byte) (0x5C),
-                                    (byte) (0x50), (byte) (0x5C), (byte) (0x60), (byte) (0x4C), (byte) (0x54), (byte) (0x6C),
-                                    (byte) (0x54), (byte) (0x60), (byte) (0x5C), (byte) (0x54), (byte) (0x60), (byte) (0x60),
-                                    (byte) (0x48), (byte) (0x60), (byte) (0x6C), (byte) (0x54), (byte) (0x60), (byte) (0x64),
-                                    (byte) (0x58), (byte) (0x64), (byte) (0x60), (byte) (0x54), (byte) (0x64), (byte) (0x64),
-                                    (byte) (0x58), (byte) (0x64), (byte) (0x64), (byte) (0x4C), (byte) (0x64), (byte) (0x70),
-                                    (byte) (0x58), (byte) (0x64), (byte) (0x68), (byte) (0x5C), (byte) (0x68), (byte) (0x64),
-                                    (byte) (0x58), (byte) (0x68), (byte) (0x68), (byte) (0x5C), (byte) (0x68), (byte) (0x68),
-                                    (byte) (0x5C), (byte) (0x68), (byte) (0x6C), (byte) (0x60), (byte) (0x6C), (byte) (0x68),
-                                    (byte) (0x5C), (byte) (0x6C), (byte) (0x6C), (byte) (0x50), (byte) (0x6C), (byte) (0x78),
-                                    (byte) (0x60), (byte) (0x6C), (byte) (0x6C), (byte) (0x58), (byte) (0x6C), (byte) (0x74),
-                                    (byte) (0x64), (byte) (0x70), (byte) (0x6C), (byte) (0x60), (byte) (0x70), (byte) (0x70),
-                                    (byte) (0x54), (byte) (0x70), (byte) (0x7C), (byte) (0x64), (byte) (0x70), (byte) (0x70),
-                                    (byte) (0x60), (byte) (0x70), (byte) (0x74), (byte) (0x64), (byte) (0x74), (byte) (0x74),
-                                    (byte) (0x58), (byte) (0x74), (byte) (0x80), (byte) (0x6C), (byte) (0x74), (byte) (0x70),
-                                    (byte) (0x68), (byte) (0x78), (byte) (0x78), (byte) (0x5C), (byte) (0x6C), (byte) (0x8C),
-                                    (byte) (0x60), (byte) (0x78), (byte) (0x80), (byte) (0x6C), (byte) (0x7C), (byte) (0x7C),
-                                    (byte) (0x6C), (byte) (0x7C), (byte) (0x80), (byte) (0x64), (byte) (0x7C), (byte) (0x88),
-                                    (byte) (0x7C), (byte) (0x7C), (byte) (0x78), (byte) (0x70), (byte) (0x80), (byte) (0x80),
-                                    (byte) (0x74), (byte) (0x84), (byte) (0x84), (byte) (0x70), (byte) (0x84), (byte) (0x88),
-                                    (byte) (0x74), (byte) (0x84), (byte) (0x88), (byte) (0x6C), (byte) (0x84), (byte) (0x90),
-                                    (byte) (0x78), (byte) (0x88), (byte) (0x88), (byte) (0x6C), (byte) (0x80), (byte) (0x9C),
-                                    (byte) (0x78), (byte) (0x88), (byte) (0x8C), (byte) (0x78), (byte) (0x8C), (byte) (0x8C),
-                                    (byte) (0x70), (byte) (0x8C), (byte) (0x94), (byte) (0x7C), (byte) (0x8C), (byte) (0x8C),
-                                    (byte) (0x7C), (byte) (0x8C), (byte) (0x90), (byte) (0x7C), (byte) (0x90), (byte) (0x90),
-                                    (byte) (0x70), (byte) (0x84), (byte) (0xA4), (byte) (0x80), (byte) (0x90), (byte) (0x90),
-                                    (byte) (0x78), (byte) (0x90), (byte) (0x98), (byte) (0x80), (byte) (0x90), (byte) (0x94),
-                                    (byte) (0x80), (byte) (0x94), (byte) (0x94), (byte) (0x84), (byte) (0x94), (byte) (0x94),
-                                    (byte) (0x80), (byte) (0x94), (byte) (0x98), (byte) (0x84), (byte) (0x94), (byte) (0x98),
-                                    (byte) (0x84), (byte) (0x98), (byte) (0x98), (byte) (0x7C), (byte) (0x98), (byte) (0xA0),
-                                    (byte) (0x88), (byte) (0x98), (byte) (0x98), (byte) (0x84), (byte) (0x98), (byte) (0x9C),
-                                    (byte) (0x88), (byte) (0x9C), (byte) (0x9C), (byte) (0x80), (byte) (0x9C), (byte) (0xA4),
-                                    (byte) (0x88), (byte) (0x9C), (byte) (0xA0), (byte) (0x8C), (byte) (0xA0), (byte) (0xA0),
-                                    (byte) (0x84), (byte) (0xA0), (byte) (0xA8), (byte) (0x8C), (byte) (0xA0), (byte) (0xA4),
-                                    (byte) (0x90), (byte) (0xA4), (byte) (0xA8), (byte) (0x94), (byte) (0xA8), (byte) (0xAC),
-                                    (byte) (0x90), (byte) (0xAC), (byte) (0xB4), (byte) (0xA0), (byte) (0xAC), (byte) (0xAC),
-                                    (byte) (0x98), (byte) (0xB0), (byte) (0xB4), (byte) (0xA4), (byte) (0xB8), (byte) (0xB8),
-                                    (byte) (0xAC), (byte) (0xC0), (byte) (0xC4), (byte) (0xB8), (byte) (0xC0), (byte) (0xC0),
-                                    (byte) (0xC8), (byte) (0xD0), (byte) (0xD0), (byte) (0xD4), (byte) (0xDC), (byte) (0xDC),
-                                    (byte) (0xFC), (byte) (0xFC), (byte) (0xFC), (byte) (0xFF), (byte) (0xFF), (byte) (0xFF)},
-                                PaletteDataInterpretation.BGR)));
-                map.put(
-                        "Menu 4",
-                        new RestrictableIndexColorModel(ImageUtilities.interpretIndexColorModel(
-                                new byte[]{
-                                    (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x24),
-                                    (byte) (0x08), (byte) (0x18), (byte) (0x1C), (byte) (0x10), (byte) (0x24), (byte) (0x2C),
-                                    (byte) (0x18), (byte) (0x34), (byte) (0x3C), (byte) (0x00), (byte) (0x00), (byte) (0x5C),
-                                    (byte) (0x20), (byte) (0x40), (byte) (0x48), (byte) (0x28), (byte) (0x48), (byte) (0x54),
-                                    (byte) (0x00), (byte) (0x00), (byte) (0x90), (byte) (0x10), (byte) (0x48), (byte) (0x8C),
-                                    (byte) (0x00), (byte) (0x00), (byte) (0xBC), (byte) (0x20), (byte) (0x84), (byte) (0xD0),
-                                    (byte) (0x6C), (byte) (0xC4), (byte) (0xF4), (byte) (0x50), (byte) (0x7C), (byte) (0x8C),
-                                    (byte) (0x64), (byte) (0x9C), (byte) (0xAC), (byte) (0x08), (byte) (0x0C), (byte) (0x0C),
-                                    (byte) (0x10), (byte) (0x10), (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x1C),
-                                    (byte) (0x1C), (byte) (0x24), (byte) (0x28), (byte) (0x2C), (byte) (0x2C), (byte) (0x2C),
-                                    (byte) (0x30), (byte) (0x38), (byte) (0x3C), (byte) (0x38), (byte) (0x38), (byte) (0x38),
-                                    (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x50), (byte) (0x58),
-                                    (byte) (0x34), (byte) (0x58), (byte) (0x64), (byte) (0x58), (byte) (0x58), (byte) (0x58),
-                                    (byte) (0x3C), (byte) (0x64), (byte) (0x74), (byte) (0x64), (byte) (0x64), (byte) (0x64),
-                                    (byte) (0x70), (byte) (0x74), (byte) (0x7C), (byte) (0x84), (byte) (0x84), (byte) (0x84),
-                                    (byte) (0x94), (byte) (0x98), (byte) (0x9C), (byte) (0xC4), (byte) (0xC4), (byte) (0xC4),
-                                    (byte) (0xF4), (byte) (0xF4), (byte) (0xF4), (byte) (0x00), (byte) (0x00), (byte) (0x04),
-                                    (byte) (0x00), (byte) (0x04), (byte) (0x08), (byte) (0x04), (byte) (0x04), (byte) (0x08),
-                                    (byte) (0x00), (byte) (0x08), (byte) (0x0C), (byte) (0x04), (byte) (0x08), (byte) (0x0C),
-                                    (byte) (0x00), (byte) (0x08), (byte) (0x10), (byte) (0x00), (byte) (0x00), (byte) (0x14),
-                                    (byte) (0x04), (byte) (0x0C), (byte) (0x10), (byte) (0x00), (byte) (0x0C), (byte) (0x14),
-                                    (byte) (0x04), (byte) (0x10), (byte) (0x14), (byte) (0x00), (byte) (0x04), (byte) (0x1C),
-                                    (byte) (0x04), (byte) (0x10), (byte) (0x18), (byte) (0x00), (byte) (0x10), (byte) (0x24),
-                                    (byte) (0x04), (byte) (0x18), (byte) (0x24), (byte) (0x0C), (byte) (0x1C), (byte) (0x24),
-                                    (byte) (0x04), (byte) (0x18), (byte) (0x30), (byte) (0x04), (byte) (0x20), (byte) (0x2C),
-                                    (byte) (0x00), (byte) (0x18), (byte) (0x3C), (byte) (0x04), (byte) (0x24), (byte) (0x3C),
-                                    (byte) (0x14), (byte) (0x2C), (byte) (0x34), (byte) (0x04), (byte) (0x2C), (byte) (0x40),
-                                    (byte) (0x04), (byte) (0x20), (byte) (0x48), (byte) (0x04), (byte) (0x24), (byte) (0x50),
-                                    (byte) (0x08), (byte) (0x38), (byte) (0x4C), (byte) (0x00), (byte) (0x3C), (byte) (0x54),
-                                    (byte) (0x10), (byte) (0x38), (byte) (0x58), (byte) (0x04), (byte) (0x2C), (byte) (0x60),
-                                    (byte) (0x08), (byte) (0x40), (byte) (0x5C), (byte) (0x04), (byte) (0x30), (byte) (0x68),
-                                    (byte) (0x18), (byte) (0x48), (byte) (0x60), (byte) (0x00), (byte) (0x2C), (byte) (0x74),
-                                    (byte) (0x00), (byte) (0x4C), (byte) (0x6C), (byte) (0x10), (byte) (0x44), (byte) (0x74),
-                                    (byte) (0x04), (byte) (0x38), (byte) (0x7C), (byte) (0x0C), (byte) (0x54), (byte) (0x78),
-                                    (byte) (0x00), (byte) (0x38), (byte) (0x8C), (byte) (0x04), (byte) (0x40), (byte) (0x90),
-                                    (byte) (0x00), (byte) (0x3C), (byte) (0x9C), (byte) (0x2C), (byte) (0x58), (byte) (0x94),
-                                    (byte) (0x00), (byte) (0x64), (byte) (0x94), (byte) (0x14), (byte) (0x58), (byte) (0x9C),
-                                    (byte) (0x04), (byte) (0x48), (byte) (0xA8), (byte) (0x00), (byte) (0x48), (byte) (0xB8),
-                                    (byte) (0x34), (byte) (0x68), (byte) (0xA8), (byte) (0x04), (byte) (0x54), (byte) (0xBC),
-                                    (byte) (0x18), (byte) (0x5C), (byte) (0xB8), (byte) (0x4C), (byte) (0x70), (byte) (0xA4),
-                                    (byte) (0x00), (byte) (0x7C), (byte) (0xB4), (byte) (0x00), (byte) (0x50), (byte) (0xD4),
-                                    (byte) (0x04), (byte) (0x60), (byte) (0xD4), (byte) (0x00), (byte) (0x54), (byte) (0xE0),
-                                    (byte) (0x00), (byte) (0x8C), (byte) (0xC4), (byte) (0x04), (byte) (0x64), (byte) (0xE0),
-                                    (byte) (0x2C), (byte) (0x74), (byte) (0xD8), (byte) (0x50), (byte) (0x7C), (byte) (0xCC),
-                                    (byte) (0x04), (byte) (0x68), (byte) (0xEC), (byte) (0x00), (byte) (0x60), (byte) (0xF4),
-                                    (byte) (0x00), (byte) (0x6C), (byte) (0xFC), (byte) (0x04), (byte) (0x7C), (byte) (0xFC),
-                                    (byte) (0x58), (byte) (0x90), (byte) (0xE4), (byte) (0x80), (byte) (0x9C), (byte) (0xCC),
-                                    (byte) (0x24), (byte) (0x88), (byte) (0xFC), (byte) (0x08), (byte) (0x90), (byte) (0xFC),
-                                    (byte) (0x3C), (byte) (0x8C), (byte) (0xFC), (byte) (0x04), (byte) (0xC0), (byte) (0xFC),
-                                    (byte) (0x00), (byte) (0x04), (byte) (0x00), (byte) (0x00), (byte) (0x08), (byte) (0x04),
-                                    (byte) (0x04), (byte) (0x08), (byte) (0x04), (byte) (0x00), (byte) (0x0C), (byte) (0x08),
-                                    (byte) (0x04), (byte) (0x0C), (byte) (0x08), (byte) (0x08), (byte) (0x0C), (byte) (0x08),
-                                    (byte) (0x04), (byte) (0x10), (byte) (0x08), (byte) (0x00), (byte) (0x14), (byte) (0x00),
-                                    (byte) (0x04), (byte) (0x10), (byte) (0x0C), (byte) (0x08), (byte) (0x10), (byte) (0x0C),
-                                    (byte) (0x04), (byte) (0x14), (byte) (0x10), (byte) (0x08), (byte) (0x14), (byte) (0x10),
-                                    (byte) (0x04), (byte) (0x1C), (byte) (0x00), (byte) (0x08), (byte) (0x18), (byte) (0x10),
-                                    (byte) (0x0C), (byte) (0x18), (byte) (0x10), (byte) (0x08), (byte) (0x18), (byte) (0x14),
-                                    (byte) (0x0C), (byte) (0x18), (byte) (0x14), (byte) (0x04), (byte) (0x24), (byte) (0x00),
-                                    (byte) (0x0C), (byte) (0x1C), (byte) (0x14), (byte) (0x08), (byte) (0x1C), (byte) (0x18),
-                                    (byte) (0x10), (byte) (0x1C), (byte) (0x14), (byte) (0x0C), (byte) (0x1C), (byte) (0x18),
-                                    (byte) (0x10), (byte) (0x24), (byte) (0x00), (byte) (0x0C), (byte) (0x20), (byte) (0x18),
-                                    (byte) (0x10), (byte) (0x20), (byte) (0x18), (byte) (0x00), (byte) (0x2C), (byte) (0x00),
-                                    (byte) (0x10), (byte) (0x24), (byte) (0x18), (byte) (0x0C), (byte) (0x24), (byte) (0x1C),
-                                    (byte) (0x10), (byte) (0x24), (byte) (0x1C), (byte) (0x14), (byte) (0x28), (byte) (0x1C),
-                                    (byte) (0x10), (byte) (0x28), (byte) (0x20), (byte) (0x04), (byte) (0x38), (byte) (0x00),
-                                    (byte) (0x14), (byte) (0x2C), (byte) (0x20), (byte) (0x14), (byte) (0x2C), (byte) (0x24),
-                                    (byte) (0x00), (byte) (0x40), (byte) (0x00), (byte) (0x18), (byte) (0x30), (byte) (0x24),
-                                    (byte) (0x1C), (byte) (0x3C), (byte) (0x00), (byte) (0x18), (byte) (0x34), (byte) (0x28),
-                                    (byte) (0x00), (byte) (0x4C), (byte) (0x00), (byte) (0x1C), (byte) (0x38), (byte) (0x2C),
-                                    (byte) (0x24), (byte) (0x40), (byte) (0x2C), (byte) (0x14), (byte) (0x54), (byte) (0x00),
-                                    (byte) (0x24), (byte) (0x44), (byte) (0x34), (byte) (0x00), (byte) (0x60), (byte) (0x00),
-                                    (byte) (0x40), (byte) (0x50), (byte) (0x00), (byte) (0x18), (byte) (0x68), (byte) (0x00),
-                                    (byte) (0x2C), (byte) (0x50), (byte) (0x3C), (byte) (0x38), (byte) (0x60), (byte) (0x48),
-                                    (byte) (0x10), (byte) (0x88), (byte) (0x00), (byte) (0x08), (byte) (0x04), (byte) (0x00),
-                                    (byte) (0x10), (byte) (0x08), (byte) (0x00), (byte) (0x10), (byte) (0x0C), (byte) (0x04),
-                                    (byte) (0x18), (byte) (0x0C), (byte) (0x00), (byte) (0x18), (byte) (0x10), (byte) (0x04),
-                                    (byte) (0x20), (byte) (0x10), (byte) (0x00), (byte) (0x20), (byte) (0x14), (byte) (0x04),
-                                    (byte) (0x28), (byte) (0x14), (byte) (0x00), (byte) (0x28), (byte) (0x1C), (byte) (0x08),
-                                    (byte) (0x30), (byte) (0x18), (byte) (0x00), (byte) (0x30), (byte) (0x24), (byte) (0x0C),
-                                    (byte) (0x38), (byte) (0x1C), (byte) (0x00), (byte) (0x38), (byte) (0x24), (byte) (0x08),
-                                    (byte) (0x40), (byte) (0x20), (byte) (0x00), (byte) (0x3C), (byte) (0x2C), (byte) (0x10),
-                                    (byte) (0x44), (byte) (0x24), (byte) (0x04), (byte) (0x38), (byte) (0x30), (byte) (0x1C),
-                                    (byte) (0x40), (byte) (0x30), (byte) (0x18), (byte) (0x4C), (byte) (0x28), (byte) (0x04),
-                                    (byte) (0x4C), (byte) (0x38), (byte) (0x18), (byte) (0x58), (byte) (0x30), (byte) (0x04),
-                                    (byte) (0x60), (byte) (0x30), (byte) (0x00), (byte) (0x54), (byte) (0x40), (byte) (0x20),
-                                    (byte) (0x68), (byte) (0x38), (byte) (0x04), (byte) (0x70), (byte) (0x38), (byte) (0x00),
-                                    (byte) (0x60), (byte) (0x4C), (byte) (0x28), (byte) (0x68), (byte) (0x4C), (byte) (0x20),
-                                    (byte) (0x78), (byte) (0x40), (byte) (0x04), (byte) (0x6C), (byte) (0x54), (byte) (0x2C),
-                                    (byte) (0x74), (byte) (0x54), (byte) (0x24), (byte) (0x84), (byte) (0x44), (byte) (0x04),
-                                    (byte) (0x7C), (byte) (0x50), (byte) (0x14), (byte) (0x74), (byte) (0x5C), (byte) (0x30),
-                                    (byte) (0x8C), (byte) (0x48), (byte) (0x04), (byte) (0x74), (byte) (0x60), (byte) (0x40),
-                                    (byte) (0x98), (byte) (0x4C), (byte) (0x04), (byte) (0x90), (byte) (0x60), (byte) (0x24),
-                                    (byte) (0x9C), (byte) (0x54), (byte) (0x10), (byte) (0x88), (byte) (0x68), (byte) (0x38),
-                                    (byte) (0xA4), (byte) (0x54), (byte) (0x04), (byte) (0x9C), (byte) (0x74), (byte) (0x3C),
-                                    (byte) (0xAC), (byte) (0x68), (byte) (0x24), (byte) (0xB8), (byte) (0x64), (byte) (0x10),
-                                    (byte) (0xC0), (byte) (0x70), (byte) (0x20), (byte) (0xBC), (byte) (0x74), (byte) (0x30),
-                                    (byte) (0xB0), (byte) (0x7C), (byte) (0x48), (byte) (0xC0), (byte) (0x88), (byte) (0x50),
-                                    (byte) (0xB4), (byte) (0x8C), (byte) (0x64), (byte) (0xD8), (byte) (0x88), (byte) (0x38),
-                                    (byte) (0xD8), (byte) (0x90), (byte) (0x48), (byte) (0xD0), (byte) (0x98), (byte) (0x60),
-                                    (byte) (0xE0), (byte) (0x9C), (byte) (0x5C), (byte) (0xE4), (byte) (0xA4), (byte) (0x68),
-                                    (byte) (0xE4), (byte) (0xAC), (byte) (0x74), (byte) (0x90), (byte) (0x80), (byte) (0x54),
-                                    (byte) (0xC0), (byte) (0x9C), (byte) (0x7C), (byte) (0x00), (byte) (0x04), (byte) (0x04),
-                                    (byte) (0x04), (byte) (0x04), (byte) (0x00), (byte) (0x04), (byte) (0x04), (byte) (0x04),
-                                    (byte) (0x00), (byte) (0x08), (byte) (0x08), (byte) (0x04), (byte) (0x08), (byte) (0x08),
-                                    (byte) (0x08), (byte) (0x08), (byte) (0x04), (byte) (0x00), (byte) (0x0C), (byte) (0x0C),
-                                    (byte) (0x04), (byte) (0x0C), (byte) (0x0C), (byte) (0x04), (byte) (0x10), (byte) (0x10),
-                                    (byte) (0x08), (byte) (0x10), (byte) (0x10), (byte) (0x10), (byte) (0x10), (byte) (0x08),
-                                    (byte) (0x0C), (byte) (0x14), (byte) (0x10), (byte) (0x14), (byte) (0x14), (byte) (0x0C),
-                                    (byte) (0x08), (byte) (0x18), (byte) (0x18), (byte) (0x10), (byte) (0x1C), (byte) (0x18),
-                                    (byte) (0x1C), (byte) (0x1C), (byte) (0x10), (byte) (0x24), (byte) (0x24), (byte) (0x14),
-                                    (byte) (0x2C), (byte) (0x28), (byte) (0x14), (byte) (0x24), (byte) (0x2C), (byte) (0x20),
-                                    (byte) (0x2C), (byte) (0x30), (byte) (0x20), (byte) (0x24), (byte) (0x34), (byte) (0x2C),
-                                    (byte) (0x34), (byte) (0x38), (byte) (0x28), (byte) (0x24), (byte) (0x38), (byte) (0x38),
-                                    (byte) (0x3C), (byte) (0x38), (byte) (0x24), (byte) (0x24), (byte) (0x40), (byte) (0x40),
-                                    (byte) (0x38), (byte) (0x44), (byte) (0x34), (byte) (0x44), (byte) (0x40), (byte) (0x2C),
-                                    (byte) (0x38), (byte) (0x48), (byte) (0x40), (byte) (0x50), (byte) (0x48), (byte) (0x2C),
-                                    (byte) (0x44), (byte) (0x4C), (byte) (0x38), (byte) (0x3C), (byte) (0x50), (byte) (0x40),
-                                    (byte) (0x2C), (byte) (0x50), (byte) (0x50), (byte) (0x50), (byte) (0x4C), (byte) (0x34),
-                                    (byte) (0x40), (byte) (0x54), (byte) (0x4C), (byte) (0x4C), (byte) (0x54), (byte) (0x44),
-                                    (byte) (0x54), (byte) (0x54), (byte) (0x40), (byte) (0x60), (byte) (0x58), (byte) (0x38),
-                                    (byte) (0x28), (byte) (0x60), (byte) (0x68), (byte) (0x60), (byte) (0x5C), (byte) (0x40),
-                                    (byte) (0x4C), (byte) (0x60), (byte) (0x54), (byte) (0x4C), (byte) (0x68), (byte) (0x60),
-                                    (byte) (0x68), (byte) (0x68), (byte) (0x4C), (byte) (0x60), (byte) (0x74), (byte) (0x60),
-                                    (byte) (0x40), (byte) (0x78), (byte) (0x74), (byte) (0x70), (byte) (0x74), (byte) (0x58),
-                                    (byte) (0x80), (byte) (0x70), (byte) (0x48), (byte) (0x58), (byte) (0x68), (byte) (0x88),
-                                    (byte) (0x70), (byte) (0x90), (byte) (0x78), (byte) (0x94), (byte) (0x88), (byte) (0x68),
-                                    (byte) (0x6C), (byte) (0x80), (byte) (0xA4), (byte) (0xA8), (byte) (0x94), (byte) (0x80),
-                                    (byte) (0xC0), (byte) (0xB0), (byte) (0x9C), (byte) (0xFF), (byte) (0xFF), (byte) (0xFF)},
-                                PaletteDataInterpretation.BGR)));
-                map.put(
-                        "Sky",
-                        new RestrictableIndexColorModel(ImageUtilities.interpretIndexColorModel(
-                                new byte[]{
-                                    (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x24),
-                                    (byte) (0x08), (byte) (0x18), (byte) (0x1C), (byte) (0x10), (byte) (0x24), (byte) (0x2C),
-                                    (byte) (0x18), (byte) (0x34), (byte) (0x3C), (byte) (0x00), (byte) (0x00), (byte) (0x5C),
-                                    (byte) (0x20), (byte) (0x40), (byte) (0x48), (byte) (0x28), (byte) (0x48), (byte) (0x54),
-                                    (byte) (0x00), (byte) (0x00), (byte) (0x90), (byte) (0x10), (byte) (0x48), (byte) (0x8C),
-                                    (byte) (0x00), (byte) (0x00), (byte) (0xBC), (byte) (0x20), (byte) (0x84), (byte) (0xD0),
-                                    (byte) (0x6C), (byte) (0xC4), (byte) (0xF4), (byte) (0x50), (byte) (0x7C), (byte) (0x8C),
-                                    (byte) (0x64), (byte) (0x9C), (byte) (0xAC), (byte) (0x08), (byte) (0x0C), (byte) (0x0C),
-                                    (byte) (0x10), (byte) (0x10), (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x1C),
-                                    (byte) (0x1C), (byte) (0x24), (byte) (0x28), (byte) (0x2C), (byte) (0x2C), (byte) (0x2C),
-                                    (byte) (0x30), (byte) (0x38), (byte) (0x3C), (byte) (0x38), (byte) (0x38), (byte) (0x38),
-                                    (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x50), (byte) (0x58),
-                                    (byte) (0x34), (byte) (0x58), (byte) (0x64), (byte) (0x58), (byte) (0x58), (byte) (0x58),
-                                    (byte) (0x3C), (byte) (0x64), (byte) (0x74), (byte) (0x64), (byte) (0x64), (byte) (0x64),
-                                    (byte) (0x70), (byte) (0x74), (byte) (0x7C), (byte) (0x84), (byte) (0x84), (byte) (0x84),
-                                    (byte) (0x94), (byte) (0x98), (byte) (0x9C), (byte) (0xC4), (byte) (0xC4), (byte) (0xC4),
-                                    (byte) (0xF4), (byte) (0xF4), (byte) (0xF4), (byte) (0x04), (byte) (0x04), (byte) (0x08),
-                                    (byte) (0x00), (byte) (0x04), (byte) (0x10), (byte) (0x04), (byte) (0x08), (byte) (0x18),
-                                    (byte) (0x08), (byte) (0x10), (byte) (0x18), (byte) (0x10), (byte) (0x14), (byte) (0x1C),
-                                    (byte) (0x04), (byte) (0x0C), (byte) (0x24), (byte) (0x0C), (byte) (0x18), (byte) (0x20),
-                                    (byte) (0x14), (byte) (0x18), (byte) (0x20), (byte) (0x08), (byte) (0x10), (byte) (0x2C),
-                                    (byte) (0x10), (byte) (0x1C), (byte) (0x24), (byte) (0x0C), (byte) (0x20), (byte) (0x28),
-                                    (byte) (0x04), (byte) (0x08), (byte) (0x38), (byte) (0x10), (byte) (0x1C), (byte) (0x30),
-                                    (byte) (0x14), (byte) (0x28), (byte) (0x30), (byte) (0x0C), (byte) (0x14), (byte) (0x40),
-                                    (byte) (0x10), (byte) (0x28), (byte) (0x38), (byte) (0x04), (byte) (0x0C), (byte) (0x48),
-                                    (byte) (0x1C), (byte) (0x28), (byte) (0x38), (byte) (0x0C), (byte) (0x20), (byte) (0x4C),
-                                    (byte) (0x14), (byte) (0x2C), (byte) (0x44), (byte) (0x20), (byte) (0x2C), (byte) (0x40),
-                                    (byte) (0x08), (byte) (0x10), (byte) (0x58), (byte) (0x20), (byte) (0x34), (byte) (0x48),
-                                    (byte) (0x28), (byte) (0x34), (byte) (0x44), (byte) (0x1C), (byte) (0x28), (byte) (0x54),
-                                    (byte) (0x14), (byte) (0x1C), (byte) (0x5C), (byte) (0x08), (byte) (0x24), (byte) (0x5C),
-                                    (byte) (0x18), (byte) (0x38), (byte) (0x54), (byte) (0x24), (byte) (0x38), (byte) (0x54),
-                                    (byte) (0x10), (byte) (0x18), (byte) (0x6C), (byte) (0x10), (byte) (0x2C), (byte) (0x68),
-                                    (byte) (0x24), (byte) (0x44), (byte) (0x5C), (byte) (0x18), (byte) (0x24), (byte) (0x70),
-                                    (byte) (0x24), (byte) (0x3C), (byte) (0x68), (byte) (0x0C), (byte) (0x2C), (byte) (0x7C),
-                                    (byte) (0x2C), (byte) (0x4C), (byte) (0x64), (byte) (0x08), (byte) (0x48), (byte) (0x70),
-                                    (byte) (0x18), (byte) (0x28), (byte) (0x80), (byte) (0x28), (byte) (0x50), (byte) (0x74),
-                                    (byte) (0x24), (byte) (0x30), (byte) (0x88), (byte) (0x40), (byte) (0x50), (byte) (0x6C),
-                                    (byte) (0x0C), (byte) (0x34), (byte) (0x8C), (byte) (0x68), (byte) (0x20), (byte) (0x70),
-                                    (byte) (0x44), (byte) (0x58), (byte) (0x78), (byte) (0x40), (byte) (0x40), (byte) (0x8C),
-                                    (byte) (0x30), (byte) (0x5C), (byte) (0x84), (byte) (0x24), (byte) (0x34), (byte) (0x9C),
-                                    (byte) (0x18), (byte) (0x28), (byte) (0xA4), (byte) (0x14), (byte) (0x48), (byte) (0xA4),
-                                    (byte) (0x40), (byte) (0x64), (byte) (0x8C), (byte) (0x38), (byte) (0x70), (byte) (0x8C),
-                                    (byte) (0x50), (byte) (0x68), (byte) (0x8C), (byte) (0x34), (byte) (0x44), (byte) (0xB0),
-                                    (byte) (0x20), (byte) (0x4C), (byte) (0xB4), (byte) (0x58), (byte) (0x70), (byte) (0x98),
-                                    (byte) (0x40), (byte) (0x78), (byte) (0xA0), (byte) (0x1C), (byte) (0x60), (byte) (0xBC),
-                                    (byte) (0x48), (byte) (0x84), (byte) (0x9C), (byte) (0x54), (byte) (0x54), (byte) (0xC4),
-                                    (byte) (0x20), (byte) (0x6C), (byte) (0xC8), (byte) (0x58), (byte) (0x7C), (byte) (0xAC),
-                                    (byte) (0x48), (byte) (0x88), (byte) (0xB0), (byte) (0x54), (byte) (0x7C), (byte) (0xC8),
-                                    (byte) (0x20), (byte) (0x70), (byte) (0xE0), (byte) (0x54), (byte) (0x9C), (byte) (0xB8),
-                                    (byte) (0x00), (byte) (0x2C), (byte) (0xFC), (byte) (0x70), (byte) (0x8C), (byte) (0xC0),
-                                    (byte) (0x50), (byte) (0x98), (byte) (0xCC), (byte) (0x30), (byte) (0x84), (byte) (0xE4),
-                                    (byte) (0x70), (byte) (0x70), (byte) (0xE0), (byte) (0x78), (byte) (0x98), (byte) (0xD0),
-                                    (byte) (0x3C), (byte) (0x88), (byte) (0xF8), (byte) (0x38), (byte) (0xA0), (byte) (0xEC),
-                                    (byte) (0x64), (byte) (0xB8), (byte) (0xD8), (byte) (0x84), (byte) (0xA4), (byte) (0xE0),
-                                    (byte) (0x44), (byte) (0xB4), (byte) (0xF0), (byte) (0x4C), (byte) (0xC0), (byte) (0xF4),
-                                    (byte) (0x8C), (byte) (0xB0), (byte) (0xF0), (byte) (0x5C), (byte) (0xD4), (byte) (0xFC),
-                                    (byte) (0xB0), (byte) (0xB0), (byte) (0xFC), (byte) (0x10), (byte) (0x24), (byte) (0x04),
-                                    (byte) (0x18), (byte) (0x24), (byte) (0x14), (byte) (0x18), (byte) (0x3C), (byte) (0x20),
-                                    (byte) (0x0C), (byte) (0x48), (byte) (0x18), (byte) (0x30), (byte) (0x44), (byte) (0x00),
-                                    (byte) (0x08), (byte) (0x64), (byte) (0x18), (byte) (0x24), (byte) (0x5C), (byte) (0x24),
-                                    (byte) (0x24), (byte) (0x5C), (byte) (0x38), (byte) (0x44), (byte) (0x6C), (byte) (0x08),
-                                    (byte) (0x14), (byte) (0x7C), (byte) (0x28), (byte) (0x34), (byte) (0x74), (byte) (0x40),
-                                    (byte) (0x30), (byte) (0x78), (byte) (0x58), (byte) (0x1C), (byte) (0x9C), (byte) (0x34),
-                                    (byte) (0x38), (byte) (0x84), (byte) (0x70), (byte) (0x34), (byte) (0xA0), (byte) (0x48),
-                                    (byte) (0x4C), (byte) (0x90), (byte) (0x58), (byte) (0x28), (byte) (0xBC), (byte) (0x44),
-                                    (byte) (0x48), (byte) (0x98), (byte) (0x84), (byte) (0x4C), (byte) (0xB8), (byte) (0x60),
-                                    (byte) (0x00), (byte) (0xFC), (byte) (0x18), (byte) (0x5C), (byte) (0xDC), (byte) (0x74),
-                                    (byte) (0x7C), (byte) (0xD0), (byte) (0x8C), (byte) (0x88), (byte) (0xFC), (byte) (0xA0),
-                                    (byte) (0x28), (byte) (0x0C), (byte) (0x0C), (byte) (0x48), (byte) (0x18), (byte) (0x18),
-                                    (byte) (0x58), (byte) (0x00), (byte) (0x00), (byte) (0x44), (byte) (0x14), (byte) (0x38),
-                                    (byte) (0x68), (byte) (0x24), (byte) (0x10), (byte) (0x64), (byte) (0x3C), (byte) (0x28),
-                                    (byte) (0x78), (byte) (0x28), (byte) (0x28), (byte) (0x80), (byte) (0x10), (byte) (0x4C),
-                                    (byte) (0x84), (byte) (0x4C), (byte) (0x38), (byte) (0x94), (byte) (0x30), (byte) (0x30),
-                                    (byte) (0x8C), (byte) (0x60), (byte) (0x48), (byte) (0xA0), (byte) (0x5C), (byte) (0x38),
-                                    (byte) (0xAC), (byte) (0x50), (byte) (0x50), (byte) (0xAC), (byte) (0x6C), (byte) (0x4C),
-                                    (byte) (0xBC), (byte) (0x78), (byte) (0x54), (byte) (0xD8), (byte) (0x60), (byte) (0x24),
-                                    (byte) (0xD0), (byte) (0x78), (byte) (0x64), (byte) (0xE0), (byte) (0x90), (byte) (0x64),
-                                    (byte) (0xDC), (byte) (0xA0), (byte) (0x80), (byte) (0xFC), (byte) (0x20), (byte) (0xA4),
-                                    (byte) (0xF0), (byte) (0x84), (byte) (0x84), (byte) (0xFC), (byte) (0xA0), (byte) (0xA0),
-                                    (byte) (0xFC), (byte) (0xB8), (byte) (0x90), (byte) (0x90), (byte) (0x8C), (byte) (0x58),
-                                    (byte) (0xA4), (byte) (0xA0), (byte) (0x68), (byte) (0xC4), (byte) (0xC0), (byte) (0x84),
-                                    (byte) (0xD4), (byte) (0xD0), (byte) (0x98), (byte) (0xFC), (byte) (0xCC), (byte) (0xA8),
-                                    (byte) (0xF4), (byte) (0xF4), (byte) (0xCC), (byte) (0x80), (byte) (0xA0), (byte) (0xC0),
-                                    (byte) (0xA8), (byte) (0xC0), (byte) (0xC4), (byte) (0x94), (byte) (0xC4), (byte) (0xE0),
-                                    (byte) (0x74), (byte) (0xE8), (byte) (0xFC), (byte) (0xB0), (byte) (0xFC), (byte) (0xC4),
-                                    (byte) (0xA4), (byte) (0xE4), (byte) (0xFC), (byte) (0xC4), (byte) (0xFC), (byte) (0xFC),
-                                    (byte) (0x04), (byte) (0x04), (byte) (0x04), (byte) (0x08), (byte) (0x08), (byte) (0x08),
-                                    (byte) (0x0C), (byte) (0x0C), (byte) (0x0C), (byte) (0x10), (byte) (0x10), (byte) (0x10),
-                                    (byte) (0x14), (byte) (0x14), (byte) (0x14), (byte) (0x18), (byte) (0x18), (byte) (0x18),
-                                    (byte) (0x18), (byte) (0x1C), (byte) (0x24), (byte) (0x20), (byte) (0x20), (byte) (0x20),
-                                    (byte) (0x24), (byte) (0x24), (byte) (0x24), (byte) (0x28), (byte) (0x28), (byte) (0x28),
-                                    (byte) (0x20), (byte) (0x28), (byte) (0x30), (byte) (0x30), (byte) (0x30), (byte) (0x30),
-                                    (byte) (0x28), (byte) (0x30), (byte) (0x38), (byte) (0x34), (byte) (0x34), (byte) (0x34),
-                                    (byte) (0x3C), (byte) (0x38), (byte) (0x34), (byte) (0x34), (byte) (0x38), (byte) (0x44),
-                                    (byte) (0x3C), (byte) (0x3C), (byte) (0x3C), (byte) (0x30), (byte) (0x3C), (byte) (0x4C),
-                                    (byte) (0x40), (byte) (0x40), (byte) (0x40), (byte) (0x3C), (byte) (0x40), (byte) (0x44),
-                                    (byte) (0x44), (byte) (0x44), (byte) (0x44), (byte) (0x3C), (byte) (0x48), (byte) (0x50),
-                                    (byte) (0x38), (byte) (0x44), (byte) (0x58), (byte) (0x4C), (byte) (0x4C), (byte) (0x4C),
-                                    (byte) (0x3C), (byte) (0x4C), (byte) (0x60), (byte) (0x5C), (byte) (0x58), (byte) (0x34),
-                                    (byte) (0x50), (byte) (0x50), (byte) (0x50), (byte) (0x54), (byte) (0x54), (byte) (0x54),
-                                    (byte) (0x5C), (byte) (0x5C), (byte) (0x5C), (byte) (0x50), (byte) (0x5C), (byte) (0x68),
-                                    (byte) (0x60), (byte) (0x60), (byte) (0x60), (byte) (0x74), (byte) (0x70), (byte) (0x44),
-                                    (byte) (0x50), (byte) (0x64), (byte) (0x7C), (byte) (0x68), (byte) (0x68), (byte) (0x68),
-                                    (byte) (0x6C), (byte) (0x6C), (byte) (0x6C), (byte) (0x60), (byte) (0x6C), (byte) (0x78),
-                                    (byte) (0x70), (byte) (0x70), (byte) (0x70), (byte) (0x74), (byte) (0x74), (byte) (0x74),
-                                    (byte) (0x7C), (byte) (0x7C), (byte) (0x7C), (byte) (0x64), (byte) (0x80), (byte) (0x94),
-                                    (byte) (0x74), (byte) (0x84), (byte) (0x90), (byte) (0x70), (byte) (0x88), (byte) (0xAC),
-                                    (byte) (0x90), (byte) (0x90), (byte) (0x90), (byte) (0x84), (byte) (0x94), (byte) (0x9C),
-                                    (byte) (0xB8), (byte) (0x94), (byte) (0x80), (byte) (0xA0), (byte) (0xA0), (byte) (0xA0),
-                                    (byte) (0x98), (byte) (0xAC), (byte) (0xB0), (byte) (0xAC), (byte) (0xAC), (byte) (0xAC),
-                                    (byte) (0xB8), (byte) (0xB8), (byte) (0xB8), (byte) (0xCC), (byte) (0xCC), (byte) (0xCC),
-                                    (byte) (0xD8), (byte) (0xD8), (byte) (0xD8), (byte) (0xFC), (byte) (0xCC), (byte) (0xCC),
-                                    (byte) (0xE4), (byte) (0xE4), (byte) (0xE4), (byte) (0x10), (byte) (0x00), (byte) (0x00),
-                                    (byte) (0x14), (byte) (0x00), (byte) (0x00), (byte) (0x18), (byte) (0x00), (byte) (0x00),
-                                    (byte) (0x1C), (byte) (0x00), (byte) (0x00), (byte) (0x20), (byte) (0x04), (byte) (0x00),
-                                    (byte) (0x20), (byte) (0x0C), (byte) (0x08), (byte) (0x28), (byte) (0x00), (byte) (0x00),
-                                    (byte) (0x28), (byte) (0x04), (byte) (0x00), (byte) (0x2C), (byte) (0x00), (byte) (0x00),
-                                    (byte) (0x2C), (byte) (0x08), (byte) (0x00), (byte) (0x2C), (byte) (0x10), (byte) (0x04),
-                                    (byte) (0x30), (byte) (0x00), (byte) (0x00), (byte) (0x30), (byte) (0x14), (byte) (0x0C),
-                                    (byte) (0x38), (byte) (0x08), (byte) (0x00), (byte) (0x34), (byte) (0x18), (byte) (0x10),
-                                    (byte) (0x38), (byte) (0x14), (byte) (0x08), (byte) (0x3C), (byte) (0x10), (byte) (0x04),
-                                    (byte) (0x40), (byte) (0x14), (byte) (0x04), (byte) (0x3C), (byte) (0x1C), (byte) (0x14),
-                                    (byte) (0x44), (byte) (0x18), (byte) (0x08), (byte) (0x40), (byte) (0x24), (byte) (0x18),
-                                    (byte) (0x44), (byte) (0x20), (byte) (0x14), (byte) (0x48), (byte) (0x1C), (byte) (0x10),
-                                    (byte) (0x4C), (byte) (0x24), (byte) (0x14), (byte) (0x48), (byte) (0x2C), (byte) (0x20),
-                                    (byte) (0x50), (byte) (0x28), (byte) (0x18), (byte) (0x50), (byte) (0x2C), (byte) (0x1C),
-                                    (byte) (0x54), (byte) (0x30), (byte) (0x20), (byte) (0x50), (byte) (0x34), (byte) (0x28),
-                                    (byte) (0x54), (byte) (0x38), (byte) (0x2C), (byte) (0xFF), (byte) (0xFF), (byte) (0xFF)},
-                                PaletteDataInterpretation.BGR)));
+        super();
     }
 
-    private static void performMapCreate6(Map<String,RestrictableIndexColorModel> map)
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+    /**
+     * Reads the palette data from the palette resource.
+     *
+     * @return The data of each palette, keyed by name in the order in which the palettes appear in the resource.
+     * @throws IllegalStateException If the resource is missing or malformed.
+     */
+    protected static Map<String, byte[]> readPaletteData()
     {
-        map.put(
-                "Static",
-                new RestrictableIndexColorModel(ImageUtilities.interpretIndexColorModel(
-                        new byte[]{
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x24),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x1C), (byte) (0x10), (byte) (0x24), (byte) (0x2C),
-                            (byte) (0x18), (byte) (0x34), (byte) (0x3C), (byte) (0x00), (byte) (0x00), (byte) (0x5C),
-                            (byte) (0x20), (byte) (0x40), (byte) (0x48), (byte) (0x28), (byte) (0x48), (byte) (0x54),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x90), (byte) (0x10), (byte) (0x48), (byte) (0x8C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0xBC), (byte) (0x20), (byte) (0x84), (byte) (0xD0),
-                            (byte) (0x6C), (byte) (0xC4), (byte) (0xF4), (byte) (0x50), (byte) (0x7C), (byte) (0x8C),
-                            (byte) (0x64), (byte) (0x9C), (byte) (0xAC), (byte) (0x08), (byte) (0x0C), (byte) (0x0C),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x1C),
-                            (byte) (0x1C), (byte) (0x24), (byte) (0x28), (byte) (0x2C), (byte) (0x2C), (byte) (0x2C),
-                            (byte) (0x30), (byte) (0x38), (byte) (0x3C), (byte) (0x38), (byte) (0x38), (byte) (0x38),
-                            (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x50), (byte) (0x58),
-                            (byte) (0x34), (byte) (0x58), (byte) (0x64), (byte) (0x58), (byte) (0x58), (byte) (0x58),
-                            (byte) (0x3C), (byte) (0x64), (byte) (0x74), (byte) (0x64), (byte) (0x64), (byte) (0x64),
-                            (byte) (0x70), (byte) (0x74), (byte) (0x7C), (byte) (0x84), (byte) (0x84), (byte) (0x84),
-                            (byte) (0x94), (byte) (0x98), (byte) (0x9C), (byte) (0xC4), (byte) (0xC4), (byte) (0xC4),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xF4), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0xFF), (byte) (0xFF), (byte) (0xFF)},
-                        PaletteDataInterpretation.BGR)));
-        map.put(
-                "Trademark",
-                new RestrictableIndexColorModel(ImageUtilities.interpretIndexColorModel(
-                        new byte[]{
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x24),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x1C), (byte) (0x10), (byte) (0x24), (byte) (0x2C),
-                            (byte) (0x18), (byte) (0x34), (byte) (0x3C), (byte) (0x00), (byte) (0x00), (byte) (0x5C),
-                            (byte) (0x20), (byte) (0x40), (byte) (0x48), (byte) (0x28), (byte) (0x48), (byte) (0x54),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x90), (byte) (0x10), (byte) (0x48), (byte) (0x8C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0xBC), (byte) (0x20), (byte) (0x84), (byte) (0xD0),
-                            (byte) (0x6C), (byte) (0xC4), (byte) (0xF4), (byte) (0x50), (byte) (0x7C), (byte) (0x8C),
-                            (byte) (0x64), (byte) (0x9C), (byte) (0xAC), (byte) (0x08), (byte) (0x0C), (byte) (0x0C),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x1C),
-                            (byte) (0x1C), (byte) (0x24), (byte) (0x28), (byte) (0x2C), (byte) (0x2C), (byte) (0x2C),
-                            (byte) (0x30), (byte) (0x38), (byte) (0x3C), (byte) (0x38), (byte) (0x38), (byte) (0x38),
-                            (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x50), (byte) (0x58),
-                            (byte) (0x34), (byte) (0x58), (byte) (0x64), (byte) (0x58), (byte) (0x58), (byte) (0x58),
-                            (byte) (0x3C), (byte) (0x64), (byte) (0x74), (byte) (0x64), (byte) (0x64), (byte) (0x64),
-                            (byte) (0x70), (byte) (0x74), (byte) (0x7C), (byte) (0x84), (byte) (0x84), (byte) (0x84),
-                            (byte) (0x94), (byte) (0x98), (byte) (0x9C), (byte) (0xC4), (byte) (0xC4), (byte) (0xC4),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xF4), (byte) (0x00), (byte) (0x00), (byte) (0x04),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x08), (byte) (0x00), (byte) (0x00), (byte) (0x0C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x10), (byte) (0x00), (byte) (0x00), (byte) (0x14),
-                            (byte) (0x04), (byte) (0x08), (byte) (0x14), (byte) (0x00), (byte) (0x00), (byte) (0x18),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x1C), (byte) (0x00), (byte) (0x00), (byte) (0x20),
-                            (byte) (0x08), (byte) (0x0C), (byte) (0x20), (byte) (0x00), (byte) (0x04), (byte) (0x24),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x28), (byte) (0x00), (byte) (0x04), (byte) (0x28),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x2C), (byte) (0x00), (byte) (0x04), (byte) (0x2C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x30), (byte) (0x00), (byte) (0x04), (byte) (0x30),
-                            (byte) (0x0C), (byte) (0x10), (byte) (0x2C), (byte) (0x00), (byte) (0x00), (byte) (0x34),
-                            (byte) (0x00), (byte) (0x04), (byte) (0x34), (byte) (0x00), (byte) (0x00), (byte) (0x38),
-                            (byte) (0x00), (byte) (0x04), (byte) (0x38), (byte) (0x00), (byte) (0x08), (byte) (0x38),
-                            (byte) (0x04), (byte) (0x08), (byte) (0x38), (byte) (0x00), (byte) (0x00), (byte) (0x3C),
-                            (byte) (0x00), (byte) (0x04), (byte) (0x3C), (byte) (0x04), (byte) (0x08), (byte) (0x3C),
-                            (byte) (0x10), (byte) (0x14), (byte) (0x38), (byte) (0x00), (byte) (0x24), (byte) (0x34),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x40), (byte) (0x00), (byte) (0x04), (byte) (0x40),
-                            (byte) (0x04), (byte) (0x08), (byte) (0x40), (byte) (0x00), (byte) (0x00), (byte) (0x44),
-                            (byte) (0x04), (byte) (0x08), (byte) (0x44), (byte) (0x00), (byte) (0x00), (byte) (0x48),
-                            (byte) (0x00), (byte) (0x08), (byte) (0x48), (byte) (0x08), (byte) (0x20), (byte) (0x44),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x4C), (byte) (0x00), (byte) (0x04), (byte) (0x4C),
-                            (byte) (0x14), (byte) (0x1C), (byte) (0x44), (byte) (0x04), (byte) (0x0C), (byte) (0x4C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x50), (byte) (0x00), (byte) (0x0C), (byte) (0x50),
-                            (byte) (0x08), (byte) (0x0C), (byte) (0x50), (byte) (0x00), (byte) (0x00), (byte) (0x54),
-                            (byte) (0x04), (byte) (0x10), (byte) (0x54), (byte) (0x14), (byte) (0x18), (byte) (0x50),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x58), (byte) (0x04), (byte) (0x08), (byte) (0x58),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x58), (byte) (0x04), (byte) (0x14), (byte) (0x58),
-                            (byte) (0x0C), (byte) (0x28), (byte) (0x54), (byte) (0x00), (byte) (0x00), (byte) (0x60),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x60), (byte) (0x04), (byte) (0x18), (byte) (0x60),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x64), (byte) (0x14), (byte) (0x24), (byte) (0x5C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x68), (byte) (0x04), (byte) (0x08), (byte) (0x68),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x6C), (byte) (0x0C), (byte) (0x14), (byte) (0x6C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x70), (byte) (0x10), (byte) (0x28), (byte) (0x68),
-                            (byte) (0x04), (byte) (0x20), (byte) (0x6C), (byte) (0x00), (byte) (0x00), (byte) (0x74),
-                            (byte) (0x00), (byte) (0x04), (byte) (0x74), (byte) (0x00), (byte) (0x10), (byte) (0x74),
-                            (byte) (0x1C), (byte) (0x24), (byte) (0x6C), (byte) (0x00), (byte) (0x00), (byte) (0x78),
-                            (byte) (0x04), (byte) (0x24), (byte) (0x74), (byte) (0x00), (byte) (0x00), (byte) (0x7C),
-                            (byte) (0x10), (byte) (0x18), (byte) (0x7C), (byte) (0x00), (byte) (0x00), (byte) (0x80),
-                            (byte) (0x08), (byte) (0x2C), (byte) (0x78), (byte) (0x04), (byte) (0x14), (byte) (0x80),
-                            (byte) (0x10), (byte) (0x38), (byte) (0x74), (byte) (0x00), (byte) (0x00), (byte) (0x84),
-                            (byte) (0x04), (byte) (0x30), (byte) (0x7C), (byte) (0x04), (byte) (0x28), (byte) (0x80),
-                            (byte) (0x1C), (byte) (0x24), (byte) (0x80), (byte) (0x00), (byte) (0x00), (byte) (0x88),
-                            (byte) (0x00), (byte) (0x0C), (byte) (0x88), (byte) (0x00), (byte) (0x18), (byte) (0x88),
-                            (byte) (0x08), (byte) (0x34), (byte) (0x80), (byte) (0x10), (byte) (0x1C), (byte) (0x88),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x8C), (byte) (0x04), (byte) (0x2C), (byte) (0x88),
-                            (byte) (0x04), (byte) (0x0C), (byte) (0x90), (byte) (0x08), (byte) (0x38), (byte) (0x88),
-                            (byte) (0x04), (byte) (0x20), (byte) (0x90), (byte) (0x00), (byte) (0x00), (byte) (0x94),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x98), (byte) (0x14), (byte) (0x20), (byte) (0x94),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x98), (byte) (0x38), (byte) (0x40), (byte) (0x80),
-                            (byte) (0x00), (byte) (0x2C), (byte) (0x94), (byte) (0x0C), (byte) (0x40), (byte) (0x8C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x9C), (byte) (0x04), (byte) (0x34), (byte) (0x94),
-                            (byte) (0x00), (byte) (0x1C), (byte) (0x9C), (byte) (0x20), (byte) (0x34), (byte) (0x94),
-                            (byte) (0x00), (byte) (0x00), (byte) (0xA4), (byte) (0x00), (byte) (0x04), (byte) (0xA4),
-                            (byte) (0x00), (byte) (0x28), (byte) (0xA0), (byte) (0x08), (byte) (0x40), (byte) (0x98),
-                            (byte) (0x00), (byte) (0x04), (byte) (0xA8), (byte) (0x00), (byte) (0x34), (byte) (0xA0),
-                            (byte) (0x18), (byte) (0x24), (byte) (0xA4), (byte) (0x10), (byte) (0x4C), (byte) (0x98),
-                            (byte) (0x00), (byte) (0x08), (byte) (0xAC), (byte) (0x00), (byte) (0x40), (byte) (0xA0),
-                            (byte) (0x58), (byte) (0x54), (byte) (0x7C), (byte) (0x04), (byte) (0x38), (byte) (0xA8),
-                            (byte) (0x2C), (byte) (0x64), (byte) (0x8C), (byte) (0x10), (byte) (0x3C), (byte) (0xA8),
-                            (byte) (0x10), (byte) (0x50), (byte) (0xA0), (byte) (0x00), (byte) (0x08), (byte) (0xB4),
-                            (byte) (0x00), (byte) (0x48), (byte) (0xA8), (byte) (0x00), (byte) (0x10), (byte) (0xB8),
-                            (byte) (0x08), (byte) (0x44), (byte) (0xAC), (byte) (0x18), (byte) (0x2C), (byte) (0xB4),
-                            (byte) (0x18), (byte) (0x5C), (byte) (0xA4), (byte) (0x00), (byte) (0x50), (byte) (0xAC),
-                            (byte) (0x00), (byte) (0x10), (byte) (0xC0), (byte) (0x00), (byte) (0x18), (byte) (0xC0),
-                            (byte) (0x08), (byte) (0x48), (byte) (0xB4), (byte) (0x08), (byte) (0x34), (byte) (0xBC),
-                            (byte) (0x10), (byte) (0x5C), (byte) (0xAC), (byte) (0x18), (byte) (0x64), (byte) (0xA8),
-                            (byte) (0x00), (byte) (0x58), (byte) (0xB4), (byte) (0x0C), (byte) (0x54), (byte) (0xB8),
-                            (byte) (0x04), (byte) (0x2C), (byte) (0xC8), (byte) (0x24), (byte) (0x6C), (byte) (0xAC),
-                            (byte) (0x14), (byte) (0x64), (byte) (0xB4), (byte) (0x00), (byte) (0x60), (byte) (0xB8),
-                            (byte) (0x58), (byte) (0x68), (byte) (0xA0), (byte) (0x1C), (byte) (0x6C), (byte) (0xB4),
-                            (byte) (0x10), (byte) (0x5C), (byte) (0xC0), (byte) (0x08), (byte) (0x40), (byte) (0xCC),
-                            (byte) (0x00), (byte) (0x68), (byte) (0xBC), (byte) (0x30), (byte) (0x78), (byte) (0xB4),
-                            (byte) (0x18), (byte) (0x74), (byte) (0xBC), (byte) (0x10), (byte) (0x64), (byte) (0xC8),
-                            (byte) (0x24), (byte) (0x78), (byte) (0xBC), (byte) (0x00), (byte) (0x74), (byte) (0xC4),
-                            (byte) (0x2C), (byte) (0x3C), (byte) (0xDC), (byte) (0x14), (byte) (0x7C), (byte) (0xC4),
-                            (byte) (0x04), (byte) (0x40), (byte) (0xE0), (byte) (0x24), (byte) (0x80), (byte) (0xC0),
-                            (byte) (0x18), (byte) (0x70), (byte) (0xCC), (byte) (0x3C), (byte) (0x88), (byte) (0xBC),
-                            (byte) (0x10), (byte) (0x60), (byte) (0xDC), (byte) (0x00), (byte) (0x80), (byte) (0xCC),
-                            (byte) (0x34), (byte) (0x88), (byte) (0xC4), (byte) (0x28), (byte) (0x88), (byte) (0xC8),
-                            (byte) (0x14), (byte) (0x8C), (byte) (0xD0), (byte) (0x0C), (byte) (0x88), (byte) (0xD4),
-                            (byte) (0x2C), (byte) (0x90), (byte) (0xCC), (byte) (0x40), (byte) (0x90), (byte) (0xC8),
-                            (byte) (0x20), (byte) (0x94), (byte) (0xD4), (byte) (0x34), (byte) (0x98), (byte) (0xD0),
-                            (byte) (0x0C), (byte) (0x80), (byte) (0xE8), (byte) (0x40), (byte) (0x98), (byte) (0xD0),
-                            (byte) (0x1C), (byte) (0x94), (byte) (0xDC), (byte) (0x2C), (byte) (0x98), (byte) (0xD8),
-                            (byte) (0x2C), (byte) (0x80), (byte) (0xE8), (byte) (0x48), (byte) (0x9C), (byte) (0xD0),
-                            (byte) (0x3C), (byte) (0xA0), (byte) (0xD4), (byte) (0x54), (byte) (0xA0), (byte) (0xD0),
-                            (byte) (0x28), (byte) (0xA0), (byte) (0xE0), (byte) (0x30), (byte) (0xA4), (byte) (0xDC),
-                            (byte) (0x4C), (byte) (0xA8), (byte) (0xD8), (byte) (0x5C), (byte) (0xA8), (byte) (0xD4),
-                            (byte) (0x3C), (byte) (0xA8), (byte) (0xE0), (byte) (0x14), (byte) (0x9C), (byte) (0xF4),
-                            (byte) (0x60), (byte) (0xAC), (byte) (0xD8), (byte) (0x48), (byte) (0xAC), (byte) (0xE4),
-                            (byte) (0x58), (byte) (0xB0), (byte) (0xDC), (byte) (0x6C), (byte) (0xAC), (byte) (0xD8),
-                            (byte) (0x30), (byte) (0xB0), (byte) (0xEC), (byte) (0x64), (byte) (0xB4), (byte) (0xDC),
-                            (byte) (0x54), (byte) (0xB4), (byte) (0xE4), (byte) (0x1C), (byte) (0xB4), (byte) (0xF8),
-                            (byte) (0x70), (byte) (0xB8), (byte) (0xDC), (byte) (0x68), (byte) (0xB8), (byte) (0xE0),
-                            (byte) (0x34), (byte) (0xC0), (byte) (0xF4), (byte) (0x64), (byte) (0xBC), (byte) (0xE8),
-                            (byte) (0x70), (byte) (0xC0), (byte) (0xE4), (byte) (0x44), (byte) (0xC0), (byte) (0xF8),
-                            (byte) (0x50), (byte) (0xCC), (byte) (0xFC), (byte) (0x7C), (byte) (0xCC), (byte) (0xF0),
-                            (byte) (0x6C), (byte) (0xD8), (byte) (0xFC), (byte) (0x90), (byte) (0xA8), (byte) (0xC0),
-                            (byte) (0x78), (byte) (0xB4), (byte) (0xD8), (byte) (0x84), (byte) (0xB8), (byte) (0xDC),
-                            (byte) (0x7C), (byte) (0xBC), (byte) (0xE0), (byte) (0x78), (byte) (0xC4), (byte) (0xE4),
-                            (byte) (0x8C), (byte) (0xC0), (byte) (0xE0), (byte) (0x84), (byte) (0xC4), (byte) (0xE4),
-                            (byte) (0x94), (byte) (0xC4), (byte) (0xE0), (byte) (0x90), (byte) (0xC8), (byte) (0xE8),
-                            (byte) (0x9C), (byte) (0xC8), (byte) (0xE4), (byte) (0x8C), (byte) (0xCC), (byte) (0xEC),
-                            (byte) (0x98), (byte) (0xCC), (byte) (0xE8), (byte) (0xA4), (byte) (0xD0), (byte) (0xE8),
-                            (byte) (0x9C), (byte) (0xD4), (byte) (0xEC), (byte) (0xB0), (byte) (0xD0), (byte) (0xE8),
-                            (byte) (0x88), (byte) (0xDC), (byte) (0xF8), (byte) (0xA8), (byte) (0xD4), (byte) (0xEC),
-                            (byte) (0xB0), (byte) (0xD8), (byte) (0xEC), (byte) (0x94), (byte) (0xE0), (byte) (0xF8),
-                            (byte) (0xB8), (byte) (0xD8), (byte) (0xEC), (byte) (0xA4), (byte) (0xE4), (byte) (0xF8),
-                            (byte) (0xC0), (byte) (0xDC), (byte) (0xEC), (byte) (0xC8), (byte) (0xE0), (byte) (0xF0),
-                            (byte) (0xB4), (byte) (0xEC), (byte) (0xFC), (byte) (0xD4), (byte) (0xE4), (byte) (0xF0),
-                            (byte) (0xCC), (byte) (0xF4), (byte) (0xFC), (byte) (0xE4), (byte) (0xEC), (byte) (0xF4),
-                            (byte) (0xE8), (byte) (0xF8), (byte) (0xFC), (byte) (0x74), (byte) (0x88), (byte) (0xB0),
-                            (byte) (0xA8), (byte) (0xAC), (byte) (0xC0), (byte) (0xFF), (byte) (0xFF), (byte) (0xFF)},
-                        PaletteDataInterpretation.BGR)));
-        map.put(
-                "Units",
-                new RestrictableIndexColorModel(ImageUtilities.interpretIndexColorModel(
-                        new byte[]{
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x24),
-                            (byte) (0x08), (byte) (0x18), (byte) (0x1C), (byte) (0x10), (byte) (0x24), (byte) (0x2C),
-                            (byte) (0x18), (byte) (0x34), (byte) (0x3C), (byte) (0x00), (byte) (0x00), (byte) (0x5C),
-                            (byte) (0x20), (byte) (0x40), (byte) (0x48), (byte) (0x28), (byte) (0x48), (byte) (0x54),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x90), (byte) (0x10), (byte) (0x48), (byte) (0x8C),
-                            (byte) (0x00), (byte) (0x00), (byte) (0xBC), (byte) (0x20), (byte) (0x84), (byte) (0xD0),
-                            (byte) (0x6C), (byte) (0xC4), (byte) (0xF4), (byte) (0x50), (byte) (0x7C), (byte) (0x8C),
-                            (byte) (0x64), (byte) (0x9C), (byte) (0xAC), (byte) (0x08), (byte) (0x0C), (byte) (0x0C),
-                            (byte) (0x10), (byte) (0x10), (byte) (0x14), (byte) (0x1C), (byte) (0x1C), (byte) (0x1C),
-                            (byte) (0x1C), (byte) (0x24), (byte) (0x28), (byte) (0x2C), (byte) (0x2C), (byte) (0x2C),
-                            (byte) (0x30), (byte) (0x38), (byte) (0x3C), (byte) (0x38), (byte) (0x38), (byte) (0x38),
-                            (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x48), (byte) (0x50), (byte) (0x58),
-                            (byte) (0x34), (byte) (0x58), (byte) (0x64), (byte) (0x58), (byte) (0x58), (byte) (0x58),
-                            (byte) (0x3C), (byte) (0x64), (byte) (0x74), (byte) (0x64), (byte) (0x64), (byte) (0x64),
-                            (byte) (0x70), (byte) (0x74), (byte) (0x7C), (byte) (0x84), (byte) (0x84), (byte) (0x84),
-                            (byte) (0x94), (byte) (0x98), (byte) (0x9C), (byte) (0xC4), (byte) (0xC4), (byte) (0xC4),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xF4), (byte) (0x04), (byte) (0x04), (byte) (0x08),
-                            (byte) (0x00), (byte) (0x04), (byte) (0x10), (byte) (0x04), (byte) (0x08), (byte) (0x18),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x18), (byte) (0x10), (byte) (0x14), (byte) (0x1C),
-                            (byte) (0x04), (byte) (0x0C), (byte) (0x24), (byte) (0x0C), (byte) (0x18), (byte) (0x20),
-                            (byte) (0x14), (byte) (0x18), (byte) (0x20), (byte) (0x08), (byte) (0x10), (byte) (0x2C),
-                            (byte) (0x10), (byte) (0x1C), (byte) (0x24), (byte) (0x0C), (byte) (0x20), (byte) (0x28),
-                            (byte) (0x04), (byte) (0x08), (byte) (0x38), (byte) (0x10), (byte) (0x1C), (byte) (0x30),
-                            (byte) (0x14), (byte) (0x28), (byte) (0x30), (byte) (0x0C), (byte) (0x14), (byte) (0x40),
-                            (byte) (0x10), (byte) (0x28), (byte) (0x38), (byte) (0x04), (byte) (0x0C), (byte) (0x48),
-                            (byte) (0x1C), (byte) (0x28), (byte) (0x38), (byte) (0x0C), (byte) (0x20), (byte) (0x4C),
-                            (byte) (0x14), (byte) (0x2C), (byte) (0x44), (byte) (0x20), (byte) (0x2C), (byte) (0x40),
-                            (byte) (0x08), (byte) (0x10), (byte) (0x58), (byte) (0x20), (byte) (0x34), (byte) (0x48),
-                            (byte) (0x28), (byte) (0x34), (byte) (0x44), (byte) (0x1C), (byte) (0x28), (byte) (0x54),
-                            (byte) (0x14), (byte) (0x1C), (byte) (0x5C), (byte) (0x08), (byte) (0x24), (byte) (0x5C),
-                            (byte) (0x18), (byte) (0x38), (byte) (0x54), (byte) (0x24), (byte) (0x38), (byte) (0x54),
-                            (byte) (0x10), (byte) (0x18), (byte) (0x6C), (byte) (0x10), (byte) (0x2C), (byte) (0x68),
-                            (byte) (0x24), (byte) (0x44), (byte) (0x5C), (byte) (0x18), (byte) (0x24), (byte) (0x70),
-                            (byte) (0x24), (byte) (0x3C), (byte) (0x68), (byte) (0x0C), (byte) (0x2C), (byte) (0x7C),
-                            (byte) (0x2C), (byte) (0x4C), (byte) (0x64), (byte) (0x08), (byte) (0x48), (byte) (0x70),
-                            (byte) (0x18), (byte) (0x28), (byte) (0x80), (byte) (0x28), (byte) (0x50), (byte) (0x74),
-                            (byte) (0x24), (byte) (0x30), (byte) (0x88), (byte) (0x40), (byte) (0x50), (byte) (0x6C),
-                            (byte) (0x0C), (byte) (0x34), (byte) (0x8C), (byte) (0x68), (byte) (0x20), (byte) (0x70),
-                            (byte) (0x44), (byte) (0x58), (byte) (0x78), (byte) (0x40), (byte) (0x40), (byte) (0x8C),
-                            (byte) (0x30), (byte) (0x5C), (byte) (0x84), (byte) (0x24), (byte) (0x34), (byte) (0x9C),
-                            (byte) (0x18), (byte) (0x28), (byte) (0xA4), (byte) (0x14), (byte) (0x48), (byte) (0xA4),
-                            (byte) (0x40), (byte) (0x64), (byte) (0x8C), (byte) (0x38), (byte) (0x70), (byte) (0x8C),
-                            (byte) (0x50), (byte) (0x68), (byte) (0x8C), (byte) (0x34), (byte) (0x44), (byte) (0xB0),
-                            (byte) (0x20), (byte) (0x4C), (byte) (0xB4), (byte) (0x58), (byte) (0x70), (byte) (0x98),
-                            (byte) (0x40), (byte) (0x78), (byte) (0xA0), (byte) (0x1C), (byte) (0x60), (byte) (0xBC),
-                            (byte) (0x48), (byte) (0x84), (byte) (0x9C), (byte) (0x54), (byte) (0x54), (byte) (0xC4),
-                            (byte) (0x20), (byte) (0x6C), (byte) (0xC8), (byte) (0x58), (byte) (0x7C), (byte) (0xAC),
-                            (byte) (0x48), (byte) (0x88), (byte) (0xB0), (byte) (0x54), (byte) (0x7C), (byte) (0xC8),
-                            (byte) (0x20), (byte) (0x70), (byte) (0xE0), (byte) (0x54), (byte) (0x9C), (byte) (0xB8),
-                            (byte) (0x00), (byte) (0x2C), (byte) (0xFC), (byte) (0x70), (byte) (0x8C), (byte) (0xC0),
-                            (byte) (0x50), (byte) (0x98), (byte) (0xCC), (byte) (0x30), (byte) (0x84), (byte) (0xE4),
-                            (byte) (0x70), (byte) (0x70), (byte) (0xE0), (byte) (0x78), (byte) (0x98), (byte) (0xD0),
-                            (byte) (0x3C), (byte) (0x88), (byte) (0xF8), (byte) (0x38), (byte) (0xA0), (byte) (0xEC),
-                            (byte) (0x64), (byte) (0xB8), (byte) (0xD8), (byte) (0x84), (byte) (0xA4), (byte) (0xE0),
-                            (byte) (0x44), (byte) (0xB4), (byte) (0xF0), (byte) (0x4C), (byte) (0xC0), (byte) (0xF4),
-                            (byte) (0x8C), (byte) (0xB0), (byte) (0xF0), (byte) (0x5C), (byte) (0xD4), (byte) (0xFC),
-                            (byte) (0xB0), (byte) (0xB0), (byte) (0xFC), (byte) (0x10), (byte) (0x24), (byte) (0x04),
-                            (byte) (0x18), (byte) (0x24), (byte) (0x14), (byte) (0x18), (byte) (0x3C), (byte) (0x20),
-                            (byte) (0x0C), (byte) (0x48), (byte) (0x18), (byte) (0x30), (byte) (0x44), (byte) (0x00),
-                            (byte) (0x08), (byte) (0x64), (byte) (0x18), (byte) (0x24), (byte) (0x5C), (byte) (0x24),
-                            (byte) (0x24), (byte) (0x5C), (byte) (0x38), (byte) (0x44), (byte) (0x6C), (byte) (0x08),
-                            (byte) (0x14), (byte) (0x7C), (byte) (0x28), (byte) (0x34), (byte) (0x74), (byte) (0x40),
-                            (byte) (0x30), (byte) (0x78), (byte) (0x58), (byte) (0x1C), (byte) (0x9C), (byte) (0x34),
-                            (byte) (0x38), (byte) (0x84), (byte) (0x70), (byte) (0x34), (byte) (0xA0), (byte) (0x48),
-                            (byte) (0x4C), (byte) (0x90), (byte) (0x58), (byte) (0x28), (byte) (0xBC), (byte) (0x44),
-                            (byte) (0x48), (byte) (0x98), (byte) (0x84), (byte) (0x4C), (byte) (0xB8), (byte) (0x60),
-                            (byte) (0x00), (byte) (0xFC), (byte) (0x18), (byte) (0x5C), (byte) (0xDC), (byte) (0x74),
-                            (byte) (0x7C), (byte) (0xD0), (byte) (0x8C), (byte) (0x88), (byte) (0xFC), (byte) (0xA0),
-                            (byte) (0x28), (byte) (0x0C), (byte) (0x0C), (byte) (0x48), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x58), (byte) (0x00), (byte) (0x00), (byte) (0x44), (byte) (0x14), (byte) (0x38),
-                            (byte) (0x68), (byte) (0x24), (byte) (0x10), (byte) (0x64), (byte) (0x3C), (byte) (0x28),
-                            (byte) (0x78), (byte) (0x28), (byte) (0x28), (byte) (0x80), (byte) (0x10), (byte) (0x4C),
-                            (byte) (0x84), (byte) (0x4C), (byte) (0x38), (byte) (0x94), (byte) (0x30), (byte) (0x30),
-                            (byte) (0x8C), (byte) (0x60), (byte) (0x48), (byte) (0xA0), (byte) (0x5C), (byte) (0x38),
-                            (byte) (0xAC), (byte) (0x50), (byte) (0x50), (byte) (0xAC), (byte) (0x6C), (byte) (0x4C),
-                            (byte) (0xBC), (byte) (0x78), (byte) (0x54), (byte) (0xD8), (byte) (0x60), (byte) (0x24),
-                            (byte) (0xD0), (byte) (0x78), (byte) (0x64), (byte) (0xE0), (byte) (0x90), (byte) (0x64),
-                            (byte) (0xDC), (byte) (0xA0), (byte) (0x80), (byte) (0xFC), (byte) (0x20), (byte) (0xA4),
-                            (byte) (0xF0), (byte) (0x84), (byte) (0x84), (byte) (0xFC), (byte) (0xA0), (byte) (0xA0),
-                            (byte) (0xFC), (byte) (0xB8), (byte) (0x90), (byte) (0x90), (byte) (0x8C), (byte) (0x58),
-                            (byte) (0xA4), (byte) (0xA0), (byte) (0x68), (byte) (0xC4), (byte) (0xC0), (byte) (0x84),
-                            (byte) (0xD4), (byte) (0xD0), (byte) (0x98), (byte) (0xFC), (byte) (0xCC), (byte) (0xA8),
-                            (byte) (0xF4), (byte) (0xF4), (byte) (0xCC), (byte) (0x80), (byte) (0xA0), (byte) (0xC0),
-                            (byte) (0xA8), (byte) (0xC0), (byte) (0xC4), (byte) (0x94), (byte) (0xC4), (byte) (0xE0),
-                            (byte) (0x74), (byte) (0xE8), (byte) (0xFC), (byte) (0xB0), (byte) (0xFC), (byte) (0xC4),
-                            (byte) (0xA4), (byte) (0xE4), (byte) (0xFC), (byte) (0xC4), (byte) (0xFC), (byte) (0xFC),
-                            (byte) (0x04), (byte) (0x04), (byte) (0x04), (byte) (0x08), (byte) (0x08), (byte) (0x08),
-                            (byte) (0x0C), (byte) (0x0C), (byte) (0x0C), (byte) (0x10), (byte) (0x10), (byte) (0x10),
-                            (byte) (0x14), (byte) (0x14), (byte) (0x14), (byte) (0x18), (byte) (0x18), (byte) (0x18),
-                            (byte) (0x18), (byte) (0x1C), (byte) (0x24), (byte) (0x20), (byte) (0x20), (byte) (0x20),
-                            (byte) (0x24), (byte) (0x24), (byte) (0x24), (byte) (0x28), (byte) (0x28), (byte) (0x28),
-                            (byte) (0x20), (byte) (0x28), (byte) (0x30), (byte) (0x30), (byte) (0x30), (byte) (0x30),
-                            (byte) (0x28), (byte) (0x30), (byte) (0x38), (byte) (0x34), (byte) (0x34), (byte) (0x34),
-                            (byte) (0x3C), (byte) (0x38), (byte) (0x34), (byte) (0x34), (byte) (0x38), (byte) (0x44),
-                            (byte) (0x3C), (byte) (0x3C), (byte) (0x3C), (byte) (0x30), (byte) (0x3C), (byte) (0x4C),
-                            (byte) (0x40), (byte) (0x40), (byte) (0x40), (byte) (0x3C), (byte) (0x40), (byte) (0x44),
-                            (byte) (0x44), (byte) (0x44), (byte) (0x44), (byte) (0x3C), (byte) (0x48), (byte) (0x50),
-                            (byte) (0x38), (byte) (0x44), (byte) (0x58), (byte) (0x4C), (byte) (0x4C), (byte) (0x4C),
-                            (byte) (0x3C), (byte) (0x4C), (byte) (0x60), (byte) (0x5C), (byte) (0x58), (byte) (0x34),
-                            (byte) (0x50), (byte) (0x50), (byte) (0x50), (byte) (0x54), (byte) (0x54), (byte) (0x54),
-                            (byte) (0x5C), (byte) (0x5C), (byte) (0x5C), (byte) (0x50), (byte) (0x5C), (byte) (0x68),
-                            (byte) (0x60), (byte) (0x60), (byte) (0x60), (byte) (0x74), (byte) (0x70), (byte) (0x44),
-                            (byte) (0x50), (byte) (0x64), (byte) (0x7C), (byte) (0x68), (byte) (0x68), (byte) (0x68),
-                            (byte) (0x6C), (byte) (0x6C), (byte) (0x6C), (byte) (0x60), (byte) (0x6C), (byte) (0x78),
-                            (byte) (0x70), (byte) (0x70), (byte) (0x70), (byte) (0x74), (byte) (0x74), (byte) (0x74),
-                            (byte) (0x7C), (byte) (0x7C), (byte) (0x7C), (byte) (0x64), (byte) (0x80), (byte) (0x94),
-                            (byte) (0x74), (byte) (0x84), (byte) (0x90), (byte) (0x70), (byte) (0x88), (byte) (0xAC),
-                            (byte) (0x90), (byte) (0x90), (byte) (0x90), (byte) (0x84), (byte) (0x94), (byte) (0x9C),
-                            (byte) (0xB8), (byte) (0x94), (byte) (0x80), (byte) (0xA0), (byte) (0xA0), (byte) (0xA0),
-                            (byte) (0x98), (byte) (0xAC), (byte) (0xB0), (byte) (0xAC), (byte) (0xAC), (byte) (0xAC),
-                            (byte) (0xB8), (byte) (0xB8), (byte) (0xB8), (byte) (0xCC), (byte) (0xCC), (byte) (0xCC),
-                            (byte) (0xD8), (byte) (0xD8), (byte) (0xD8), (byte) (0xFC), (byte) (0xCC), (byte) (0xCC),
-                            (byte) (0xE4), (byte) (0xE4), (byte) (0xE4), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0x00),
-                            (byte) (0x00), (byte) (0x00), (byte) (0x00), (byte) (0xFF), (byte) (0xFF), (byte) (0xFF)},
-                        PaletteDataInterpretation.BGR)));
+        InputStream is = Diablo2DefaultPalettes.class.getResourceAsStream(RESOURCE_NAME);
+        if (is == null) throw new IllegalStateException("The palette resource " + RESOURCE_NAME + " is missing.");
+        try
+        {
+            DataInputStream dis = new DataInputStream(is);
+            byte[] magic = new byte[RESOURCE_MAGIC.length];
+            dis.readFully(magic);
+            if (!Arrays.equals(magic, RESOURCE_MAGIC))
+            {
+                throw new IllegalStateException("The palette resource " + RESOURCE_NAME + " is malformed.");
+            }
+            int count = dis.readUnsignedByte();
+            Map<String, byte[]> ret = new LinkedHashMap<String, byte[]>();
+            for (int i = 0; i < count; i++)
+            {
+                String name = dis.readUTF();
+                byte[] data = new byte[dis.readUnsignedShort()];
+                dis.readFully(data);
+                ret.put(name, data);
+            }
+            return ret;
+        } catch (IOException e)
+        {
+            throw new IllegalStateException("The palette resource " + RESOURCE_NAME + " could not be read.", e);
+        } finally
+        {
+            try
+            {
+                is.close();
+            } catch (IOException e)
+            {
+                // The resource was only read; there is nothing to lose.
+            }
+        }
     }
 
-    static
+    /**
+     * Derives the "Act 0" palette from the palettes of the five acts.  Indices on which the act palettes agree keep
+     * their color; the remaining indices are black and invalid.
+     *
+     * @param actPalettes The palettes of the five acts.
+     * @return The derived palette.
+     */
+    protected static RestrictableIndexColorModel deriveAct0Palette(IndexColorModel[] actPalettes)
     {
-        HashMap<String, RestrictableIndexColorModel> map = new HashMap<String, RestrictableIndexColorModel>();
-        // Create map from hardcoded palettes
-        performMapCreate1(map);
-        performMapCreate2(map);
-        performMapCreate3(map);
-        performMapCreate4(map);
-        performMapCreate5(map);
-        performMapCreate6(map);
-        // Derive "Act 0" palette
-        IndexColorModel[] act_palettes = new IndexColorModel[]{
-                map.get("Act 1"),
-                map.get("Act 2"),
-                map.get("Act 3"),
-                map.get("Act 4"),
-                map.get("Act 5")};
-        int act0_map_size = Integer.MAX_VALUE;
-        for (IndexColorModel act_palette : act_palettes)
+        int act0MapSize = Integer.MAX_VALUE;
+        for (IndexColorModel actPalette : actPalettes)
         {
-            act0_map_size = Math.min(act0_map_size, act_palette.getMapSize());
+            act0MapSize = Math.min(act0MapSize, actPalette.getMapSize());
         }
-        byte[] r = new byte[act0_map_size];
-        byte[] g = new byte[act0_map_size];
-        byte[] b = new byte[act0_map_size];
-        List<Integer> invalid_indices = new ArrayList<Integer>();
-        for (int i = 0; i < act0_map_size;i ++)
+        byte[] r = new byte[act0MapSize];
+        byte[] g = new byte[act0MapSize];
+        byte[] b = new byte[act0MapSize];
+        List<Integer> invalidIndices = new ArrayList<Integer>();
+        for (int i = 0; i < act0MapSize; i++)
         {
             boolean same = true;
-            for (int j=0;j<act_palettes.length-1;j++)
+            for (int j = 0; j < actPalettes.length - 1; j++)
             {
-                if (act_palettes[j].getRGB(i)!=act_palettes[j+1].getRGB(i))
+                if (actPalettes[j].getRGB(i) != actPalettes[j + 1].getRGB(i))
                 {
                     same = false;
                     break;
@@ -2477,40 +143,186 @@ public class Diablo2DefaultPalettes
             }
             if (same)
             {
-                r[i] = (byte)(act_palettes[0].getRed(i));
-                g[i] = (byte)(act_palettes[0].getGreen(i));
-                b[i] = (byte)(act_palettes[0].getBlue(i));
+                r[i] = (byte) (actPalettes[0].getRed(i));
+                g[i] = (byte) (actPalettes[0].getGreen(i));
+                b[i] = (byte) (actPalettes[0].getBlue(i));
             } else
             {
                 r[i] = 0;
                 g[i] = 0;
                 b[i] = 0;
-                invalid_indices.add(i);
+                invalidIndices.add(i);
             }
         }
-        int[] invalids = new int[invalid_indices.size()];
-        for (int i=0;i<invalids.length;i++) invalids[i] = invalid_indices.get(i);
-        map.put("Act 0", new RestrictableIndexColorModel(8, act0_map_size, r, g, b).deriveWithInvalidIndices(invalids));
-        // Preserve map state
-        PALETTE_MAP = Collections.unmodifiableMap(map);
+        int[] invalids = new int[invalidIndices.size()];
+        for (int i = 0; i < invalids.length; i++) invalids[i] = invalidIndices.get(i);
+        return new RestrictableIndexColorModel(8, act0MapSize, r, g, b).deriveWithInvalidIndices(invalids);
     }
 
-// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
-
-// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+// CONTAINED CLASSES /////////////////////////////////////////////////////////////
 
     /**
-     * Private constructor.
+     * This unmodifiable {@link Map} creates each palette when it is first retrieved.  It is thread-safe.
      */
-    private Diablo2DefaultPalettes()
+    protected static class LazyPaletteMap extends AbstractMap<String, RestrictableIndexColorModel>
     {
-        super();
-    }
+        /**
+         * The data of each palette in the resource, or <code>null</code> if the resource has not yet been read.
+         */
+        protected Map<String, byte[]> data;
+        /**
+         * The names of the palettes, in the order in which they are listed.
+         */
+        protected Set<String> names;
+        /**
+         * The palettes which have been created.
+         */
+        protected final Map<String, RestrictableIndexColorModel> palettes;
 
-// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+        /**
+         * General constructor.
+         */
+        public LazyPaletteMap()
+        {
+            super();
+            data = null;
+            names = null;
+            palettes = new HashMap<String, RestrictableIndexColorModel>();
+        }
 
-// STATIC METHODS ////////////////////////////////////////////////////////////////
+        /**
+         * Reads the palette resource if it has not yet been read.
+         */
+        protected synchronized void ensureNames()
+        {
+            if (names == null)
+            {
+                data = readPaletteData();
+                Set<String> set = new LinkedHashSet<String>();
+                set.add(ACT_0_PALETTE_NAME);
+                set.addAll(data.keySet());
+                names = Collections.unmodifiableSet(set);
+            }
+        }
+
+        /**
+         * Retrieves a palette, creating it if necessary.
+         *
+         * @param key The name of the palette.
+         * @return The palette, or <code>null</code> if there is no palette of that name.
+         */
+        public synchronized RestrictableIndexColorModel get(Object key)
+        {
+            ensureNames();
+            if (!names.contains(key)) return null;
+            RestrictableIndexColorModel palette = palettes.get(key);
+            if (palette == null)
+            {
+                if (ACT_0_PALETTE_NAME.equals(key))
+                {
+                    IndexColorModel[] actPalettes = new IndexColorModel[ACT_PALETTE_NAMES.length];
+                    for (int i = 0; i < actPalettes.length; i++) actPalettes[i] = get(ACT_PALETTE_NAMES[i]);
+                    palette = deriveAct0Palette(actPalettes);
+                } else
+                {
+                    palette = new RestrictableIndexColorModel(
+                            ImageUtilities.interpretIndexColorModel(data.get(key), PaletteDataInterpretation.BGR));
+                }
+                palettes.put((String) (key), palette);
+            }
+            return palette;
+        }
 
+        /**
+         * Determines whether or not a palette exists without creating it.
+         *
+         * @param key The name of the palette.
+         * @return <code>true</code> if a palette of that name exists; <code>false</code> otherwise.
+         */
+        public boolean containsKey(Object key)
+        {
+            ensureNames();
+            return names.contains(key);
+        }
+
+        /**
+         * Retrieves the names of the palettes without creating them.
+         *
+         * @return The names of the palettes.
+         */
+        public Set<String> keySet()
+        {
+            ensureNames();
+            return names;
+        }
+
+        /**
+         * Retrieves the number of palettes without creating them.
+         *
+         * @return The number of palettes.
+         */
+        public int size()
+        {
+            ensureNames();
+            return names.size();
+        }
+
+        /**
+         * Retrieves the entries of this map.  Each palette is created when the value of its entry is retrieved.
+         *
+         * @return The entries of this map.
+         */
+        public Set<Entry<String, RestrictableIndexColorModel>> entrySet()
+        {
+            ensureNames();
+            return new AbstractSet<Entry<String, RestrictableIndexColorModel>>()
+            {
+                public Iterator<Entry<String, RestrictableIndexColorModel>> iterator()
+                {
+                    final Iterator<String> iterator = names.iterator();
+                    return new Iterator<Entry<String, RestrictableIndexColorModel>>()
+                    {
+                        public boolean hasNext()
+                        {
+                            return iterator.hasNext();
+                        }
+
+                        public Entry<String, RestrictableIndexColorModel> next()
+                        {
+                            final String name = iterator.next();
+                            return new Entry<String, RestrictableIndexColorModel>()
+                            {
+                                public String getKey()
+                                {
+                                    return name;
+                                }
+
+                                public RestrictableIndexColorModel getValue()
+                                {
+                                    return get(name);
+                                }
+
+                                public RestrictableIndexColorModel setValue(RestrictableIndexColorModel value)
+                                {
+                                    throw new UnsupportedOperationException("The default palettes may not be changed.");
+                                }
+                            };
+                        }
+
+                        public void remove()
+                        {
+                            throw new UnsupportedOperationException("The default palettes may not be changed.");
+                        }
+                    };
+                }
+
+                public int size()
+                {
+                    return names.size();
+                }
+            };
+        }
+    }
 }
 
-// END OF FILE
\ No newline at end of file
+// END OF FILE
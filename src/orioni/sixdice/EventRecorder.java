@@ -0,0 +1,208 @@
+package orioni.sixdice;
+
+/**
+ * This class receives events describing the work done by SixDice: the decoding and encoding of {@link Animation}s by
+ * {@link AnimationCodec}s, the items of batch conversions and the lookups of a {@link DecodeCache}.  This
+ * implementation ignores every event; it is used on virtual machines which do not provide the JDK Flight Recorder.
+ * <p/>
+ * The recorder returned by {@link EventRecorder#getInstance()} is, where possible, an instance of
+ * <code>orioni.sixdice.jfr.FlightRecorderEventRecorder</code>, which emits each event as a JDK Flight Recorder event.
+ * That class requires Java 11 and is therefore compiled separately from the rest of SixDice and loaded by name.  Flight
+ * Recorder events cost next to nothing unless a recording is in progress; a recording may be started with the
+ * <code>-XX:StartFlightRecording</code> option of the virtual machine or with <code>jcmd</code>.
+ * <p/>
+ * An event which spans an interval of time is begun with a <code>begin</code> method, which returns a token, and ended
+ * by passing that token to the corresponding <code>end</code> method.  Tokens are opaque and may be <code>null</code>.
+ *
+ * @author Zachary Palmer
+ */
+public class EventRecorder
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+    /**
+     * The recorder used by SixDice, or <code>null</code> if it has not yet been determined.  It is read without locking
+     * once it has been determined.
+     */
+    private static volatile EventRecorder instance = null;
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * The recorder which ignores all events.
+     */
+    public static final EventRecorder DISABLED = new EventRecorder();
+
+    /**
+     * The name of the class which records events with the JDK Flight Recorder.
+     */
+    public static final String FLIGHT_RECORDER_CLASS_NAME = "orioni.sixdice.jfr.FlightRecorderEventRecorder";
+    /**
+     * The system property which, if set to <code>false</code>, prevents the JDK Flight Recorder from being used.
+     */
+    public static final String FLIGHT_RECORDER_PROPERTY = "sixdice.jfr";
+
+    /**
+     * The name of the memory tier of a {@link DecodeCache}.
+     */
+    public static final String TIER_MEMORY = "memory";
+    /**
+     * The name of the disk tier of a {@link DecodeCache}.
+     */
+    public static final String TIER_DISK = "disk";
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * General constructor.
+     */
+    protected EventRecorder()
+    {
+        super();
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Determines whether or not this recorder records events.
+     *
+     * @return <code>true</code> if events are recorded; <code>false</code> if they are ignored.
+     */
+    public boolean isEnabled()
+    {
+        return false;
+    }
+
+    /**
+     * Begins a decoding operation.
+     *
+     * @return The token to give to {@link EventRecorder#endDecode(Object, AnimationCodec, String, int, Animation)}.
+     */
+    public Object beginDecode()
+    {
+        return null;
+    }
+
+    /**
+     * Ends a decoding operation.
+     *
+     * @param token     The token returned by {@link EventRecorder#beginDecode()}.
+     * @param codec     The {@link AnimationCodec} which decoded the data.
+     * @param source    The name of the decoded file, or <code>null</code> if it is not known.
+     * @param bytes     The number of bytes which were decoded.
+     * @param animation The {@link Animation} which was decoded, or <code>null</code> if decoding failed.
+     */
+    public void endDecode(Object token, AnimationCodec codec, String source, int bytes, Animation animation)
+    {
+    }
+
+    /**
+     * Begins an encoding operation.
+     *
+     * @return The token to give to {@link EventRecorder#endEncode(Object, AnimationCodec, String, int, Animation)}.
+     */
+    public Object beginEncode()
+    {
+        return null;
+    }
+
+    /**
+     * Ends an encoding operation.
+     *
+     * @param token     The token returned by {@link EventRecorder#beginEncode()}.
+     * @param codec     The {@link AnimationCodec} which encoded the {@link Animation}.
+     * @param target    The name of the file being written, or <code>null</code> if it is not known.
+     * @param bytes     The number of bytes which were produced, or <code>-1</code> if encoding failed.
+     * @param animation The {@link Animation} which was encoded.
+     */
+    public void endEncode(Object token, AnimationCodec codec, String target, int bytes, Animation animation)
+    {
+    }
+
+    /**
+     * Begins an item of a batch conversion.
+     *
+     * @param item The name of the item, usually the path of its primary source file.
+     * @return The token to give to {@link EventRecorder#endBatchItem(Object, String, boolean)}.
+     */
+    public Object beginBatchItem(String item)
+    {
+        return null;
+    }
+
+    /**
+     * Ends an item of a batch conversion.
+     *
+     * @param token   The token returned by {@link EventRecorder#beginBatchItem(String)}.
+     * @param item    The name of the item, usually the path of its primary source file.
+     * @param success <code>true</code> if the item was converted without error; <code>false</code> otherwise.
+     */
+    public void endBatchItem(Object token, String item, boolean success)
+    {
+    }
+
+    /**
+     * Records a lookup of a {@link DecodeCache}.
+     *
+     * @param codec  The {@link AnimationCodec} whose result was looked up.
+     * @param source The name of the file being decoded, or <code>null</code> if it is not known.
+     * @param bytes  The number of bytes of encoded data.
+     * @param tier   The tier which held the result ({@link EventRecorder#TIER_MEMORY} or {@link
+     *               EventRecorder#TIER_DISK}), or <code>null</code> if the lookup missed.
+     */
+    public void cacheLookup(AnimationCodec codec, String source, int bytes, String tier)
+    {
+    }
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+    /**
+     * Retrieves the recorder used by SixDice.  This is the JDK Flight Recorder implementation if it is present and the
+     * virtual machine supports it; otherwise, it is {@link EventRecorder#DISABLED}.
+     *
+     * @return The recorder used by SixDice.
+     */
+    public static EventRecorder getInstance()
+    {
+        EventRecorder ret = instance;
+        return (ret == null) ? createInstance() : ret;
+    }
+
+    /**
+     * Determines the recorder used by SixDice, if no other thread has done so.
+     *
+     * @return The recorder used by SixDice.
+     */
+    private static synchronized EventRecorder createInstance()
+    {
+        if (instance == null)
+        {
+            EventRecorder recorder = DISABLED;
+            if (!"false".equalsIgnoreCase(System.getProperty(FLIGHT_RECORDER_PROPERTY)))
+            {
+                try
+                {
+                    recorder = (EventRecorder) (Class.forName(FLIGHT_RECORDER_CLASS_NAME).newInstance());
+                } catch (Throwable t)
+                {
+                    // Either the class was not compiled or this virtual machine has no Flight Recorder.
+                    recorder = DISABLED;
+                }
+            }
+            instance = recorder;
+        }
+        return instance;
+    }
+
+    /**
+     * Changes the recorder used by SixDice.
+     *
+     * @param recorder The new recorder, or <code>null</code> to ignore all events.
+     */
+    public static synchronized void setInstance(EventRecorder recorder)
+    {
+        instance = (recorder == null) ? DISABLED : recorder;
+    }
+}
+
+// END OF FILE
@@ -0,0 +1,571 @@
+package orioni.sixdice;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * This class provides read-only access to the files stored in an MPQ archive, such as Diablo II's
+ * <code>d2data.mpq</code>, without extracting them.  The archive's hash and block tables are read and decrypted when
+ * the archive is opened; each file is read, decrypted and decompressed sector by sector when it is requested.  Files
+ * compressed with the PKWARE "implode" method or with zlib are supported, which covers the graphics of Diablo II.  The
+ * Huffman and ADPCM compression used for some sound files is not.
+ * <p/>
+ * Reads use positional I/O on the archive's channel, so a single archive may be read by several threads at once.
+ *
+ * @author Zachary Palmer
+ */
+public class MPQArchive
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+    /**
+     * The table of values used by the MPQ hashing and encryption functions.
+     */
+    protected static final int[] CRYPT_TABLE = createCryptTable();
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * The name of the file in which an archive lists its contents.
+     */
+    public static final String LISTFILE_NAME = "(listfile)";
+
+    /**
+     * The signature of an MPQ archive header.
+     */
+    protected static final int SIGNATURE_HEADER = 0x1A51504D;
+    /**
+     * The signature of an MPQ user data header, which precedes the archive header in some archives.
+     */
+    protected static final int SIGNATURE_USER_DATA = 0x1B51504D;
+
+    /**
+     * The block flag indicating that a file is compressed with the PKWARE "implode" method.
+     */
+    protected static final int FLAG_IMPLODE = 0x00000100;
+    /**
+     * The block flag indicating that a file is compressed with one or more of the methods named in each sector.
+     */
+    protected static final int FLAG_COMPRESS = 0x00000200;
+    /**
+     * The block flag indicating that a file is encrypted.
+     */
+    protected static final int FLAG_ENCRYPTED = 0x00010000;
+    /**
+     * The block flag indicating that a file's encryption key is adjusted by its position and size.
+     */
+    protected static final int FLAG_FIX_KEY = 0x00020000;
+    /**
+     * The block flag indicating that a file is stored as a single unit rather than in sectors.
+     */
+    protected static final int FLAG_SINGLE_UNIT = 0x01000000;
+    /**
+     * The block flag indicating that a file exists.
+     */
+    protected static final int FLAG_EXISTS = 0x80000000;
+
+    /**
+     * The compression mask bit for zlib.
+     */
+    protected static final int COMPRESSION_ZLIB = 0x02;
+    /**
+     * The compression mask bit for the PKWARE "implode" method.
+     */
+    protected static final int COMPRESSION_PKWARE = 0x08;
+
+    /**
+     * The hash type used to locate a file's starting position in the hash table.
+     */
+    protected static final int HASH_TABLE_OFFSET = 0;
+    /**
+     * The hash type of the first half of a file's identifying hash.
+     */
+    protected static final int HASH_NAME_A = 1;
+    /**
+     * The hash type of the second half of a file's identifying hash.
+     */
+    protected static final int HASH_NAME_B = 2;
+    /**
+     * The hash type used to produce encryption keys.
+     */
+    protected static final int HASH_FILE_KEY = 3;
+
+    /**
+     * The hash table entry value marking an empty slot, which ends a search.
+     */
+    protected static final int HASH_ENTRY_EMPTY = 0xFFFFFFFF;
+    /**
+     * The hash table entry value marking a deleted slot, which does not end a search.
+     */
+    protected static final int HASH_ENTRY_DELETED = 0xFFFFFFFE;
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+    /**
+     * The archive file.
+     */
+    protected File file;
+    /**
+     * The {@link RandomAccessFile} through which the archive is read.
+     */
+    protected RandomAccessFile randomAccessFile;
+    /**
+     * The channel through which the archive is read.
+     */
+    protected FileChannel channel;
+    /**
+     * The position of the archive header within the file.  All offsets in the archive are relative to this position.
+     */
+    protected long archiveOffset;
+    /**
+     * The size of each sector, in bytes.
+     */
+    protected int sectorSize;
+    /**
+     * The decrypted hash table, four values per entry: name hash A, name hash B, locale and platform, block index.
+     */
+    protected int[] hashTable;
+    /**
+     * The decrypted block table, four values per entry: offset, compressed size, file size, flags.
+     */
+    protected int[] blockTable;
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * General constructor.  Opens the archive and reads its tables.
+     *
+     * @param file The archive file.
+     * @throws IOException If an I/O error occurs or the file is not an MPQ archive.
+     */
+    public MPQArchive(File file)
+            throws IOException
+    {
+        super();
+        this.file = file;
+        randomAccessFile = new RandomAccessFile(file, "r");
+        channel = randomAccessFile.getChannel();
+        boolean opened = false;
+        try
+        {
+            // The header may be preceded by other data; it is always aligned to 512 bytes.
+            archiveOffset = -1;
+            long length = channel.size();
+            for (long position = 0; position + 32 <= length; position += 512)
+            {
+                int signature = read(position, 4).getInt();
+                if (signature == SIGNATURE_HEADER)
+                {
+                    archiveOffset = position;
+                    break;
+                } else if (signature == SIGNATURE_USER_DATA)
+                {
+                    archiveOffset = position + (read(position + 8, 4).getInt() & 0xFFFFFFFFL);
+                    if ((archiveOffset + 32 > length) || (read(archiveOffset, 4).getInt() != SIGNATURE_HEADER))
+                    {
+                        throw new IOException(file + " has an invalid MPQ user data header.");
+                    }
+                    break;
+                }
+            }
+            if (archiveOffset == -1) throw new IOException(file + " is not an MPQ archive.");
+
+            ByteBuffer header = read(archiveOffset, 32);
+            header.position(14);
+            sectorSize = 512 << header.getShort();
+            long hashTableOffset = header.getInt() & 0xFFFFFFFFL;
+            long blockTableOffset = header.getInt() & 0xFFFFFFFFL;
+            int hashTableEntries = header.getInt();
+            int blockTableEntries = header.getInt();
+            if ((hashTableEntries < 0) || (blockTableEntries < 0) ||
+                (hashTableEntries > length / 16) || (blockTableEntries > length / 16))
+            {
+                throw new IOException(file + " has an invalid MPQ header.");
+            }
+
+            hashTable = readTable(archiveOffset + hashTableOffset, hashTableEntries * 4, "(hash table)");
+            blockTable = readTable(archiveOffset + blockTableOffset, blockTableEntries * 4, "(block table)");
+            opened = true;
+        } finally
+        {
+            if (!opened) randomAccessFile.close();
+        }
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Retrieves the archive file.
+     *
+     * @return The archive file.
+     */
+    public File getFile()
+    {
+        return file;
+    }
+
+    /**
+     * Determines whether or not this archive contains the specified file.
+     *
+     * @param name The name of the file within the archive.  Forward slashes may be used in place of backslashes and
+     *             case is ignored.
+     * @return <code>true</code> if the archive contains the file; <code>false</code> otherwise.
+     */
+    public boolean contains(String name)
+    {
+        return (findBlock(name) != -1);
+    }
+
+    /**
+     * Reads a file from this archive.
+     *
+     * @param name The name of the file within the archive.  Forward slashes may be used in place of backslashes and
+     *             case is ignored.
+     * @return A little-endian {@link ByteBuffer} backed by an array which contains exactly the file's contents, or
+     *         <code>null</code> if the archive does not contain the file.
+     * @throws IOException If an I/O error occurs or the file cannot be decompressed.
+     */
+    public ByteBuffer getEntry(String name)
+            throws IOException
+    {
+        int block = findBlock(name);
+        if (block == -1) return null;
+
+        long offset = archiveOffset + (blockTable[block * 4] & 0xFFFFFFFFL);
+        int compressedSize = blockTable[block * 4 + 1];
+        int fileSize = blockTable[block * 4 + 2];
+        int flags = blockTable[block * 4 + 3];
+        if ((compressedSize < 0) || (fileSize < 0) || (offset + compressedSize > channel.size()))
+        {
+            throw new IOException("Invalid block table entry for " + name + " in " + file + ".");
+        }
+
+        int key = 0;
+        if ((flags & FLAG_ENCRYPTED) != 0)
+        {
+            key = hash(getBaseName(name), HASH_FILE_KEY);
+            if ((flags & FLAG_FIX_KEY) != 0) key = (key + (int) (offset - archiveOffset)) ^ fileSize;
+        }
+        boolean compressed = ((flags & (FLAG_IMPLODE | FLAG_COMPRESS)) != 0);
+
+        byte[] ret;
+        if ((flags & FLAG_SINGLE_UNIT) != 0)
+        {
+            byte[] data = read(offset, compressedSize).array();
+            if ((flags & FLAG_ENCRYPTED) != 0) decrypt(data, 0, data.length, key);
+            ret = (compressed && (compressedSize < fileSize)) ?
+                  decompress(data, 0, data.length, fileSize, flags) : data;
+        } else
+        {
+            ret = new byte[fileSize];
+            int sectors = (fileSize + sectorSize - 1) / sectorSize;
+            int[] sectorOffsets = new int[sectors + 1];
+            if (compressed)
+            {
+                byte[] table = read(offset, sectorOffsets.length * 4).array();
+                if ((flags & FLAG_ENCRYPTED) != 0) decrypt(table, 0, table.length, key - 1);
+                ByteBuffer bb = ByteBuffer.wrap(table).order(ByteOrder.LITTLE_ENDIAN);
+                for (int i = 0; i < sectorOffsets.length; i++) sectorOffsets[i] = bb.getInt();
+            } else
+            {
+                for (int i = 0; i < sectorOffsets.length; i++)
+                {
+                    sectorOffsets[i] = Math.min(i * sectorSize, compressedSize);
+                }
+            }
+            if (sectorOffsets[sectors] > compressedSize)
+            {
+                throw new IOException("Invalid sector table for " + name + " in " + file + ".");
+            }
+            byte[] data = read(offset, sectorOffsets[sectors]).array();
+            for (int i = 0; i < sectors; i++)
+            {
+                int start = sectorOffsets[i];
+                int length = sectorOffsets[i + 1] - start;
+                int expected = Math.min(sectorSize, fileSize - i * sectorSize);
+                if ((length < 0) || (start < 0))
+                {
+                    throw new IOException("Invalid sector table for " + name + " in " + file + ".");
+                }
+                if ((flags & FLAG_ENCRYPTED) != 0) decrypt(data, start, length, key + i);
+                if (compressed && (length < expected))
+                {
+                    byte[] sector = decompress(data, start, length, expected, flags);
+                    System.arraycopy(sector, 0, ret, i * sectorSize, expected);
+                } else
+                {
+                    if (length < expected)
+                    {
+                        throw new IOException("Truncated sector in " + name + " in " + file + ".");
+                    }
+                    System.arraycopy(data, start, ret, i * sectorSize, expected);
+                }
+            }
+        }
+        return ByteBuffer.wrap(ret).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Reads the names of the files in this archive from its listfile.
+     *
+     * @return The names listed by the archive, or an empty list if the archive does not contain a listfile.
+     * @throws IOException If an I/O error occurs while reading the listfile.
+     */
+    public List<String> getListfile()
+            throws IOException
+    {
+        ByteBuffer listfile = getEntry(LISTFILE_NAME);
+        if (listfile == null) return new ArrayList<String>();
+        return parseListfile(listfile.array());
+    }
+
+    /**
+     * Closes this archive.
+     *
+     * @throws IOException If an I/O error occurs while closing the archive file.
+     */
+    public void close()
+            throws IOException
+    {
+        randomAccessFile.close();
+    }
+
+    /**
+     * Finds the block table entry of the specified file.
+     *
+     * @param name The name of the file within the archive.
+     * @return The index of the file's block table entry, or <code>-1</code> if the archive does not contain the file.
+     */
+    protected int findBlock(String name)
+    {
+        name = name.replace('/', '\\');
+        int entries = hashTable.length / 4;
+        if (entries == 0) return -1;
+        int start = (int) ((hash(name, HASH_TABLE_OFFSET) & 0xFFFFFFFFL) % entries);
+        int nameA = hash(name, HASH_NAME_A);
+        int nameB = hash(name, HASH_NAME_B);
+        for (int i = 0; i < entries; i++)
+        {
+            int entry = ((start + i) % entries) * 4;
+            int block = hashTable[entry + 3];
+            if (block == HASH_ENTRY_EMPTY) break;
+            if ((block != HASH_ENTRY_DELETED) && (hashTable[entry] == nameA) && (hashTable[entry + 1] == nameB) &&
+                (block >= 0) && (block < blockTable.length / 4) && ((blockTable[block * 4 + 3] & FLAG_EXISTS) != 0))
+            {
+                return block;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads and decrypts one of the archive's tables.
+     *
+     * @param position The position of the table within the file.
+     * @param length   The number of values in the table.
+     * @param keyName  The name from which the table's encryption key is derived.
+     * @return The decrypted table.
+     * @throws IOException If an I/O error occurs.
+     */
+    protected int[] readTable(long position, int length, String keyName)
+            throws IOException
+    {
+        byte[] data = read(position, length * 4).array();
+        decrypt(data, 0, data.length, hash(keyName, HASH_FILE_KEY));
+        ByteBuffer bb = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        int[] ret = new int[length];
+        for (int i = 0; i < length; i++) ret[i] = bb.getInt();
+        return ret;
+    }
+
+    /**
+     * Reads data from the archive file.
+     *
+     * @param position The position of the data within the file.
+     * @param length   The number of bytes to read.
+     * @return A little-endian {@link ByteBuffer} backed by an array containing the data.
+     * @throws IOException If an I/O error occurs or the file ends before the data is read.
+     */
+    protected ByteBuffer read(long position, int length)
+            throws IOException
+    {
+        ByteBuffer ret = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (ret.hasRemaining())
+        {
+            if (channel.read(ret, position + ret.position()) == -1)
+            {
+                throw new IOException("Unexpected end of MPQ archive " + file + ".");
+            }
+        }
+        ret.flip();
+        return ret;
+    }
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+    /**
+     * Decompresses a single unit or sector of a file.
+     *
+     * @param data   The array containing the compressed data.
+     * @param offset The offset of the compressed data within the array.
+     * @param length The length of the compressed data.
+     * @param size   The decompressed length of the data.
+     * @param flags  The block flags of the file.
+     * @return The decompressed data.
+     * @throws IOException If the data is malformed or uses an unsupported compression method.
+     */
+    protected static byte[] decompress(byte[] data, int offset, int length, int size, int flags)
+            throws IOException
+    {
+        if ((flags & FLAG_IMPLODE) != 0) return PKWareDecompressor.explode(data, offset, length, size);
+
+        // Multiple compression: the first byte names the methods used.
+        int mask = data[offset] & 0xFF;
+        if (mask == COMPRESSION_PKWARE)
+        {
+            return PKWareDecompressor.explode(data, offset + 1, length - 1, size);
+        } else if (mask == COMPRESSION_ZLIB)
+        {
+            Inflater inflater = new Inflater();
+            try
+            {
+                inflater.setInput(data, offset + 1, length - 1);
+                byte[] ret = new byte[size];
+                int total = 0;
+                while ((total < size) && (!inflater.finished()))
+                {
+                    int inflated = inflater.inflate(ret, total, size - total);
+                    if ((inflated == 0) && (inflater.needsInput() || inflater.needsDictionary())) break;
+                    total += inflated;
+                }
+                if (total != size) throw new IOException("zlib data decompressed to an unexpected length.");
+                return ret;
+            } catch (DataFormatException e)
+            {
+                throw new IOException("Malformed zlib data: " + e.getMessage());
+            } finally
+            {
+                inflater.end();
+            }
+        } else
+        {
+            throw new IOException("Unsupported MPQ compression method 0x" + Integer.toHexString(mask) + ".");
+        }
+    }
+
+    /**
+     * Decrypts data in place.  Trailing bytes which do not form a complete 32-bit value are not encrypted.
+     *
+     * @param data   The array containing the data.
+     * @param offset The offset of the data within the array.
+     * @param length The length of the data.
+     * @param key    The encryption key.
+     */
+    protected static void decrypt(byte[] data, int offset, int length, int key)
+    {
+        int seed = 0xEEEEEEEE;
+        for (int i = offset; i + 4 <= offset + length; i += 4)
+        {
+            seed += CRYPT_TABLE[0x400 + (key & 0xFF)];
+            int value = (data[i] & 0xFF) | ((data[i + 1] & 0xFF) << 8) | ((data[i + 2] & 0xFF) << 16) |
+                        ((data[i + 3] & 0xFF) << 24);
+            value ^= key + seed;
+            key = ((~key << 0x15) + 0x11111111) | (key >>> 0x0B);
+            seed = value + seed + (seed << 5) + 3;
+            data[i] = (byte) value;
+            data[i + 1] = (byte) (value >>> 8);
+            data[i + 2] = (byte) (value >>> 16);
+            data[i + 3] = (byte) (value >>> 24);
+        }
+    }
+
+    /**
+     * Computes one of the MPQ hashes of a string.  The hash ignores case.
+     *
+     * @param string The string to hash.
+     * @param type   The type of hash to compute.
+     * @return The hash.
+     */
+    protected static int hash(String string, int type)
+    {
+        int seed1 = 0x7FED7FED;
+        int seed2 = 0xEEEEEEEE;
+        for (int i = 0; i < string.length(); i++)
+        {
+            int ch = Character.toUpperCase(string.charAt(i)) & 0xFF;
+            seed1 = CRYPT_TABLE[type * 0x100 + ch] ^ (seed1 + seed2);
+            seed2 = ch + seed1 + seed2 + (seed2 << 5) + 3;
+        }
+        return seed1;
+    }
+
+    /**
+     * Creates the table of values used by the MPQ hashing and encryption functions.
+     *
+     * @return The table.
+     */
+    protected static int[] createCryptTable()
+    {
+        int[] ret = new int[0x500];
+        int seed = 0x00100001;
+        for (int index1 = 0; index1 < 0x100; index1++)
+        {
+            for (int index2 = index1; index2 < 0x500; index2 += 0x100)
+            {
+                seed = (seed * 125 + 3) % 0x2AAAAB;
+                int high = (seed & 0xFFFF) << 16;
+                seed = (seed * 125 + 3) % 0x2AAAAB;
+                ret[index2] = high | (seed & 0xFFFF);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Retrieves the name of a file without its directories.  Encryption keys are derived from this name.
+     *
+     * @param name The name of a file within an archive.
+     * @return The name without its directories.
+     */
+    protected static String getBaseName(String name)
+    {
+        name = name.replace('/', '\\');
+        return name.substring(name.lastIndexOf('\\') + 1);
+    }
+
+    /**
+     * Parses the contents of a listfile.  Names may be separated by line breaks or semicolons.
+     *
+     * @param data The contents of the listfile.
+     * @return The names in the listfile.
+     */
+    public static List<String> parseListfile(byte[] data)
+    {
+        List<String> ret = new ArrayList<String>();
+        StringBuilder sb = new StringBuilder();
+        for (byte b : data)
+        {
+            char c = (char) (b & 0xFF);
+            if ((c == '\r') || (c == '\n') || (c == ';'))
+            {
+                if (sb.toString().trim().length() > 0) ret.add(sb.toString().trim());
+                sb.setLength(0);
+            } else
+            {
+                sb.append(c);
+            }
+        }
+        if (sb.toString().trim().length() > 0) ret.add(sb.toString().trim());
+        return ret;
+    }
+}
+
+// END OF FILE
@@ -0,0 +1,277 @@
+package orioni.sixdice;
+
+import java.io.IOException;
+
+/**
+ * This utilities class decompresses data compressed with the PKWARE Data Compression Library's "implode" method, which
+ * is used by most files in Diablo II's MPQ archives.  The data begins with two bytes: the first indicates whether
+ * literals are Huffman coded (<code>1</code>) or stored as plain bytes (<code>0</code>) and the second gives the
+ * number of low-order bits of each copy distance (<code>4</code>, <code>5</code> or <code>6</code>).  The remainder is
+ * a stream of literals and length-distance pairs whose bits are read from the least significant bit of each byte
+ * first, ending with a length code of 519.
+ * <p/>
+ * The Huffman codes of this format are fixed; their code lengths are stored below in run-length encoded form, each
+ * byte holding a code length in its low four bits and a repeat count less one in its high four bits.
+ *
+ * @author Zachary Palmer
+ */
+public class PKWareDecompressor
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * The maximum length of any code.
+     */
+    protected static final int MAXIMUM_CODE_LENGTH = 13;
+
+    /**
+     * The run-length encoded code lengths of the literal codes.
+     */
+    protected static final int[] LITERAL_LENGTHS = {
+            11, 124, 8, 7, 28, 7, 188, 13, 76, 4, 10, 8, 12, 10, 12, 10, 8, 23, 8, 9, 7, 6, 7, 8, 7, 6, 55, 8, 23, 24,
+            12, 11, 7, 9, 11, 12, 6, 7, 22, 5, 7, 24, 6, 11, 9, 6, 7, 22, 7, 11, 38, 7, 9, 8, 25, 11, 8, 11, 9, 12, 8,
+            12, 5, 38, 5, 38, 5, 11, 7, 5, 6, 21, 6, 10, 53, 8, 7, 24, 10, 27, 44, 253, 253, 253, 252, 252, 252, 13,
+            12, 45, 12, 45, 12, 61, 12, 45, 44, 173};
+    /**
+     * The run-length encoded code lengths of the length codes.
+     */
+    protected static final int[] LENGTH_LENGTHS = {2, 35, 36, 53, 38, 23};
+    /**
+     * The run-length encoded code lengths of the distance codes.
+     */
+    protected static final int[] DISTANCE_LENGTHS = {2, 20, 53, 230, 247, 151, 248};
+
+    /**
+     * The base copy length of each length code.
+     */
+    protected static final int[] LENGTH_BASE = {3, 2, 4, 5, 6, 7, 8, 9, 10, 12, 16, 24, 40, 72, 136, 264};
+    /**
+     * The number of extra bits following each length code.
+     */
+    protected static final int[] LENGTH_EXTRA = {0, 0, 0, 0, 0, 0, 0, 0, 1, 2, 3, 4, 5, 6, 7, 8};
+
+    /**
+     * The copy length which marks the end of the data.
+     */
+    protected static final int END_OF_DATA = 519;
+
+    /**
+     * The literal code.
+     */
+    protected static final Huffman LITERAL_CODE = new Huffman(LITERAL_LENGTHS, 256);
+    /**
+     * The length code.
+     */
+    protected static final Huffman LENGTH_CODE = new Huffman(LENGTH_LENGTHS, 16);
+    /**
+     * The distance code.
+     */
+    protected static final Huffman DISTANCE_CODE = new Huffman(DISTANCE_LENGTHS, 64);
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+    /**
+     * The compressed data.
+     */
+    protected byte[] input;
+    /**
+     * The index of the next byte of compressed data.
+     */
+    protected int inputIndex;
+    /**
+     * The index one past the last byte of compressed data.
+     */
+    protected int inputEnd;
+    /**
+     * The bits read from the compressed data but not yet used.
+     */
+    protected int bitBuffer;
+    /**
+     * The number of bits in the bit buffer.
+     */
+    protected int bitCount;
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * General constructor.
+     *
+     * @param input  The array containing the compressed data.
+     * @param offset The offset of the compressed data within the array.
+     * @param length The length of the compressed data.
+     */
+    protected PKWareDecompressor(byte[] input, int offset, int length)
+    {
+        super();
+        this.input = input;
+        inputIndex = offset;
+        inputEnd = offset + length;
+        bitBuffer = 0;
+        bitCount = 0;
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Decompresses the data of this decompressor.
+     *
+     * @param output The array into which the data is decompressed.  Its length must be the decompressed length.
+     * @throws IOException If the data is malformed or does not decompress to the length of the output array.
+     */
+    protected void decompress(byte[] output)
+            throws IOException
+    {
+        int literalMode = readBits(8);
+        int distanceBits = readBits(8);
+        if ((literalMode > 1) || (distanceBits < 4) || (distanceBits > 6))
+        {
+            throw new IOException("Invalid PKWARE compression header.");
+        }
+
+        int outputIndex = 0;
+        while (true)
+        {
+            if (readBits(1) == 1)
+            {
+                // A length-distance pair.
+                int symbol = decode(LENGTH_CODE);
+                int length = LENGTH_BASE[symbol] + readBits(LENGTH_EXTRA[symbol]);
+                if (length == END_OF_DATA) break;
+                int shift = (length == 2) ? 2 : distanceBits;
+                int distance = ((decode(DISTANCE_CODE) << shift) | readBits(shift)) + 1;
+                if (distance > outputIndex) throw new IOException("PKWARE copy distance is too far back.");
+                if (outputIndex + length > output.length) throw new IOException("PKWARE data is too long.");
+                for (int i = 0; i < length; i++)
+                {
+                    output[outputIndex] = output[outputIndex - distance];
+                    outputIndex++;
+                }
+            } else
+            {
+                int literal = (literalMode == 1) ? decode(LITERAL_CODE) : readBits(8);
+                if (outputIndex == output.length) throw new IOException("PKWARE data is too long.");
+                output[outputIndex++] = (byte) literal;
+            }
+        }
+        if (outputIndex != output.length)
+        {
+            throw new IOException(
+                    "PKWARE data decompressed to " + outputIndex + " bytes; " + output.length + " were expected.");
+        }
+    }
+
+    /**
+     * Reads the specified number of bits from the compressed data.
+     *
+     * @param count The number of bits to read, from zero to sixteen.
+     * @return The bits which were read.
+     * @throws IOException If the compressed data ends prematurely.
+     */
+    protected int readBits(int count)
+            throws IOException
+    {
+        while (bitCount < count)
+        {
+            if (inputIndex == inputEnd) throw new IOException("PKWARE data ends prematurely.");
+            bitBuffer |= (input[inputIndex++] & 0xFF) << bitCount;
+            bitCount += 8;
+        }
+        int ret = bitBuffer & ((1 << count) - 1);
+        bitBuffer >>>= count;
+        bitCount -= count;
+        return ret;
+    }
+
+    /**
+     * Decodes a single symbol.  The codes of this format are stored with their bits inverted.
+     *
+     * @param huffman The code with which to decode the symbol.
+     * @return The decoded symbol.
+     * @throws IOException If the compressed data ends prematurely or contains an invalid code.
+     */
+    protected int decode(Huffman huffman)
+            throws IOException
+    {
+        int code = 0;
+        int first = 0;
+        int index = 0;
+        for (int length = 1; length <= MAXIMUM_CODE_LENGTH; length++)
+        {
+            code |= readBits(1) ^ 1;
+            int count = huffman.count[length];
+            if (code - count < first) return huffman.symbol[index + (code - first)];
+            index += count;
+            first += count;
+            first <<= 1;
+            code <<= 1;
+        }
+        throw new IOException("Invalid PKWARE code.");
+    }
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+    /**
+     * Decompresses PKWARE imploded data.
+     *
+     * @param data   The array containing the compressed data.
+     * @param offset The offset of the compressed data within the array.
+     * @param length The length of the compressed data.
+     * @param size   The decompressed length of the data.
+     * @return The decompressed data.
+     * @throws IOException If the data is malformed or does not decompress to the expected length.
+     */
+    public static byte[] explode(byte[] data, int offset, int length, int size)
+            throws IOException
+    {
+        byte[] ret = new byte[size];
+        new PKWareDecompressor(data, offset, length).decompress(ret);
+        return ret;
+    }
+
+// CONTAINED CLASSES /////////////////////////////////////////////////////////////
+
+    /**
+     * Represents a canonical Huffman code as the number of codes of each length and the symbols ordered by code.
+     */
+    protected static class Huffman
+    {
+        /**
+         * The number of codes of each length.
+         */
+        protected final int[] count;
+        /**
+         * The symbols, ordered by code.
+         */
+        protected final int[] symbol;
+
+        /**
+         * General constructor.
+         *
+         * @param lengths The run-length encoded code lengths of the symbols.
+         * @param symbols The number of symbols.
+         */
+        public Huffman(int[] lengths, int symbols)
+        {
+            int[] length = new int[symbols];
+            int s = 0;
+            for (int rep : lengths)
+            {
+                for (int i = (rep >> 4) + 1; i > 0; i--) length[s++] = rep & 15;
+            }
+
+            count = new int[MAXIMUM_CODE_LENGTH + 1];
+            for (int l : length) count[l]++;
+            int[] offsets = new int[MAXIMUM_CODE_LENGTH + 1];
+            for (int l = 1; l < MAXIMUM_CODE_LENGTH; l++) offsets[l + 1] = offsets[l] + count[l];
+            symbol = new int[symbols];
+            for (int i = 0; i < symbols; i++)
+            {
+                if (length[i] != 0) symbol[offsets[length[i]]++] = i;
+            }
+        }
+    }
+}
+
+// END OF FILE
@@ -0,0 +1,327 @@
+package orioni.sixdice;
+
+import orioni.jz.awt.AWTUtilities;
+import orioni.jz.awt.image.RestrictableIndexColorModel;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.IndexColorModel;
+import java.awt.image.Raster;
+import java.util.Arrays;
+
+/**
+ * This class is designed to render the frames of an {@link Animation} into a single, reusable canvas which is the size
+ * of the {@link Animation}'s virtual coordinate space.  The result of each render is the same as the image returned by
+ * {@link Animation#getPaddedImage(int, int, Color)}, but the canvas is only allocated once and only the area occupied by
+ * the previously rendered frame is cleared before the next frame is drawn.  This makes the renderer well-suited to
+ * exporting entire image series.
+ * <p/>
+ * The renderer operates in one of two modes.  In ARGB mode, the canvas is a <code>TYPE_INT_ARGB</code> image and
+ * frames are drawn onto it as {@link Animation#getPaddedImage(int, int, Color)} would draw them.  In indexed mode, the
+ * canvas is a <code>TYPE_BYTE_INDEXED</code> image in a provided palette; frames which are already stored in indexed
+ * form are copied by index without any conversion to ARGB.
+ * <p/>
+ * The virtual coordinate space of the {@link Animation} is measured when the renderer is constructed; if the {@link
+ * Animation}'s frames are changed afterward, a new renderer should be created.  Renderers are not thread-safe.  Threads
+ * which render concurrently should each use their own renderer.
+ *
+ * @author Zachary Palmer
+ */
+public class PaddedImageRenderer
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+    /**
+     * The {@link Animation} being rendered.
+     */
+    protected Animation animation;
+    /**
+     * The X coordinate of the first column of the virtual coordinate space.
+     */
+    protected int firstX;
+    /**
+     * The Y coordinate of the first row of the virtual coordinate space.
+     */
+    protected int firstY;
+    /**
+     * The reusable canvas.
+     */
+    protected BufferedImage canvas;
+    /**
+     * The palette of the canvas, or <code>null</code> if this renderer is operating in ARGB mode.
+     */
+    protected RestrictableIndexColorModel palette;
+    /**
+     * The index with which the canvas is padded in indexed mode.
+     */
+    protected int paddingIndex;
+    /**
+     * The {@link Color} with which the canvas was last padded, or <code>null</code> if the canvas has not yet been
+     * padded in ARGB mode.
+     */
+    protected Color lastPaddingColor;
+    /**
+     * The area of the canvas which was drawn by the last render and must be cleared by the next one, or
+     * <code>null</code> if the entire canvas must be cleared.
+     */
+    protected Rectangle dirty;
+    /**
+     * The color model of the last indexed frame copied into the canvas, used to avoid rebuilding {@link
+     * PaddedImageRenderer#indexMap} for each frame.
+     */
+    protected IndexColorModel lastSourceModel;
+    /**
+     * A mapping from the indices of {@link PaddedImageRenderer#lastSourceModel} to the indices of the canvas palette.
+     */
+    protected byte[] indexMap;
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * ARGB constructor.  Creates a renderer which draws frames onto a <code>TYPE_INT_ARGB</code> canvas.
+     *
+     * @param animation The {@link Animation} to render.
+     */
+    public PaddedImageRenderer(Animation animation)
+    {
+        this(animation, null, 0);
+    }
+
+    /**
+     * Indexed constructor.  Creates a renderer which copies frames onto a <code>TYPE_BYTE_INDEXED</code> canvas in the
+     * provided palette.
+     *
+     * @param animation    The {@link Animation} to render.
+     * @param palette      The palette of the canvas, or <code>null</code> to render in ARGB mode.
+     * @param paddingIndex The index with which the canvas is padded.  Transparent pixels in the frames are also
+     *                     rendered using this index.
+     */
+    public PaddedImageRenderer(Animation animation, RestrictableIndexColorModel palette, int paddingIndex)
+    {
+        super();
+        this.animation = animation;
+        this.palette = palette;
+        this.paddingIndex = paddingIndex;
+        firstX = animation.getFirstXIndex();
+        firstY = animation.getFirstYIndex();
+        int width = animation.getLastXIndex() - firstX + 1;
+        int height = animation.getLastYIndex() - firstY + 1;
+        if (palette == null)
+        {
+            canvas = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        } else
+        {
+            canvas = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_INDEXED, palette);
+        }
+        lastPaddingColor = null;
+        dirty = null;
+        lastSourceModel = null;
+        indexMap = null;
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Retrieves the canvas of this renderer.  The contents of the canvas are replaced by each call to a
+     * <code>render</code> method.
+     *
+     * @return The canvas of this renderer.
+     */
+    public BufferedImage getCanvas()
+    {
+        return canvas;
+    }
+
+    /**
+     * Makes the next render clear the entire canvas rather than only the area drawn by the last one.  This must be
+     * called after changing pixels of the canvas outside of that area, such as by replacing every clear pixel.
+     */
+    public void invalidate()
+    {
+        dirty = null;
+    }
+
+    /**
+     * Determines whether or not this renderer is operating in indexed mode.
+     *
+     * @return <code>true</code> if this renderer renders into an indexed canvas; <code>false</code> if it renders into
+     *         an ARGB canvas.
+     */
+    public boolean isIndexed()
+    {
+        return (palette != null);
+    }
+
+    /**
+     * Renders the specified frame onto the canvas, padding it with clear pixels (in ARGB mode) or the padding index (in
+     * indexed mode).
+     *
+     * @param direction The direction number of the frame to render.
+     * @param frame     The frame number of the frame to render.
+     * @return The canvas.  This image is reused by the next render.
+     */
+    public BufferedImage render(int direction, int frame)
+    {
+        return render(direction, frame, AWTUtilities.COLOR_TRANSPARENT);
+    }
+
+    /**
+     * Renders the specified frame onto the canvas.
+     *
+     * @param direction    The direction number of the frame to render.
+     * @param frame        The frame number of the frame to render.
+     * @param paddingColor The {@link Color} with which to pad the image.  This value is ignored in indexed mode.
+     * @return The canvas.  This image is reused by the next render.
+     */
+    public BufferedImage render(int direction, int frame, Color paddingColor)
+    {
+        AnimationFrame f = animation.getFrame(direction, frame);
+        BufferedImage image = f.getImage();
+        Rectangle area = new Rectangle(
+                f.getXOffset() - firstX, f.getYOffset() - firstY, image.getWidth(), image.getHeight());
+        if (palette == null)
+        {
+            renderARGB(image, area, paddingColor);
+        } else
+        {
+            renderIndexed(image, area);
+        }
+        dirty = area;
+        return canvas;
+    }
+
+    /**
+     * Renders a frame image onto the ARGB canvas.
+     *
+     * @param image        The frame image to render.
+     * @param area         The area of the canvas which the image occupies.
+     * @param paddingColor The {@link Color} with which to pad the image.
+     */
+    protected void renderARGB(BufferedImage image, Rectangle area, Color paddingColor)
+    {
+        Graphics2D g = canvas.createGraphics();
+        try
+        {
+            // Clearing must replace the previous contents rather than compositing over them.
+            g.setComposite(AlphaComposite.Src);
+            g.setColor(paddingColor);
+            if ((dirty == null) || (!paddingColor.equals(lastPaddingColor)))
+            {
+                g.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+                lastPaddingColor = paddingColor;
+            } else
+            {
+                g.fillRect(dirty.x, dirty.y, dirty.width, dirty.height);
+            }
+            g.setComposite(AlphaComposite.SrcOver);
+            g.drawImage(image, area.x, area.y, null);
+        } finally
+        {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Renders a frame image onto the indexed canvas.
+     *
+     * @param image The frame image to render.
+     * @param area  The area of the canvas which the image occupies.
+     */
+    protected void renderIndexed(BufferedImage image, Rectangle area)
+    {
+        byte[] data = ((DataBufferByte) (canvas.getRaster().getDataBuffer())).getData();
+        int canvasWidth = canvas.getWidth();
+        byte padding = (byte) paddingIndex;
+
+        if (dirty == null)
+        {
+            Arrays.fill(data, padding);
+        } else
+        {
+            for (int y = dirty.y; y < dirty.y + dirty.height; y++)
+            {
+                int base = y * canvasWidth + dirty.x;
+                Arrays.fill(data, base, base + dirty.width, padding);
+            }
+        }
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if ((image.getColorModel() instanceof IndexColorModel) &&
+            (image.getRaster().getNumBands() == 1) &&
+            (image.getRaster().getTransferType() == DataBufferByte.TYPE_BYTE))
+        {
+            // Indexed source: translate the indices through a lookup table.
+            byte[] map = getIndexMap((IndexColorModel) (image.getColorModel()));
+            Raster raster = image.getRaster();
+            byte[] row = new byte[width];
+            for (int y = 0; y < height; y++)
+            {
+                raster.getDataElements(0, y, width, 1, row);
+                int base = (area.y + y) * canvasWidth + area.x;
+                for (int x = 0; x < width; x++)
+                {
+                    data[base + x] = map[row[x] & 0xFF];
+                }
+            }
+        } else
+        {
+            // Any other source: find the nearest palette entry for each pixel, then pad the invisible ones.
+            PixelKernels kernels = PixelKernels.getInstance();
+            PaletteLookupTable table = PaletteLookupTable.getInstance(palette);
+            int[] row = new int[width];
+            for (int y = 0; y < height; y++)
+            {
+                image.getRGB(0, y, width, 1, row, 0, width);
+                int base = (area.y + y) * canvasWidth + area.x;
+                kernels.toIndices(row, 0, table, data, base, width);
+                for (int x = 0; x < width; x++)
+                {
+                    if ((row[x] & 0xFF000000) == 0) data[base + x] = padding;
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves the mapping between the indices of the provided color model and those of the canvas palette.  Indices
+     * which are transparent in the source model map to the padding index.
+     *
+     * @param source The color model of the image being copied.
+     * @return The index mapping.
+     */
+    protected byte[] getIndexMap(IndexColorModel source)
+    {
+        if (source != lastSourceModel)
+        {
+            boolean samePalette = source.equals(palette);
+            PaletteLookupTable table = (samePalette) ? null : PaletteLookupTable.getInstance(palette);
+            indexMap = new byte[256];
+            for (int i = 0; i < indexMap.length; i++)
+            {
+                if ((i >= source.getMapSize()) || (source.getAlpha(i) == 0))
+                {
+                    indexMap[i] = (byte) paddingIndex;
+                } else if (samePalette)
+                {
+                    indexMap[i] = (byte) i;
+                } else
+                {
+                    indexMap[i] = (byte) (table.find(source.getRGB(i)));
+                }
+            }
+            lastSourceModel = source;
+        }
+        return indexMap;
+    }
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+}
+
+// END OF FILE
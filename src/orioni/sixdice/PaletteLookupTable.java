@@ -0,0 +1,658 @@
+package orioni.sixdice;
+
+import orioni.jz.awt.image.RestrictableIndexColorModel;
+import orioni.jz.io.files.FileUtilities;
+
+import java.awt.image.IndexColorModel;
+import java.io.*;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class maps colors to the nearest entries of a palette in constant time.  It replaces a search of the entire
+ * palette for each pixel, which dominates the conversion of true-color images into palette-based {@link Animation}s.
+ * <p/>
+ * The RGB color space is divided into a cube of {@link PaletteLookupTable#CELLS_PER_CHANNEL}<sup>3</sup> cells.  For
+ * each cell, the table holds the palette entries which could be the nearest entry of some color in that cell: every
+ * entry whose closest possible distance to the cell is no greater than the farthest possible distance to the cell of
+ * the best single entry.  Most cells hold a single candidate; the rest are refined by an exact search of their few
+ * candidates.  The nearest entry is the one at the least squared Euclidean distance in RGB among the entries which are
+ * valid, unrestricted and not transparent; ties are broken in favor of the lower index.
+ * <p/>
+ * The table replaces {@link RestrictableIndexColorModel#find(int)}, so its results are only identical to the palette's
+ * if the palette measures distance and breaks ties in the same way, which this class cannot know.  Each table therefore
+ * compares itself with the palette when it is created, at the center of every cell and at the color of every entry
+ * which may be found.  If any answer differs, the palette measures distance differently and the table gives every
+ * color to the palette instead; it is then no faster, but the output of a conversion never depends on whether a table
+ * was used.  The comparison is a sample, not a proof, but a differently weighted distance or tie rule disagrees at
+ * some of those colors for any palette of realistic size.
+ * <p/>
+ * Only opaque colors are mapped by the table.  Colors which are partially or fully transparent are given to the
+ * palette's own {@link RestrictableIndexColorModel#find(int)}, which decides how transparency is represented; its
+ * answer for fully transparent black is remembered.
+ * <p/>
+ * Tables are obtained with {@link PaletteLookupTable#getInstance(RestrictableIndexColorModel)}, which keeps the most
+ * recently used tables in memory.  {@link PaletteLookupTable#getInstance(RestrictableIndexColorModel, File)} also
+ * stores each table in a given directory so that later processes need not build it again; the directory is chosen by
+ * each caller rather than set for the whole process, so conversions with different directories may run at once.
+ * Tables are immutable and thread-safe.
+ *
+ * @author Zachary Palmer
+ */
+public class PaletteLookupTable
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+    /**
+     * The tables held in memory, keyed by the description of their palettes, in least-recently-used order.
+     */
+    private static final Map<String, PaletteLookupTable> tables =
+            new LinkedHashMap<String, PaletteLookupTable>(16, 0.75f, true);
+    /**
+     * The table most recently retrieved, which is returned without describing its palette again if it is requested
+     * for the same palette instance.
+     */
+    private static volatile PaletteLookupTable lastTable = null;
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * The number of bits of each color channel which select a cell.
+     */
+    public static final int CELL_BITS = 5;
+    /**
+     * The number of cells along each color channel.
+     */
+    public static final int CELLS_PER_CHANNEL = 1 << CELL_BITS;
+    /**
+     * The number of channel values spanned by each cell.
+     */
+    protected static final int CELL_SIZE = 256 / CELLS_PER_CHANNEL;
+    /**
+     * The mask which selects the cell of a single channel.
+     */
+    protected static final int CELL_MASK = CELLS_PER_CHANNEL - 1;
+    /**
+     * The number of cells in the cube.
+     */
+    public static final int CELL_COUNT = CELLS_PER_CHANNEL * CELLS_PER_CHANNEL * CELLS_PER_CHANNEL;
+
+    /**
+     * The number of tables held in memory.
+     */
+    public static final int MEMORY_TABLE_LIMIT = 16;
+
+    /**
+     * The suffix of the files in which tables are stored.
+     */
+    public static final String DISK_FILE_SUFFIX = ".spl";
+    /**
+     * The first four bytes of each file in which a table is stored.
+     */
+    protected static final int DISK_FILE_MAGIC = 0x53504C31; // "SPL1"
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+    /**
+     * The palette whose entries this table finds.
+     */
+    protected final RestrictableIndexColorModel palette;
+    /**
+     * The RGB value of each palette entry.
+     */
+    protected final int[] rgbs;
+    /**
+     * The index in {@link PaletteLookupTable#candidates} of the first candidate of each cell.  The candidates of cell
+     * <code>i</code> end where those of cell <code>i+1</code> begin.
+     */
+    protected final int[] cellStarts;
+    /**
+     * The candidate palette indices of every cell, in ascending order within each cell.
+     */
+    protected final byte[] candidates;
+    /**
+     * Whether or not each palette entry may be found.
+     */
+    protected final boolean[] eligible;
+    /**
+     * The only candidate of each cell, or <code>-1</code> for cells with no candidates or several.
+     */
+    protected final int[] cellIndices;
+    /**
+     * The index found by the palette for fully transparent black, the most common transparent color.
+     */
+    protected final int clearIndex;
+    /**
+     * Whether or not this table finds the same entries as its palette.  If not, every color is given to the palette.
+     */
+    protected final boolean exact;
+    /**
+     * The palette for which a remap table was most recently built, followed by that table, or <code>null</code> if no
+     * remap table has been built.  The frames of an animation usually share a single palette.
+     */
+    protected volatile Object[] lastRemap;
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * General constructor.  Builds the table for the provided palette.
+     *
+     * @param palette The palette whose entries this table finds.
+     */
+    public PaletteLookupTable(RestrictableIndexColorModel palette)
+    {
+        super();
+        this.palette = palette;
+        rgbs = getPaletteRGBs(palette);
+        cellStarts = new int[CELL_COUNT + 1];
+        eligible = getEligibility(palette);
+        candidates = buildCandidates(rgbs, getEligibleIndices(palette), cellStarts);
+        cellIndices = getCellIndices(cellStarts, candidates);
+        clearIndex = palette.find(0);
+        exact = agreesWithPalette();
+    }
+
+    /**
+     * Loading constructor.
+     *
+     * @param palette    The palette whose entries this table finds.
+     * @param cellStarts The index of the first candidate of each cell.
+     * @param candidates The candidates of every cell.
+     */
+    protected PaletteLookupTable(RestrictableIndexColorModel palette, int[] cellStarts, byte[] candidates)
+    {
+        super();
+        this.palette = palette;
+        rgbs = getPaletteRGBs(palette);
+        this.cellStarts = cellStarts;
+        this.candidates = candidates;
+        eligible = getEligibility(palette);
+        cellIndices = getCellIndices(cellStarts, candidates);
+        clearIndex = palette.find(0);
+        exact = agreesWithPalette();
+    }
+
+    /**
+     * Copying constructor.  Uses the cells of another table, which was created for an equal palette.
+     *
+     * @param table   The table whose cells are used.
+     * @param palette The palette whose entries this table finds.  It must have the same description as the other
+     *                table's palette.
+     */
+    protected PaletteLookupTable(PaletteLookupTable table, RestrictableIndexColorModel palette)
+    {
+        super();
+        this.palette = palette;
+        rgbs = table.rgbs;
+        cellStarts = table.cellStarts;
+        candidates = table.candidates;
+        eligible = table.eligible;
+        cellIndices = table.cellIndices;
+        clearIndex = palette.find(0);
+        exact = table.exact;
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Retrieves the palette whose entries this table finds.
+     *
+     * @return This table's palette.
+     */
+    public RestrictableIndexColorModel getPalette()
+    {
+        return palette;
+    }
+
+    /**
+     * Finds the palette entry nearest to the provided color.
+     *
+     * @param argb The color, in the default ARGB color model.
+     * @return The index of the nearest palette entry.
+     */
+    public int find(int argb)
+    {
+        if ((argb >>> 24) != 0xFF) return (argb == 0) ? clearIndex : palette.find(argb);
+        return (exact) ? lookup(argb) : palette.find(argb);
+    }
+
+    /**
+     * Finds the palette entry nearest to the provided opaque color using the cells of this table.
+     *
+     * @param argb The color, in the default ARGB color model.  It must be opaque.
+     * @return The index of the nearest palette entry.
+     */
+    protected int lookup(int argb)
+    {
+        int cell = getCell(argb);
+        int index = cellIndices[cell];
+        if (index >= 0) return index;
+        int start = cellStarts[cell];
+        int end = cellStarts[cell + 1];
+        if (start == end) return palette.find(argb);
+
+        int red = (argb >> 16) & 0xFF;
+        int green = (argb >> 8) & 0xFF;
+        int blue = argb & 0xFF;
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int i = start; i < end; i++)
+        {
+            index = candidates[i] & 0xFF;
+            int rgb = rgbs[index];
+            int dr = ((rgb >> 16) & 0xFF) - red;
+            int dg = ((rgb >> 8) & 0xFF) - green;
+            int db = (rgb & 0xFF) - blue;
+            int distance = dr * dr + dg * dg + db * db;
+            if (distance < bestDistance)
+            {
+                best = index;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Determines whether or not this table finds the same entries as its palette at the center of every cell and at
+     * the color of every entry which may be found.
+     *
+     * @return <code>true</code> if every answer agrees; <code>false</code> otherwise.
+     */
+    protected boolean agreesWithPalette()
+    {
+        for (int i = 0; i < eligible.length; i++)
+        {
+            if ((eligible[i]) && (lookup(rgbs[i] | 0xFF000000) != palette.find(rgbs[i] | 0xFF000000))) return false;
+        }
+        int center = CELL_SIZE / 2;
+        for (int r = 0; r < CELLS_PER_CHANNEL; r++)
+        {
+            for (int g = 0; g < CELLS_PER_CHANNEL; g++)
+            {
+                for (int b = 0; b < CELLS_PER_CHANNEL; b++)
+                {
+                    int argb = 0xFF000000 | ((r * CELL_SIZE + center) << 16) | ((g * CELL_SIZE + center) << 8) |
+                               (b * CELL_SIZE + center);
+                    if (lookup(argb) != palette.find(argb)) return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the palette entries nearest to a series of colors.
+     *
+     * @param argbs         The colors, in the default ARGB color model.
+     * @param offset        The index in <code>argbs</code> of the first color.
+     * @param indices       The array in which the indices of the nearest palette entries are stored.
+     * @param indicesOffset The index in <code>indices</code> at which the first result is stored.
+     * @param length        The number of colors to map.
+     */
+    public void find(int[] argbs, int offset, byte[] indices, int indicesOffset, int length)
+    {
+        // Images are largely made of runs of a single color, so the last color is remembered.
+        int last = 0;
+        byte lastIndex = (byte) clearIndex;
+        for (int i = 0; i < length; i++)
+        {
+            int argb = argbs[offset + i];
+            if (argb != last)
+            {
+                last = argb;
+                lastIndex = (byte) (find(argb));
+            }
+            indices[indicesOffset + i] = lastIndex;
+        }
+    }
+
+    /**
+     * Finds the palette entries nearest to an array of colors.
+     *
+     * @param argbs The colors, in the default ARGB color model.
+     * @return The indices of the nearest palette entries.
+     */
+    public byte[] find(int[] argbs)
+    {
+        byte[] ret = new byte[argbs.length];
+        find(argbs, 0, ret, 0, argbs.length);
+        return ret;
+    }
+
+    /**
+     * Builds the table which maps the indices of another palette to the entries of this table's palette.  An index is
+     * mapped to the same index of this palette if both entries have the same color, that entry may be found and this
+     * table agrees with its palette; otherwise, it is mapped to the entry found for its color.  Applying the map to indexed pixels therefore gives the
+     * same colors as finding each pixel's color, without converting the pixels to colors.  Indices beyond the end of
+     * the other palette are mapped as fully transparent black.  The table most recently built is remembered.
+     *
+     * @param source The palette whose indices are mapped.
+     * @return The index in this table's palette of each of the 256 indices of the source palette.  The array must not
+     *         be modified.
+     */
+    public byte[] getRemapTable(IndexColorModel source)
+    {
+        Object[] last = lastRemap;
+        if ((last != null) && (last[0] == source)) return (byte[]) (last[1]);
+        byte[] ret = new byte[256];
+        int size = source.getMapSize();
+        for (int i = 0; i < ret.length; i++)
+        {
+            int argb = (i < size) ? source.getRGB(i) : 0;
+            boolean same = (exact) && (i < eligible.length) && (eligible[i]) && (rgbs[i] == argb);
+            ret[i] = (byte) ((same) ? i : find(argb));
+        }
+        lastRemap = new Object[]{source, ret};
+        return ret;
+    }
+
+    /**
+     * Writes this table to the provided stream.
+     *
+     * @param dos The stream to which this table is written.
+     * @throws IOException If an I/O error occurs.
+     */
+    protected void write(DataOutputStream dos)
+            throws IOException
+    {
+        dos.writeInt(DISK_FILE_MAGIC);
+        dos.writeInt(cellStarts.length - 1);
+        dos.writeInt(candidates.length);
+        for (int i = 0; i < cellStarts.length - 1; i++) dos.writeShort(cellStarts[i + 1] - cellStarts[i]);
+        dos.write(candidates);
+    }
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+    /**
+     * Retrieves the table for the provided palette, building it if it is not in memory.
+     *
+     * @param palette The palette whose entries are to be found.
+     * @return The table for that palette.
+     */
+    public static PaletteLookupTable getInstance(RestrictableIndexColorModel palette)
+    {
+        PaletteLookupTable last = lastTable;
+        if ((last != null) && (last.palette == palette)) return last;
+        return getInstance(palette, null);
+    }
+
+    /**
+     * Retrieves the table for the provided palette, building it if it is neither in memory nor in the provided
+     * directory.  The table is stored in the directory if it is not already there.  Because the table is then kept in
+     * memory, a conversion may call this method once for each of its palettes before it starts so that the codecs,
+     * which call {@link PaletteLookupTable#getInstance(RestrictableIndexColorModel)}, find the stored tables.
+     *
+     * @param palette   The palette whose entries are to be found.
+     * @param directory The directory in which tables are stored, or <code>null</code> to keep tables only in memory.
+     *                  The directory is created if it does not exist.
+     * @return The table for that palette.
+     */
+    public static PaletteLookupTable getInstance(RestrictableIndexColorModel palette, File directory)
+    {
+        String key = BatchManifest.digest(describePalette(palette));
+        synchronized (tables)
+        {
+            PaletteLookupTable table = tables.get(key);
+            if (table == null)
+            {
+                table = readFromDisk(directory, key, palette);
+                if (table == null)
+                {
+                    table = new PaletteLookupTable(palette);
+                    writeToDisk(directory, key, table);
+                }
+                tables.put(key, table);
+                Iterator<String> it = tables.keySet().iterator();
+                while (tables.size() > MEMORY_TABLE_LIMIT)
+                {
+                    it.next();
+                    it.remove();
+                }
+            } else
+            {
+                if ((directory != null) && (!new File(directory, key + DISK_FILE_SUFFIX).isFile()))
+                {
+                    writeToDisk(directory, key, table);
+                }
+                if (table.palette != palette)
+                {
+                    // An equal palette instance; transparent colors must still be found by the instance provided.
+                    table = new PaletteLookupTable(table, palette);
+                }
+            }
+            lastTable = table;
+            return table;
+        }
+    }
+
+    /**
+     * Determines the cell of the cube which contains a color.
+     *
+     * @param argb The color, in the default ARGB color model.
+     * @return The index of the cell containing that color.
+     */
+    public static int getCell(int argb)
+    {
+        return ((argb >> (24 - 3 * CELL_BITS)) & (CELL_MASK << (2 * CELL_BITS))) |
+               ((argb >> (16 - 2 * CELL_BITS)) & (CELL_MASK << CELL_BITS)) |
+               ((argb >> (8 - CELL_BITS)) & CELL_MASK);
+    }
+
+    /**
+     * Determines the candidates of every cell.
+     *
+     * @param rgbs       The RGB value of each palette entry.
+     * @param eligible   The indices of the palette entries which may be found, in ascending order.
+     * @param cellStarts The array in which the index of the first candidate of each cell is stored.  It must have
+     *                   {@link PaletteLookupTable#CELL_COUNT}<code>+1</code> elements.
+     * @return The candidates of every cell.
+     */
+    protected static byte[] buildCandidates(int[] rgbs, int[] eligible, int[] cellStarts)
+    {
+        if (eligible.length == 0) return new byte[0];
+
+        // The nearest and farthest squared distances from each cell to each eligible entry, one channel at a time
+        int[][][] near = new int[3][CELLS_PER_CHANNEL][eligible.length];
+        int[][][] far = new int[3][CELLS_PER_CHANNEL][eligible.length];
+        for (int channel = 0; channel < 3; channel++)
+        {
+            int shift = 16 - channel * 8;
+            for (int cell = 0; cell < CELLS_PER_CHANNEL; cell++)
+            {
+                int low = cell * CELL_SIZE;
+                int high = low + CELL_SIZE - 1;
+                for (int i = 0; i < eligible.length; i++)
+                {
+                    int value = (rgbs[eligible[i]] >> shift) & 0xFF;
+                    int nearest = (value < low) ? low - value : ((value > high) ? value - high : 0);
+                    int farthest = Math.max(Math.abs(value - low), Math.abs(value - high));
+                    near[channel][cell][i] = nearest * nearest;
+                    far[channel][cell][i] = farthest * farthest;
+                }
+            }
+        }
+
+        ByteArrayOutputStream list = new ByteArrayOutputStream();
+        int cellIndex = 0;
+        for (int r = 0; r < CELLS_PER_CHANNEL; r++)
+        {
+            for (int g = 0; g < CELLS_PER_CHANNEL; g++)
+            {
+                for (int b = 0; b < CELLS_PER_CHANNEL; b++)
+                {
+                    int bound = Integer.MAX_VALUE;
+                    for (int i = 0; i < eligible.length; i++)
+                    {
+                        bound = Math.min(bound, far[0][r][i] + far[1][g][i] + far[2][b][i]);
+                    }
+                    cellStarts[cellIndex++] = list.size();
+                    for (int i = 0; i < eligible.length; i++)
+                    {
+                        if (near[0][r][i] + near[1][g][i] + near[2][b][i] <= bound) list.write(eligible[i]);
+                    }
+                }
+            }
+        }
+        cellStarts[CELL_COUNT] = list.size();
+        return list.toByteArray();
+    }
+
+    /**
+     * Determines the only candidate of each cell.
+     *
+     * @param cellStarts The index of the first candidate of each cell.
+     * @param candidates The candidates of every cell.
+     * @return The only candidate of each cell, or <code>-1</code> for cells with no candidates or several.
+     */
+    protected static int[] getCellIndices(int[] cellStarts, byte[] candidates)
+    {
+        int[] ret = new int[cellStarts.length - 1];
+        for (int i = 0; i < ret.length; i++)
+        {
+            ret[i] = (cellStarts[i + 1] - cellStarts[i] == 1) ? candidates[cellStarts[i]] & 0xFF : -1;
+        }
+        return ret;
+    }
+
+    /**
+     * Produces a string which describes everything about a palette that affects its table.
+     *
+     * @param palette The palette to describe.
+     * @return A description of the palette.
+     */
+    protected static String describePalette(RestrictableIndexColorModel palette)
+    {
+        StringBuilder sb = new StringBuilder(DecodeCache.describePalette(palette)).append('\n');
+        for (int i = 0; i < palette.getMapSize(); i++)
+        {
+            sb.append((palette.isValid(i)) ? ((palette.isRestricted(i)) ? 'r' : '1') : '0');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Retrieves the RGB value of each entry of a palette.
+     *
+     * @param palette The palette.
+     * @return The RGB values of its entries, in the default ARGB color model.
+     */
+    protected static int[] getPaletteRGBs(RestrictableIndexColorModel palette)
+    {
+        int[] ret = new int[palette.getMapSize()];
+        palette.getRGBs(ret);
+        return ret;
+    }
+
+    /**
+     * Determines whether or not each entry of a palette may be found: those entries which are valid, unrestricted, not
+     * transparent and representable in a single byte may.
+     *
+     * @param palette The palette.
+     * @return An array indicating whether or not each entry of the palette may be found.
+     */
+    protected static boolean[] getEligibility(RestrictableIndexColorModel palette)
+    {
+        boolean[] ret = new boolean[Math.min(palette.getMapSize(), 256)];
+        for (int i = 0; i < ret.length; i++)
+        {
+            ret[i] = (palette.isValid(i)) && (!palette.isRestricted(i)) && (palette.getAlpha(i) != 0);
+        }
+        return ret;
+    }
+
+    /**
+     * Determines which entries of a palette may be found: those which are valid, unrestricted, not transparent and
+     * representable in a single byte.
+     *
+     * @param palette The palette.
+     * @return The eligible indices, in ascending order.
+     */
+    protected static int[] getEligibleIndices(RestrictableIndexColorModel palette)
+    {
+        boolean[] eligibility = getEligibility(palette);
+        int[] eligible = new int[eligibility.length];
+        int count = 0;
+        for (int i = 0; i < eligibility.length; i++)
+        {
+            if (eligibility[i]) eligible[count++] = i;
+        }
+        int[] ret = new int[count];
+        System.arraycopy(eligible, 0, ret, 0, count);
+        return ret;
+    }
+
+    /**
+     * Reads a table from a directory.
+     *
+     * @param directory The directory in which tables are stored, or <code>null</code> if there is none.
+     * @param key       The key of the table.
+     * @param palette   The palette whose entries the table finds.
+     * @return The table, or <code>null</code> if there is no such table or it could not be read.
+     */
+    protected static PaletteLookupTable readFromDisk(File directory, String key, RestrictableIndexColorModel palette)
+    {
+        if (directory == null) return null;
+        File file = new File(directory, key + DISK_FILE_SUFFIX);
+        if (!file.isFile()) return null;
+        try
+        {
+            DataInputStream dis = new DataInputStream(new ByteArrayInputStream(FileUtilities.getFileContents(file)));
+            if (dis.readInt() != DISK_FILE_MAGIC) return null;
+            int cellCount = dis.readInt();
+            if (cellCount != CELL_COUNT) return null;
+            int length = dis.readInt();
+            if (length != dis.available() - cellCount * 2) return null;
+            int[] cellStarts = new int[cellCount + 1];
+            for (int i = 0; i < cellCount; i++) cellStarts[i + 1] = cellStarts[i] + dis.readUnsignedShort();
+            if (cellStarts[cellCount] != length) return null;
+            byte[] candidates = new byte[length];
+            dis.readFully(candidates);
+            // A candidate which may not be found would be returned by find, so the table must agree with the palette.
+            boolean[] eligibility = getEligibility(palette);
+            for (byte candidate : candidates)
+            {
+                int index = candidate & 0xFF;
+                if ((index >= eligibility.length) || (!eligibility[index])) return null;
+            }
+            return new PaletteLookupTable(palette, cellStarts, candidates);
+        } catch (IOException e)
+        {
+            // A damaged table is rebuilt and overwritten.
+            return null;
+        } catch (RuntimeException e)
+        {
+            // As above.
+            return null;
+        }
+    }
+
+    /**
+     * Writes a table to a directory, if there is one.
+     *
+     * @param directory The directory in which tables are stored, or <code>null</code> if there is none.  The
+     *                  directory is created if it does not exist.
+     * @param key       The key of the table.
+     * @param table     The table to write.
+     */
+    protected static void writeToDisk(File directory, String key, PaletteLookupTable table)
+    {
+        if (directory == null) return;
+        directory.mkdirs();
+        try
+        {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            DataOutputStream dos = new DataOutputStream(baos);
+            table.write(dos);
+            dos.close();
+            AnimationIO.writeFileAtomically(new File(directory, key + DISK_FILE_SUFFIX), baos.toByteArray());
+        } catch (IOException e)
+        {
+            // Storing the table is an optimization; failing to do so is not an error.
+        }
+    }
+}
+
+// END OF FILE
@@ -0,0 +1,366 @@
+package orioni.sixdice;
+
+import java.awt.image.*;
+import java.util.Arrays;
+
+/**
+ * This class provides the bulk conversions between ARGB pixels and palette indices used throughout SixDice.  Codecs
+ * and export paths convert whole rows or images through these kernels rather than calling
+ * {@link BufferedImage#getRGB(int, int)} and {@link BufferedImage#setRGB(int, int, int)} once per pixel, which
+ * repeats the color model lookup and raster bounds checks for every pixel.
+ * <p/>
+ * This implementation is scalar and runs on any virtual machine.  An implementation which uses the incubating JDK
+ * Vector API, <code>orioni.sixdice.vector.VectorPixelKernels</code>, is returned by {@link PixelKernels#getInstance()}
+ * if the {@link PixelKernels#VECTOR_PROPERTY} system property is <code>true</code>.  That class requires Java 16 and
+ * the <code>jdk.incubator.vector</code> module (<code>--add-modules jdk.incubator.vector</code>); it is therefore
+ * compiled separately from the rest of SixDice and loaded by name.  It is not used by default because the conversion
+ * of colors is dominated by the refinement of cells with several candidates, which does not vectorize, and the scalar
+ * kernels measured as fast or faster.  Both implementations produce identical results.
+ *
+ * @author Zachary Palmer
+ */
+public class PixelKernels
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+    /**
+     * The kernels used by SixDice, or <code>null</code> if they have not yet been determined.  They are read without
+     * locking once they have been determined.
+     */
+    private static volatile PixelKernels instance = null;
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * The scalar kernels.
+     */
+    public static final PixelKernels SCALAR = new PixelKernels();
+
+    /**
+     * The name of the class which implements the kernels with the JDK Vector API.
+     */
+    public static final String VECTOR_CLASS_NAME = "orioni.sixdice.vector.VectorPixelKernels";
+    /**
+     * The system property which, if set to <code>true</code>, selects the kernels which use the JDK Vector API.
+     */
+    public static final String VECTOR_PROPERTY = "sixdice.vector";
+    /**
+     * The cell index table given for a {@link PaletteLookupTable} which gives every color to its palette: no cell has
+     * a single candidate, so every color is given to the table.
+     */
+    protected static final int[] NO_CELL_INDICES = new int[PaletteLookupTable.CELL_COUNT];
+
+    static
+    {
+        Arrays.fill(NO_CELL_INDICES, -1);
+    }
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * General constructor.
+     */
+    protected PixelKernels()
+    {
+        super();
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Retrieves the name of this implementation.
+     *
+     * @return The name of this implementation.
+     */
+    public String getName()
+    {
+        return "scalar";
+    }
+
+    /**
+     * Converts palette indices to ARGB colors.
+     *
+     * @param indices     The palette indices.
+     * @param offset      The index in <code>indices</code> of the first index to convert.
+     * @param colors      The ARGB color of each palette index, as returned by {@link PixelKernels#getColors(
+     *                    IndexColorModel)}.
+     * @param argbs       The array in which the colors are stored.
+     * @param argbsOffset The index in <code>argbs</code> at which the first color is stored.
+     * @param length      The number of indices to convert.
+     */
+    public void toARGB(byte[] indices, int offset, int[] colors, int[] argbs, int argbsOffset, int length)
+    {
+        for (int i = 0; i < length; i++)
+        {
+            argbs[argbsOffset + i] = colors[indices[offset + i] & 0xFF];
+        }
+    }
+
+    /**
+     * Converts ARGB colors to the indices of the nearest palette entries.
+     *
+     * @param argbs         The ARGB colors.
+     * @param offset        The index in <code>argbs</code> of the first color to convert.
+     * @param table         The {@link PaletteLookupTable} of the palette.
+     * @param indices       The array in which the palette indices are stored.
+     * @param indicesOffset The index in <code>indices</code> at which the first palette index is stored.
+     * @param length        The number of colors to convert.
+     */
+    public void toIndices(int[] argbs, int offset, PaletteLookupTable table, byte[] indices, int indicesOffset,
+                          int length)
+    {
+        table.find(argbs, offset, indices, indicesOffset, length);
+    }
+
+    /**
+     * Maps the palette indices of one palette to those of another.
+     *
+     * @param indices      The palette indices.
+     * @param offset       The index in <code>indices</code> of the first index to map.
+     * @param remap        The index in the other palette of each of the 256 indices, as returned by {@link
+     *                     PaletteLookupTable#getRemapTable(IndexColorModel)}.
+     * @param target       The array in which the mapped indices are stored.  This may be <code>indices</code>.
+     * @param targetOffset The index in <code>target</code> at which the first mapped index is stored.
+     * @param length       The number of indices to map.
+     */
+    public void remap(byte[] indices, int offset, byte[] remap, byte[] target, int targetOffset, int length)
+    {
+        for (int i = 0; i < length; i++)
+        {
+            target[targetOffset + i] = remap[indices[offset + i] & 0xFF];
+        }
+    }
+
+    /**
+     * Converts an image to the indices of the nearest entries of a palette.  The pixels of an image which is already
+     * indexed are mapped through a {@link PaletteLookupTable#getRemapTable(IndexColorModel) remap table} instead of
+     * being converted to colors.
+     *
+     * @param image The image to convert.
+     * @param table The {@link PaletteLookupTable} of the palette.
+     * @return The palette index of each pixel of the image, in row-major order.
+     */
+    public final byte[] getIndices(BufferedImage image, PaletteLookupTable table)
+    {
+        int width = image.getWidth();
+        byte[] ret = new byte[width * image.getHeight()];
+        convertRows(image, table, ret);
+        return ret;
+    }
+
+    /**
+     * Creates an indexed copy of an image in the palette of a {@link PaletteLookupTable}.  Each pixel becomes the
+     * nearest entry of the palette.
+     *
+     * @param image The image to copy.
+     * @param table The {@link PaletteLookupTable} of the palette.
+     * @return A <code>TYPE_BYTE_INDEXED</code> image in that palette.
+     */
+    public final BufferedImage toIndexedImage(BufferedImage image, PaletteLookupTable table)
+    {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        BufferedImage ret = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_INDEXED, table.getPalette());
+        convertRows(image, table, ((DataBufferByte) (ret.getRaster().getDataBuffer())).getData());
+        return ret;
+    }
+
+    /**
+     * Converts each row of an image to the indices of the nearest entries of a palette.
+     *
+     * @param image   The image to convert.
+     * @param table   The {@link PaletteLookupTable} of the palette.
+     * @param indices The array in which the palette indices are stored, in row-major order.
+     */
+    protected void convertRows(BufferedImage image, PaletteLookupTable table, byte[] indices)
+    {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (DecodeCache.isIndexed(image))
+        {
+            byte[] remap = table.getRemapTable((IndexColorModel) (image.getColorModel()));
+            WritableRaster raster = image.getRaster();
+            byte[] row = new byte[width];
+            for (int y = 0; y < height; y++)
+            {
+                raster.getDataElements(0, y, width, 1, row);
+                remap(row, 0, remap, indices, y * width, width);
+            }
+        } else
+        {
+            int[] row = new int[width];
+            for (int y = 0; y < height; y++)
+            {
+                image.getRGB(0, y, width, 1, row, 0, width);
+                toIndices(row, 0, table, indices, y * width, width);
+            }
+        }
+    }
+
+    /**
+     * Creates a copy of an indexed image in another palette by mapping its palette indices.
+     *
+     * @param image   The image to copy, which must store one 8-bit palette index per pixel.
+     * @param remap   The index in the other palette of each of the 256 indices, as returned by {@link
+     *                PaletteLookupTable#getRemapTable(IndexColorModel)}.
+     * @param palette The other palette.
+     * @return A <code>TYPE_BYTE_INDEXED</code> image in the other palette.
+     */
+    public final BufferedImage remapImage(BufferedImage image, byte[] remap, IndexColorModel palette)
+    {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        BufferedImage ret = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_INDEXED, palette);
+        byte[] data = ((DataBufferByte) (ret.getRaster().getDataBuffer())).getData();
+        WritableRaster raster = image.getRaster();
+        byte[] row = new byte[width];
+        for (int y = 0; y < height; y++)
+        {
+            raster.getDataElements(0, y, width, 1, row);
+            remap(row, 0, remap, data, y * width, width);
+        }
+        return ret;
+    }
+
+    /**
+     * Writes palette indices into a region of an image as ARGB colors.
+     *
+     * @param image    The image into which the colors are written.
+     * @param x        The X coordinate of the region.
+     * @param y        The Y coordinate of the region.
+     * @param width    The width of the region.
+     * @param height   The height of the region.
+     * @param indices  The palette indices.
+     * @param offset   The index in <code>indices</code> of the index of the top left pixel of the region.
+     * @param scansize The distance in <code>indices</code> between the starts of consecutive rows of the region.
+     * @param colors   The ARGB color of each palette index, as returned by {@link PixelKernels#getColors(
+     *                 IndexColorModel)}.
+     */
+    public final void setIndices(BufferedImage image, int x, int y, int width, int height, byte[] indices, int offset,
+                                 int scansize, int[] colors)
+    {
+        int[] row = new int[width];
+        for (int j = 0; j < height; j++)
+        {
+            toARGB(indices, offset + j * scansize, colors, row, 0, width);
+            image.setRGB(x, y + j, width, 1, row, 0, width);
+        }
+    }
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+    /**
+     * Retrieves the kernels used by SixDice.  These are the JDK Vector API kernels if they were requested with the
+     * {@link PixelKernels#VECTOR_PROPERTY} system property, are present and the virtual machine provides the Vector
+     * API; otherwise, they are {@link PixelKernels#SCALAR}.
+     *
+     * @return The kernels used by SixDice.
+     */
+    public static PixelKernels getInstance()
+    {
+        PixelKernels ret = instance;
+        return (ret == null) ? createInstance() : ret;
+    }
+
+    /**
+     * Determines the kernels used by SixDice, if no other thread has done so.
+     *
+     * @return The kernels used by SixDice.
+     */
+    private static synchronized PixelKernels createInstance()
+    {
+        if (instance == null)
+        {
+            PixelKernels kernels = SCALAR;
+            if (Boolean.getBoolean(VECTOR_PROPERTY))
+            {
+                try
+                {
+                    kernels = (PixelKernels) (Class.forName(VECTOR_CLASS_NAME).newInstance());
+                } catch (Throwable t)
+                {
+                    // Either the class was not compiled or the Vector API module was not added to this virtual machine.
+                    kernels = SCALAR;
+                }
+            }
+            instance = kernels;
+        }
+        return instance;
+    }
+
+    /**
+     * Changes the kernels used by SixDice.
+     *
+     * @param kernels The new kernels, or <code>null</code> to use the scalar kernels.
+     */
+    public static synchronized void setInstance(PixelKernels kernels)
+    {
+        instance = (kernels == null) ? SCALAR : kernels;
+    }
+
+    /**
+     * Retrieves the ARGB color of each index of a palette.
+     *
+     * @param model The palette.
+     * @return An array of 256 colors.  Indices beyond the end of the palette are transparent black.
+     */
+    public static int[] getColors(IndexColorModel model)
+    {
+        int[] ret = new int[256];
+        int[] rgbs = new int[model.getMapSize()];
+        model.getRGBs(rgbs);
+        System.arraycopy(rgbs, 0, ret, 0, Math.min(rgbs.length, ret.length));
+        return ret;
+    }
+
+    /**
+     * Creates a copy of an image as a <code>TYPE_INT_ARGB</code> image.
+     *
+     * @param image The image to copy.
+     * @return The copy.
+     */
+    public static BufferedImage copyARGBImage(BufferedImage image)
+    {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        BufferedImage ret = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        int[] data = ((DataBufferInt) (ret.getRaster().getDataBuffer())).getData();
+        if ((image.getType() == BufferedImage.TYPE_INT_ARGB) &&
+            (image.getRaster().getDataBuffer().getSize() == data.length) &&
+            (image.getRaster().getSampleModelTranslateX() == 0) &&
+            (image.getRaster().getSampleModelTranslateY() == 0))
+        {
+            System.arraycopy(((DataBufferInt) (image.getRaster().getDataBuffer())).getData(), 0, data, 0, data.length);
+        } else
+        {
+            image.getRGB(0, 0, width, height, data, 0, width);
+        }
+        return ret;
+    }
+
+    /**
+     * Retrieves the cell index table of a {@link PaletteLookupTable}, for use by implementations which resolve the
+     * common case of a cell with a single candidate themselves.  The array must not be modified.
+     *
+     * @param table The {@link PaletteLookupTable}.
+     * @return The only candidate of each cell of its cube, or <code>-1</code> for cells with no candidates or several.
+     *         Every cell is <code>-1</code> if the table does not agree with its palette.
+     */
+    protected static int[] getCellIndices(PaletteLookupTable table)
+    {
+        return (table.exact) ? table.cellIndices : NO_CELL_INDICES;
+    }
+
+    /**
+     * Retrieves the index which a {@link PaletteLookupTable} finds for fully transparent black.
+     *
+     * @param table The {@link PaletteLookupTable}.
+     * @return The index of fully transparent black in its palette.
+     */
+    protected static int getClearIndex(PaletteLookupTable table)
+    {
+        return table.clearIndex;
+    }
+}
+
+// END OF FILE
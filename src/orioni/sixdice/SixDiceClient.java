@@ -0,0 +1,153 @@
+package orioni.sixdice;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This is a thin client for the {@link ConversionDaemon}.  It takes the same arguments as {@link SixDiceHeadless},
+ * sends them to a daemon listening on the loopback interface and reproduces the daemon's output and exit status, so it
+ * may replace <code>java -jar SixDice.jar</code> in scripts.  If no daemon is listening, the conversion is run in this
+ * process instead.
+ * <p/>
+ * The daemon is expected on {@link ConversionDaemon#DEFAULT_PORT} unless the {@link ConversionDaemon#PORT_PROPERTY}
+ * system property names another port.  The client presents the secret which the daemon wrote to {@link
+ * ConversionDaemon#getSecretFile(int)}; if the current user has no such file, no daemon of theirs is running.  The
+ * single argument {@link SixDiceClient#SHUTDOWN_ARGUMENT} stops the daemon.
+ *
+ * @author Zachary Palmer
+ */
+public class SixDiceClient
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * The argument which asks the daemon to stop.
+     */
+    public static final String SHUTDOWN_ARGUMENT = "--shutdown-daemon";
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * Private constructor.
+     */
+    private SixDiceClient()
+    {
+        super();
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+    /**
+     * Sends a request to a daemon and reproduces its response.
+     *
+     * @param port   The port on which the daemon listens.
+     * @param secret The secret of the daemon.
+     * @param fields The fields of the request.
+     * @param out    The {@link PrintStream} to which the job's standard output is written.
+     * @param err    The {@link PrintStream} to which the job's error stream is written.
+     * @return The exit status of the request.
+     * @throws ConnectException If no daemon is listening on the port.
+     * @throws IOException      If an I/O error occurs while communicating with the daemon.
+     */
+    public static int send(int port, String secret, List<String> fields, PrintStream out, PrintStream err)
+            throws IOException
+    {
+        Socket socket = new Socket(InetAddress.getByName("127.0.0.1"), port);
+        try
+        {
+            OutputStream os = socket.getOutputStream();
+            ConversionDaemon.writeLine(os, ConversionDaemon.join(Arrays.asList(ConversionDaemon.REQUEST_AUTH, secret)));
+            ConversionDaemon.writeLine(os, ConversionDaemon.join(fields));
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), ConversionDaemon.ENCODING));
+            String line;
+            while ((line = reader.readLine()) != null)
+            {
+                if (line.startsWith(ConversionDaemon.RESPONSE_OUT))
+                {
+                    out.println(line.substring(ConversionDaemon.RESPONSE_OUT.length()));
+                } else if (line.startsWith(ConversionDaemon.RESPONSE_ERR))
+                {
+                    err.println(line.substring(ConversionDaemon.RESPONSE_ERR.length()));
+                } else if (line.startsWith(ConversionDaemon.RESPONSE_EXIT))
+                {
+                    try
+                    {
+                        return Integer.parseInt(line.substring(ConversionDaemon.RESPONSE_EXIT.length()).trim());
+                    } catch (NumberFormatException e)
+                    {
+                        throw new IOException("Invalid response from daemon: " + line);
+                    }
+                }
+            }
+            throw new IOException("The daemon closed the connection before the request was complete.");
+        } finally
+        {
+            socket.close();
+        }
+    }
+
+    /**
+     * Runs a conversion through the daemon, or in this process if no daemon is listening.
+     *
+     * @param args See the content written to {@link System#err} by {@link SixDiceHeadless#showHelpAndBail(String...)}
+     *             for more information.
+     */
+    public static void main(String[] args)
+    {
+        int port = Integer.getInteger(ConversionDaemon.PORT_PROPERTY, ConversionDaemon.DEFAULT_PORT);
+        List<String> fields = new ArrayList<String>();
+        if ((args.length == 1) && (SHUTDOWN_ARGUMENT.equals(args[0])))
+        {
+            fields.add(ConversionDaemon.REQUEST_SHUTDOWN);
+        } else
+        {
+            fields.add(ConversionDaemon.REQUEST_RUN);
+            fields.add(new File(".").getAbsoluteFile().getParent());
+            fields.addAll(Arrays.asList(args));
+        }
+
+        int status;
+        try
+        {
+            String secret = ConversionDaemon.readSecret(port);
+            if (secret == null) throw new ConnectException("No secret file for port " + port + ".");
+            status = send(port, secret, fields, System.out, System.err);
+        } catch (ConnectException e)
+        {
+            if (fields.get(0).equals(ConversionDaemon.REQUEST_SHUTDOWN))
+            {
+                System.err.println("No SixDice daemon is listening on port " + port + ".");
+                status = 1;
+            } else
+            {
+                SixDiceHeadless.main(args);
+                return;
+            }
+        } catch (IOException e)
+        {
+            System.err.println("Could not communicate with the SixDice daemon: " + e.getMessage());
+            status = 1;
+        }
+        System.out.flush();
+        System.exit(status);
+    }
+}
+
+// END OF FILE
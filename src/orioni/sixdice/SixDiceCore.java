@@ -13,8 +13,12 @@ import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 
 /**
  * This class is designed to represent all of the core functionality of SixDice: that is, all the functionality which
@@ -48,6 +52,54 @@ public class SixDiceCore
      * Whether or not transparent colors are replaced with the virtual color on saves.
      */
     protected boolean transparentToVirtalOnSave;
+    /**
+     * The scale applied to each {@link Animation} during conversions.  A scale of <code>1.0</code> disables scaling.
+     */
+    protected double conversionScale;
+    /**
+     * The {@link AnimationScaler.Filter} used to scale {@link Animation}s during conversions.
+     */
+    protected AnimationScaler.Filter conversionScaleFilter;
+    /**
+     * The number of threads used to write the images of an exported image series.
+     */
+    protected int exportThreads;
+    /**
+     * The number of threads used to perform batch conversions.
+     */
+    protected int batchThreads;
+    /**
+     * Whether or not batch conversions skip items which are recorded as up to date in a {@link BatchManifest}.
+     */
+    protected boolean incrementalBatch;
+    /**
+     * Whether or not batch conversions keep a {@link BatchJournal} so that they can be resumed if interrupted.
+     */
+    protected boolean resumableBatch;
+    /**
+     * The {@link DecodeCache} consulted when loading {@link Animation}s, or <code>null</code> if loads are not cached.
+     */
+    protected DecodeCache decodeCache;
+    /**
+     * Whether or not conversions of multi-frame {@link Animation}s into images produce sprite atlases rather than
+     * image series.
+     */
+    protected boolean atlasExport;
+    /**
+     * The {@link AnimationIO.ArchiveFormat} in which conversions of multi-frame {@link Animation}s into images store
+     * the image series, or <code>null</code> to write the images as individual files.
+     */
+    protected AnimationIO.ArchiveFormat archiveFormat;
+    /**
+     * The files written by the most recent successful conversion of an {@link Animation} into images, or
+     * <code>null</code> if there has been none.
+     */
+    protected File[] exportedFiles;
+    /**
+     * The journal of the batch conversion for which this core works, or <code>null</code> if it works for none or the
+     * conversion keeps no journal.
+     */
+    protected BatchJournal batchJournal;
 
 // CONSTRUCTORS //////////////////////////////////////////////////////////////////
 
@@ -64,6 +116,15 @@ public class SixDiceCore
         for (AnimationCodec c : codecs) this.codecs.add(c);
         virtualTransparent = null;
         transparentToVirtalOnSave = false;
+        conversionScale = 1.0;
+        conversionScaleFilter = AnimationScaler.Filter.NEAREST_NEIGHBOR;
+        exportThreads = WorkerPool.DEFAULT_PARALLELISM;
+        batchThreads = WorkerPool.DEFAULT_PARALLELISM;
+        incrementalBatch = false;
+        resumableBatch = false;
+        decodeCache = null;
+        atlasExport = false;
+        archiveFormat = null;
     }
 
 // NON-STATIC METHODS ////////////////////////////////////////////////////////////
@@ -78,6 +139,18 @@ public class SixDiceCore
         for (AnimationCodec c : codecs) this.codecs.add(c);
     }
 
+    /**
+     * Retrieves the number of bytes needed to check a file against the signatures of this core's codecs.
+     *
+     * @return The length of the longest signature of this core's codecs.
+     */
+    protected int getSignatureLength()
+    {
+        int ret = 0;
+        for (AnimationCodec codec : codecs) ret = Math.max(ret, codec.getSignatureLength());
+        return ret;
+    }
+
     /**
      * Sets the virtual transparent color for this core.  Pixels of the virtual transparent color (if
      * non-<code>null</code>) are replaced with actual transparent pixels when images are loaded.
@@ -100,6 +173,116 @@ public class SixDiceCore
         transparentToVirtalOnSave = transparentToVirtualOnSave;
     }
 
+    /**
+     * Sets the scale applied to each {@link Animation} during conversions.  The scaling is applied after an {@link
+     * Animation} is loaded or imported and before it is saved or exported; frame offsets are scaled as well.
+     *
+     * @param scale  The scale to apply.  A scale of <code>1.0</code> disables scaling.
+     * @param filter The {@link AnimationScaler.Filter} with which to scale.
+     */
+    public void setConversionScale(double scale, AnimationScaler.Filter filter)
+    {
+        conversionScale = scale;
+        conversionScaleFilter = filter;
+    }
+
+    /**
+     * Sets the number of threads used to render and write the images of an exported image series.  No more than one
+     * padded image per thread is held in memory during an export.
+     *
+     * @param threads The number of threads to use.  A value of <code>1</code> writes the images in the calling thread.
+     */
+    public void setExportThreads(int threads)
+    {
+        exportThreads = Math.max(1, threads);
+    }
+
+    /**
+     * Sets the number of threads used to perform batch conversions.  Each thread converts one file at a time using its
+     * own copy of this core.
+     *
+     * @param threads The number of threads to use.  A value of <code>1</code> performs batch conversions in the
+     *                calling thread.
+     */
+    public void setBatchThreads(int threads)
+    {
+        batchThreads = Math.max(1, threads);
+    }
+
+    /**
+     * Sets whether or not batch conversions are incremental.  An incremental batch conversion maintains a {@link
+     * BatchManifest} in the directory being converted and skips each file or image series whose sources and conversion
+     * settings have not changed since it was last converted successfully.
+     *
+     * @param incremental <code>true</code> to perform incremental batch conversions; <code>false</code> to convert
+     *                    every file.
+     */
+    public void setIncrementalBatch(boolean incremental)
+    {
+        incrementalBatch = incremental;
+    }
+
+    /**
+     * Sets whether or not batch conversions are resumable.  A resumable batch conversion keeps a {@link BatchJournal}
+     * of the items it has completed or which have failed in the directory being converted.  If the conversion is
+     * interrupted, the next conversion of the same directory with the same settings skips every item in the journal.
+     * The journal is deleted once a conversion processes every item.
+     *
+     * @param resumable <code>true</code> to perform resumable batch conversions; <code>false</code> otherwise.
+     */
+    public void setResumableBatch(boolean resumable)
+    {
+        resumableBatch = resumable;
+    }
+
+    /**
+     * Sets the {@link DecodeCache} consulted when loading {@link Animation}s.  Copies of this core share the same
+     * cache.
+     *
+     * @param cache The {@link DecodeCache} to use, or <code>null</code> to decode every load.
+     */
+    public void setDecodeCache(DecodeCache cache)
+    {
+        decodeCache = cache;
+    }
+
+    /**
+     * Sets whether or not conversions of multi-frame {@link Animation}s into images produce sprite atlases.  If so,
+     * the frames are packed into as few images as possible and described by an atlas index; see {@link
+     * AnimationAtlasIO}.  Otherwise, each frame is written to its own image.
+     *
+     * @param atlas <code>true</code> to export sprite atlases; <code>false</code> to export image series.
+     */
+    public void setAtlasExport(boolean atlas)
+    {
+        atlasExport = atlas;
+    }
+
+    /**
+     * Sets the archive format in which conversions of multi-frame {@link Animation}s into images store the image
+     * series.  Writing a single archive avoids creating a file for every frame.  Sprite atlases, if enabled, take
+     * precedence over archives.
+     *
+     * @param format The {@link AnimationIO.ArchiveFormat} to use, or <code>null</code> to write individual image
+     *               files.
+     */
+    public void setArchiveExport(AnimationIO.ArchiveFormat format)
+    {
+        archiveFormat = format;
+    }
+
+    /**
+     * Applies the conversion scale to the {@link Animation} in memory, if there is one and the scale is not an identity
+     * transform.
+     */
+    protected void applyConversionScale()
+    {
+        if ((animation != null) && (conversionScale != 1.0))
+        {
+            animation.scale(conversionScale, true, conversionScaleFilter);
+        }
+    }
+
     /**
      * Retrieves The {@link Animation} currently loaded in this core.
      *
@@ -110,6 +293,17 @@ public class SixDiceCore
         return animation;
     }
 
+    /**
+     * Retrieves the files written by the most recent successful conversion of an {@link Animation} into images.
+     *
+     * @return The image, index, page, archive and metadata files written, or <code>null</code> if no conversion into
+     *         images has succeeded.
+     */
+    public File[] getExportedFiles()
+    {
+        return exportedFiles;
+    }
+
     /**
      * Clears the current {@link Animation} in memory.
      */
@@ -127,7 +321,9 @@ public class SixDiceCore
     }
 
     /**
-     * Loads an {@link Animation} from the specified {@link File}.
+     * Loads an {@link Animation} from the specified {@link File}.  The codecs which read files with its extension are
+     * tried in turn; a codec is skipped without decoding the file if the file does not begin with its signature (see
+     * {@link AnimationCodec#matchesSignature(byte[])}).
      *
      * @param file    The {@link File} from which to load the {@link Animation}.
      * @param palette The {@link RestrictableIndexColorModel} which should be used as a palette for loading the {@link
@@ -141,13 +337,74 @@ public class SixDiceCore
             throws IOException
     {
         animation = null;
+        byte[] header = null;
         for (AnimationCodec codec : codecs)
         {
             if (codec.getFileType().usesExtension(FileUtilities.getFileExtension(file)))
             {
+                if (header == null) header = CodecRegistry.readHeader(file, getSignatureLength());
+                if (!codec.matchesSignature(header)) continue;
+                try
+                {
+                    RestrictableIndexColorModel codecPalette = codec.formatContainsPalette() ? null : palette;
+                    if (decodeCache == null)
+                    {
+                        animation = codec.read(file, codecPalette, tracker);
+                    } else
+                    {
+                        animation = decodeCache.read(codec, file, codecPalette, tracker);
+                    }
+                    break;
+                } catch (ParseException e)
+                {
+                }
+            }
+        }
+        return (animation != null);
+    }
+
+    /**
+     * Loads an {@link Animation} from a file in an {@link MPQArchive} without extracting it.  As with files on disk,
+     * codecs whose signatures the file does not match are skipped.
+     *
+     * @param archive The {@link MPQArchive} containing the file.
+     * @param name    The name of the file within the archive.
+     * @param palette The {@link RestrictableIndexColorModel} which should be used as a palette for loading the {@link
+     *                Animation}.
+     * @param tracker The {@link ProgressTracker} which tracks this operation, or <code>null</code> if no tracker is
+     *                desired.
+     * @return <code>true</code> if the load was successful; <code>false</code> if it was not.
+     * @throws IOException If the archive does not contain the file or an I/O error occurs while reading it.
+     */
+    public boolean loadAnimation(MPQArchive archive, String name, RestrictableIndexColorModel palette,
+                                 ProgressTracker tracker)
+            throws IOException
+    {
+        animation = null;
+        String extension = FileUtilities.getFileExtension(new File(MPQArchive.getBaseName(name)));
+        ByteBuffer data = null;
+        for (AnimationCodec codec : codecs)
+        {
+            if (codec.getFileType().usesExtension(extension))
+            {
+                if (data == null)
+                {
+                    data = archive.getEntry(name);
+                    if (data == null) throw new FileNotFoundException(name + " is not in " + archive.getFile() + ".");
+                }
+                if (!codec.matchesSignature(CodecRegistry.readHeader(data, codec.getSignatureLength()))) continue;
                 try
                 {
-                    animation = codec.read(file, codec.formatContainsPalette() ? null : palette, tracker);
+                    RestrictableIndexColorModel codecPalette = codec.formatContainsPalette() ? null : palette;
+                    String source = archive.getFile().getPath() + "!" + name;
+                    if (decodeCache == null)
+                    {
+                        animation = codec.decode(AnimationCodec.getBytes(data), source, codecPalette, tracker);
+                    } else
+                    {
+                        animation = decodeCache.decode(
+                                codec, AnimationCodec.getBytes(data), source, codecPalette, tracker);
+                    }
                     break;
                 } catch (ParseException e)
                 {
@@ -192,7 +449,8 @@ public class SixDiceCore
      * determine which {@link AnimationCodec} to use.
      *
      * @param file    The {@link File} into which the {@link Animation} will be saved.
-     * @param palette The {@link RestrictableIndexColorModel} used in saving the {@link Animation}.
+     * @param palette The {@link RestrictableIndexColorModel} used in saving the {@link Animation}.  Formats which
+     *                contain their own palettes, such as BAM, store this palette.
      * @param tracker The {@link ProgressTracker} which tracks this operation, or <code>null</code> if no tracker is
      *                desired.
      * @throws IOException If an I/O error occurs while saving the file.
@@ -210,7 +468,7 @@ public class SixDiceCore
             }
         }
 
-        codec.write(file, animation, codec.formatContainsPalette() ? null : palette, tracker);
+        codec.write(file, animation, palette, tracker);
     }
 
     /**
@@ -277,11 +535,31 @@ public class SixDiceCore
      * @return An error message, or <code>null</code> if the operation was successful.
      */
     public String importSeries(File file, String separator)
+    {
+        return importSeries(file, separator, null);
+    }
+
+    /**
+     * Imports a series of images as an {@link Animation}.
+     *
+     * @param file      The generator file for the image series.
+     * @param separator The separator used to seperate information in the filenames.
+     * @param members   The members of the image series, or <code>null</code> to discover them by listing the directory
+     *                  of the generator file.
+     * @return An error message, or <code>null</code> if the operation was successful.
+     */
+    public String importSeries(File file, String separator, List<AnimationIO.SeriesMember> members)
     {
         animation = null;
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         PrintStream ps = new PrintStream(baos);
-        animation = AnimationIO.load(file, separator, ps);
+        if (members == null)
+        {
+            animation = AnimationIO.load(file, separator, ps);
+        } else
+        {
+            animation = AnimationIO.load(file, members, ps);
+        }
         ps.close();
         if (baos.size() > 0)
         {
@@ -332,26 +610,96 @@ public class SixDiceCore
      */
     public String exportSeries(File file, String format, String separator)
     {
-        // Create a duplicate of our animation so we can pre-process the images without changing the in-use copy.
-        Animation duplicate = new Animation(null, animation.getDirectionCount(), animation.getFrameCount());
-        for (int d = 0; d < animation.getDirectionCount(); d++)
+        // The in-use animation is not changed; pre-processing happens on the export canvas.
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PrintStream ps = new PrintStream(baos);
+
+        // TODO: parameterize how the export chooses the format of the numbers for the export files
+        AnimationIO.save(
+                file, separator, format, animation,
+                ((virtualTransparent != null) && (transparentToVirtalOnSave)) ? virtualTransparent : null,
+                exportThreads, ps);
+        ps.close();
+
+        if (baos.size() > 0)
+        {
+            return baos.toString();
+        } else
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Exports the current {@link Animation} as an image series stored in a single archive.
+     *
+     * @param file          The archive file.  Its name without its extension is used to produce the names of the
+     *                      image entries.
+     * @param format        The informal format name to pass to {@link ImageIO}.
+     * @param separator     The separator string used to separate information in the entry names.
+     * @param archiveFormat The {@link AnimationIO.ArchiveFormat} of the archive.
+     * @return An error message, or <code>null</code> if the operation was successful.
+     */
+    public String exportArchive(File file, String format, String separator, AnimationIO.ArchiveFormat archiveFormat)
+    {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PrintStream ps = new PrintStream(baos);
+        AnimationIO.saveArchive(
+                file, archiveFormat, separator, format, animation,
+                ((virtualTransparent != null) && (transparentToVirtalOnSave)) ? virtualTransparent : null, ps);
+        ps.close();
+
+        if (baos.size() > 0)
+        {
+            return baos.toString();
+        } else
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Imports an image series stored in an archive as an {@link Animation}.
+     *
+     * @param file      The archive file.
+     * @param separator The separator string used to separate information in the entry names.
+     * @return An error message, or <code>null</code> if the operation was successful.
+     */
+    public String importArchive(File file, String separator)
+    {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PrintStream ps = new PrintStream(baos);
+        animation = AnimationIO.loadArchive(file, separator, ps);
+        ps.close();
+        if (baos.size() > 0)
+        {
+            animation = null;
+            return baos.toString();
+        } else
         {
-            for (int f = 0; f < animation.getFrameCount(); f++)
+            for (AnimationFrame frame : animation.getFrames())
             {
-                duplicate.setFrame(
-                        d, f, new AnimationFrame(
-                        preProcessSavingImage(animation.getPaddedImage(d, f)),
-                        animation.getFirstXIndex(),
-                        animation.getFirstYIndex()));
+                frame.setImage(postProcessLoadedImage(frame.getImage()));
             }
+            return null;
         }
+    }
 
-        // Now perform the export.
+    /**
+     * Exports the current {@link Animation} as a sprite atlas.
+     *
+     * @param file        The file used to produce the names of the atlas index and page images.
+     * @param format      The informal format name to pass to {@link ImageIO}.
+     * @param deduplicate <code>true</code> to store identical frames only once; <code>false</code> otherwise.
+     * @return An error message, or <code>null</code> if the operation was successful.
+     */
+    public String exportAtlas(File file, String format, boolean deduplicate)
+    {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         PrintStream ps = new PrintStream(baos);
-
-        // TODO: parameterize how the export chooses the format of the numbers for the export files
-        AnimationIO.save(file, separator, format, duplicate, ps);
+        AnimationAtlasIO.save(
+                file, format, animation, deduplicate, AnimationAtlasIO.DEFAULT_MAXIMUM_PAGE_SIZE,
+                ((virtualTransparent != null) && (transparentToVirtalOnSave)) ? virtualTransparent : null, ps);
         ps.close();
 
         if (baos.size() > 0)
@@ -363,6 +711,31 @@ public class SixDiceCore
         }
     }
 
+    /**
+     * Imports a sprite atlas as an {@link Animation}.
+     *
+     * @param file The atlas index file.
+     * @return An error message, or <code>null</code> if the operation was successful.
+     */
+    public String importAtlas(File file)
+    {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PrintStream ps = new PrintStream(baos);
+        animation = AnimationAtlasIO.load(file, ps);
+        ps.close();
+        if (animation == null)
+        {
+            return baos.toString();
+        } else
+        {
+            for (AnimationFrame frame : animation.getFrames())
+            {
+                frame.setImage(postProcessLoadedImage(frame.getImage()));
+            }
+            return null;
+        }
+    }
+
     /**
      * This method splits the specified frame into multiple subframes, each of which has a maximum of the specified
      * dimensions.  The new subframes either replace the old frames (if <code>insert</code> is <code>false</code>) or
@@ -466,9 +839,10 @@ public class SixDiceCore
      * @param palette   The palette in which the {@link Animation} is stored.
      * @param psOut    The output stream for this process.
      * @param psErr    The error stream for this process.
+     * @return <code>true</code> if the conversion was successful; <code>false</code> if it was not.
      */
-    public void convertAnimationToImage(File file, String format, String separator, RestrictableIndexColorModel palette,
-                                        PrintStream psOut, PrintStream psErr)
+    public boolean convertAnimationToImage(File file, String format, String separator,
+                                           RestrictableIndexColorModel palette, PrintStream psOut, PrintStream psErr)
     {
         try
         {
@@ -476,172 +850,469 @@ public class SixDiceCore
             if (loadAnimation(file, palette, null))
             {
                 psOut.println("Complete.");
-                file = FileUtilities.replaceFileExtension(file, '.' + format);
-                String error;
-                psOut.print("Exporting " + file + "... ");
-                if (animation.getFrameCount() * animation.getDirectionCount() == 1)
-                {
-                    error = exportImage(file, format, 0, 0);
-                } else
-                {
-                    error = exportSeries(file, format, separator);
-                }
-                if (error != null)
-                {
-                    psErr.println("Error during export: " + error);
-                    psOut.println(file + " could not be exported.");
-                } else
-                {
-                    psOut.println("Complete.");
-                }
+                return exportConvertedAnimation(file, format, separator, psOut, psErr);
+            } else
+            {
+                reportLoadFailure(file.toString(), psOut, psErr);
             }
         } catch (IOException e)
         {
             psErr.println("I/O error occurred: " + e.getMessage());
         }
+        return false;
     }
 
     /**
-     * Converts the provided image file into an {@link Animation} using this core's memory space.  If the specified
-     * image file is part of an image series, the series is converted instead.
+     * Converts the specified {@link Animation} file in an {@link MPQArchive} into images using this {@link
+     * SixDiceCore}'s memory space and codec set.  The file is read directly from the archive.
      *
-     * @param file         The {@link File} to convert.
-     * @param targetCodec The {@link AnimationCodec} with which to write the {@link Animation} file.
-     * @param separator    The separator string to use to identify parts of an image set.
-     * @param palette      The palette in which to write the {@link Animation}.
-     * @param psOut       The output stream for this process.
-     * @param psErr       The error stream for this process.
-     * @return The set of files used by this operation.
+     * @param archive   The {@link MPQArchive} containing the file.
+     * @param name      The name of the file within the archive.
+     * @param file      The {@link File} used to produce the names of the exported images.  Its directory is created
+     *                  if necessary.
+     * @param format    The image format to use when saving images.
+     * @param separator The separator string for the filenames.
+     * @param palette   The palette in which the {@link Animation} is stored.
+     * @param psOut     The output stream for this process.
+     * @param psErr     The error stream for this process.
+     * @return <code>true</code> if the conversion was successful; <code>false</code> if it was not.
      */
-    public Set<File> convertImageToAnimation(File file, AnimationCodec targetCodec, String separator,
-                                             RestrictableIndexColorModel palette, PrintStream psOut,
-                                             PrintStream psErr)
+    public boolean convertArchivedAnimationToImage(MPQArchive archive, String name, File file, String format,
+                                                   String separator, RestrictableIndexColorModel palette,
+                                                   PrintStream psOut, PrintStream psErr)
     {
-        Set<File> ret = new HashSet<File>();
         try
         {
-            File generator = AnimationIO.getSeriesGenerationFile(file, separator);
-            String error;
-            if (generator == null)
+            psOut.print("Loading " + name + "... ");
+            if (loadAnimation(archive, name, palette, null))
             {
-                psOut.print("Importing " + file + "... ");
-                error = importImage(file);
-                if (error == null) psOut.println("Complete.");
-            } else
-            {
-                ret = AnimationIO.getImageSeriesParticipants(file, separator);
-                psOut.print("Importing " + generator + "... ");
-                error = importSeries(generator, separator);
-                if (error == null) psOut.println("Complete.");
-                file = generator;
-            }
-            if (error == null)
-            {
-                file = FileUtilities.replaceFileExtension(file, '.' + targetCodec.getFileType().getExtensions()[0]);
-                psOut.print("Saving " + file + "... ");
-
-                ProgressTracker pt = new ProgressTracker();
-                pt.addListener(new ConsoleProgressListener(psOut));
-
-                saveAnimation(file, palette, pt);
                 psOut.println("Complete.");
+                File parent = file.getAbsoluteFile().getParentFile();
+                if ((!parent.isDirectory()) && (!parent.mkdirs()))
+                {
+                    psErr.println("Could not create directory " + parent + ".");
+                    return false;
+                }
+                return exportConvertedAnimation(file, format, separator, psOut, psErr);
             } else
             {
-                psErr.println("Error while importing: " + error);
+                reportLoadFailure(name, psOut, psErr);
             }
         } catch (IOException e)
         {
             psErr.println("I/O error occurred: " + e.getMessage());
         }
-        return ret;
+        return false;
     }
 
     /**
-     * This method is designed to batch convert animations into other animations.
+     * Reports that an {@link Animation} could not be loaded.  The report is written to the error stream so that batch
+     * conversions count the file as failed rather than as converted.
      *
-     * @param directory    The directory in which to perform the batch conversion.
-     * @param recursive    <code>true</code> to perform the operation recursively; <code>false</code> otherwise.
-     * @param sourceCodec The {@link AnimationCodec} used to read the animations.
-     * @param targetCodec The {@link AnimationCodec} used to write the animations.
-     * @param palette      The palette in which the animations are rendered.
-     * @param out          The standard output stream for this operation.
-     * @param err          The error stream for this operation.
-     * @param lowestLevel A <code>boolean</code> indicating whether or not this is the lowest-level call to the batch
-     *                     conversion method.  If so, starting and ending messages will be displayed.  Otherwise, they
-     *                     will not.  This is necessary as the batch conversion method handles directory recursion by
-     *                     recursively calling itself.
+     * @param name  The name of the file which could not be loaded.
+     * @param psOut The output stream for this process, on which the loading message is ended.
+     * @param psErr The error stream for this process.
      */
-    public void batchConvert(File directory, boolean recursive, AnimationCodec sourceCodec,
-                             AnimationCodec targetCodec, RestrictableIndexColorModel palette,
-                             OutputStream out, OutputStream err, boolean lowestLevel)
+    protected void reportLoadFailure(String name, PrintStream psOut, PrintStream psErr)
     {
-        PrintStream psOut;
-        PrintStream psErr;
-        if (out instanceof PrintStream)
+        psOut.println("Failed.");
+        psErr.println(name + " could not be loaded by any codec.");
+    }
+
+    /**
+     * Exports the {@link Animation} in memory as images after applying the conversion scale.  Single-frame animations
+     * are exported as a single image; others are exported as a sprite atlas, an archive or an image series, depending
+     * on this core's settings.
+     *
+     * @param file      The {@link File} used to produce the names of the exported images.  Its extension is replaced.
+     * @param format    The image format to use when saving images.
+     * @param separator The separator string for the filenames.
+     * @param psOut     The output stream for this process.
+     * @param psErr     The error stream for this process.
+     * @return <code>true</code> if the export was successful; <code>false</code> if it was not.
+     */
+    protected boolean exportConvertedAnimation(File file, String format, String separator, PrintStream psOut,
+                                               PrintStream psErr)
+    {
+        applyConversionScale();
+        file = FileUtilities.replaceFileExtension(file, '.' + format);
+        boolean single = (animation.getFrameCount() * animation.getDirectionCount() == 1);
+        if ((!single) && (!atlasExport) && (archiveFormat != null))
         {
-            psOut = (PrintStream) (out);
+            file = FileUtilities.replaceFileExtension(file, archiveFormat.getExtension());
+        }
+        String error;
+        psOut.print("Exporting " + file + "... ");
+        if (single)
+        {
+            error = exportImage(file, format, 0, 0);
+        } else if (atlasExport)
+        {
+            error = exportAtlas(file, format, true);
+        } else if (archiveFormat != null)
+        {
+            error = exportArchive(file, format, separator, archiveFormat);
         } else
         {
-            psOut = new PrintStream(out);
+            error = exportSeries(file, format, separator);
         }
-        if (err instanceof PrintStream)
+        if (error != null)
         {
-            psErr = (PrintStream) (err);
+            psErr.println("Error during export: " + error);
+            psOut.println(file + " could not be exported.");
+            return false;
+        }
+        psOut.println("Complete.");
+        if (single)
+        {
+            exportedFiles = new File[]{file};
+        } else if (atlasExport)
+        {
+            List<File> files = AnimationAtlasIO.getAtlasFiles(file);
+            exportedFiles = files.toArray(new File[files.size()]);
+        } else if (archiveFormat != null)
+        {
+            exportedFiles = new File[]{file};
         } else
         {
-            psErr = new PrintStream(err);
+            File[] images = AnimationIO.getSeriesImageFiles(
+                    file, separator, animation.getDirectionCount(), animation.getFrameCount());
+            exportedFiles = new File[images.length + 1];
+            System.arraycopy(images, 0, exportedFiles, 0, images.length);
+            exportedFiles[images.length] = AnimationIO.getSeriesMetaFile(file);
         }
+        return true;
+    }
 
-        int priority = Thread.currentThread().getPriority();
-        if (lowestLevel)
+    /**
+     * Converts the provided image file into an {@link Animation} using this core's memory space.  If the specified
+     * image file is part of an image series, the series is converted instead.
+     *
+     * @param file         The {@link File} to convert.
+     * @param targetCodec The {@link AnimationCodec} with which to write the {@link Animation} file.
+     * @param separator    The separator string to use to identify parts of an image set.
+     * @param palette      The palette in which to write the {@link Animation}.
+     * @param psOut       The output stream for this process.
+     * @param psErr       The error stream for this process.
+     * @return The set of files used by this operation.
+     */
+    public Set<File> convertImageToAnimation(File file, AnimationCodec targetCodec, String separator,
+                                             RestrictableIndexColorModel palette, PrintStream psOut,
+                                             PrintStream psErr)
+    {
+        Set<File> ret = new HashSet<File>();
+        File generator = AnimationIO.getSeriesGenerationFile(file, separator);
+        if ((generator == null) || (file.getName().toLowerCase().endsWith(AnimationAtlasIO.INDEX_SUFFIX)) ||
+            (AnimationIO.ArchiveFormat.isArchive(file)))
         {
-            psOut.println("Starting batch conversion...");
-            Thread.currentThread().setPriority(Thread.MIN_PRIORITY);
+            convertSingleImageToAnimation(file, targetCodec, separator, palette, psOut, psErr);
+        } else
+        {
+            List<AnimationIO.SeriesMember> members =
+                    AnimationIO.findSeriesMembers(generator, separator, new ArrayList<String>());
+            for (AnimationIO.SeriesMember member : members) ret.add(member.getFile());
+            convertImageSeriesToAnimation(generator, separator, members, targetCodec, palette, psOut, psErr);
         }
+        return ret;
+    }
 
-        for (File file : directory.listFiles())
+    /**
+     * Converts the provided image file, which is not part of an image series, into an {@link Animation} using this
+     * core's memory space.  The file may be a single image, a sprite atlas index or an archive of images.
+     *
+     * @param file        The {@link File} to convert.
+     * @param targetCodec The {@link AnimationCodec} with which to write the {@link Animation} file.
+     * @param separator   The separator string used to identify parts of image series within archives.
+     * @param palette     The palette in which to write the {@link Animation}.
+     * @param psOut       The output stream for this process.
+     * @param psErr       The error stream for this process.
+     * @return <code>true</code> if the conversion was successful; <code>false</code> if it was not.
+     */
+    public boolean convertSingleImageToAnimation(File file, AnimationCodec targetCodec, String separator,
+                                                 RestrictableIndexColorModel palette, PrintStream psOut,
+                                                 PrintStream psErr)
+    {
+        psOut.print("Importing " + file + "... ");
+        String error;
+        if (file.getName().toLowerCase().endsWith(AnimationAtlasIO.INDEX_SUFFIX))
+        {
+            error = importAtlas(file);
+        } else if (AnimationIO.ArchiveFormat.isArchive(file))
+        {
+            error = importArchive(file, separator);
+        } else
         {
-            if (file.isDirectory())
+            error = importImage(file);
+        }
+        if (error == null) psOut.println("Complete.");
+        return saveImportedAnimation(file, error, targetCodec, palette, psOut, psErr);
+    }
+
+    /**
+     * Converts an image series into an {@link Animation} using this core's memory space.
+     *
+     * @param generator   The generator file of the image series.
+     * @param separator   The separator string used to identify parts of the image series.
+     * @param members     The members of the image series, or <code>null</code> to discover them by listing the
+     *                    directory of the generator file.
+     * @param targetCodec The {@link AnimationCodec} with which to write the {@link Animation} file.
+     * @param palette     The palette in which to write the {@link Animation}.
+     * @param psOut       The output stream for this process.
+     * @param psErr       The error stream for this process.
+     * @return <code>true</code> if the conversion was successful; <code>false</code> if it was not.
+     */
+    public boolean convertImageSeriesToAnimation(File generator, String separator,
+                                                 List<AnimationIO.SeriesMember> members, AnimationCodec targetCodec,
+                                                 RestrictableIndexColorModel palette, PrintStream psOut,
+                                                 PrintStream psErr)
+    {
+        psOut.print("Importing " + generator + "... ");
+        String error = importSeries(generator, separator, members);
+        if (error == null) psOut.println("Complete.");
+        return saveImportedAnimation(generator, error, targetCodec, palette, psOut, psErr);
+    }
+
+    /**
+     * Saves an {@link Animation} which was just imported from images, or reports the error which prevented the
+     * import.
+     *
+     * @param file        The image file or generator file from which the {@link Animation} was imported.
+     * @param error       The error produced by the import, or <code>null</code> if the import was successful.
+     * @param targetCodec The {@link AnimationCodec} with which to write the {@link Animation} file.
+     * @param palette     The palette in which to write the {@link Animation}.
+     * @param psOut       The output stream for this process.
+     * @param psErr       The error stream for this process.
+     * @return <code>true</code> if the {@link Animation} was saved; <code>false</code> if it was not.
+     */
+    protected boolean saveImportedAnimation(File file, String error, AnimationCodec targetCodec,
+                                            RestrictableIndexColorModel palette, PrintStream psOut,
+                                            PrintStream psErr)
+    {
+        try
+        {
+            if (error == null)
             {
-                if (recursive)
-                {
-                    batchConvert(file, recursive, sourceCodec, targetCodec, palette, psOut, psErr, false);
-                }
+                applyConversionScale();
+                file = FileUtilities.replaceFileExtension(file, '.' + targetCodec.getFileType().getExtensions()[0]);
+                psOut.print("Saving " + file + "... ");
+
+                ProgressTracker pt = new ProgressTracker();
+                pt.addListener(new ConsoleProgressListener(psOut));
+
+                saveAnimation(file, palette, pt);
+                psOut.println("Complete.");
+                return true;
             } else
             {
-                if (sourceCodec.getFileType().usesExtension(FileUtilities.getFileExtension(file)))
-                {
-                    try
-                    {
-                        psOut.print("Loading " + file + "... ");
-                        if (loadAnimation(file, palette, null))
-                        {
-                            psOut.println("Complete.");
-                            file = FileUtilities.replaceFileExtension(
-                                    file, targetCodec.getFileType().getExtensions()[0]);
-                            psOut.print("Saving " + file + "... ");
+                psErr.println("Error while importing: " + error);
+            }
+        } catch (IOException e)
+        {
+            psErr.println("I/O error occurred: " + e.getMessage());
+        }
+        return false;
+    }
 
-                            ProgressTracker pt = new ProgressTracker();
-                            pt.addListener(new ConsoleProgressListener(psOut));
+    /**
+     * Converts the specified {@link Animation} file into another {@link Animation} file using this {@link
+     * SixDiceCore}'s memory space and codec set.  Palette-based codecs decode to indexed frames, so between them the
+     * palette indices are carried through without being converted to colors and back.
+     *
+     * @param file        The {@link File} to convert.
+     * @param targetCodec The {@link AnimationCodec} used to write the {@link Animation}.
+     * @param palette     The palette in which the {@link Animation} is rendered.
+     * @param psOut       The output stream for this process.
+     * @param psErr       The error stream for this process.
+     * @return <code>true</code> if the conversion was successful; <code>false</code> if it was not.
+     */
+    public boolean convertAnimationToAnimation(File file, AnimationCodec targetCodec,
+                                               RestrictableIndexColorModel palette, PrintStream psOut,
+                                               PrintStream psErr)
+    {
+        try
+        {
+            psOut.print("Loading " + file + "... ");
+            if (loadAnimation(file, palette, null))
+            {
+                psOut.println("Complete.");
+                applyConversionScale();
+                file = FileUtilities.replaceFileExtension(file, targetCodec.getFileType().getExtensions()[0]);
+                psOut.print("Saving " + file + "... ");
 
-                            saveAnimation(file, palette, pt);
-                            psOut.println("Complete.");
-                        }
-                    } catch (IOException e)
-                    {
-                        psErr.println("I/O error occurred: " + e.getMessage());
-                    }
+                ProgressTracker pt = new ProgressTracker();
+                pt.addListener(new ConsoleProgressListener(psOut));
+
+                saveAnimation(file, palette, pt);
+                psOut.println("Complete.");
+                return true;
+            } else
+            {
+                reportLoadFailure(file.toString(), psOut, psErr);
+            }
+        } catch (IOException e)
+        {
+            psErr.println("I/O error occurred: " + e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Moves the specified {@link Animation} file from one palette into another and writes it back to the same file.
+     * The palette indices of the {@link Animation} are remapped (see {@link Animation#remapPalette(
+     * RestrictableIndexColorModel)}) rather than being converted to colors and found again in the new palette.
+     * <p/>
+     * Remapping the same file twice moves it from the wrong palette, so a batch conversion with a journal records the
+     * new contents before they replace the file; see {@link BatchJournal#isWritten(File)}.
+     *
+     * @param file          The {@link File} to remap.
+     * @param sourcePalette The palette in which the {@link Animation} is currently rendered.
+     * @param targetPalette The palette in which the {@link Animation} is written.
+     * @param psOut         The output stream for this process.
+     * @param psErr         The error stream for this process.
+     * @return <code>true</code> if the {@link Animation} was remapped; <code>false</code> if it was not.
+     */
+    public boolean remapAnimation(File file, RestrictableIndexColorModel sourcePalette,
+                               RestrictableIndexColorModel targetPalette, PrintStream psOut, PrintStream psErr)
+    {
+        AnimationCodec codec = null;
+        for (AnimationCodec c : codecs)
+        {
+            if (c.getFileType().usesExtension(FileUtilities.getFileExtension(file)))
+            {
+                codec = c;
+                break;
+            }
+        }
+        if (codec == null)
+        {
+            psErr.println("No codec reads " + file + ".");
+            return false;
+        }
+        if (codec.formatContainsPalette())
+        {
+            psErr.println(file + " stores its own palette and cannot be remapped.");
+            return false;
+        }
+
+        try
+        {
+            psOut.print("Loading " + file + "... ");
+            if (loadAnimation(file, sourcePalette, null))
+            {
+                psOut.println("Complete.");
+                animation.remapPalette(codec.deriveCodecPalette(targetPalette));
+                psOut.print("Saving " + file + "... ");
+
+                ProgressTracker pt = new ProgressTracker();
+                pt.addListener(new ConsoleProgressListener(psOut));
+
+                byte[] data = codec.encode(animation, file.getPath(), targetPalette, pt);
+                if (batchJournal != null) batchJournal.recordWriting(file, data);
+                AnimationIO.writeFileAtomically(file, data);
+                psOut.println("Complete.");
+                return true;
+            } else
+            {
+                reportLoadFailure(file.toString(), psOut, psErr);
+            }
+        } catch (IOException e)
+        {
+            psErr.println("I/O error occurred: " + e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * This method is designed to batch convert animations into other animations.
+     *
+     * @param directory    The directory in which to perform the batch conversion.
+     * @param recursive    <code>true</code> to perform the operation recursively; <code>false</code> otherwise.
+     * @param sourceCodec The {@link AnimationCodec} used to read the animations.
+     * @param targetCodec The {@link AnimationCodec} used to write the animations.
+     * @param palette      The palette in which the animations are rendered.
+     * @param out          The standard output stream for this operation.
+     * @param err          The error stream for this operation.
+     * @param lowestLevel A <code>boolean</code> indicating whether or not this is the lowest-level call to the batch
+     *                     conversion method.  If so, starting and ending messages will be displayed and the streams
+     *                     are closed when the conversion is complete.  Otherwise, they will not.
+     * @see SixDiceCore#setBatchThreads(int)
+     */
+    public void batchConvert(File directory, boolean recursive, AnimationCodec sourceCodec,
+                             final AnimationCodec targetCodec, final RestrictableIndexColorModel palette,
+                             OutputStream out, OutputStream err, boolean lowestLevel)
+    {
+        List<BatchTask> tasks = new ArrayList<BatchTask>();
+        for (File[] files : listBatchDirectories(directory, recursive))
+        {
+            for (final File file : files)
+            {
+                if ((!file.isDirectory()) &&
+                    (sourceCodec.getFileType().usesExtension(FileUtilities.getFileExtension(file))))
+                {
+                    File output = FileUtilities.replaceFileExtension(
+                            file, targetCodec.getFileType().getExtensions()[0]);
+                    tasks.add(
+                            new BatchTask(file, output, file)
+                            {
+                                public boolean convert(SixDiceCore core, PrintStream psOut, PrintStream psErr)
+                                {
+                                    return core.convertAnimationToAnimation(file, targetCodec, palette, psOut, psErr);
+                                }
+                            });
                 }
             }
         }
+        runBatch(
+                directory, getBatchFingerprint("animation " + targetCodec.getName(), null, palette), tasks, out,
+                err, lowestLevel);
+    }
 
-        if (lowestLevel)
+    /**
+     * This method is designed to batch remap animations from one palette into another.  Each animation is written back
+     * to the file from which it was read.
+     *
+     * @param directory     The directory in which to perform the batch remapping.
+     * @param recursive     <code>true</code> to perform the operation recursively; <code>false</code> otherwise.
+     * @param codec         The {@link AnimationCodec} used to read and write the animations.
+     * @param sourcePalette The palette in which the animations are currently rendered.
+     * @param targetPalette The palette in which the animations are written.
+     * @param out           The standard output stream for this operation.
+     * @param err           The error stream for this operation.
+     * @param lowestLevel   A <code>boolean</code> indicating whether or not this is the lowest-level call to the batch
+     *                      conversion method.  If so, starting and ending messages will be displayed and the streams
+     *                      are closed when the conversion is complete.  Otherwise, they will not.
+     * @see SixDiceCore#remapAnimation(File, RestrictableIndexColorModel, RestrictableIndexColorModel, PrintStream,
+     *      PrintStream)
+     */
+    public void batchRemap(File directory, boolean recursive, AnimationCodec codec,
+                           final RestrictableIndexColorModel sourcePalette,
+                           final RestrictableIndexColorModel targetPalette, OutputStream out, OutputStream err,
+                           boolean lowestLevel)
+    {
+        List<BatchTask> tasks = new ArrayList<BatchTask>();
+        for (File[] files : listBatchDirectories(directory, recursive))
         {
-            Thread.currentThread().setPriority(priority);
-            psOut.println("Batch conversion complete.");
-            psOut.close();
-            psErr.close();
+            for (final File file : files)
+            {
+                if ((!file.isDirectory()) && (codec.getFileType().usesExtension(FileUtilities.getFileExtension(file))))
+                {
+                    tasks.add(
+                            new BatchTask(file, file, file)
+                            {
+                                public boolean convert(SixDiceCore core, PrintStream psOut, PrintStream psErr)
+                                {
+                                    return core.remapAnimation(file, sourcePalette, targetPalette, psOut, psErr);
+                                }
+                            });
+                }
+            }
         }
+        runBatch(
+                directory,
+                getBatchFingerprint(
+                        "remap " + codec.getName() + " to " + DecodeCache.describePalette(targetPalette), null,
+                        sourcePalette),
+                tasks, out, err, lowestLevel);
     }
 
     /**
@@ -656,86 +1327,294 @@ public class SixDiceCore
      * @param out          The standard output stream for this operation.
      * @param err          The error stream for this operation.
      * @param lowestLevel A <code>boolean</code> indicating whether or not this is the lowest-level call to the batch
-     *                     conversion method.  If so, starting and ending messages will be displayed.  Otherwise, they
-     *                     will not.  This is necessary as the batch conversion method handles directory recursion by
-     *                     recursively calling itself.
+     *                     conversion method.  If so, starting and ending messages will be displayed and the streams
+     *                     are closed when the conversion is complete.  Otherwise, they will not.
+     * @see SixDiceCore#setBatchThreads(int)
      */
     public void batchConvert(File directory, boolean recursive, AnimationCodec sourceCodec,
-                             String format, String separator, RestrictableIndexColorModel palette,
+                             final String format, final String separator, final RestrictableIndexColorModel palette,
                              OutputStream out, OutputStream err, boolean lowestLevel)
     {
-        PrintStream psOut;
-        PrintStream psErr;
-        if (out instanceof PrintStream)
-        {
-            psOut = (PrintStream) (out);
-        } else
+        List<BatchTask> tasks = new ArrayList<BatchTask>();
+        for (File[] files : listBatchDirectories(directory, recursive))
         {
-            psOut = new PrintStream(out);
-        }
-        if (err instanceof PrintStream)
-        {
-            psErr = (PrintStream) (err);
-        } else
-        {
-            psErr = new PrintStream(err);
+            for (final File file : files)
+            {
+                if ((!file.isDirectory()) &&
+                    (sourceCodec.getFileType().usesExtension(FileUtilities.getFileExtension(file))))
+                {
+                    // The names of the exported images are not known until the animation is loaded.
+                    tasks.add(
+                            new BatchTask(file, null, file)
+                            {
+                                public boolean convert(SixDiceCore core, PrintStream psOut, PrintStream psErr)
+                                {
+                                    return core.convertAnimationToImage(file, format, separator, palette, psOut, psErr);
+                                }
+                            });
+                }
+            }
         }
+        runBatch(
+                directory, getBatchFingerprint("image " + format, separator, palette), tasks, out, err,
+                lowestLevel);
+    }
 
-        int priority = Thread.currentThread().getPriority();
-        if (lowestLevel)
+    /**
+     * This method is designed to batch convert image series into animation files.  Each directory is listed once and
+     * its files are grouped into image series up front, so each series is converted exactly once.
+     *
+     * @param directory     The directory in which to perform the batch conversion.
+     * @param recursive     <code>true</code> to perform the operation recursively; <code>false</code> otherwise.
+     * @param sourceFilter The {@link java.io.FileFilter} used to determine if a file should be used.
+     * @param targetCodec  The {@link AnimationCodec} used to write images.
+     * @param separator     The separator string used to generate filenames.
+     * @param palette       The palette in which the {@link Animation}s will be written.
+     * @param out           The standard output stream for this operation.
+     * @param err           The error stream for this operation.
+     * @param lowestLevel  A <code>boolean</code> indicating whether or not this is the lowest-level call to the batch
+     *                      conversion method.  If so, starting and ending messages will be displayed and the streams
+     *                      are closed when the conversion is complete.  Otherwise, they will not.
+     * @see SixDiceCore#setBatchThreads(int)
+     */
+    public void batchConvert(File directory, boolean recursive, FileFilter sourceFilter,
+                             final AnimationCodec targetCodec, final String separator,
+                             final RestrictableIndexColorModel palette, OutputStream out, OutputStream err,
+                             boolean lowestLevel)
+    {
+        String targetExtension = targetCodec.getFileType().getExtensions()[0];
+        List<BatchTask> tasks = new ArrayList<BatchTask>();
+        for (File[] listing : listBatchDirectories(directory, recursive))
         {
-            psOut.println("Starting batch conversion...");
-            Thread.currentThread().setPriority(Thread.MIN_PRIORITY);
+            List<File> files = new ArrayList<File>();
+            for (File file : listing)
+            {
+                // Atlas pages are imported through their index.
+                if ((!file.isDirectory()) && (sourceFilter.accept(file)) && (!AnimationAtlasIO.isPageFile(file)))
+                {
+                    files.add(file);
+                }
+            }
+            // Each series is then read in the format of the first of its members to be visited below.
+            Map<File, List<AnimationIO.SeriesMember>> series =
+                    AnimationIO.indexImageSeries(files.toArray(new File[files.size()]), separator);
+            for (final File file : files)
+            {
+                final File generator = AnimationIO.getSeriesGenerationFile(file, separator);
+                if (generator == null)
+                {
+                    tasks.add(
+                            new BatchTask(
+                                    file, FileUtilities.replaceFileExtension(file, '.' + targetExtension), file)
+                            {
+                                public boolean convert(SixDiceCore core, PrintStream psOut, PrintStream psErr)
+                                {
+                                    return core.convertSingleImageToAnimation(
+                                            file, targetCodec, separator, palette, psOut, psErr);
+                                }
+                            });
+                } else
+                {
+                    // The series is removed from the index once queued so its other members are skipped.
+                    final List<AnimationIO.SeriesMember> members = series.remove(AnimationIO.getSeriesKey(generator));
+                    if (members != null)
+                    {
+                        // The metadata file supplies the offsets, so changing it must also convert the series again.
+                        File metafile = AnimationIO.getSeriesMetaFile(generator);
+                        File[] sources = new File[members.size() + ((metafile.isFile()) ? 1 : 0)];
+                        for (int i = 0; i < members.size(); i++) sources[i] = members.get(i).getFile();
+                        if (metafile.isFile()) sources[members.size()] = metafile;
+                        tasks.add(
+                                new BatchTask(
+                                        generator,
+                                        FileUtilities.replaceFileExtension(generator, '.' + targetExtension),
+                                        sources)
+                                {
+                                    public boolean convert(SixDiceCore core, PrintStream psOut, PrintStream psErr)
+                                    {
+                                        return core.convertImageSeriesToAnimation(
+                                                generator, separator, members, targetCodec, palette, psOut, psErr);
+                                    }
+                                });
+                    }
+                }
+            }
         }
+        runBatch(
+                directory, getBatchFingerprint("animation " + targetCodec.getName(), separator, palette), tasks,
+                out, err, lowestLevel);
+    }
 
-        for (File file : directory.listFiles())
+    /**
+     * This method is designed to batch convert animations stored in an {@link MPQArchive} into image series without
+     * extracting them.  Each listed file which the source codec recognizes is read directly from the archive and its
+     * images are written beneath the provided directory, mirroring the file's path within the archive.  A name which
+     * would place its images outside of that directory, such as an absolute path or one containing <code>..</code>, is
+     * reported and skipped.
+     *
+     * @param archive     The {@link MPQArchive} from which to read the animations.
+     * @param names       The names of the files in the archive, typically read from a listfile.  Names which the
+     *                    source codec does not recognize are ignored.
+     * @param directory   The directory into which the images are written.
+     * @param sourceCodec The {@link AnimationCodec} used to read the animations.
+     * @param format      The format in which to write the images.
+     * @param separator   The separator characters used to generate filenames.
+     * @param palette     The palette in which to read the animations.
+     * @param out         The standard output stream for this operation.
+     * @param err         The error stream for this operation.
+     * @param lowestLevel A <code>boolean</code> indicating whether or not this is the lowest-level call to the batch
+     *                    conversion method.  If so, starting and ending messages will be displayed and the streams are
+     *                    closed when the conversion is complete.  Otherwise, they will not.
+     * @see SixDiceCore#setBatchThreads(int)
+     */
+    public void batchConvert(final MPQArchive archive, List<String> names, File directory, AnimationCodec sourceCodec,
+                             final String format, final String separator, final RestrictableIndexColorModel palette,
+                             OutputStream out, OutputStream err, boolean lowestLevel)
+    {
+        directory.mkdirs();
+        PrintStream psErr = (err instanceof PrintStream) ? (PrintStream) (err) : new PrintStream(err, true);
+        List<BatchTask> tasks = new ArrayList<BatchTask>();
+        for (final String name : names)
         {
-            if (file.isDirectory())
+            String extension = FileUtilities.getFileExtension(new File(MPQArchive.getBaseName(name)));
+            if (sourceCodec.getFileType().usesExtension(extension))
             {
-                if (recursive)
+                final File file = getArchivedOutputFile(directory, name);
+                if (file == null)
                 {
-                    batchConvert(file, recursive, sourceCodec, format, separator, palette, psOut, psErr, false);
+                    psErr.println(name + " would be written outside of " + directory + "; skipped.");
+                    continue;
                 }
-            } else
+                // Items are keyed by their output paths; the archive is the source of every item.
+                tasks.add(
+                        new BatchTask(file, null, archive.getFile())
+                        {
+                            public boolean convert(SixDiceCore core, PrintStream psOut, PrintStream psErr)
+                            {
+                                return core.convertArchivedAnimationToImage(
+                                        archive, name, file, format, separator, palette, psOut, psErr);
+                            }
+                        });
+            }
+        }
+        runBatch(
+                directory,
+                getBatchFingerprint("image " + format + " from " + archive.getFile().getName(), separator, palette),
+                tasks, out, err, lowestLevel);
+    }
+
+    /**
+     * Determines the file to which an animation read from an archive is exported.  The name is a path within the
+     * archive; since listfiles are not trusted, it is accepted only if it names a file beneath the output directory.
+     *
+     * @param directory The directory into which the images are written.
+     * @param name      The name of the animation within the archive.
+     * @return The file, beneath <code>directory</code> and without <code>..</code> components, which mirrors the
+     *         name, or <code>null</code> if the name is absolute or would otherwise leave the directory.
+     */
+    protected static File getArchivedOutputFile(File directory, String name)
+    {
+        String path = name.replace('\\', '/').replace('/', File.separatorChar);
+        if ((path.startsWith(File.separator)) || (new File(path).isAbsolute())) return null;
+        File file = new File(directory, path);
+        try
+        {
+            // Resolves "..", and links which lead elsewhere, before comparing.
+            String root = directory.getCanonicalPath();
+            if (!root.endsWith(File.separator)) root += File.separator;
+            String canonical = file.getCanonicalPath();
+            return (canonical.startsWith(root)) ? new File(directory, canonical.substring(root.length())) : null;
+        } catch (IOException e)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Lists the contents of the specified directory and, if requested, of all of its subdirectories.
+     *
+     * @param directory The directory to list.
+     * @param recursive <code>true</code> to list subdirectories as well; <code>false</code> otherwise.
+     * @return The contents of each listed directory, in the order in which the directories were visited.
+     */
+    protected List<File[]> listBatchDirectories(File directory, boolean recursive)
+    {
+        List<File[]> ret = new ArrayList<File[]>();
+        LinkedList<File> pending = new LinkedList<File>();
+        pending.add(directory);
+        while (pending.size() > 0)
+        {
+            File[] files = pending.removeFirst().listFiles();
+            if (files == null) continue;
+            ret.add(files);
+            if (recursive)
             {
-                if (sourceCodec.getFileType().usesExtension(FileUtilities.getFileExtension(file)))
+                for (File file : files)
                 {
-                    convertAnimationToImage(file, format, separator, palette, psOut, psErr);
+                    if (file.isDirectory()) pending.add(file);
                 }
             }
         }
+        return ret;
+    }
 
-        if (lowestLevel)
+    /**
+     * Produces a fingerprint of the settings which affect the output of a batch conversion.  This includes the palette,
+     * the transparent index and encoding effort of each codec, the virtual clear color, the conversion scale, the atlas
+     * and archive export settings and the provided target and separator.
+     *
+     * @param target    A description of the output of the conversion, such as the target codec or image format.
+     * @param separator The separator string used by the conversion, or <code>null</code> if none is used.
+     * @param palette   The palette used by the conversion.
+     * @return The fingerprint of the conversion settings.
+     */
+    protected String getBatchFingerprint(String target, String separator, RestrictableIndexColorModel palette)
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append(target).append('\n').append(separator).append('\n');
+        sb.append(DecodeCache.describePalette(palette)).append('\n');
+        for (AnimationCodec codec : codecs)
         {
-            Thread.currentThread().setPriority(priority);
-            psOut.println("Batch conversion complete.");
-            psOut.close();
-            psErr.close();
+            sb.append(codec.getName()).append('=').append(codec.getTransparentIndex());
+            // the default effort is left out so that manifests written before efforts existed remain valid
+            CodecOptions.Effort effort = codec.getOptions().getEffort();
+            if (effort != CodecOptions.Effort.BEST) sb.append(',').append(effort.name());
+            sb.append('\n');
         }
+        sb.append((virtualTransparent == null) ? "none" : Integer.toHexString(virtualTransparent.getRGB()))
+                .append(',').append(transparentToVirtalOnSave).append('\n');
+        sb.append(conversionScale).append(',').append(conversionScaleFilter.name()).append('\n');
+        sb.append(atlasExport).append(',').append(archiveFormat);
+        return BatchManifest.digest(sb.toString());
     }
 
     /**
-     * This method is designed to batch convert image series into animation files.
+     * Runs the provided batch conversion tasks on {@link SixDiceCore#batchThreads} low-priority threads.  Each thread
+     * converts files using its own {@link SixDiceCore#copy() copy} of this core, so this core's memory space is not
+     * changed.  The output of each task is buffered and written to the output streams as a unit once the task is
+     * complete; the output of concurrently running tasks therefore never interleaves.
+     * <p/>
+     * If this batch conversion is incremental, tasks which are up to date according to the {@link BatchManifest} of
+     * the provided directory are skipped and the manifest is updated once all tasks are complete.  A task is
+     * considered to be successful if its {@link BatchTask#convert(SixDiceCore, PrintStream, PrintStream)} method
+     * returns <code>true</code>.
+     * <p/>
+     * If this batch conversion is resumable, each task is recorded in the {@link BatchJournal} of the provided
+     * directory as soon as it completes or fails, and tasks already recorded by an interrupted conversion are skipped.
      *
-     * @param directory     The directory in which to perform the batch conversion.
-     * @param recursive     <code>true</code> to perform the operation recursively; <code>false</code> otherwise.
-     * @param sourceFilter The {@link java.io.FileFilter} used to determine if a file should be used.
-     * @param targetCodec  The {@link AnimationCodec} used to write images.
-     * @param separator     The separator string used to generate filenames.
-     * @param palette       The palette in which the {@link Animation}s will be written.
-     * @param out           The standard output stream for this operation.
-     * @param err           The error stream for this operation.
-     * @param lowestLevel  A <code>boolean</code> indicating whether or not this is the lowest-level call to the batch
-     *                      conversion method.  If so, starting and ending messages will be displayed.  Otherwise, they
-     *                      will not.  This is necessary as the batch conversion method handles directory recursion by
-     *                      recursively calling itself.
+     * @param directory   The root directory of the batch conversion.
+     * @param fingerprint The fingerprint of the conversion settings.
+     * @param tasks       The tasks to run.
+     * @param out         The standard output stream for this operation.
+     * @param err         The error stream for this operation.
+     * @param lowestLevel <code>true</code> if starting and ending messages should be displayed and the streams closed
+     *                    when the conversion is complete; <code>false</code> otherwise.
      */
-    public void batchConvert(File directory, boolean recursive, FileFilter sourceFilter, AnimationCodec targetCodec,
-                             String separator, RestrictableIndexColorModel palette, OutputStream out, OutputStream err,
-                             boolean lowestLevel)
+    protected void runBatch(File directory, final String fingerprint, List<BatchTask> tasks, OutputStream out,
+                            OutputStream err, boolean lowestLevel)
     {
-        PrintStream psOut;
-        PrintStream psErr;
+        final PrintStream psOut;
+        final PrintStream psErr;
         if (out instanceof PrintStream)
         {
             psOut = (PrintStream) (out);
@@ -755,32 +1634,181 @@ public class SixDiceCore
         if (lowestLevel)
         {
             psOut.println("Starting batch conversion...");
-            Thread.currentThread().setPriority(Thread.MIN_PRIORITY);
         }
 
-        Set<File> usedFiles = new HashSet<File>();
-        for (File file : directory.listFiles())
+        BatchManifest manifest = null;
+        if (incrementalBatch)
         {
-            if (file.isDirectory())
+            manifest = new BatchManifest(directory);
+            try
             {
-                if (recursive)
-                {
-                    batchConvert(
-                            file, recursive, sourceFilter, targetCodec, separator, palette, psOut, psErr,
-                            false);
-                }
-            } else
+                manifest.load();
+            } catch (IOException e)
+            {
+                psErr.println("Could not read batch manifest; all files will be converted: " + e.getMessage());
+            }
+        }
+        final BatchManifest finalManifest = manifest;
+
+        BatchJournal journal = null;
+        if (resumableBatch)
+        {
+            journal = new BatchJournal(directory);
+            try
             {
-                if ((!usedFiles.contains(file)) && (sourceFilter.accept(file)))
+                if (journal.open(fingerprint))
                 {
-                    usedFiles.addAll(convertImageToAnimation(file, targetCodec, separator, palette, psOut, psErr));
+                    psOut.println(
+                            "Resuming interrupted batch conversion; skipping " + journal.getFinishedCount() +
+                            " processed item(s).");
                 }
+            } catch (IOException e)
+            {
+                psErr.println("Could not open batch journal; this conversion cannot be resumed: " + e.getMessage());
+                journal.close();
+                journal = null;
             }
         }
+        final BatchJournal finalJournal = journal;
 
-        if (lowestLevel)
+        // Each worker thread gets its own core.  Nested parallelism is disabled to avoid oversubscription.
+        final ThreadLocal<SixDiceCore> cores = new ThreadLocal<SixDiceCore>()
+        {
+            protected SixDiceCore initialValue()
+            {
+                SixDiceCore core = copy();
+                core.setExportThreads(1);
+                core.batchJournal = finalJournal;
+                return core;
+            }
+        };
+        List<Callable<Object>> callables = new ArrayList<Callable<Object>>();
+        int skipped = 0;
+        for (final BatchTask task : tasks)
         {
+            if ((journal != null) && (journal.isFinished(task.getKey()))) continue;
+            if ((journal != null) && (journal.isWritten(task.getKey())))
+            {
+                // The item replaced its source but was interrupted before it was recorded as completed.
+                journal.recordCompleted(task.getKey());
+                continue;
+            }
+            final String stamp = (manifest == null) ? null : BatchManifest.computeStamp(task.getSources());
+            if ((manifest != null) && (manifest.isCurrent(task.getKey(), stamp, fingerprint)))
+            {
+                skipped++;
+                continue;
+            }
+            callables.add(
+                    new Callable<Object>()
+                    {
+                        public Object call()
+                        {
+                            ByteArrayOutputStream taskOut = new ByteArrayOutputStream();
+                            ByteArrayOutputStream taskErr = new ByteArrayOutputStream();
+                            PrintStream taskPsOut = new PrintStream(taskOut);
+                            PrintStream taskPsErr = new PrintStream(taskErr);
+                            SixDiceCore core = cores.get();
+                            EventRecorder recorder = EventRecorder.getInstance();
+                            Object event = recorder.beginBatchItem(task.getKey().getPath());
+                            boolean success = false;
+                            core.exportedFiles = null;
+                            try
+                            {
+                                success = task.convert(core, taskPsOut, taskPsErr);
+                            } catch (RuntimeException e)
+                            {
+                                taskPsOut.println();
+                                taskPsErr.println("Unexpected error during conversion: " + e);
+                            } catch (OutOfMemoryError e)
+                            {
+                                // The animation is released below; one oversized file should not end the batch.
+                                taskPsOut.println();
+                                taskPsErr.println("Out of memory while converting " + task.getKey() + ".");
+                            } finally
+                            {
+                                // Release the animation so that idle workers do not hold on to it.
+                                core.animation = null;
+                            }
+                            taskPsOut.close();
+                            taskPsErr.close();
+                            recorder.endBatchItem(event, task.getKey().getPath(), success);
+                            if (finalManifest != null)
+                            {
+                                if (success)
+                                {
+                                    // Outputs not known in advance are those the conversion reports writing.
+                                    finalManifest.record(
+                                            task.getKey(), stamp, fingerprint,
+                                            (task.getOutput() == null) ? core.getExportedFiles() :
+                                            new File[]{task.getOutput()});
+                                } else
+                                {
+                                    finalManifest.remove(task.getKey());
+                                }
+                            }
+                            if (finalJournal != null)
+                            {
+                                if (success)
+                                {
+                                    finalJournal.recordCompleted(task.getKey());
+                                } else
+                                {
+                                    finalJournal.recordFailed(
+                                            task.getKey(),
+                                            (taskErr.size() == 0) ? "Conversion failed." : taskErr.toString());
+                                }
+                            }
+                            synchronized (psOut)
+                            {
+                                psOut.print(taskOut.toString());
+                                psOut.flush();
+                                psErr.print(taskErr.toString());
+                                psErr.flush();
+                            }
+                            return null;
+                        }
+                    });
+        }
+
+        ExecutorService executor = null;
+        if (batchThreads > 1)
+        {
+            executor = WorkerPool.createExecutor("SixDice Batch", batchThreads, Thread.MIN_PRIORITY);
+        } else
+        {
+            Thread.currentThread().setPriority(Thread.MIN_PRIORITY);
+        }
+        try
+        {
+            WorkerPool.invokeAll(executor, callables);
+            // Every item has been processed; there is nothing left to resume.
+            if (journal != null) journal.delete();
+        } catch (ExecutionException e)
+        {
+            // The tasks above throw no checked exceptions.
+            throw new IllegalStateException("Batch conversion task threw a checked exception!", e);
+        } finally
+        {
+            if (executor != null) executor.shutdown();
+            if (journal != null) journal.close();
             Thread.currentThread().setPriority(priority);
+        }
+
+        if (manifest != null)
+        {
+            if (skipped > 0) psOut.println("Skipped " + skipped + " up-to-date item(s).");
+            try
+            {
+                manifest.save();
+            } catch (IOException e)
+            {
+                psErr.println("Could not write batch manifest: " + e.getMessage());
+            }
+        }
+
+        if (lowestLevel)
+        {
             psOut.println("Batch conversion complete.");
             psOut.close();
             psErr.close();
@@ -797,6 +1825,14 @@ public class SixDiceCore
         SixDiceCore ret = new SixDiceCore(codecs.toArray(new AnimationCodec[0]));
         ret.setVirtualTransparentColor(virtualTransparent);
         ret.setTransparentToVirtualOnSave(transparentToVirtalOnSave);
+        ret.setConversionScale(conversionScale, conversionScaleFilter);
+        ret.setExportThreads(exportThreads);
+        ret.setBatchThreads(batchThreads);
+        ret.setIncrementalBatch(incrementalBatch);
+        ret.setResumableBatch(resumableBatch);
+        ret.setDecodeCache(decodeCache);
+        ret.setAtlasExport(atlasExport);
+        ret.setArchiveExport(archiveFormat);
         return ret;
     }
 
@@ -804,6 +1840,66 @@ public class SixDiceCore
 
 // CONTAINED CLASSES /////////////////////////////////////////////////////////////
 
+    /**
+     * Represents the conversion of a single file or image series in a batch conversion.
+     */
+    protected abstract static class BatchTask
+    {
+        /**
+         * The file which identifies this task in a {@link BatchManifest}.
+         */
+        protected File key;
+        /**
+         * The primary output file of this task, or <code>null</code> if it is not known in advance.  In that case, the
+         * task must be a conversion of an {@link Animation} into images, whose written files are recorded instead.
+         */
+        protected File output;
+        /**
+         * The source files of this task.
+         */
+        protected File[] sources;
+
+        /**
+         * General constructor.
+         *
+         * @param key     The file which identifies this task in a {@link BatchManifest}.
+         * @param output  The primary output file of this task, or <code>null</code> if it is not known in advance.
+         * @param sources The source files of this task.
+         */
+        public BatchTask(File key, File output, File... sources)
+        {
+            super();
+            this.key = key;
+            this.output = output;
+            this.sources = sources;
+        }
+
+        public File getKey()
+        {
+            return key;
+        }
+
+        public File getOutput()
+        {
+            return output;
+        }
+
+        public File[] getSources()
+        {
+            return sources;
+        }
+
+        /**
+         * Performs the conversion.
+         *
+         * @param core  The {@link SixDiceCore} whose memory space is used for the conversion.
+         * @param psOut The output stream for the conversion.
+         * @param psErr The error stream for the conversion.
+         * @return <code>true</code> if the conversion was successful; <code>false</code> if it was not.
+         */
+        public abstract boolean convert(SixDiceCore core, PrintStream psOut, PrintStream psErr);
+    }
+
 }
 
 // END OF FILE
\ No newline at end of file
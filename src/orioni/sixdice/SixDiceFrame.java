@@ -418,6 +418,8 @@ public class SixDiceFrame extends AbstractEditorFrame
         codecs = new AnimationCodec[]{dc6Codec, DCCCodec.SINGLETON};
 
         core = new SixDiceCore(codecs);
+        // Repeated loads of unchanged files are served from memory rather than decoded again.
+        core.setDecodeCache(new DecodeCache(DecodeCache.DEFAULT_MEMORY_LIMIT));
 
         int insertionIndex = extendedMenuBar.getExtendedMenu("File").getIndexOfSeperator(0);
         extendedMenuBar.insertSeparator("File", insertionIndex);
@@ -2451,8 +2453,7 @@ public class SixDiceFrame extends AbstractEditorFrame
         final JDialog resizeDialog = new JDialog(this, "Resize", true);
         final JTextField scaleField = new JTextField("100", 3);
         final JCheckBox adjustOffsets = new JCheckBox("", true);
-        final JComboBox scalingMethod = new JComboBox(new Object[]{"Replicate", "Smooth"});
-        final int[] scalingMethodConstants = new int[]{Image.SCALE_REPLICATE, Image.SCALE_SMOOTH};
+        final JComboBox scalingMethod = new JComboBox(AnimationScaler.Filter.values());
         ApprovalButtonPanel buttonPanel = new ApprovalButtonPanel(true, false)
         {
             public boolean apply()
@@ -2477,7 +2478,7 @@ public class SixDiceFrame extends AbstractEditorFrame
                 }
                 core.getAnimation().scale(
                         scaleValue / 100.0, adjustOffsets.isSelected(),
-                        scalingMethodConstants[scalingMethod.getSelectedIndex()]);
+                        (AnimationScaler.Filter) (scalingMethod.getSelectedItem()));
                 contentsUpdated();
                 updateDisplay();
                 return true;
@@ -0,0 +1,718 @@
+package orioni.sixdice;
+
+import orioni.jz.awt.image.RestrictableIndexColorModel;
+import orioni.jz.common.exception.ParseException;
+import orioni.jz.io.files.FileExtensionFilter;
+import orioni.jz.io.files.FileUtilities;
+import orioni.jz.util.Pair;
+import orioni.jz.util.programparameters.ProgramParameter;
+import orioni.jz.util.programparameters.ProgramParameterInstance;
+import orioni.jz.util.programparameters.ProgramParameterManager;
+import orioni.jz.util.strings.BoundedIntegerInterpreter;
+import orioni.jz.util.strings.ColorInterpreter;
+import orioni.jz.util.strings.StringInterpreter;
+import orioni.jz.util.strings.StringUtilities;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * This is the headless SixDice launching class.  It runs the command-line conversions of SixDice and, unlike {@link
+ * SixDice}, never refers to the SixDice frame or to any other Swing class.  It is the entry point of the core JAR,
+ * which contains only the codecs, the conversion core and the default palettes, and it may be used to embed SixDice
+ * conversions in other programs.
+ *
+ * @author Zachary Palmer
+ */
+public class SixDiceHeadless
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * The version string for this program.
+     */
+    public static final String VERSION_STRING = "0.63";
+    /**
+     * The system property which selects headless AWT operation.
+     */
+    public static final String HEADLESS_PROPERTY = "java.awt.headless";
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * Private constructor.
+     */
+    private SixDiceHeadless()
+    {
+        super();
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+    /**
+     * This method is designed to provide help regarding command line parameters.
+     *
+     * @param strings Strings to display before the help.
+     */
+    public static void showHelpAndBail(String... strings)
+    {
+        showHelp(System.err, strings);
+        System.exit(1);
+    }
+
+    /**
+     * Writes help regarding command line parameters.
+     *
+     * @param err     The {@link PrintStream} to which the help is written.
+     * @param strings Strings to display before the help.
+     */
+    public static void showHelp(PrintStream err, String... strings)
+    {
+        for (String s : strings)
+        {
+            err.println(s);
+        }
+        if (strings.length > 0) err.println();
+
+        //                  00000000001111111111222222222233333333334444444444555555555566666666667777777777
+        //                  01234567890123456789012345678901234567890123456789012345678901234567890123456789
+        err.println("SixDice v" + VERSION_STRING);
+        err.println("Usage: java -jar SixDice.jar [options] <file> [file] [file] ...");
+        err.println();
+        err.println("(Options marked with a '*' must be set.)");
+        err.println("Options:");
+        err.println("    -h, --help                Displays this help screen.");
+        err.println("    -i, --import              Specifies that the program should convert image");
+        err.println("                              files to animation files.  Setting the format");
+        err.println("                              acts as a file extension filter.  One of -i, -e");
+        err.println("                              or -n must be used.");
+        err.println("    -e, --export              Specifies that the program should convert");
+        err.println("                              animation files to image files.  Requires that");
+        err.println("                              the format be set.  One of -i, -e or -n must be");
+        err.println("                              used.");
+        err.println("    -n, --remap               Specifies that the program should move animation");
+        err.println("                              files from the palette given by -p into the");
+        err.println("                              specified palette, rewriting them in place.");
+        err.println("                              Palette indices are remapped directly rather than");
+        err.println("                              through colors.  Cannot be used with -u.  Use");
+        err.println("                              -j: an interrupted remap without a journal must");
+        err.println("                              not be run again, as the files already rewritten");
+        err.println("                              would be remapped a second time.");
+        err.println("*   -p, --palette             Specifies the palette to be used by the");
+        err.println("                              animation.  For a list of palettes, try \"-p ?\".");
+        err.println("    -f, --format              Specifies the format to be used by the converter.");
+        err.println("                              For a list of formats supported by your JRE, try");
+        err.println("                              \"-f ?\".");
+        err.println("    -r, --recursive           Specifies that any directories should be");
+        err.println("                              processed recursively.  Default is not to process");
+        err.println("                              recursively.");
+        err.println("    -s, --separator-string    Specifies the separator string used to separate");
+        err.println("                              direction and frame number from the filename in");
+        err.println("                              multi-frame export image sets.  By default, this");
+        err.println("                              is \"__\".");
+        err.println("*   -c, --codec               Specifies the codec to be used.  For a list of ");
+        err.println("                              animation codecs, try \"-c ?\".");
+        err.println("    -v, --virtual-clear-color Specifies the color in image files to be set as ");
+        err.println("                              transparent.  For exports, this is the color that");
+        err.println("                              transparent pixels will become.");
+        err.println("    -x, --transparent-index   The index in the codec which should be treated as");
+        err.println("                              transparent, or -1 for no transparent index.  By");
+        err.println("                              default, this value is zero.");
+        err.println("    -o, --effort              How hard the codec tries to make encoded files");
+        err.println("                              small: one of {fast, best}.  The default is best.");
+        err.println("    -z, --scale               Scales each animation by the given percentage");
+        err.println("                              during conversion.  Offsets are scaled as well.");
+        err.println("    -m, --scaling-method      The filter used by --scale: one of {nearest,");
+        err.println("                              bilinear, area}.  Nearest neighbor preserves the");
+        err.println("                              palette and is the default.");
+        err.println("    -t, --threads             The number of files converted concurrently when");
+        err.println("                              processing directories.  By default, one per");
+        err.println("                              processor.");
+        err.println("    -u, --incremental         When processing directories, skips files which");
+        err.println("                              have not changed since they were last converted");
+        err.println("                              with the same settings.  A manifest file is kept");
+        err.println("                              in each directory named on the command line,");
+        err.println("                              not in its subdirectories.");
+        err.println("    -j, --journal             When processing directories, keeps a journal of");
+        err.println("                              processed files so that an interrupted run can be");
+        err.println("                              resumed by running the same command again.");
+        err.println("    -k, --decode-cache        Caches decoded animations in the specified");
+        err.println("                              directory so that later runs need not decode");
+        err.println("                              unchanged content again.  The lookup tables used");
+        err.println("                              to map colors into palettes are kept there too.");
+        err.println("    -a, --atlas               When converting animations to images, packs all");
+        err.println("                              frames into a sprite atlas with a \".atlas\" index");
+        err.println("                              instead of writing one image per frame.  Atlas");
+        err.println("                              index files may be given to --import.");
+        err.println("    -w, --archive             When converting animations to images, writes each");
+        err.println("                              image series into a single archive: one of {zip,");
+        err.println("                              zip-stored, tar}.  Archives may be given to");
+        err.println("                              --import.");
+        err.println("    -q, --mpq                 Exports animations directly from the specified MPQ");
+        err.println("                              archive without extracting it.  The files given");
+        err.println("                              are the directories into which images are written.");
+        err.println("    -l, --listfile            The listfile naming the files to export from the");
+        err.println("                              MPQ archive.  By default, the archive's own");
+        err.println("                              listfile is used.");
+        err.println("    -g, --stats               Reports the time spent in each phase of decoding");
+        err.println("                              and encoding, the sizes of the encoded data and");
+        err.println("                              the frames processed per second.");
+        err.println("    -d, --daemon              Stays resident and runs conversion jobs sent to the");
+        err.println("                              specified port on the loopback interface, or to");
+        err.println("                              standard input if \"stdin\" is given.  Jobs take");
+        err.println("                              the same options as this program; use");
+        err.println("                              orioni.sixdice.SixDiceClient to send them.  A");
+        err.println("                              port requires the secret written to");
+        err.println("                              ~/.sixdice-daemon-<port>, readable only by you.");
+    }
+
+    /**
+     * This method executes SixDice as a headless program.  The arguments are those of {@link SixDice#main(String[])};
+     * since there is no GUI, running without arguments displays the help.  Unless the {@link
+     * SixDiceHeadless#HEADLESS_PROPERTY} system property is set, AWT is put into headless mode before it is used.
+     *
+     * @param args See the content written to {@link System#err} by {@link SixDiceHeadless#showHelpAndBail(String...)}
+     *             for more information.
+     */
+    public static void main(String[] args)
+    {
+        if (System.getProperty(HEADLESS_PROPERTY) == null) System.setProperty(HEADLESS_PROPERTY, "true");
+        if (args.length == 0) showHelpAndBail();
+        try
+        {
+            convert(args, null, System.out, System.err, null);
+        } catch (UsageException e)
+        {
+            showHelpAndBail(e.getMessages());
+        }
+    }
+
+    /**
+     * Runs a single conversion job as if its arguments had been given on the command line.  Unlike {@link
+     * SixDiceHeadless#main(String[])}, this method never exits the virtual machine: usage errors are reported by
+     * writing the help to the error stream.
+     *
+     * @param args      The command-line arguments of the job.
+     * @param directory The directory against which relative paths are resolved, or <code>null</code> to use the
+     *                  working directory of this process.
+     * @param out       The standard output stream of the job.
+     * @param err       The error stream of the job.
+     * @param daemon    The {@link ConversionDaemon} running the job, or <code>null</code> if it is not run by a daemon.
+     * @return The exit status of the job: <code>0</code> if it ran or <code>1</code> if its arguments were invalid.
+     */
+    public static int run(String[] args, File directory, PrintStream out, PrintStream err, ConversionDaemon daemon)
+    {
+        try
+        {
+            return convert(args, directory, out, err, daemon);
+        } catch (UsageException e)
+        {
+            showHelp(err, e.getMessages());
+            return 1;
+        }
+    }
+
+    /**
+     * Performs the conversion described by a set of command-line arguments.
+     *
+     * @param args      The command-line arguments.
+     * @param directory The directory against which relative paths are resolved, or <code>null</code> to use the
+     *                  working directory of this process.
+     * @param out       The standard output stream of the conversion.
+     * @param err       The error stream of the conversion.
+     * @param daemon    The {@link ConversionDaemon} running the conversion, or <code>null</code> if it is not run by a
+     *                  daemon.  A daemon's decode caches are shared by all of its conversions.
+     * @return The exit status of the conversion.
+     * @throws UsageException If the arguments are invalid.
+     */
+    protected static int convert(String[] args, File directory, PrintStream out, PrintStream err,
+                                 ConversionDaemon daemon)
+            throws UsageException
+    {
+        // Establish parameter context
+        ProgramParameterManager ppm = new ProgramParameterManager();
+        // Add help parameter
+        ppm.addParameter(new ProgramParameter(new String[]{"h", "?", "help"}, true));
+        // Add export mode parameter
+        ppm.addParameter(new ProgramParameter("e", "export", false));
+        // Add import mode parameter
+        ppm.addParameter(new ProgramParameter("i", "import", false));
+        // Add recursive parameter
+        ppm.addParameter(new ProgramParameter("r", "recursive", false));
+        // Add virtual clear color parameter
+        ppm.addParameter(
+                new ProgramParameter<Color>("v", "virtual-clear-color", false, ColorInterpreter.SINGLETON));
+        // Add remap parameter
+        ppm.addParameter(new ProgramParameter<String>("n", "remap", false, StringInterpreter.SINGLETON));
+        // Add palette parameter
+        ppm.addParameter(new ProgramParameter<String>("p", "palette", false, StringInterpreter.SINGLETON));
+        // Add format parameter
+        ppm.addParameter(new ProgramParameter<String>("f", "format", false, StringInterpreter.SINGLETON));
+        // Add separator parameter
+        ppm.addParameter(new ProgramParameter<String>("s", "separator-string", false, StringInterpreter.SINGLETON));
+        // Add codec parameter
+        ppm.addParameter(new ProgramParameter<String>("c", "codec", false, StringInterpreter.SINGLETON));
+        // Add transparent index parameter
+        ppm.addParameter(
+                new ProgramParameter<Integer>(
+                        "x", "transparent-index", false,
+                        new BoundedIntegerInterpreter(-1, 255)));
+        // Add effort parameter
+        ppm.addParameter(new ProgramParameter<String>("o", "effort", false, StringInterpreter.SINGLETON));
+        // Add scale parameter
+        ppm.addParameter(
+                new ProgramParameter<Integer>("z", "scale", false, new BoundedIntegerInterpreter(1, 10000)));
+        // Add scaling method parameter
+        ppm.addParameter(new ProgramParameter<String>("m", "scaling-method", false, StringInterpreter.SINGLETON));
+        // Add thread count parameter
+        ppm.addParameter(
+                new ProgramParameter<Integer>("t", "threads", false, new BoundedIntegerInterpreter(1, 256)));
+        // Add incremental parameter
+        ppm.addParameter(new ProgramParameter("u", "incremental", false));
+        // Add journal parameter
+        ppm.addParameter(new ProgramParameter("j", "journal", false));
+        // Add decode cache parameter
+        ppm.addParameter(new ProgramParameter<String>("k", "decode-cache", false, StringInterpreter.SINGLETON));
+        // Add atlas parameter
+        ppm.addParameter(new ProgramParameter("a", "atlas", false));
+        // Add archive parameter
+        ppm.addParameter(new ProgramParameter<String>("w", "archive", false, StringInterpreter.SINGLETON));
+        // Add MPQ parameter
+        ppm.addParameter(new ProgramParameter<String>("q", "mpq", false, StringInterpreter.SINGLETON));
+        // Add listfile parameter
+        ppm.addParameter(new ProgramParameter<String>("l", "listfile", false, StringInterpreter.SINGLETON));
+        // Add statistics parameter
+        ppm.addParameter(new ProgramParameter("g", "stats", false));
+        // Add daemon parameter
+        ppm.addParameter(new ProgramParameter<String>("d", "daemon", false, StringInterpreter.SINGLETON));
+
+        // Parse parameters
+        Pair<ProgramParameterInstance[], String[]> parsedPair = null;
+        try
+        {
+            parsedPair = ppm.parse(args);
+        } catch (ParseException e)
+        {
+            throw new UsageException();
+        }
+
+        final int modeExport = 0;
+        final int modeImport = 1;
+        final int modeNone = 2;
+        final int modeRemap = 3;
+        int mode = modeNone;
+
+        Color clearColor = null;
+        boolean recursive = false;
+        String paletteString = null;
+        String remapPaletteString = null;
+        String format = null;
+        String separator = "__";
+        AnimationCodec codec = null;
+        int transparentIndex = 0;
+        CodecOptions.Effort effort = CodecOptions.Effort.BEST;
+        int scalePercentage = 100;
+        AnimationScaler.Filter scaleFilter = AnimationScaler.Filter.NEAREST_NEIGHBOR;
+        int threads = WorkerPool.DEFAULT_PARALLELISM;
+        boolean incremental = false;
+        boolean journal = false;
+        String decodeCacheDirectory = null;
+        boolean atlas = false;
+        AnimationIO.ArchiveFormat archiveFormat = null;
+        String mpqFile = null;
+        String listfile = null;
+        CodecStatistics statistics = null;
+        String daemonAddress = null;
+
+        for (ProgramParameterInstance ppi : parsedPair.getFirst())
+        {
+            if (("e".equals(ppi.getString())) || ("i".equals(ppi.getString())))
+            {
+                if (mode != modeNone)
+                {
+                    throw new UsageException(
+                            "Only one operational mode (import, export or remap) can be chosen.");
+                } else
+                {
+                    if ("i".equals(ppi.getString()))
+                    {
+                        mode = modeImport;
+                    } else
+                    {
+                        mode = modeExport;
+                    }
+                }
+            } else if ("n".equals(ppi.getString()))
+            {
+                if (mode != modeNone)
+                {
+                    throw new UsageException(
+                            "Only one operational mode (import, export or remap) can be chosen.");
+                }
+                mode = modeRemap;
+                remapPaletteString = (String) (ppi.getSubparameters()[0]);
+            } else if ("r".equals(ppi.getString()))
+            {
+                recursive = true;
+            } else if ("v".equals(ppi.getString()))
+            {
+                clearColor = (Color) (ppi.getSubparameters()[0]);
+            } else if ("p".equals(ppi.getString()))
+            {
+                paletteString = (String) (ppi.getSubparameters()[0]);
+            } else if ("f".equals(ppi.getString()))
+            {
+                format = (String) (ppi.getSubparameters()[0]);
+            } else if ("s".equals(ppi.getString()))
+            {
+                separator = (String) (ppi.getSubparameters()[0]);
+            } else if ("c".equals(ppi.getString()))
+            {
+                String s = (String) (ppi.getSubparameters()[0]);
+                CodecRegistry registry = CodecRegistry.getInstance();
+                codec = registry.getCodec(s);
+                if (codec == null)
+                {
+                    String[] names = registry.getCodecNames().toArray(StringUtilities.EMPTY_STRING_ARRAY);
+                    throw new UsageException(
+                            "Invalid codec (\"" + s + "\").\nCodec must be one of {" +
+                            StringUtilities.createDelimitedList(", ", names) + "}.");
+                }
+            } else if ("x".equals(ppi.getString()))
+            {
+                transparentIndex = (Integer) (ppi.getSubparameters()[0]);
+            } else if ("o".equals(ppi.getString()))
+            {
+                String s = (String) (ppi.getSubparameters()[0]);
+                if ("fast".equalsIgnoreCase(s))
+                {
+                    effort = CodecOptions.Effort.FAST;
+                } else if ("best".equalsIgnoreCase(s))
+                {
+                    effort = CodecOptions.Effort.BEST;
+                } else
+                {
+                    throw new UsageException("Invalid effort (\"" + s + "\").\nEffort must be one of {fast, best}.");
+                }
+            } else if ("z".equals(ppi.getString()))
+            {
+                scalePercentage = (Integer) (ppi.getSubparameters()[0]);
+            } else if ("m".equals(ppi.getString()))
+            {
+                String s = (String) (ppi.getSubparameters()[0]);
+                if ("nearest".equalsIgnoreCase(s))
+                {
+                    scaleFilter = AnimationScaler.Filter.NEAREST_NEIGHBOR;
+                } else if ("bilinear".equalsIgnoreCase(s))
+                {
+                    scaleFilter = AnimationScaler.Filter.BILINEAR;
+                } else if ("area".equalsIgnoreCase(s))
+                {
+                    scaleFilter = AnimationScaler.Filter.AREA;
+                } else
+                {
+                    throw new UsageException(
+                            "Invalid scaling method (\"" + s + "\").\nMethod must be one of {nearest, bilinear, " +
+                            "area}.");
+                }
+            } else if ("t".equals(ppi.getString()))
+            {
+                threads = (Integer) (ppi.getSubparameters()[0]);
+            } else if ("u".equals(ppi.getString()))
+            {
+                incremental = true;
+            } else if ("j".equals(ppi.getString()))
+            {
+                journal = true;
+            } else if ("k".equals(ppi.getString()))
+            {
+                decodeCacheDirectory = (String) (ppi.getSubparameters()[0]);
+            } else if ("a".equals(ppi.getString()))
+            {
+                atlas = true;
+            } else if ("w".equals(ppi.getString()))
+            {
+                String s = (String) (ppi.getSubparameters()[0]);
+                if ("zip".equalsIgnoreCase(s))
+                {
+                    archiveFormat = AnimationIO.ArchiveFormat.ZIP_DEFLATED;
+                } else if ("zip-stored".equalsIgnoreCase(s))
+                {
+                    archiveFormat = AnimationIO.ArchiveFormat.ZIP_STORED;
+                } else if ("tar".equalsIgnoreCase(s))
+                {
+                    archiveFormat = AnimationIO.ArchiveFormat.TAR;
+                } else
+                {
+                    throw new UsageException(
+                            "Invalid archive (\"" + s + "\").\nArchive must be one of {zip, zip-stored, tar}.");
+                }
+            } else if ("q".equals(ppi.getString()))
+            {
+                mpqFile = (String) (ppi.getSubparameters()[0]);
+            } else if ("l".equals(ppi.getString()))
+            {
+                listfile = (String) (ppi.getSubparameters()[0]);
+            } else if ("g".equals(ppi.getString()))
+            {
+                statistics = new CodecStatistics();
+            } else if ("d".equals(ppi.getString()))
+            {
+                daemonAddress = (String) (ppi.getSubparameters()[0]);
+            }
+        }
+
+        if (daemonAddress != null)
+        {
+            if (daemon != null) throw new UsageException("A conversion job cannot start another daemon.");
+            return ConversionDaemon.start(daemonAddress, out, err);
+        }
+
+        if (paletteString == null)
+        {
+            throw new UsageException("A palette must be specified.  Use -p.");
+        }
+        RestrictableIndexColorModel palette = getPalette(paletteString);
+        RestrictableIndexColorModel remapPalette = (remapPaletteString == null) ? null : getPalette(remapPaletteString);
+        if ((mode == modeRemap) && (incremental))
+        {
+            throw new UsageException("Remapping rewrites its sources, so it cannot be incremental.");
+        }
+
+        if ((mode == modeExport) && (format == null))
+        {
+            throw new UsageException("When converting animations to images, an image format must be specified.");
+        }
+        if (codec == null)
+        {
+            throw new UsageException("A codec must be specified.");
+        } else
+        {
+            codec = codec.deriveWithOptions(
+                    new CodecOptions(transparentIndex, effort, 1, statistics, null));
+        }
+        if ((mode != modeRemap) && (!ImageIO.getImageReadersByFormatName(format).hasNext()))
+        {
+            throw new UsageException(
+                    "The format \"" + format + "\" is not valid.  Format must be one of the following:" +
+                    "\n        " + StringUtilities.createDelimitedList(
+                            "\n        ",
+                            ImageIO.getReaderFormatNames()));
+        }
+
+        if (parsedPair.getSecond().length == 0)
+        {
+            throw new UsageException("No files specified.");
+        }
+
+        boolean dir = false;
+
+        SixDiceCore core = new SixDiceCore(codec);
+        core.setVirtualTransparentColor(clearColor);
+        core.setTransparentToVirtualOnSave(clearColor != null);
+        core.setConversionScale(scalePercentage / 100.0, scaleFilter);
+        core.setBatchThreads(threads);
+        core.setIncrementalBatch(incremental);
+        core.setResumableBatch(journal);
+        core.setAtlasExport(atlas);
+        core.setArchiveExport(archiveFormat);
+        if (daemon != null)
+        {
+            core.setDecodeCache(
+                    daemon.getDecodeCache(
+                            (decodeCacheDirectory == null) ? null : resolve(directory, decodeCacheDirectory)));
+        } else if (decodeCacheDirectory != null)
+        {
+            core.setDecodeCache(
+                    new DecodeCache(DecodeCache.DEFAULT_MEMORY_LIMIT, resolve(directory, decodeCacheDirectory)));
+        }
+        if (decodeCacheDirectory != null)
+        {
+            // The tables are loaded or stored now and then found in memory by the codecs.
+            File tableDirectory = resolve(directory, decodeCacheDirectory);
+            PaletteLookupTable.getInstance(palette, tableDirectory);
+            if (remapPalette != null) PaletteLookupTable.getInstance(remapPalette, tableDirectory);
+        }
+
+        if (mpqFile != null)
+        {
+            if (mode != modeExport)
+            {
+                throw new UsageException("Animations in MPQ archives can only be exported.  Use -e.");
+            }
+            MPQArchive archive = null;
+            try
+            {
+                archive = new MPQArchive(resolve(directory, mpqFile));
+                List<String> names = (listfile == null) ? archive.getListfile() : MPQArchive.parseListfile(
+                        FileUtilities.getFileContents(resolve(directory, listfile)));
+                if (names.size() == 0)
+                {
+                    err.println("The archive " + mpqFile + " has no listfile.  Use -l to provide one.");
+                } else
+                {
+                    for (String s : parsedPair.getSecond())
+                    {
+                        core.batchConvert(
+                                archive, names, resolve(directory, s), codec, format, separator, palette, out,
+                                err, true);
+                    }
+                }
+            } catch (IOException e)
+            {
+                err.println("Could not read MPQ archive " + mpqFile + ": " + e.getMessage());
+            } finally
+            {
+                if (archive != null)
+                {
+                    try
+                    {
+                        archive.close();
+                    } catch (IOException e)
+                    {
+                        // The archive was only read; there is nothing to lose.
+                    }
+                }
+            }
+            if (statistics != null) statistics.print(out);
+            return 0;
+        }
+
+        for (String s : parsedPair.getSecond())
+        {
+            File f = resolve(directory, s);
+            if (f.exists())
+            {
+                if (f.isDirectory())
+                {
+                    dir = true;
+                    if (mode == modeRemap)
+                    {
+                        core.batchRemap(f, recursive, codec, palette, remapPalette, out, err, true);
+                    } else if (mode == modeExport)
+                    {
+                        core.batchConvert(
+                                f, recursive, codec, format, separator, palette, out, err, true);
+                    } else
+                    {
+                        core.batchConvert(
+                                f, recursive, new FileExtensionFilter('.' + format), codec, separator,
+                                palette, out, err, true);
+                    }
+                } else
+                {
+                    if (mode == modeRemap)
+                    {
+                        core.remapAnimation(f, palette, remapPalette, out, err);
+                    } else if (mode == modeExport)
+                    {
+                        core.convertAnimationToImage(
+                                FileUtilities.replaceFileExtension(f, '.' + format), format, separator, palette,
+                                out, err);
+                    } else
+                    {
+                        core.convertImageToAnimation(f, codec, separator, palette, out, err);
+                    }
+                }
+            } else
+            {
+                err.println("File " + f + " does not exist.");
+            }
+        }
+
+        if ((!dir) && (recursive))
+        {
+            err.println(
+                    "Warning: recursive was specified but none of the files provided were directories.");
+        }
+        if (statistics != null) statistics.print(out);
+        return 0;
+    }
+
+    /**
+     * Retrieves one of the default palettes by name.
+     *
+     * @param name The name of the palette.
+     * @return The palette.
+     * @throws UsageException If no default palette has that name.
+     */
+    protected static RestrictableIndexColorModel getPalette(String name)
+            throws UsageException
+    {
+        RestrictableIndexColorModel palette = Diablo2DefaultPalettes.PALETTE_MAP.get(name);
+        if (palette == null)
+        {
+            String[] keys = Diablo2DefaultPalettes.PALETTE_MAP.keySet().toArray(
+                    StringUtilities.EMPTY_STRING_ARRAY);
+            String[] s = new String[keys.length + 1];
+            s[0] = "The palette \"" + name + "\" does not exist.  It must be one of the following:";
+            for (int i = 1; i < s.length; i++)
+            {
+                s[i] = "        \"" + keys[i - 1] + "\"";
+            }
+            throw new UsageException(s);
+        }
+        return palette;
+    }
+
+    /**
+     * Resolves a path given as a command-line argument.
+     *
+     * @param directory The directory against which relative paths are resolved, or <code>null</code> to use the
+     *                  working directory of this process.
+     * @param path      The path to resolve.
+     * @return The resolved {@link File}.
+     */
+    protected static File resolve(File directory, String path)
+    {
+        File file = new File(path);
+        return ((directory == null) || (file.isAbsolute())) ? file : new File(directory, path);
+    }
+
+// CONTAINED CLASSES /////////////////////////////////////////////////////////////
+
+    /**
+     * This exception is thrown when command-line arguments are invalid.  It carries the messages which should be
+     * displayed before the help.
+     */
+    protected static class UsageException extends Exception
+    {
+        /**
+         * The messages to display before the help.
+         */
+        protected String[] messages;
+
+        /**
+         * General constructor.
+         *
+         * @param messages The messages to display before the help.
+         */
+        public UsageException(String... messages)
+        {
+            super((messages.length > 0) ? messages[0] : "Invalid arguments.");
+            this.messages = messages;
+        }
+
+        /**
+         * Retrieves the messages to display before the help.
+         *
+         * @return The messages to display before the help.
+         */
+        public String[] getMessages()
+        {
+            return messages;
+        }
+    }
+}
+
+// END OF FILE
\ No newline at end of file
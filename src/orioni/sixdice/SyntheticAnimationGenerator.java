@@ -0,0 +1,640 @@
+package orioni.sixdice;
+
+import orioni.jz.awt.image.RestrictableIndexColorModel;
+import orioni.jz.common.exception.ParseException;
+import orioni.jz.util.Pair;
+import orioni.jz.util.ProgressTracker;
+import orioni.jz.util.programparameters.ProgramParameter;
+import orioni.jz.util.programparameters.ProgramParameterInstance;
+import orioni.jz.util.programparameters.ProgramParameterManager;
+import orioni.jz.util.strings.BoundedIntegerInterpreter;
+import orioni.jz.util.strings.StringInterpreter;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * This class generates synthetic {@link Animation}s with controlled characteristics.  It is intended to produce
+ * benchmarking and soak testing material without the need for copyrighted game data.  Generation is entirely
+ * determined by the generator's parameters and seed; the same parameters always produce the same animation.
+ * <p/>
+ * Each frame is divided into the 4x4 cells used by the DCC format.  A cell is either transparent or painted with a
+ * fixed number of colors chosen from the palette.  The transparent cells are those farthest from the center of the
+ * frame, giving each frame a roughly elliptical silhouette whose size depends on the transparency ratio.  Each cell of
+ * every frame but the first in a direction may instead be copied unchanged from the previous frame, which exercises the
+ * DCC encoder's equal-cell handling.
+ * <p/>
+ * A corpus of animation files may be generated from the command line:
+ * <pre>
+ *     java -cp SixDice.jar orioni.sixdice.SyntheticAnimationGenerator [options] &lt;directory&gt;
+ * </pre>
+ *
+ * @author Zachary Palmer
+ */
+public class SyntheticAnimationGenerator
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * The width and height of a cell.
+     */
+    protected static final int CELL_SIZE = 4;
+
+    /**
+     * The name of the palette used by default.
+     */
+    public static final String DEFAULT_PALETTE_NAME = "Act 1";
+
+    /**
+     * The profiles of the standard corpus.  Each entry is a name followed by the directions, frames, width, height,
+     * transparency percentage, colors per cell, cell reuse percentage and optional data length of its animations.
+     */
+    protected static final Object[][] CORPUS_PROFILES = {
+            {"icon", 1, 1, 28, 28, 30, 4, 0, 0},
+            {"missile", 16, 6, 48, 48, 60, 3, 30, 0},
+            {"monster", 8, 12, 96, 112, 50, 4, 60, 0},
+            {"overlay", 1, 16, 160, 128, 70, 2, 80, 8},
+            {"panel", 1, 1, 256, 192, 5, 8, 0, 0}};
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+    /**
+     * The palette from which colors are chosen.
+     */
+    protected RestrictableIndexColorModel palette;
+    /**
+     * The palette index which is never used for visible pixels.
+     */
+    protected int transparentIndex;
+    /**
+     * The number of directions.
+     */
+    protected int directions;
+    /**
+     * The number of frames in each direction.
+     */
+    protected int frames;
+    /**
+     * The width of each frame.
+     */
+    protected int width;
+    /**
+     * The height of each frame.
+     */
+    protected int height;
+    /**
+     * The fraction of each frame which is transparent.
+     */
+    protected double transparencyRatio;
+    /**
+     * The number of distinct colors in each visible cell.
+     */
+    protected int colorsPerCell;
+    /**
+     * The probability that a cell is copied from the previous frame.
+     */
+    protected double cellReuseRatio;
+    /**
+     * The length of the optional data attached to each frame.
+     */
+    protected int optionalDataLength;
+    /**
+     * The seed from which the animation is generated.
+     */
+    protected long seed;
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * Skeleton constructor.  Generates a single 64x64 frame in the default palette which is half transparent.
+     */
+    public SyntheticAnimationGenerator()
+    {
+        this(Diablo2DefaultPalettes.PALETTE_MAP.get(DEFAULT_PALETTE_NAME));
+    }
+
+    /**
+     * General constructor.  Generates a single 64x64 frame which is half transparent.
+     *
+     * @param palette The palette from which colors are chosen.
+     */
+    public SyntheticAnimationGenerator(RestrictableIndexColorModel palette)
+    {
+        super();
+        this.palette = palette;
+        transparentIndex = 0;
+        directions = 1;
+        frames = 1;
+        width = 64;
+        height = 64;
+        transparencyRatio = 0.5;
+        colorsPerCell = 4;
+        cellReuseRatio = 0.0;
+        optionalDataLength = 0;
+        seed = 0;
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Changes the palette from which colors are chosen.
+     *
+     * @param palette The new palette.
+     */
+    public void setPalette(RestrictableIndexColorModel palette)
+    {
+        this.palette = palette;
+    }
+
+    /**
+     * Changes the palette index which is never used for visible pixels.  This should match the transparent index of
+     * the codec which will write the animation.
+     *
+     * @param transparentIndex The transparent index, or <code>-1</code> to allow every index.
+     */
+    public void setTransparentIndex(int transparentIndex)
+    {
+        this.transparentIndex = transparentIndex;
+    }
+
+    /**
+     * Changes the shape of the generated animation.
+     *
+     * @param directions The number of directions.
+     * @param frames     The number of frames in each direction.
+     * @param width      The width of each frame.
+     * @param height     The height of each frame.
+     * @throws IllegalArgumentException If any of the values is less than one.
+     */
+    public void setDimensions(int directions, int frames, int width, int height)
+    {
+        if ((directions < 1) || (frames < 1) || (width < 1) || (height < 1))
+        {
+            throw new IllegalArgumentException("Animation dimensions must be positive.");
+        }
+        this.directions = directions;
+        this.frames = frames;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Changes the fraction of each frame which is transparent.
+     *
+     * @param transparencyRatio The fraction, from <code>0.0</code> to <code>1.0</code>.
+     * @throws IllegalArgumentException If the fraction is out of range.
+     */
+    public void setTransparencyRatio(double transparencyRatio)
+    {
+        if ((transparencyRatio < 0.0) || (transparencyRatio > 1.0))
+        {
+            throw new IllegalArgumentException("Transparency ratio must be between 0 and 1.");
+        }
+        this.transparencyRatio = transparencyRatio;
+    }
+
+    /**
+     * Changes the number of distinct colors in each visible cell.  The DCC format stores up to four colors per cell.
+     *
+     * @param colorsPerCell The number of colors, from one to sixteen.
+     * @throws IllegalArgumentException If the number of colors is out of range.
+     */
+    public void setColorsPerCell(int colorsPerCell)
+    {
+        if ((colorsPerCell < 1) || (colorsPerCell > CELL_SIZE * CELL_SIZE))
+        {
+            throw new IllegalArgumentException("Colors per cell must be between 1 and " + CELL_SIZE * CELL_SIZE + ".");
+        }
+        this.colorsPerCell = colorsPerCell;
+    }
+
+    /**
+     * Changes the probability that a cell is copied unchanged from the previous frame of the same direction.
+     *
+     * @param cellReuseRatio The probability, from <code>0.0</code> to <code>1.0</code>.
+     * @throws IllegalArgumentException If the probability is out of range.
+     */
+    public void setCellReuseRatio(double cellReuseRatio)
+    {
+        if ((cellReuseRatio < 0.0) || (cellReuseRatio > 1.0))
+        {
+            throw new IllegalArgumentException("Cell reuse ratio must be between 0 and 1.");
+        }
+        this.cellReuseRatio = cellReuseRatio;
+    }
+
+    /**
+     * Changes the length of the optional data attached to each frame.  Only the DCC format stores optional data.
+     *
+     * @param optionalDataLength The length of the optional data, or zero for none.
+     */
+    public void setOptionalDataLength(int optionalDataLength)
+    {
+        this.optionalDataLength = Math.max(0, optionalDataLength);
+    }
+
+    /**
+     * Changes the seed from which the animation is generated.
+     *
+     * @param seed The new seed.
+     */
+    public void setSeed(long seed)
+    {
+        this.seed = seed;
+    }
+
+    /**
+     * Generates an animation according to the parameters of this generator.
+     *
+     * @return The generated {@link Animation}.
+     */
+    public Animation generate()
+    {
+        Random random = new Random(seed);
+        int[] colors = getUsableColors();
+        int cellsWide = (width + CELL_SIZE - 1) / CELL_SIZE;
+        int cellsHigh = (height + CELL_SIZE - 1) / CELL_SIZE;
+        int cellCount = cellsWide * cellsHigh;
+        int cellPixels = CELL_SIZE * CELL_SIZE;
+
+        Animation ret = new Animation(null, directions, frames);
+        for (int d = 0; d < directions; d++)
+        {
+            int[] previous = null;
+            for (int f = 0; f < frames; f++)
+            {
+                // Rank the cells by their distance from the center, with a little noise so that the silhouette
+                // changes from frame to frame; the farthest cells are transparent.
+                double[] score = new double[cellCount];
+                for (int c = 0; c < cellCount; c++)
+                {
+                    double dx = ((c % cellsWide) + 0.5) / cellsWide - 0.5;
+                    double dy = ((c / cellsWide) + 0.5) / cellsHigh - 0.5;
+                    score[c] = dx * dx + dy * dy + random.nextDouble() * 0.02;
+                }
+                double[] sorted = score.clone();
+                Arrays.sort(sorted);
+                int visibleCells = (int) (Math.round(cellCount * (1.0 - transparencyRatio)));
+                double threshold = (visibleCells == 0) ? Double.NEGATIVE_INFINITY : sorted[visibleCells - 1];
+
+                int[] pixels = new int[cellCount * cellPixels];
+                int[] cellColors = new int[colorsPerCell];
+                for (int c = 0; c < cellCount; c++)
+                {
+                    if ((previous != null) && (random.nextDouble() < cellReuseRatio))
+                    {
+                        System.arraycopy(previous, c * cellPixels, pixels, c * cellPixels, cellPixels);
+                    } else if (score[c] <= threshold)
+                    {
+                        for (int i = 0; i < colorsPerCell; i++) cellColors[i] = colors[random.nextInt(colors.length)];
+                        for (int i = 0; i < cellPixels; i++)
+                        {
+                            // every chosen color appears at least once when the cell is large enough
+                            int color = (i < colorsPerCell) ? cellColors[i] : cellColors[random.nextInt(colorsPerCell)];
+                            pixels[c * cellPixels + i] = color;
+                        }
+                    }
+                }
+
+                BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+                for (int y = 0; y < height; y++)
+                {
+                    for (int x = 0; x < width; x++)
+                    {
+                        int cell = (y / CELL_SIZE) * cellsWide + x / CELL_SIZE;
+                        image.setRGB(x, y, pixels[cell * cellPixels + (y % CELL_SIZE) * CELL_SIZE + x % CELL_SIZE]);
+                    }
+                }
+                AnimationFrame frame = new AnimationFrame(image, -width / 2, -height);
+                if (optionalDataLength > 0)
+                {
+                    byte[] optionalData = new byte[optionalDataLength];
+                    random.nextBytes(optionalData);
+                    frame.setOptionalData(optionalData);
+                }
+                ret.setFrame(d, f, frame);
+                previous = pixels;
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Determines the opaque colors which generated animations may use.  The transparent index and any restricted
+     * indices are excluded.
+     *
+     * @return The usable colors.
+     */
+    protected int[] getUsableColors()
+    {
+        List<Integer> list = new ArrayList<Integer>();
+        for (int i = 0; i < palette.getMapSize(); i++)
+        {
+            if ((i != transparentIndex) && (!palette.isRestricted(i))) list.add(palette.getRGB(i) | 0xFF000000);
+        }
+        int[] ret = new int[list.size()];
+        for (int i = 0; i < ret.length; i++) ret[i] = list.get(i);
+        return ret;
+    }
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+    /**
+     * Generates the standard benchmarking corpus.  The corpus contains one animation of each standard profile for each
+     * of the provided codecs, repeated <code>scale</code> times with different seeds; a scale of <code>10</code> thus
+     * produces a corpus ten times the size of the basic corpus.  Files are named after their profile and copy number.
+     *
+     * @param directory The directory in which to write the corpus.
+     * @param codecs    The codecs with which to write each animation.
+     * @param palette   The palette from which colors are chosen and in which the animations are written.
+     * @param scale     The number of copies of each profile to generate.
+     * @param seed      The seed from which the corpus is generated.
+     * @param out       The {@link PrintStream} to which progress is reported, or <code>null</code> for none.
+     * @throws IOException If a file could not be written.
+     */
+    public static void generateCorpus(File directory, AnimationCodec[] codecs, RestrictableIndexColorModel palette,
+                                      int scale, long seed, PrintStream out)
+            throws IOException
+    {
+        List<Pair<String, SyntheticAnimationGenerator>> profiles =
+                new ArrayList<Pair<String, SyntheticAnimationGenerator>>();
+        for (Object[] profile : CORPUS_PROFILES)
+        {
+            SyntheticAnimationGenerator generator = new SyntheticAnimationGenerator(palette);
+            generator.setDimensions(
+                    (Integer) (profile[1]), (Integer) (profile[2]), (Integer) (profile[3]), (Integer) (profile[4]));
+            generator.setTransparencyRatio((Integer) (profile[5]) / 100.0);
+            generator.setColorsPerCell((Integer) (profile[6]));
+            generator.setCellReuseRatio((Integer) (profile[7]) / 100.0);
+            generator.setOptionalDataLength((Integer) (profile[8]));
+            profiles.add(new Pair<String, SyntheticAnimationGenerator>((String) (profile[0]), generator));
+        }
+        generateCorpus(directory, codecs, profiles, scale, seed, out);
+    }
+
+    /**
+     * Generates a corpus from the provided generators.  Each generator produces <code>scale</code> animations with
+     * different seeds, each of which is written with every one of the provided codecs.
+     *
+     * @param directory The directory in which to write the corpus.
+     * @param codecs    The codecs with which to write each animation.
+     * @param profiles  The names of the profiles paired with the generators which produce them.  The seeds of the
+     *                  generators are replaced.
+     * @param scale     The number of animations to generate from each profile.
+     * @param seed      The seed from which the corpus is generated.
+     * @param out       The {@link PrintStream} to which progress is reported, or <code>null</code> for none.
+     * @throws IOException If a file could not be written.
+     */
+    public static void generateCorpus(File directory, AnimationCodec[] codecs,
+                                      List<Pair<String, SyntheticAnimationGenerator>> profiles, int scale, long seed,
+                                      PrintStream out)
+            throws IOException
+    {
+        if ((!directory.isDirectory()) && (!directory.mkdirs()))
+        {
+            throw new IOException("Could not create directory " + directory);
+        }
+        int digits = Integer.toString(scale - 1).length();
+        for (int p = 0; p < profiles.size(); p++)
+        {
+            String name = profiles.get(p).getFirst();
+            SyntheticAnimationGenerator generator = profiles.get(p).getSecond();
+            for (int copy = 0; copy < scale; copy++)
+            {
+                // Each animation's seed depends only upon the corpus seed, its profile and its copy number so that
+                // a larger corpus always contains the smaller ones.
+                generator.setSeed(seed + p * 1000003L + copy * 7919L);
+                Animation animation = generator.generate();
+                String number = Integer.toString(copy);
+                while (number.length() < digits) number = "0" + number;
+                for (AnimationCodec codec : codecs)
+                {
+                    File file = new File(
+                            directory, name + "-" + number + "." + codec.getFileType().getExtensions()[0]);
+                    if (out != null) out.println("Generating " + file);
+                    codec.write(file, animation, generator.palette, new ProgressTracker());
+                }
+            }
+        }
+    }
+
+    /**
+     * Displays command line help and terminates.
+     *
+     * @param strings Strings to display before the help.
+     */
+    public static void showHelpAndBail(String... strings)
+    {
+        for (String s : strings)
+        {
+            System.err.println(s);
+        }
+        if (strings.length > 0) System.err.println();
+
+        //                  00000000001111111111222222222233333333334444444444555555555566666666667777777777
+        //                  01234567890123456789012345678901234567890123456789012345678901234567890123456789
+        System.err.println("SixDice Synthetic Animation Generator v" + SixDiceHeadless.VERSION_STRING);
+        System.err.println("Usage: java -cp SixDice.jar orioni.sixdice.SyntheticAnimationGenerator [options]");
+        System.err.println("           <directory>");
+        System.err.println();
+        System.err.println("Writes a corpus of DC6, DCC and BAM files into the specified directory.  If");
+        System.err.println("any of the animation options are given, the corpus contains only animations");
+        System.err.println("with those characteristics; otherwise, a standard mix of animations is used.");
+        System.err.println();
+        System.err.println("Options:");
+        System.err.println("    -h, --help                Displays this help screen.");
+        System.err.println("    -x, --scale               The number of animations of each kind to generate.");
+        System.err.println("                              Default is 1.");
+        System.err.println("    -s, --seed                The seed from which the corpus is generated.");
+        System.err.println("                              Default is 0.");
+        System.err.println("    -c, --codec               Generates files for only one codec: one of {dc6,");
+        System.err.println("                              dcc, bam}.");
+        System.err.println("    -p, --palette             The palette of the animations.  Default is");
+        System.err.println("                              \"" + DEFAULT_PALETTE_NAME + "\".");
+        System.err.println("    -d, --directions          The number of directions.  Default is 1.");
+        System.err.println("    -n, --frames              The number of frames per direction.  Default is 1.");
+        System.err.println("    -w, --width               The width of each frame.  Default is 64.");
+        System.err.println("    -y, --height              The height of each frame.  Default is 64.");
+        System.err.println("    -t, --transparency        The percentage of each frame which is transparent.");
+        System.err.println("                              Default is 50.");
+        System.err.println("    -k, --colors-per-cell     The number of colors in each 4x4 cell.  Default is");
+        System.err.println("                              4.");
+        System.err.println("    -r, --reuse               The percentage of cells copied from the previous");
+        System.err.println("                              frame.  Default is 0.");
+        System.err.println("    -o, --optional-data       The number of bytes of optional data in each frame.");
+        System.err.println("                              Default is 0.");
+        System.exit(1);
+    }
+
+    /**
+     * Generates a corpus from the command line.
+     *
+     * @param args See the content written to {@link System#err} by {@link SyntheticAnimationGenerator#showHelpAndBail(
+     *String...)} for more information.
+     */
+    public static void main(String[] args)
+    {
+        ProgramParameterManager ppm = new ProgramParameterManager();
+        ppm.addParameter(new ProgramParameter(new String[]{"h", "?", "help"}, true));
+        ppm.addParameter(
+                new ProgramParameter<Integer>("x", "scale", false, new BoundedIntegerInterpreter(1, 100000)));
+        ppm.addParameter(new ProgramParameter<String>("s", "seed", false, StringInterpreter.SINGLETON));
+        ppm.addParameter(new ProgramParameter<String>("c", "codec", false, StringInterpreter.SINGLETON));
+        ppm.addParameter(new ProgramParameter<String>("p", "palette", false, StringInterpreter.SINGLETON));
+        ppm.addParameter(
+                new ProgramParameter<Integer>("d", "directions", false, new BoundedIntegerInterpreter(1, 255)));
+        ppm.addParameter(
+                new ProgramParameter<Integer>("n", "frames", false, new BoundedIntegerInterpreter(1, 65535)));
+        ppm.addParameter(
+                new ProgramParameter<Integer>("w", "width", false, new BoundedIntegerInterpreter(1, 65535)));
+        ppm.addParameter(
+                new ProgramParameter<Integer>("y", "height", false, new BoundedIntegerInterpreter(1, 65535)));
+        ppm.addParameter(
+                new ProgramParameter<Integer>("t", "transparency", false, new BoundedIntegerInterpreter(0, 100)));
+        ppm.addParameter(
+                new ProgramParameter<Integer>(
+                        "k", "colors-per-cell", false, new BoundedIntegerInterpreter(1, CELL_SIZE * CELL_SIZE)));
+        ppm.addParameter(
+                new ProgramParameter<Integer>("r", "reuse", false, new BoundedIntegerInterpreter(0, 100)));
+        ppm.addParameter(
+                new ProgramParameter<Integer>(
+                        "o", "optional-data", false, new BoundedIntegerInterpreter(0, 65535)));
+
+        Pair<ProgramParameterInstance[], String[]> parsedPair = null;
+        try
+        {
+            parsedPair = ppm.parse(args);
+        } catch (ParseException e)
+        {
+            showHelpAndBail();
+        }
+
+        int scale = 1;
+        long seed = 0;
+        AnimationCodec[] codecs = new AnimationCodec[]{new DC6Codec(), new DCCCodec(), new BAMCodec()};
+        String paletteString = DEFAULT_PALETTE_NAME;
+        boolean custom = false;
+        int directions = 1;
+        int frames = 1;
+        int width = 64;
+        int height = 64;
+        int transparency = 50;
+        int colorsPerCell = 4;
+        int reuse = 0;
+        int optionalData = 0;
+
+        for (ProgramParameterInstance ppi : parsedPair.getFirst())
+        {
+            String option = ppi.getString();
+            Object value = (ppi.getSubparameters().length > 0) ? ppi.getSubparameters()[0] : null;
+            if ("h".equals(option))
+            {
+                showHelpAndBail();
+            } else if ("x".equals(option))
+            {
+                scale = (Integer) value;
+            } else if ("s".equals(option))
+            {
+                try
+                {
+                    seed = Long.parseLong((String) value);
+                } catch (NumberFormatException e)
+                {
+                    showHelpAndBail("Invalid seed (\"" + value + "\").");
+                }
+            } else if ("c".equals(option))
+            {
+                String s = (String) value;
+                if ("dc6".equalsIgnoreCase(s))
+                {
+                    codecs = new AnimationCodec[]{new DC6Codec()};
+                } else if ("dcc".equalsIgnoreCase(s))
+                {
+                    codecs = new AnimationCodec[]{new DCCCodec()};
+                } else if ("bam".equalsIgnoreCase(s))
+                {
+                    codecs = new AnimationCodec[]{new BAMCodec()};
+                } else
+                {
+                    showHelpAndBail("Invalid codec (\"" + s + "\").\nCodec must be one of {dc6, dcc, bam}.");
+                }
+            } else if ("p".equals(option))
+            {
+                paletteString = (String) value;
+            } else
+            {
+                custom = true;
+                if ("d".equals(option))
+                {
+                    directions = (Integer) value;
+                } else if ("n".equals(option))
+                {
+                    frames = (Integer) value;
+                } else if ("w".equals(option))
+                {
+                    width = (Integer) value;
+                } else if ("y".equals(option))
+                {
+                    height = (Integer) value;
+                } else if ("t".equals(option))
+                {
+                    transparency = (Integer) value;
+                } else if ("k".equals(option))
+                {
+                    colorsPerCell = (Integer) value;
+                } else if ("r".equals(option))
+                {
+                    reuse = (Integer) value;
+                } else if ("o".equals(option))
+                {
+                    optionalData = (Integer) value;
+                }
+            }
+        }
+
+        if (parsedPair.getSecond().length != 1)
+        {
+            showHelpAndBail("Exactly one output directory must be specified.");
+        }
+        RestrictableIndexColorModel palette = Diablo2DefaultPalettes.PALETTE_MAP.get(paletteString);
+        if (palette == null)
+        {
+            showHelpAndBail("The palette \"" + paletteString + "\" does not exist.");
+        }
+
+        File directory = new File(parsedPair.getSecond()[0]);
+        try
+        {
+            if (custom)
+            {
+                SyntheticAnimationGenerator generator = new SyntheticAnimationGenerator(palette);
+                generator.setDimensions(directions, frames, width, height);
+                generator.setTransparencyRatio(transparency / 100.0);
+                generator.setColorsPerCell(colorsPerCell);
+                generator.setCellReuseRatio(reuse / 100.0);
+                generator.setOptionalDataLength(optionalData);
+                List<Pair<String, SyntheticAnimationGenerator>> profiles =
+                        new ArrayList<Pair<String, SyntheticAnimationGenerator>>();
+                profiles.add(new Pair<String, SyntheticAnimationGenerator>("custom", generator));
+                generateCorpus(directory, codecs, profiles, scale, seed, System.out);
+            } else
+            {
+                generateCorpus(directory, codecs, palette, scale, seed, System.out);
+            }
+        } catch (IOException e)
+        {
+            System.err.println("Could not generate corpus: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
+
+// END OF FILE
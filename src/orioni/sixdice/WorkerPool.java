@@ -0,0 +1,162 @@
+package orioni.sixdice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This utilities class is designed to provide the thread pools used by the parallel portions of SixDice.  All threads
+ * created by this class are daemon threads so that an idle pool never prevents the program from exiting.
+ *
+ * @author Zachary Palmer
+ */
+public class WorkerPool
+{
+// STATIC FIELDS /////////////////////////////////////////////////////////////////
+
+    /**
+     * The shared {@link ExecutorService}, or <code>null</code> if it has not yet been created.
+     */
+    private static ExecutorService sharedExecutor = null;
+
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * The default number of worker threads: one for each available processor.
+     */
+    public static final int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+// NON-STATIC FIELDS /////////////////////////////////////////////////////////////
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * Private constructor.
+     */
+    private WorkerPool()
+    {
+        super();
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+// STATIC METHODS ////////////////////////////////////////////////////////////////
+
+    /**
+     * Retrieves the shared {@link ExecutorService}.  This executor has {@link WorkerPool#DEFAULT_PARALLELISM} threads
+     * and is never shut down.  Tasks submitted to it must not wait on other tasks submitted to it.
+     *
+     * @return The shared {@link ExecutorService}.
+     */
+    public static synchronized ExecutorService getSharedExecutor()
+    {
+        if (sharedExecutor == null)
+        {
+            sharedExecutor = createExecutor("SixDice Worker", DEFAULT_PARALLELISM);
+        }
+        return sharedExecutor;
+    }
+
+    /**
+     * Creates a new fixed-size {@link ExecutorService} of daemon threads.  The caller is responsible for shutting it
+     * down.
+     *
+     * @param name    The prefix of the names of the threads in the pool.
+     * @param threads The number of threads in the pool.
+     * @return The new {@link ExecutorService}.
+     */
+    public static ExecutorService createExecutor(String name, int threads)
+    {
+        return createExecutor(name, threads, Thread.NORM_PRIORITY);
+    }
+
+    /**
+     * Creates a new fixed-size {@link ExecutorService} of daemon threads which run at the specified priority.  The
+     * caller is responsible for shutting it down.
+     *
+     * @param name     The prefix of the names of the threads in the pool.
+     * @param threads  The number of threads in the pool.
+     * @param priority The priority of the threads in the pool.
+     * @return The new {@link ExecutorService}.
+     */
+    public static ExecutorService createExecutor(final String name, int threads, final int priority)
+    {
+        final AtomicInteger count = new AtomicInteger(0);
+        return Executors.newFixedThreadPool(
+                Math.max(1, threads),
+                new ThreadFactory()
+                {
+                    public Thread newThread(Runnable r)
+                    {
+                        Thread t = new Thread(r, name + " " + count.incrementAndGet());
+                        t.setDaemon(true);
+                        t.setPriority(priority);
+                        return t;
+                    }
+                });
+    }
+
+    /**
+     * Executes the provided tasks on the provided {@link ExecutorService} and waits for all of them to complete.  If a
+     * task fails with an unchecked exception, that exception is rethrown in the calling thread once all tasks have
+     * finished.
+     *
+     * @param executor The {@link ExecutorService} on which to run the tasks, or <code>null</code> to run them in the
+     *                 calling thread.
+     * @param tasks    The tasks to run.
+     * @return The results of the tasks, in the same order as the tasks.
+     * @throws ExecutionException If a task threw a checked exception.
+     */
+    public static <T> List<T> invokeAll(ExecutorService executor, List<? extends Callable<T>> tasks)
+            throws ExecutionException
+    {
+        List<T> ret = new ArrayList<T>(tasks.size());
+        if (executor == null)
+        {
+            for (Callable<T> task : tasks)
+            {
+                try
+                {
+                    ret.add(task.call());
+                } catch (RuntimeException e)
+                {
+                    throw e;
+                } catch (Exception e)
+                {
+                    throw new ExecutionException(e);
+                }
+            }
+            return ret;
+        }
+
+        List<Future<T>> futures;
+        try
+        {
+            futures = executor.invokeAll(tasks);
+        } catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for worker tasks.");
+        }
+        for (Future<T> future : futures)
+        {
+            try
+            {
+                ret.add(future.get());
+            } catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while waiting for worker tasks.");
+            } catch (ExecutionException e)
+            {
+                if (e.getCause() instanceof RuntimeException) throw (RuntimeException) (e.getCause());
+                if (e.getCause() instanceof Error) throw (Error) (e.getCause());
+                throw e;
+            }
+        }
+        return ret;
+    }
+}
+
+// END OF FILE
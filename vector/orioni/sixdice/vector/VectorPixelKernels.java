@@ -0,0 +1,119 @@
+package orioni.sixdice.vector;
+
+import jdk.incubator.vector.*;
+import orioni.sixdice.PaletteLookupTable;
+import orioni.sixdice.PixelKernels;
+
+/**
+ * These {@link PixelKernels} use the incubating JDK Vector API.  They are loaded by name by {@link
+ * PixelKernels#getInstance()} and require Java 16 or later with the <code>jdk.incubator.vector</code> module.
+ * <p/>
+ * Converting colors to palette indices is vectorized: the cell of each color is computed across a whole vector, the
+ * only candidates of the cells are gathered, and the indices of every lane are narrowed and stored together.  Lanes
+ * which are neither fully transparent black nor opaque in a cell with a single candidate are then found again one
+ * color at a time.  Converting indices to colors is a table lookup which gathers no faster than the scalar loop and
+ * is therefore inherited.
+ *
+ * @author Zachary Palmer
+ */
+public class VectorPixelKernels extends PixelKernels
+{
+// CONSTANTS /////////////////////////////////////////////////////////////////////
+
+    /**
+     * The species of the color vectors.
+     */
+    protected static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    /**
+     * The species of the index vectors: the smallest with at least as many lanes as the color vectors.  There is no
+     * byte species narrower than 64 bits, so with 128-bit color vectors only the first half of each index vector is
+     * used.
+     */
+    protected static final VectorSpecies<Byte> BYTE_SPECIES =
+            VectorSpecies.of(byte.class, VectorShape.forBitSize(Math.max(64, INT_SPECIES.length() * 8)));
+    /**
+     * The lanes of an index vector which hold the index of a color.
+     */
+    protected static final VectorMask<Byte> BYTE_MASK = BYTE_SPECIES.indexInRange(0, INT_SPECIES.length());
+    /**
+     * Whether or not every lane of an index vector holds the index of a color, so that it may be stored unmasked.
+     */
+    protected static final boolean BYTE_FULL = (BYTE_SPECIES.length() == INT_SPECIES.length());
+
+// CONSTRUCTORS //////////////////////////////////////////////////////////////////
+
+    /**
+     * General constructor.
+     */
+    public VectorPixelKernels()
+    {
+        super();
+    }
+
+// NON-STATIC METHODS ////////////////////////////////////////////////////////////
+
+    /**
+     * Retrieves the name of this implementation.
+     *
+     * @return The name of this implementation, including the width of its vectors.
+     */
+    public String getName()
+    {
+        return "vector (" + INT_SPECIES.vectorBitSize() + "-bit)";
+    }
+
+    /**
+     * Converts ARGB colors to the indices of the nearest palette entries.
+     *
+     * @param argbs         The ARGB colors.
+     * @param offset        The index in <code>argbs</code> of the first color to convert.
+     * @param table         The {@link PaletteLookupTable} of the palette.
+     * @param indices       The array in which the palette indices are stored.
+     * @param indicesOffset The index in <code>indices</code> at which the first palette index is stored.
+     * @param length        The number of colors to convert.
+     */
+    public void toIndices(int[] argbs, int offset, PaletteLookupTable table, byte[] indices, int indicesOffset,
+                          int length)
+    {
+        int[] cellIndices = getCellIndices(table);
+        int clearIndex = getClearIndex(table);
+        int lanes = INT_SPECIES.length();
+        int[] cells = new int[lanes];
+        int bound = INT_SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += lanes)
+        {
+            IntVector argb = IntVector.fromArray(INT_SPECIES, argbs, offset + i);
+            IntVector cell = argb.lanewise(VectorOperators.ASHR, 24 - 3 * PaletteLookupTable.CELL_BITS)
+                    .and((PaletteLookupTable.CELLS_PER_CHANNEL - 1) << (2 * PaletteLookupTable.CELL_BITS))
+                    .or(argb.lanewise(VectorOperators.ASHR, 16 - 2 * PaletteLookupTable.CELL_BITS)
+                                .and((PaletteLookupTable.CELLS_PER_CHANNEL - 1) << PaletteLookupTable.CELL_BITS))
+                    .or(argb.lanewise(VectorOperators.ASHR, 8 - PaletteLookupTable.CELL_BITS)
+                                .and(PaletteLookupTable.CELLS_PER_CHANNEL - 1));
+            cell.intoArray(cells, 0);
+            IntVector index = IntVector.fromArray(INT_SPECIES, cellIndices, 0, cells, 0);
+            VectorMask<Integer> clear = argb.eq(0);
+            VectorMask<Integer> found =
+                    argb.lanewise(VectorOperators.LSHR, 24).eq(0xFF).and(index.compare(VectorOperators.GE, 0));
+            ByteVector narrowed =
+                    (ByteVector) (index.blend(clearIndex, clear).convertShape(VectorOperators.I2B, BYTE_SPECIES, 0));
+            if (BYTE_FULL)
+            {
+                narrowed.intoArray(indices, indicesOffset + i);
+            } else
+            {
+                narrowed.intoArray(indices, indicesOffset + i, BYTE_MASK);
+            }
+            long remaining = found.or(clear).not().toLong();
+            while (remaining != 0)
+            {
+                int j = i + Long.numberOfTrailingZeros(remaining);
+                indices[indicesOffset + j] = (byte) (table.find(argbs[offset + j]));
+                remaining &= remaining - 1;
+            }
+        }
+        for (; i < length; i++) indices[indicesOffset + i] = (byte) (table.find(argbs[offset + i]));
+    }
+}
+
+// END OF FILE